@@ -0,0 +1,184 @@
+package seedu.address;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.Config;
+import seedu.address.commons.core.Config.DataFormat;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.util.ConfigUtil;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.MyFitnessBuddy;
+import seedu.address.model.ReadOnlyMyFitnessBuddy;
+import seedu.address.model.ReadOnlyUserPrefs;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.util.SampleDataUtil;
+import seedu.address.storage.BinaryMyFitnessBuddyStorage;
+import seedu.address.storage.DataFileConverter;
+import seedu.address.storage.DataFileRecoveredException;
+import seedu.address.storage.JournaledMyFitnessBuddyStorage;
+import seedu.address.storage.JsonMyFitnessBuddyStorage;
+import seedu.address.storage.MyFitnessBuddyStorage;
+import seedu.address.storage.ShardedMyFitnessBuddyStorage;
+import seedu.address.storage.Storage;
+import seedu.address.storage.UserPrefsStorage;
+
+/**
+ * Reads the config, user prefs and data of the application, without any UI, for {@code MainApp} and
+ * {@code HeadlessApp} to build their components from.
+ */
+public class AppInitializer {
+
+    private static final Logger logger = LogsCenter.getLogger(AppInitializer.class);
+
+    private String dataWarning;
+
+    /**
+     * Returns a {@code Config} using the file at {@code configFilePath}. <br>
+     * The default file path {@code Config#DEFAULT_CONFIG_FILE} will be used instead
+     * if {@code configFilePath} is null.
+     */
+    public Config initConfig(Path configFilePath) {
+        Config initializedConfig;
+        Path configFilePathUsed;
+
+        configFilePathUsed = Config.DEFAULT_CONFIG_FILE;
+
+        if (configFilePath != null) {
+            logger.info("Custom Config file specified " + configFilePath);
+            configFilePathUsed = configFilePath;
+        }
+
+        logger.info("Using config file : " + configFilePathUsed);
+
+        try {
+            Optional<Config> configOptional = ConfigUtil.readConfig(configFilePathUsed);
+            initializedConfig = configOptional.orElse(new Config());
+        } catch (DataConversionException e) {
+            logger.warning("Config file at " + configFilePathUsed + " is not in the correct format. "
+                    + "Using default config properties");
+            initializedConfig = new Config();
+        }
+
+        //Update config file in case it was missing to begin with or there are new/unused fields
+        try {
+            ConfigUtil.saveConfig(initializedConfig, configFilePathUsed);
+        } catch (IOException e) {
+            logger.warning("Failed to save config file : " + StringUtil.getDetails(e));
+        }
+        return initializedConfig;
+    }
+
+    /**
+     * Returns a {@code UserPrefs} using the file at {@code storage}'s user prefs file path,
+     * or a new {@code UserPrefs} with default configuration if errors occur when
+     * reading from the file.
+     */
+    public UserPrefs initPrefs(UserPrefsStorage storage) {
+        Path prefsFilePath = storage.getUserPrefsFilePath();
+        logger.info("Using prefs file : " + prefsFilePath);
+
+        UserPrefs initializedPrefs;
+        try {
+            Optional<UserPrefs> prefsOptional = storage.readUserPrefs();
+            initializedPrefs = prefsOptional.orElse(new UserPrefs());
+        } catch (DataConversionException e) {
+            logger.warning("UserPrefs file at " + prefsFilePath + " is not in the correct format. "
+                    + "Using default user prefs");
+            initializedPrefs = new UserPrefs();
+        } catch (IOException e) {
+            logger.warning("Problem while reading from the file. Will be starting with an empty MyFitnessBuddy");
+            initializedPrefs = new UserPrefs();
+        }
+
+        //Update prefs file in case it was missing to begin with or there are new/unused fields
+        try {
+            storage.saveUserPrefs(initializedPrefs);
+        } catch (IOException e) {
+            logger.warning("Failed to save config file : " + StringUtil.getDetails(e));
+        }
+
+        return initializedPrefs;
+    }
+
+    /**
+     * Returns the storage for the data file named in {@code userPrefs}, in the format chosen in {@code config}. <br>
+     * When the binary or sharded format is chosen, its data sits beside the json file and is first created from it if
+     * missing.
+     */
+    public MyFitnessBuddyStorage initMyFitnessBuddyStorage(Config config, ReadOnlyUserPrefs userPrefs) {
+        Path jsonFilePath = userPrefs.getMyFitnessBuddyFilePath();
+        MyFitnessBuddyStorage snapshotStorage = new JsonMyFitnessBuddyStorage(jsonFilePath);
+        if (config.getDataFormat() == DataFormat.BINARY) {
+            snapshotStorage = new BinaryMyFitnessBuddyStorage(DataFileConverter.toBinaryFilePath(jsonFilePath));
+        } else if (config.getDataFormat() == DataFormat.SHARDED) {
+            snapshotStorage = new ShardedMyFitnessBuddyStorage(DataFileConverter.toShardedFilePath(jsonFilePath));
+        }
+        Path filePath = snapshotStorage.getMyFitnessBuddyFilePath();
+        if (!filePath.equals(jsonFilePath) && !Files.exists(filePath)) {
+            try {
+                if (DataFileConverter.convert(new JournaledMyFitnessBuddyStorage(jsonFilePath), snapshotStorage)) {
+                    logger.info("Converted " + jsonFilePath + " into " + filePath);
+                }
+            } catch (DataConversionException | IOException e) {
+                logger.warning("Could not convert " + jsonFilePath + " into the " + config.getDataFormat()
+                        + " format: " + e);
+            }
+        }
+        return config.isDataJournalEnabled() ? new JournaledMyFitnessBuddyStorage(snapshotStorage) : snapshotStorage;
+    }
+
+    /**
+     * Returns a {@code ModelManager} with the data from {@code storage}'s records and {@code userPrefs}. <br>
+     * The data from the sample my fitness buddy records will be used instead if {@code storage}'s records is not found,
+     * or an empty person
+     * will be used instead if errors occur when reading {@code storage}'s records for my fitness buddy.
+     * If the records were read from their backup, that is reported by {@link #getDataWarning()}.
+     */
+    public Model initModelManager(Storage storage, ReadOnlyUserPrefs userPrefs) {
+        Optional<ReadOnlyMyFitnessBuddy> myFitnessBuddyOptional;
+        ReadOnlyMyFitnessBuddy initialData;
+        try {
+            myFitnessBuddyOptional = storage.readFitnessBuddy();
+            if (!myFitnessBuddyOptional.isPresent()) {
+                logger.info("Data file not found. Will be starting with a sample MyFitnessBuddy");
+            }
+            initialData = myFitnessBuddyOptional.orElseGet(SampleDataUtil::getSampleMyFitnessBuddy);
+            storage.saveFitnessBuddy(initialData);
+        } catch (DataFileRecoveredException e) {
+            logger.warning(e.getMessage());
+            dataWarning = e.getMessage();
+            initialData = e.getRecoveredData();
+            saveRecoveredData(storage, initialData);
+        } catch (DataConversionException e) {
+            logger.warning("Data file not in the correct format. Will be starting with a new MyFitnessBuddy");
+            initialData = new MyFitnessBuddy();
+        } catch (IOException e) {
+            logger.warning("Problem while reading from the file. Will be starting with a new MyFitnessBuddy");
+            initialData = new MyFitnessBuddy();
+        }
+        return new ModelManager(initialData, userPrefs);
+    }
+
+    private static void saveRecoveredData(Storage storage, ReadOnlyMyFitnessBuddy recoveredData) {
+        try {
+            storage.saveFitnessBuddy(recoveredData);
+        } catch (IOException e) {
+            logger.warning("Failed to save the recovered data : " + StringUtil.getDetails(e));
+        }
+    }
+
+    /**
+     * Returns the problem with the data found by {@link #initModelManager(Storage, ReadOnlyUserPrefs)} that the user
+     * should be told about, if any.
+     */
+    public Optional<String> getDataWarning() {
+        return Optional.ofNullable(dataWarning);
+    }
+}
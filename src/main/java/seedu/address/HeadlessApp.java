@@ -0,0 +1,171 @@
+package seedu.address;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.Config;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.logic.Logic;
+import seedu.address.logic.LogicManager;
+import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.Model;
+import seedu.address.model.UserPrefs;
+import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.MyFitnessBuddyStorage;
+import seedu.address.storage.Storage;
+import seedu.address.storage.StorageManager;
+import seedu.address.storage.UserPrefsStorage;
+
+/**
+ * Runs the application without a UI, executing the commands read from a script file or the standard input, one per
+ * line, and printing their feedback. No JavaFX UI classes are loaded, so it starts quickly and needs no display.
+ *
+ * Blank lines and lines starting with {@value #COMMENT_START} are skipped. Failed commands are reported on the error
+ * stream and the rest still run; the exit status is 1 if any command failed.
+ */
+public class HeadlessApp {
+
+    public static final String HEADLESS_FLAG = "--headless";
+    public static final String COMMENT_START = "#";
+    public static final String PROMPT = "> ";
+    public static final int EXIT_SUCCESS = 0;
+    public static final int EXIT_COMMAND_FAILED = 1;
+    public static final int EXIT_ERROR = 2;
+
+    private static final Logger logger = LogsCenter.getLogger(HeadlessApp.class);
+
+    private final Logic logic;
+    private final BufferedReader in;
+    private final PrintStream out;
+    private final PrintStream err;
+    private final boolean isInteractive;
+
+    /**
+     * Creates a {@code HeadlessApp} that executes the commands from {@code in} on {@code logic}, printing their
+     * feedback to {@code out} and their errors to {@code err}. A prompt is shown before each line if
+     * {@code isInteractive}.
+     */
+    public HeadlessApp(Logic logic, BufferedReader in, PrintStream out, PrintStream err, boolean isInteractive) {
+        requireNonNull(logic);
+        requireNonNull(in);
+        requireNonNull(out);
+        requireNonNull(err);
+        this.logic = logic;
+        this.in = in;
+        this.out = out;
+        this.err = err;
+        this.isInteractive = isInteractive;
+    }
+
+    /**
+     * Executes the commands until the input ends or a command exits, and returns the exit status.
+     */
+    public int run() throws IOException {
+        int exitStatus = EXIT_SUCCESS;
+        for (String line = readLine(); line != null; line = readLine()) {
+            String commandText = line.trim();
+            if (commandText.isEmpty() || commandText.startsWith(COMMENT_START)) {
+                continue;
+            }
+            try {
+                CommandResult commandResult = logic.execute(commandText);
+                out.println(commandResult.getFeedbackToUser());
+                if (commandResult.isExit()) {
+                    break;
+                }
+            } catch (CommandException | ParseException e) {
+                err.println(commandText + ": " + e.getMessage());
+                exitStatus = EXIT_COMMAND_FAILED;
+            }
+        }
+        out.flush();
+        return exitStatus;
+    }
+
+    /**
+     * Reads the next line, prompting for it first if interactive, or returns null at the end of the input.
+     */
+    private String readLine() throws IOException {
+        if (isInteractive) {
+            out.print(PROMPT);
+            out.flush();
+        }
+        return in.readLine();
+    }
+
+    /**
+     * Starts the application without a UI. {@code args} may hold {@code --config=<file>} and the path of a script
+     * file to run instead of the standard input.
+     */
+    public static void main(String[] args) {
+        System.exit(launch(args));
+    }
+
+    private static int launch(String[] args) {
+        Map<String, String> namedParameters = new HashMap<>();
+        Path scriptPath = null;
+        for (String arg : args) {
+            if (arg.equals(HEADLESS_FLAG)) {
+                continue;
+            } else if (arg.startsWith("--") && arg.contains("=")) {
+                namedParameters.put(arg.substring(2, arg.indexOf('=')), arg.substring(arg.indexOf('=') + 1));
+            } else if (scriptPath == null && FileUtil.isValidPath(arg)) {
+                scriptPath = Paths.get(arg);
+            } else {
+                System.err.println("Unknown argument: " + arg);
+                return EXIT_ERROR;
+            }
+        }
+
+        AppInitializer initializer = new AppInitializer();
+        AppParameters appParameters = AppParameters.parse(namedParameters);
+        Config config = initializer.initConfig(appParameters.getConfigPath());
+        FileUtil.setSyncPolicy(config.getDataSyncPolicy());
+
+        UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
+        UserPrefs userPrefs = initializer.initPrefs(userPrefsStorage);
+        MyFitnessBuddyStorage myFitnessBuddyStorage = initializer.initMyFitnessBuddyStorage(config, userPrefs);
+        Storage storage = new StorageManager(myFitnessBuddyStorage, userPrefsStorage, config.isWriteBehindEnabled());
+        storage.setSaveFailureHandler(e -> System.err.println(LogicManager.FILE_OPS_ERROR_MESSAGE + e));
+
+        LogsCenter.init(config);
+
+        Model model = initializer.initModelManager(storage, userPrefs);
+        initializer.getDataWarning().ifPresent(System.err::println);
+        Logic logic = new LogicManager(model, storage);
+
+        int exitStatus;
+        try (BufferedReader in = scriptPath == null
+                ? new BufferedReader(new InputStreamReader(System.in, StandardCharsets.UTF_8))
+                : Files.newBufferedReader(scriptPath, StandardCharsets.UTF_8)) {
+            boolean isInteractive = scriptPath == null && System.console() != null;
+            exitStatus = new HeadlessApp(logic, in, System.out, System.err, isInteractive).run();
+        } catch (IOException e) {
+            System.err.println("Could not read the commands: " + e);
+            exitStatus = EXIT_ERROR;
+        }
+
+        try {
+            storage.flush();
+        } catch (IOException e) {
+            logger.severe("Failed to save data " + StringUtil.getDetails(e));
+            exitStatus = EXIT_ERROR;
+        }
+        return exitStatus;
+    }
+}
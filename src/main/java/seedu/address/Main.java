@@ -1,5 +1,7 @@
 package seedu.address;
 
+import java.util.Arrays;
+
 import javafx.application.Application;
 
 /**
@@ -17,9 +19,20 @@ import javafx.application.Application;
  *
  * By having a separate main class (Main) that doesn't extend Application
  * to be the entry point of the application, we avoid this issue.
+ *
+ * Given {@code --headless} or {@code --server}, the application runs as {@link HeadlessApp} or {@link ServerApp}
+ * instead, without starting JavaFX.
  */
 public class Main {
     public static void main(String[] args) {
+        if (Arrays.asList(args).contains(HeadlessApp.HEADLESS_FLAG)) {
+            HeadlessApp.main(args);
+            return;
+        }
+        if (Arrays.asList(args).contains(ServerApp.SERVER_FLAG)) {
+            ServerApp.main(args);
+            return;
+        }
         Application.launch(MainApp.class, args);
     }
 }
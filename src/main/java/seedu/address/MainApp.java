@@ -2,7 +2,6 @@ package seedu.address;
 
 import java.io.IOException;
 import java.nio.file.Path;
-import java.util.Optional;
 import java.util.logging.Logger;
 
 import javafx.application.Application;
@@ -10,19 +9,12 @@ import javafx.stage.Stage;
 import seedu.address.commons.core.Config;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.core.Version;
-import seedu.address.commons.exceptions.DataConversionException;
-import seedu.address.commons.util.ConfigUtil;
+import seedu.address.commons.util.FileUtil;
 import seedu.address.commons.util.StringUtil;
 import seedu.address.logic.Logic;
 import seedu.address.logic.LogicManager;
 import seedu.address.model.Model;
-import seedu.address.model.ModelManager;
-import seedu.address.model.MyFitnessBuddy;
-import seedu.address.model.ReadOnlyMyFitnessBuddy;
-import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.UserPrefs;
-import seedu.address.model.util.SampleDataUtil;
-import seedu.address.storage.JsonMyFitnessBuddyStorage;
 import seedu.address.storage.JsonUserPrefsStorage;
 import seedu.address.storage.MyFitnessBuddyStorage;
 import seedu.address.storage.Storage;
@@ -46,6 +38,8 @@ public class MainApp extends Application {
     protected Model model;
     protected Config config;
 
+    private final AppInitializer initializer = new AppInitializer();
+
     @Override
     public void init() throws Exception {
         logger.info("=============================[ Initializing MyFitnessBuddy ]===========================");
@@ -53,47 +47,22 @@ public class MainApp extends Application {
 
         AppParameters appParameters = AppParameters.parse(getParameters());
         config = initConfig(appParameters.getConfigPath());
+        FileUtil.setSyncPolicy(config.getDataSyncPolicy());
 
         UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
         UserPrefs userPrefs = initPrefs(userPrefsStorage);
-        MyFitnessBuddyStorage myFitnessBuddyStorage =
-                new JsonMyFitnessBuddyStorage(userPrefs.getMyFitnessBuddyFilePath());
-        storage = new StorageManager(myFitnessBuddyStorage, userPrefsStorage);
+        MyFitnessBuddyStorage myFitnessBuddyStorage = initializer.initMyFitnessBuddyStorage(config, userPrefs);
+        storage = new StorageManager(myFitnessBuddyStorage, userPrefsStorage, config.isWriteBehindEnabled());
 
         initLogging(config);
 
-        model = initModelManager(storage, userPrefs);
+        model = initializer.initModelManager(storage, userPrefs);
 
         logic = new LogicManager(model, storage);
 
         ui = new UiManager(logic);
-    }
 
-    /**
-     * Returns a {@code ModelManager} with the data from {@code storage}'s records and {@code userPrefs}. <br>
-     * The data from the sample my fitness buddy records will be used instead if {@code storage}'s records is not found,
-     * or an empty person
-     * will be used instead if errors occur when reading {@code storage}'s records for my fitness buddy.
-     * .
-     */
-    private Model initModelManager(Storage storage, ReadOnlyUserPrefs userPrefs) {
-        Optional<ReadOnlyMyFitnessBuddy> myFitnessBuddyOptional;
-        ReadOnlyMyFitnessBuddy initialData;
-        try {
-            myFitnessBuddyOptional = storage.readFitnessBuddy();
-            if (!myFitnessBuddyOptional.isPresent()) {
-                logger.info("Data file not found. Will be starting with a sample MyFitnessBuddy");
-            }
-            initialData = myFitnessBuddyOptional.orElseGet(SampleDataUtil::getSampleMyFitnessBuddy);
-            storage.saveFitnessBuddy(initialData);
-        } catch (DataConversionException e) {
-            logger.warning("Data file not in the correct format. Will be starting with a new MyFitnessBuddy");
-            initialData = new MyFitnessBuddy();
-        } catch (IOException e) {
-            logger.warning("Problem while reading from the file. Will be starting with a new MyFitnessBuddy");
-            initialData = new MyFitnessBuddy();
-        }
-        return new ModelManager(initialData, userPrefs);
+        storage.setSaveFailureHandler(e -> ui.showBackgroundError(LogicManager.FILE_OPS_ERROR_MESSAGE + e));
     }
 
     private void initLogging(Config config) {
@@ -101,77 +70,25 @@ public class MainApp extends Application {
     }
 
     /**
-     * Returns a {@code Config} using the file at {@code configFilePath}. <br>
-     * The default file path {@code Config#DEFAULT_CONFIG_FILE} will be used instead
-     * if {@code configFilePath} is null.
+     * Returns a {@code Config} using the file at {@code configFilePath}, see {@link AppInitializer#initConfig(Path)}.
      */
     protected Config initConfig(Path configFilePath) {
-        Config initializedConfig;
-        Path configFilePathUsed;
-
-        configFilePathUsed = Config.DEFAULT_CONFIG_FILE;
-
-        if (configFilePath != null) {
-            logger.info("Custom Config file specified " + configFilePath);
-            configFilePathUsed = configFilePath;
-        }
-
-        logger.info("Using config file : " + configFilePathUsed);
-
-        try {
-            Optional<Config> configOptional = ConfigUtil.readConfig(configFilePathUsed);
-            initializedConfig = configOptional.orElse(new Config());
-        } catch (DataConversionException e) {
-            logger.warning("Config file at " + configFilePathUsed + " is not in the correct format. "
-                    + "Using default config properties");
-            initializedConfig = new Config();
-        }
-
-        //Update config file in case it was missing to begin with or there are new/unused fields
-        try {
-            ConfigUtil.saveConfig(initializedConfig, configFilePathUsed);
-        } catch (IOException e) {
-            logger.warning("Failed to save config file : " + StringUtil.getDetails(e));
-        }
-        return initializedConfig;
+        return initializer.initConfig(configFilePath);
     }
 
     /**
-     * Returns a {@code UserPrefs} using the file at {@code storage}'s user prefs file path,
-     * or a new {@code UserPrefs} with default configuration if errors occur when
-     * reading from the file.
+     * Returns a {@code UserPrefs} using the file at {@code storage}'s user prefs file path, see
+     * {@link AppInitializer#initPrefs(UserPrefsStorage)}.
      */
     protected UserPrefs initPrefs(UserPrefsStorage storage) {
-        Path prefsFilePath = storage.getUserPrefsFilePath();
-        logger.info("Using prefs file : " + prefsFilePath);
-
-        UserPrefs initializedPrefs;
-        try {
-            Optional<UserPrefs> prefsOptional = storage.readUserPrefs();
-            initializedPrefs = prefsOptional.orElse(new UserPrefs());
-        } catch (DataConversionException e) {
-            logger.warning("UserPrefs file at " + prefsFilePath + " is not in the correct format. "
-                    + "Using default user prefs");
-            initializedPrefs = new UserPrefs();
-        } catch (IOException e) {
-            logger.warning("Problem while reading from the file. Will be starting with an empty MyFitnessBuddy");
-            initializedPrefs = new UserPrefs();
-        }
-
-        //Update prefs file in case it was missing to begin with or there are new/unused fields
-        try {
-            storage.saveUserPrefs(initializedPrefs);
-        } catch (IOException e) {
-            logger.warning("Failed to save config file : " + StringUtil.getDetails(e));
-        }
-
-        return initializedPrefs;
+        return initializer.initPrefs(storage);
     }
 
     @Override
     public void start(Stage primaryStage) {
         logger.info("Starting My Fitness Buddy " + MainApp.VERSION);
         ui.start(primaryStage);
+        initializer.getDataWarning().ifPresent(ui::showDataWarning);
     }
 
     @Override
@@ -184,5 +101,10 @@ public class MainApp extends Application {
         } catch (IOException e) {
             logger.severe("Failed to save preferences " + StringUtil.getDetails(e));
         }
+        try {
+            storage.flush();
+        } catch (IOException e) {
+            logger.severe("Failed to save data " + StringUtil.getDetails(e));
+        }
     }
 }
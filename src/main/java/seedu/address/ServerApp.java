@@ -0,0 +1,117 @@
+package seedu.address;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.Config;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.logic.LogicManager;
+import seedu.address.model.Model;
+import seedu.address.model.UserPrefs;
+import seedu.address.server.ApiServer;
+import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.MyFitnessBuddyStorage;
+import seedu.address.storage.Storage;
+import seedu.address.storage.StorageManager;
+import seedu.address.storage.UserPrefsStorage;
+
+/**
+ * Runs the application without a UI as an {@link ApiServer}, until the process is stopped.
+ *
+ * {@code args} may hold {@code --config=<file>}, {@code --host=<address>} (localhost by default),
+ * {@code --port=<port>}, {@code --threads=<reader threads>} and {@code --token=<token>}. The token may also be given in
+ * the {@value ApiServer#TOKEN_ENVIRONMENT_VARIABLE} environment variable; without one, a random token is created and
+ * printed, and the server only listens on a loopback address. The data is saved when the process is stopped.
+ */
+public class ServerApp {
+
+    public static final String SERVER_FLAG = "--server";
+    public static final String DEFAULT_HOST = "localhost";
+    public static final String MESSAGE_TOKEN_NEEDED = "A token is needed to serve on %1$s; give it as --token=TOKEN "
+            + "or in the " + ApiServer.TOKEN_ENVIRONMENT_VARIABLE + " environment variable";
+
+    private static final String NO_DELAY_PROPERTY = "sun.net.httpserver.nodelay";
+
+    private static final Logger logger = LogsCenter.getLogger(ServerApp.class);
+
+    public static void main(String[] args) {
+        Map<String, String> namedParameters = new HashMap<>();
+        for (String arg : args) {
+            if (arg.equals(SERVER_FLAG)) {
+                continue;
+            } else if (!arg.startsWith("--") || !arg.contains("=")) {
+                System.err.println("Unknown argument: " + arg);
+                System.exit(HeadlessApp.EXIT_ERROR);
+            }
+            namedParameters.put(arg.substring(2, arg.indexOf('=')), arg.substring(arg.indexOf('=') + 1));
+        }
+
+        AppInitializer initializer = new AppInitializer();
+        AppParameters appParameters = AppParameters.parse(namedParameters);
+        Config config = initializer.initConfig(appParameters.getConfigPath());
+        FileUtil.setSyncPolicy(config.getDataSyncPolicy());
+
+        UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
+        UserPrefs userPrefs = initializer.initPrefs(userPrefsStorage);
+        MyFitnessBuddyStorage myFitnessBuddyStorage = initializer.initMyFitnessBuddyStorage(config, userPrefs);
+        Storage storage = new StorageManager(myFitnessBuddyStorage, userPrefsStorage, config.isWriteBehindEnabled());
+        storage.setSaveFailureHandler(e -> logger.severe(LogicManager.FILE_OPS_ERROR_MESSAGE + e));
+
+        LogsCenter.init(config);
+
+        Model model = initializer.initModelManager(storage, userPrefs);
+        initializer.getDataWarning().ifPresent(System.err::println);
+
+        String host = namedParameters.getOrDefault("host", DEFAULT_HOST);
+        String token = namedParameters.getOrDefault("token", System.getenv(ApiServer.TOKEN_ENVIRONMENT_VARIABLE));
+        boolean isTokenCreated = token == null || token.isBlank();
+        // the JDK server writes the headers and the body of a response separately; without TCP_NODELAY the body waits
+        // for the client's delayed acknowledgement of the headers, adding about 40 ms to every request. This process
+        // only serves the API, so the setting is made here rather than by the server for every JVM that embeds it
+        if (System.getProperty(NO_DELAY_PROPERTY) == null) {
+            System.setProperty(NO_DELAY_PROPERTY, "true");
+        }
+        ApiServer server;
+        try {
+            if (isTokenCreated && !InetAddress.getByName(host).isLoopbackAddress()) {
+                System.err.println(String.format(MESSAGE_TOKEN_NEEDED, host));
+                System.exit(HeadlessApp.EXIT_ERROR);
+                return;
+            }
+            if (isTokenCreated) {
+                token = ApiServer.createToken();
+            }
+            InetSocketAddress address = new InetSocketAddress(host,
+                    Integer.parseInt(namedParameters.getOrDefault("port", String.valueOf(ApiServer.DEFAULT_PORT))));
+            int readerThreads = Integer.parseInt(namedParameters.getOrDefault("threads",
+                    String.valueOf(ApiServer.DEFAULT_READER_THREADS)));
+            server = new ApiServer(new LogicManager(model, storage), address, readerThreads, token);
+        } catch (IOException | IllegalArgumentException e) {
+            System.err.println("Could not start the server: " + e.getMessage());
+            System.exit(HeadlessApp.EXIT_ERROR);
+            return;
+        }
+
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+            logger.info("============================ [ Stopping the My Fitness Buddy server ] ===================");
+            server.stop();
+            try {
+                storage.flush();
+            } catch (IOException e) {
+                logger.severe("Failed to save data " + StringUtil.getDetails(e));
+            }
+        }));
+        server.start();
+        System.out.println("Serving My Fitness Buddy at http://" + host + ":" + server.getAddress().getPort()
+                + ApiServer.API_PATH);
+        if (isTokenCreated) {
+            System.out.println("Send this token as Authorization: Bearer " + token);
+        }
+    }
+}
@@ -5,16 +5,29 @@ import java.nio.file.Paths;
 import java.util.Objects;
 import java.util.logging.Level;
 
+import seedu.address.commons.util.FileUtil.SyncPolicy;
+
 /**
  * Config values used by the app
  */
 public class Config {
 
+    /**
+     * The formats the My Fitness Buddy data file can be kept in.
+     */
+    public enum DataFormat {
+        JSON, BINARY, SHARDED
+    }
+
     public static final Path DEFAULT_CONFIG_FILE = Paths.get("config.json");
 
     // Config values customizable through config file
     private Level logLevel = Level.INFO;
     private Path userPrefsFilePath = Paths.get("preferences.json");
+    private boolean dataJournalEnabled = false;
+    private boolean writeBehindEnabled = false;
+    private DataFormat dataFormat = DataFormat.JSON;
+    private SyncPolicy dataSyncPolicy = SyncPolicy.BATCHED;
 
     public Level getLogLevel() {
         return logLevel;
@@ -32,6 +45,38 @@ public class Config {
         this.userPrefsFilePath = userPrefsFilePath;
     }
 
+    public boolean isDataJournalEnabled() {
+        return dataJournalEnabled;
+    }
+
+    public void setDataJournalEnabled(boolean dataJournalEnabled) {
+        this.dataJournalEnabled = dataJournalEnabled;
+    }
+
+    public boolean isWriteBehindEnabled() {
+        return writeBehindEnabled;
+    }
+
+    public void setWriteBehindEnabled(boolean writeBehindEnabled) {
+        this.writeBehindEnabled = writeBehindEnabled;
+    }
+
+    public DataFormat getDataFormat() {
+        return dataFormat;
+    }
+
+    public void setDataFormat(DataFormat dataFormat) {
+        this.dataFormat = dataFormat;
+    }
+
+    public SyncPolicy getDataSyncPolicy() {
+        return dataSyncPolicy;
+    }
+
+    public void setDataSyncPolicy(SyncPolicy dataSyncPolicy) {
+        this.dataSyncPolicy = dataSyncPolicy;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -44,12 +89,17 @@ public class Config {
         Config o = (Config) other;
 
         return Objects.equals(logLevel, o.logLevel)
-                && Objects.equals(userPrefsFilePath, o.userPrefsFilePath);
+                && Objects.equals(userPrefsFilePath, o.userPrefsFilePath)
+                && dataJournalEnabled == o.dataJournalEnabled
+                && writeBehindEnabled == o.writeBehindEnabled
+                && dataFormat == o.dataFormat
+                && dataSyncPolicy == o.dataSyncPolicy;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(logLevel, userPrefsFilePath);
+        return Objects.hash(logLevel, userPrefsFilePath, dataJournalEnabled, writeBehindEnabled, dataFormat,
+                dataSyncPolicy);
     }
 
     @Override
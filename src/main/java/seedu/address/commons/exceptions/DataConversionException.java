@@ -8,4 +8,8 @@ public class DataConversionException extends Exception {
         super(cause);
     }
 
+    public DataConversionException(String message, Exception cause) {
+        super(message, cause);
+    }
+
 }
@@ -0,0 +1,195 @@
+package seedu.address.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.FileUtil.SyncPolicy;
+
+/**
+ * Replaces a group of files so that each of them either keeps its old content or holds all of its new content, even if
+ * the app or the machine stops part way through.
+ *
+ * The new content of each file is written to a temporary file beside it and forced to disk as the {@code SyncPolicy}
+ * asks. The temporary files are renamed over their targets when the batch is committed, and the directories holding
+ * them are forced once for the whole batch. The replaced content of a file can be kept as its backup.
+ */
+public class AtomicWriteBatch implements Closeable {
+
+    private static final int BUFFER_SIZE = 1 << 16;
+
+    private static final Logger logger = LogsCenter.getLogger(AtomicWriteBatch.class);
+
+    private final SyncPolicy syncPolicy;
+    private final List<Replacement> replacements = new ArrayList<>();
+
+    /**
+     * Constructs a batch that forces data to disk as the current {@link FileUtil#getSyncPolicy()} asks.
+     */
+    public AtomicWriteBatch() {
+        this(FileUtil.getSyncPolicy());
+    }
+
+    public AtomicWriteBatch(SyncPolicy syncPolicy) {
+        requireNonNull(syncPolicy);
+        this.syncPolicy = syncPolicy;
+    }
+
+    /**
+     * Writes the new content of {@code file} with {@code writer}, to be put in place when the batch is committed.
+     * With {@link SyncPolicy#ALWAYS}, the file is replaced straight away instead.
+     *
+     * @param isBackupKept true if the content being replaced should be kept in the backup of {@code file}.
+     */
+    public void write(Path file, boolean isBackupKept, FileUtil.ContentWriter writer) throws IOException {
+        requireNonNull(file);
+        requireNonNull(writer);
+        FileUtil.createParentDirsOfFile(file);
+        Path tempFile = FileUtil.getTempFilePath(file);
+        try (FileChannel channel = FileChannel.open(tempFile, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            OutputStream out = new BufferedOutputStream(Channels.newOutputStream(channel), BUFFER_SIZE);
+            writer.write(new UnclosableOutputStream(out));
+            out.flush();
+            if (syncPolicy != SyncPolicy.NEVER) {
+                channel.force(true);
+            }
+        } catch (IOException e) {
+            Files.deleteIfExists(tempFile);
+            throw e;
+        }
+
+        Replacement replacement = new Replacement(file, tempFile, isBackupKept);
+        if (syncPolicy == SyncPolicy.ALWAYS) {
+            replacement.replace();
+            forceDirectory(file.toAbsolutePath().getParent());
+        } else {
+            replacements.add(replacement);
+        }
+    }
+
+    /**
+     * Puts every file written since the last commit in place.
+     */
+    public void commit() throws IOException {
+        Set<Path> directories = new LinkedHashSet<>();
+        while (!replacements.isEmpty()) {
+            Replacement replacement = replacements.remove(0);
+            replacement.replace();
+            directories.add(replacement.file.toAbsolutePath().getParent());
+        }
+        if (syncPolicy != SyncPolicy.NEVER) {
+            for (Path directory : directories) {
+                forceDirectory(directory);
+            }
+        }
+    }
+
+    /**
+     * Discards the files written since the last commit, leaving their targets as they were.
+     */
+    @Override
+    public void close() throws IOException {
+        for (Replacement replacement : replacements) {
+            Files.deleteIfExists(replacement.tempFile);
+        }
+        replacements.clear();
+    }
+
+    /**
+     * Forces the renames in {@code directory} to disk. Platforms that cannot open a directory, such as Windows, make
+     * renames durable by themselves.
+     */
+    private static void forceDirectory(Path directory) {
+        try (FileChannel channel = FileChannel.open(directory, StandardOpenOption.READ)) {
+            channel.force(true);
+        } catch (IOException e) {
+            logger.fine("Could not force directory " + directory + ": " + e);
+        }
+    }
+
+    /**
+     * Renames {@code source} over {@code target} in one step where the file system allows it.
+     */
+    private static void moveAtomically(Path source, Path target) throws IOException {
+        try {
+            Files.move(source, target, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    /**
+     * A written temporary file and the file it replaces.
+     */
+    private static class Replacement {
+        private final Path file;
+        private final Path tempFile;
+        private final boolean isBackupKept;
+
+        Replacement(Path file, Path tempFile, boolean isBackupKept) {
+            this.file = file;
+            this.tempFile = tempFile;
+            this.isBackupKept = isBackupKept;
+        }
+
+        void replace() throws IOException {
+            if (isBackupKept && Files.exists(file)) {
+                keepBackup();
+            }
+            moveAtomically(tempFile, file);
+        }
+
+        /**
+         * Keeps the current content of the file as its backup. A hard link is used where possible, so that the
+         * content is not copied and the file itself never goes missing.
+         */
+        private void keepBackup() throws IOException {
+            Path backupFile = FileUtil.getBackupFilePath(file);
+            Path backupTempFile = FileUtil.getTempFilePath(backupFile);
+            Files.deleteIfExists(backupTempFile);
+            try {
+                Files.createLink(backupTempFile, file);
+            } catch (UnsupportedOperationException | IOException e) {
+                Files.copy(file, backupTempFile, StandardCopyOption.REPLACE_EXISTING);
+            }
+            moveAtomically(backupTempFile, backupFile);
+        }
+    }
+
+    /**
+     * Passes writes on to the file but leaves closing it to the batch, which must force it to disk first.
+     */
+    private static class UnclosableOutputStream extends FilterOutputStream {
+        UnclosableOutputStream(OutputStream out) {
+            super(out);
+        }
+
+        @Override
+        public void write(byte[] bytes, int offset, int length) throws IOException {
+            out.write(bytes, offset, length);
+        }
+
+        @Override
+        public void close() throws IOException {
+            flush();
+        }
+    }
+}
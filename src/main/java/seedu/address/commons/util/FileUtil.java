@@ -1,6 +1,9 @@
 package seedu.address.commons.util;
 
+import static java.util.Objects.requireNonNull;
+
 import java.io.IOException;
+import java.io.OutputStream;
 import java.nio.file.Files;
 import java.nio.file.InvalidPathException;
 import java.nio.file.Path;
@@ -11,8 +14,13 @@ import java.nio.file.Paths;
  */
 public class FileUtil {
 
+    public static final String TEMP_FILE_SUFFIX = ".tmp";
+    public static final String BACKUP_FILE_SUFFIX = ".bak";
+
     private static final String CHARSET = "UTF-8";
 
+    private static volatile SyncPolicy syncPolicy = SyncPolicy.BATCHED;
+
     public static boolean isFileExists(Path file) {
         return Files.exists(file) && Files.isRegularFile(file);
     }
@@ -73,11 +81,72 @@ public class FileUtil {
     }
 
     /**
-     * Writes given string to a file.
+     * Writes given string to a file, replacing its content in one step.
      * Will create the file if it does not exist yet.
      */
     public static void writeToFile(Path file, String content) throws IOException {
-        Files.write(file, content.getBytes(CHARSET));
+        byte[] bytes = content.getBytes(CHARSET);
+        writeAtomically(file, false, out -> out.write(bytes));
+    }
+
+    /**
+     * Writes the content of a file with {@code writer} to a temporary file beside it, then renames that over the file,
+     * so that a failed write leaves the old content in place.
+     * Will create the file and its missing parent directories if they do not exist yet.
+     * @param isBackupKept true if the old content should be kept in the file at {@link #getBackupFilePath(Path)}.
+     */
+    public static void writeAtomically(Path file, boolean isBackupKept, ContentWriter writer) throws IOException {
+        try (AtomicWriteBatch batch = new AtomicWriteBatch()) {
+            batch.write(file, isBackupKept, writer);
+            batch.commit();
+        }
+    }
+
+    /**
+     * Returns the path of the temporary file that new content of {@code file} is written to.
+     */
+    public static Path getTempFilePath(Path file) {
+        return file.resolveSibling(file.getFileName() + TEMP_FILE_SUFFIX);
+    }
+
+    /**
+     * Returns the path of the file that keeps the last content replaced in {@code file}.
+     */
+    public static Path getBackupFilePath(Path file) {
+        return file.resolveSibling(file.getFileName() + BACKUP_FILE_SUFFIX);
+    }
+
+    public static SyncPolicy getSyncPolicy() {
+        return syncPolicy;
+    }
+
+    /**
+     * Sets how often written files are forced to disk from now on.
+     */
+    public static void setSyncPolicy(SyncPolicy syncPolicy) {
+        requireNonNull(syncPolicy);
+        FileUtil.syncPolicy = syncPolicy;
+    }
+
+    /**
+     * How often written files are forced to disk, trading the speed of a save against how much of it survives a
+     * power loss.
+     */
+    public enum SyncPolicy {
+        /** Forces each file and its directory to disk as soon as it is written. */
+        ALWAYS,
+        /** Forces each file to disk as it is written, and the directories once for all files saved together. */
+        BATCHED,
+        /** Leaves forcing to the operating system. A crash can then lose a save, but never corrupts the old data. */
+        NEVER
+    }
+
+    /**
+     * Writes the content of a file.
+     */
+    @FunctionalInterface
+    public interface ContentWriter {
+        void write(OutputStream out) throws IOException;
     }
 
 }
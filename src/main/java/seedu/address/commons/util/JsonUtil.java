@@ -1,8 +1,11 @@
 package seedu.address.commons.util;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.io.BufferedInputStream;
 import java.io.IOException;
+import java.io.OutputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Optional;
@@ -11,10 +14,16 @@ import java.util.logging.Logger;
 
 import com.fasterxml.jackson.annotation.JsonAutoDetect;
 import com.fasterxml.jackson.annotation.PropertyAccessor;
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.databind.deser.std.FromStringDeserializer;
 import com.fasterxml.jackson.databind.module.SimpleModule;
@@ -22,6 +31,7 @@ import com.fasterxml.jackson.databind.ser.std.ToStringSerializer;
 
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
 
 /**
  * Converts a Java object instance to JSON and vice versa
@@ -29,6 +39,7 @@ import seedu.address.commons.exceptions.DataConversionException;
 public class JsonUtil {
 
     private static final Logger logger = LogsCenter.getLogger(JsonUtil.class);
+    private static final int STREAM_BUFFER_SIZE = 1 << 16;
 
     private static ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules()
             .configure(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS, false)
@@ -91,6 +102,98 @@ public class JsonUtil {
     }
 
 
+    /**
+     * Reads the object in the given file one element of its array field {@code arrayFieldName} at a time, converting
+     * each to {@code elementClass} and passing it to {@code consumer} before the next is parsed. Other fields are
+     * skipped, and a missing array field is read as empty. The text of the file is never held in memory as a whole.
+     * @param filePath cannot be null.
+     * @return false if the file is not found.
+     * @throws DataConversionException if the file format is not as expected, or {@code consumer} rejects an element.
+     */
+    public static <T> boolean readJsonArrayFile(Path filePath, String arrayFieldName, Class<T> elementClass,
+                                                ElementConsumer<? super T> consumer) throws DataConversionException {
+        requireAllNonNull(filePath, arrayFieldName, elementClass, consumer);
+
+        if (!Files.exists(filePath)) {
+            logger.info("Json file " + filePath + " not found");
+            return false;
+        }
+
+        try (JsonParser parser = objectMapper.getFactory().createParser(
+                new BufferedInputStream(Files.newInputStream(filePath), STREAM_BUFFER_SIZE))) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new JsonParseException(parser, "Expected an object");
+            }
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                boolean isArrayField = arrayFieldName.equals(parser.getCurrentName());
+                JsonToken value = parser.nextToken();
+                if (!isArrayField) {
+                    parser.skipChildren();
+                } else if (value == JsonToken.START_ARRAY) {
+                    while (parser.nextToken() != JsonToken.END_ARRAY) {
+                        consumer.accept(objectMapper.readValue(parser, elementClass));
+                    }
+                } else if (value != JsonToken.VALUE_NULL) {
+                    throw new JsonParseException(parser, "Expected an array for " + arrayFieldName);
+                }
+            }
+            if (parser.currentToken() != JsonToken.END_OBJECT) {
+                throw new JsonParseException(parser, "Expected the end of the object");
+            }
+        } catch (IOException | IllegalValueException e) {
+            logger.warning("Error reading from jsonFile file " + filePath + ": " + e);
+            throw new DataConversionException(e);
+        }
+        return true;
+    }
+
+    /**
+     * Saves {@code elements} as the array field {@code arrayFieldName} of an object in the specified file, writing
+     * each element as it is reached instead of building the whole text first.
+     * The file is replaced in one step, and its old content is kept as its backup.
+     * Overwrites existing file if it exists, creates a new file if it doesn't.
+     * @param filePath cannot be null
+     * @throws IOException if there was an error during writing to the file
+     */
+    public static <T> void saveJsonArrayFile(Iterable<T> elements, String arrayFieldName, Path filePath)
+            throws IOException {
+        requireAllNonNull(elements, arrayFieldName, filePath);
+
+        FileUtil.writeAtomically(filePath, true, out -> writeJsonArray(elements, arrayFieldName, out));
+    }
+
+    /**
+     * Writes {@code elements} as the array field {@code arrayFieldName} of an object to {@code out}, one element at a
+     * time. {@code out} is closed once the object is written.
+     * @throws IOException if there was an error during writing to {@code out}
+     */
+    public static <T> void writeJsonArray(Iterable<T> elements, String arrayFieldName, OutputStream out)
+            throws IOException {
+        requireAllNonNull(elements, arrayFieldName, out);
+
+        ObjectWriter elementWriter = objectMapper.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(out, JsonEncoding.UTF8)) {
+            generator.useDefaultPrettyPrinter();
+            generator.writeStartObject();
+            generator.writeArrayFieldStart(arrayFieldName);
+            for (T element : elements) {
+                elementWriter.writeValue(generator, element);
+            }
+            generator.writeEndArray();
+            generator.writeEndObject();
+        }
+    }
+
+    /**
+     * Writes {@code instance} as JSON data to {@code out}, which is closed once it is written.
+     * @throws IOException if there was an error during writing to {@code out}
+     */
+    public static <T> void writeJson(T instance, OutputStream out) throws IOException {
+        requireAllNonNull(instance, out);
+
+        objectMapper.writerWithDefaultPrettyPrinter().writeValue(out, instance);
+    }
+
     /**
      * Converts a given string representation of a JSON data to instance of a class
      * @param <T> The generic type to create an instance of
@@ -110,6 +213,24 @@ public class JsonUtil {
         return objectMapper.writerWithDefaultPrettyPrinter().writeValueAsString(instance);
     }
 
+    /**
+     * Converts a given instance of a class into its JSON data string representation on a single line
+     * @param instance The T object to be converted into the JSON string
+     * @param <T> The generic type to create an instance of
+     * @return JSON data representation of the given class instance without line breaks, in string
+     */
+    public static <T> String toCompactJsonString(T instance) throws JsonProcessingException {
+        return objectMapper.writeValueAsString(instance);
+    }
+
+    /**
+     * Receives the elements read by {@link #readJsonArrayFile(Path, String, Class, ElementConsumer)}.
+     */
+    @FunctionalInterface
+    public interface ElementConsumer<T> {
+        void accept(T element) throws IllegalValueException;
+    }
+
     /**
      * Contains methods that retrieve logging level from serialized string.
      */
@@ -1,6 +1,8 @@
 package seedu.address.logic;
 
 import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
@@ -9,6 +11,7 @@ import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.ReadOnlyMyFitnessBuddy;
 import seedu.address.model.day.Day;
+import seedu.address.model.person.ID;
 import seedu.address.model.person.Person;
 
 /**
@@ -24,6 +27,32 @@ public interface Logic {
      */
     CommandResult execute(String commandText) throws CommandException, ParseException;
 
+    /**
+     * Executes the command as {@link #execute(String)} does, if it only reads or changes the data, with the person
+     * with {@code personId} logged in, or no person if it is empty. The person is logged in for this command alone,
+     * so that clients sharing the data do not depend on each other's logins.
+     * Commands that read or write files, run a script, clear the data, exit the app, log in or move through the
+     * shared undo history are refused.
+     * @param personId The id of the person the command is for.
+     * @param commandText The command as sent by a client.
+     * @return the result of the command execution.
+     * @throws CommandException If the command is refused, there is no person with {@code personId}, or an error
+     *     occurs during its execution.
+     * @throws ParseException If an error occurs during parsing.
+     */
+    CommandResult executeDataCommand(Optional<ID> personId, String commandText)
+            throws CommandException, ParseException;
+
+    /**
+     * Executes the commands as one change and returns the result: if any command fails, none take effect.
+     * The data is saved once, after the last command.
+     * @param commandTexts The commands, one per element. Blank elements and comments are skipped.
+     * @return the result of the whole batch.
+     * @throws CommandException If an error occurs during the execution of any command.
+     * @throws ParseException If any command cannot be parsed, in which case none are executed.
+     */
+    CommandResult executeBatch(List<String> commandTexts) throws CommandException, ParseException;
+
     /**
      * Returns MyFitnessBuddy.
      *
@@ -37,6 +66,14 @@ public interface Logic {
     /** Returns an unmodifiable view of the filtered list of persons */
     ObservableList<Person> getFilteredPersonList();
 
+    /**
+     * Returns the number of persons in the filtered person list whose current BMI falls in each band delimited by
+     * {@code upperBounds}.
+     *
+     * @see seedu.address.model.Model#countFilteredPersonsByBmiBand(double...)
+     */
+    int[] countFilteredPersonsByBmiBand(double... upperBounds);
+
     /**
      * Returns the user prefs' My Fitness Buddy file path.
      */
@@ -1,21 +1,36 @@
 package seedu.address.logic;
 
+import static seedu.address.model.Model.PREDICATE_SHOW_ALL_DAYS;
+
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
 import java.util.logging.Logger;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.logic.commands.ClearCommand;
 import seedu.address.logic.commands.Command;
 import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.ExitCommand;
+import seedu.address.logic.commands.FileCommand;
+import seedu.address.logic.commands.LoginCommand;
+import seedu.address.logic.commands.RedoCommand;
+import seedu.address.logic.commands.RunCommand;
+import seedu.address.logic.commands.UndoCommand;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.MyFitnessBuddyParser;
+import seedu.address.logic.parser.RunCommandParser;
 import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.ChangeLog;
 import seedu.address.model.Model;
 import seedu.address.model.ReadOnlyMyFitnessBuddy;
 import seedu.address.model.day.Day;
+import seedu.address.model.person.ID;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.exceptions.DayHistoryUnavailableException;
 import seedu.address.storage.Storage;
 
 /**
@@ -23,11 +38,17 @@ import seedu.address.storage.Storage;
  */
 public class LogicManager implements Logic {
     public static final String FILE_OPS_ERROR_MESSAGE = "Could not save data to file: ";
+    public static final String DAY_HISTORY_ERROR_MESSAGE = "Could not load the days of this profile: ";
+    public static final String MESSAGE_NOT_DATA_COMMAND = "The %1$s command cannot be used here";
+    public static final String MESSAGE_UNKNOWN_PERSON = "There is no person with the id %1$s";
+    private static final long NOT_SAVED = -1;
     private final Logger logger = LogsCenter.getLogger(LogicManager.class);
 
     private final Model model;
     private final Storage storage;
     private final MyFitnessBuddyParser myFitnessBuddyParser;
+    // the modification count of the data when it was last saved, or NOT_SAVED if it may differ from storage
+    private long savedModificationCount;
 
     /**
      * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}.
@@ -36,23 +57,81 @@ public class LogicManager implements Logic {
         this.model = model;
         this.storage = storage;
         myFitnessBuddyParser = new MyFitnessBuddyParser();
+        ChangeLog changeLog = model.getMyFitnessBuddy().getChangeLog();
+        savedModificationCount = changeLog.isClean() ? changeLog.getModificationCount() : NOT_SAVED;
     }
 
     @Override
     public CommandResult execute(String commandText) throws CommandException, ParseException {
         logger.info("----------------[USER COMMAND][" + commandText + "]");
 
-        CommandResult commandResult;
+        return executeAndSave(myFitnessBuddyParser.parseCommand(commandText));
+    }
+
+    @Override
+    public CommandResult executeDataCommand(Optional<ID> personId, String commandText)
+            throws CommandException, ParseException {
+        logger.info("----------------[DATA COMMAND][" + commandText + "]");
+
+        // refused before parsing, as parsing a run command reads its script
+        String commandWord = commandText.trim().split("\\s", 2)[0];
+        if (commandWord.equals(RunCommand.COMMAND_WORD)) {
+            throw new CommandException(String.format(MESSAGE_NOT_DATA_COMMAND, commandWord));
+        }
         Command command = myFitnessBuddyParser.parseCommand(commandText);
-        commandResult = command.execute(model);
+        if (command instanceof FileCommand || command instanceof RunCommand || command instanceof ClearCommand
+                || command instanceof ExitCommand || command instanceof LoginCommand || command instanceof UndoCommand
+                || command instanceof RedoCommand) {
+            throw new CommandException(String.format(MESSAGE_NOT_DATA_COMMAND, commandWord));
+        }
 
+        Person person = new Person();
+        if (personId.isPresent()) {
+            person = model.getMyFitnessBuddy().findPerson(personId.get()).orElseThrow(() ->
+                    new CommandException(String.format(MESSAGE_UNKNOWN_PERSON, personId.get())));
+        }
+        model.setCurrentPerson(person);
+        model.updateFilteredDayList(PREDICATE_SHOW_ALL_DAYS);
+        return executeAndSave(command);
+    }
+
+    @Override
+    public CommandResult executeBatch(List<String> commandTexts) throws CommandException, ParseException {
+        logger.info("----------------[USER BATCH][" + commandTexts.size() + " lines]");
+
+        return executeAndSave(RunCommandParser.parseScript(commandTexts));
+    }
+
+    private CommandResult executeAndSave(Command command) throws CommandException {
+        CommandResult commandResult;
+        try {
+            commandResult = command.execute(model, storage);
+        } catch (DayHistoryUnavailableException e) {
+            throw new CommandException(DAY_HISTORY_ERROR_MESSAGE + e.getMessage(), e);
+        }
+
+        // commits before saving, while storage still holds the days of the earlier versions
+        model.commitMyFitnessBuddy();
+        saveIfModified();
+
+        return commandResult;
+    }
+
+    /**
+     * Saves the data unless nothing has changed since it was last saved, such as after a command that only reads it.
+     */
+    private void saveIfModified() throws CommandException {
+        long modificationCount = model.getMyFitnessBuddy().getChangeLog().getModificationCount();
+        if (modificationCount == savedModificationCount) {
+            logger.fine("Data unchanged, skipping save");
+            return;
+        }
         try {
             storage.saveFitnessBuddy(model.getMyFitnessBuddy());
         } catch (IOException ioe) {
             throw new CommandException(FILE_OPS_ERROR_MESSAGE + ioe, ioe);
         }
-
-        return commandResult;
+        savedModificationCount = modificationCount;
     }
 
     @Override
@@ -70,6 +149,11 @@ public class LogicManager implements Logic {
         return model.getFilteredPersonList();
     }
 
+    @Override
+    public int[] countFilteredPersonsByBmiBand(double... upperBounds) {
+        return model.countFilteredPersonsByBmiBand(upperBounds);
+    }
+
     @Override
     public Path getMyFitnessBuddyFilePath() {
         return model.getMyFitnessBuddyFilePath();
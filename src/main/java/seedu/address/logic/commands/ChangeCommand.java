@@ -105,7 +105,8 @@ public class ChangeCommand extends Command {
             }
         }
         Boolean isOut = changeCalorieDescriptor.getIsOut();
-        CalorieManager calorieManager = editDay.getCalorieManager();
+        // edit a copy, so that the day being replaced, and any version of it kept for undo, is left as it was
+        CalorieManager calorieManager = new CalorieManager(editDay.getCalorieEntries());
 
         Calorie calorieToEdit = null;
         try {
@@ -2,6 +2,7 @@ package seedu.address.logic.commands;
 
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
+import seedu.address.storage.DayRecordStorage;
 
 /**
  * Represents a command with hidden internal logic and the ability to be executed.
@@ -17,4 +18,17 @@ public abstract class Command {
      */
     public abstract CommandResult execute(Model model) throws CommandException;
 
+    /**
+     * Executes the command, with {@code dayRecordStorage} for the files it reads or writes, and returns the result
+     * message. Commands that use no files only need {@code model}.
+     *
+     * @param model {@code Model} which the command should operate on.
+     * @param dayRecordStorage {@code DayRecordStorage} which the command reads and writes files through.
+     * @return feedback message of the operation result for display
+     * @throws CommandException If an error occurs during command execution.
+     */
+    public CommandResult execute(Model model, DayRecordStorage dayRecordStorage) throws CommandException {
+        return execute(model);
+    }
+
 }
@@ -0,0 +1,70 @@
+package seedu.address.logic.commands;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_FROM;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_ID;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TO;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.DayRecordFilter;
+import seedu.address.model.Model;
+import seedu.address.storage.DayRecordFormat;
+import seedu.address.storage.DayRecordStorage;
+
+/**
+ * Exports the weights and calorie entries of the selected profiles and days to a CSV or NDJSON file.
+ */
+public class ExportCommand extends FileCommand {
+
+    public static final String COMMAND_WORD = "export";
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Exports weights and calorie entries to a CSV (.csv) "
+            + "or NDJSON (.ndjson, .jsonl) file, in the same layout " + ImportCommand.COMMAND_WORD + " reads.\n"
+            + "Parameters: FILE_PATH "
+            + "[" + PREFIX_ID + "ID or start of ID] "
+            + "[" + PREFIX_FROM + "FIRST DATE] "
+            + "[" + PREFIX_TO + "LAST DATE]\n"
+            + "Example: " + COMMAND_WORD + " data/platoon.csv "
+            + PREFIX_ID + "11 "
+            + PREFIX_FROM + "2020-10-01 "
+            + PREFIX_TO + "2020-10-31";
+    public static final String MESSAGE_SUCCESS = "Exported %1$d records to %2$s";
+    public static final String MESSAGE_WRITE_ERROR = "Could not write %1$s: %2$s";
+
+    private final Path filePath;
+    private final DayRecordFormat format;
+    private final DayRecordFilter filter;
+
+    /**
+     * Creates an ExportCommand to write the records selected by {@code filter} to {@code filePath} in {@code format}.
+     */
+    public ExportCommand(Path filePath, DayRecordFormat format, DayRecordFilter filter) {
+        requireAllNonNull(filePath, format, filter);
+        this.filePath = filePath;
+        this.format = format;
+        this.filter = filter;
+    }
+
+    @Override
+    public CommandResult execute(Model model, DayRecordStorage dayRecordStorage) throws CommandException {
+        requireAllNonNull(model, dayRecordStorage);
+        long rowCount;
+        try {
+            rowCount = dayRecordStorage.saveDayRecords(model.getMyFitnessBuddy(), filter, filePath, format);
+        } catch (IOException e) {
+            throw new CommandException(String.format(MESSAGE_WRITE_ERROR, filePath, e.getMessage()));
+        }
+        return new CommandResult(String.format(MESSAGE_SUCCESS, rowCount, filePath));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof ExportCommand // instanceof handles nulls
+                && filePath.equals(((ExportCommand) other).filePath)
+                && format == ((ExportCommand) other).format
+                && filter.equals(((ExportCommand) other).filter)); // state check
+    }
+}
@@ -0,0 +1,23 @@
+package seedu.address.logic.commands;
+
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.storage.DayRecordStorage;
+
+/**
+ * Represents a command that reads or writes files of its own, so it can only be executed with a
+ * {@code DayRecordStorage}.
+ */
+public abstract class FileCommand extends Command {
+
+    public static final String MESSAGE_FILES_UNAVAILABLE = "Files cannot be read or written here";
+
+    @Override
+    public final CommandResult execute(Model model) throws CommandException {
+        throw new CommandException(MESSAGE_FILES_UNAVAILABLE);
+    }
+
+    @Override
+    public abstract CommandResult execute(Model model, DayRecordStorage dayRecordStorage) throws CommandException;
+
+}
@@ -2,7 +2,12 @@ package seedu.address.logic.commands;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
 import java.util.function.Predicate;
+import java.util.function.Supplier;
 
 import seedu.address.commons.core.Messages;
 import seedu.address.model.Model;
@@ -24,12 +29,16 @@ public class FindCommand extends Command {
             + "Example: " + COMMAND_WORD + " alice bob charlie";
 
     private final Predicate<Person> predicate;
+    private final NameContainsKeywordsPredicate namePredicate;
+    private final BelowCertainBmiPredicate bmiPredicate;
 
     /**
      * @param predicate constructor to find by name
      */
     public FindCommand(NameContainsKeywordsPredicate predicate) {
         this.predicate = predicate;
+        this.namePredicate = predicate;
+        this.bmiPredicate = null;
     }
 
     /**
@@ -37,21 +46,58 @@ public class FindCommand extends Command {
      */
     public FindCommand(BelowCertainBmiPredicate predicate) {
         this.predicate = predicate;
+        this.namePredicate = null;
+        this.bmiPredicate = predicate;
     }
 
     @Override
     public CommandResult execute(Model model) {
         requireNonNull(model);
 
-        model.updateFilteredPersonList(predicate);
+        model.updateFilteredPersonList(new IndexedMatches(model, () -> findMatches(model)));
         return new CommandResult(
                 String.format(Messages.MESSAGE_PERSONS_LISTED_OVERVIEW, model.getFilteredPersonList().size()));
     }
 
+    private List<Person> findMatches(Model model) {
+        if (namePredicate != null) {
+            return model.getPersonsWithNameKeywords(namePredicate.getKeywords());
+        }
+        return model.getPersonsAboveBmi(bmiPredicate.getBmi());
+    }
+
     @Override
     public boolean equals(Object other) {
         return other == this // short circuit if same object
                 || (other instanceof FindCommand // instanceof handles nulls
                 && predicate.equals(((FindCommand) other).predicate)); // state check
     }
+
+    /**
+     * Matches the persons found by a query on the model's indexes, in place of testing each person against the
+     * predicate itself. The matches are found again whenever the data has changed since they were last found, so the
+     * filter follows later edits to the person list as the predicate would.
+     */
+    private static class IndexedMatches implements Predicate<Person> {
+        private final Model model;
+        private final Supplier<List<Person>> query;
+        private final Set<Person> matches = Collections.newSetFromMap(new IdentityHashMap<>());
+        private long foundAtModificationCount = -1;
+
+        IndexedMatches(Model model, Supplier<List<Person>> query) {
+            this.model = model;
+            this.query = query;
+        }
+
+        @Override
+        public boolean test(Person person) {
+            long modificationCount = model.getMyFitnessBuddy().getChangeLog().getModificationCount();
+            if (modificationCount != foundAtModificationCount) {
+                matches.clear();
+                matches.addAll(query.get());
+                foundAtModificationCount = modificationCount;
+            }
+            return matches.contains(person);
+        }
+    }
 }
@@ -0,0 +1,74 @@
+package seedu.address.logic.commands;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+import static seedu.address.model.Model.PREDICATE_SHOW_ALL_DAYS;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.DayImport;
+import seedu.address.model.Model;
+import seedu.address.storage.DayRecordFormat;
+import seedu.address.storage.DayRecordStorage;
+
+/**
+ * Imports the weights and calorie entries of one or more profiles from a CSV or NDJSON file.
+ * Nothing is imported unless every record in the file can be.
+ */
+public class ImportCommand extends FileCommand {
+
+    public static final String COMMAND_WORD = "import";
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Imports weights and calorie entries from a CSV "
+            + "(.csv) or NDJSON (.ndjson, .jsonl) file.\n"
+            + "CSV files start with the header " + DayRecordFormat.CSV_HEADER + ", where type is weight, in or out.\n"
+            + "Parameters: FILE_PATH\n"
+            + "Example: " + COMMAND_WORD + " data/fitbit.csv";
+    public static final String MESSAGE_SUCCESS = "Imported %1$d records into %2$d days of %3$d profiles";
+    public static final String MESSAGE_READ_ERROR = "Could not read %1$s: %2$s";
+    public static final String MESSAGE_INVALID_FILE = "Nothing was imported from %1$s. %2$s";
+
+    private final Path filePath;
+    private final DayRecordFormat format;
+
+    /**
+     * Creates an ImportCommand to import the records in {@code filePath}, which are in {@code format}.
+     */
+    public ImportCommand(Path filePath, DayRecordFormat format) {
+        requireAllNonNull(filePath, format);
+        this.filePath = filePath;
+        this.format = format;
+    }
+
+    @Override
+    public CommandResult execute(Model model, DayRecordStorage dayRecordStorage) throws CommandException {
+        requireAllNonNull(model, dayRecordStorage);
+        DayImport dayImport;
+        try {
+            dayImport = dayRecordStorage.readDayRecords(filePath, format);
+        } catch (IOException e) {
+            throw new CommandException(String.format(MESSAGE_READ_ERROR, filePath, e.getMessage()));
+        } catch (DataConversionException e) {
+            throw new CommandException(String.format(MESSAGE_INVALID_FILE, filePath, e.getCause().getMessage()));
+        }
+
+        try {
+            model.importDays(dayImport);
+        } catch (IllegalValueException e) {
+            throw new CommandException(String.format(MESSAGE_INVALID_FILE, filePath, e.getMessage()));
+        }
+        model.updateFilteredDayList(PREDICATE_SHOW_ALL_DAYS);
+        return new CommandResult(String.format(MESSAGE_SUCCESS, dayImport.getRowCount(), dayImport.getDayCount(),
+                dayImport.getPersonIds().size()));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof ImportCommand // instanceof handles nulls
+                && filePath.equals(((ImportCommand) other).filePath)
+                && format == ((ImportCommand) other).format); // state check
+    }
+}
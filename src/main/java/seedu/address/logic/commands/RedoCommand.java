@@ -0,0 +1,30 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.model.Model.PREDICATE_SHOW_ALL_DAYS;
+
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+
+/**
+ * Restores My Fitness Buddy to the state before the last undo.
+ */
+public class RedoCommand extends Command {
+
+    public static final String COMMAND_WORD = "redo";
+    public static final String MESSAGE_SUCCESS = "Redid the last undone change";
+    public static final String MESSAGE_FAILURE = "There is no undone change to redo";
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+
+        if (!model.canRedoMyFitnessBuddy()) {
+            throw new CommandException(MESSAGE_FAILURE);
+        }
+
+        model.redoMyFitnessBuddy();
+        model.updateFilteredDayList(PREDICATE_SHOW_ALL_DAYS);
+        return new CommandResult(true, MESSAGE_SUCCESS);
+    }
+}
@@ -0,0 +1,90 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+import static seedu.address.model.Model.PREDICATE_SHOW_ALL_DAYS;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Checkpoint;
+import seedu.address.model.Model;
+import seedu.address.storage.DayRecordStorage;
+
+/**
+ * Runs a script of commands as one change: either every command takes effect or, if any fails, none does.
+ * The data is saved once after the whole script, and the display is refreshed once.
+ */
+public class RunCommand extends Command {
+
+    public static final String COMMAND_WORD = "run";
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Runs the commands in a text file, one per line, "
+            + "as a single change. Blank lines and lines starting with # are skipped.\n"
+            + "If any command fails, none of them are applied.\n"
+            + "Parameters: FILE_PATH\n"
+            + "Example: " + COMMAND_WORD + " data/field-exercise.txt";
+    public static final String MESSAGE_SUCCESS = "Ran %1$d commands";
+    public static final String MESSAGE_FAILED = "Nothing was changed, as the command on line %1$d failed: %2$s\n%3$s";
+
+    private final List<Command> commands;
+    private final List<String> commandTexts;
+    private final List<Integer> lineNumbers;
+
+    /**
+     * Creates a RunCommand to run {@code commands}, parsed from {@code commandTexts} on the given lines of a script.
+     */
+    public RunCommand(List<Command> commands, List<String> commandTexts, List<Integer> lineNumbers) {
+        requireAllNonNull(commands, commandTexts, lineNumbers);
+        if (commands.size() != commandTexts.size() || commands.size() != lineNumbers.size()) {
+            throw new IllegalArgumentException("Every command needs its text and line number");
+        }
+        this.commands = Collections.unmodifiableList(new ArrayList<>(commands));
+        this.commandTexts = Collections.unmodifiableList(new ArrayList<>(commandTexts));
+        this.lineNumbers = Collections.unmodifiableList(new ArrayList<>(lineNumbers));
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        return run(model, null);
+    }
+
+    @Override
+    public CommandResult execute(Model model, DayRecordStorage dayRecordStorage) throws CommandException {
+        requireAllNonNull(model, dayRecordStorage);
+        return run(model, dayRecordStorage);
+    }
+
+    /**
+     * Runs the commands on {@code model}, with {@code dayRecordStorage} if it is not null.
+     */
+    private CommandResult run(Model model, DayRecordStorage dayRecordStorage) throws CommandException {
+        Checkpoint checkpoint = model.createCheckpoint();
+        for (int i = 0; i < commands.size(); i++) {
+            try {
+                if (dayRecordStorage == null) {
+                    commands.get(i).execute(model);
+                } else {
+                    commands.get(i).execute(model, dayRecordStorage);
+                }
+            } catch (CommandException | RuntimeException e) {
+                model.restoreCheckpoint(checkpoint);
+                model.updateFilteredDayList(PREDICATE_SHOW_ALL_DAYS);
+                throw new CommandException(String.format(MESSAGE_FAILED, lineNumbers.get(i), commandTexts.get(i),
+                        e.getMessage()), e);
+            }
+        }
+        model.updateFilteredDayList(PREDICATE_SHOW_ALL_DAYS);
+        return new CommandResult(true, String.format(MESSAGE_SUCCESS, commands.size()));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof RunCommand // instanceof handles nulls
+                && commands.equals(((RunCommand) other).commands)
+                && lineNumbers.equals(((RunCommand) other).lineNumbers)); // state check
+    }
+}
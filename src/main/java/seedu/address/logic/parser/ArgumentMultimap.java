@@ -16,7 +16,21 @@ import java.util.Optional;
 public class ArgumentMultimap {
 
     /** Prefixes mapped to their respective arguments**/
-    private final Map<Prefix, List<String>> argMultimap = new HashMap<>();
+    private final Map<Prefix, List<ArgumentValue>> argMultimap = new HashMap<>(4);
+
+    /** The arguments string that values put by position are taken from */
+    private final String argsString;
+
+    public ArgumentMultimap() {
+        this("");
+    }
+
+    /**
+     * Creates an {@code ArgumentMultimap} whose values may be put as positions in {@code argsString}.
+     */
+    ArgumentMultimap(String argsString) {
+        this.argsString = argsString;
+    }
 
     /**
      * Associates the specified argument value with {@code prefix} key in this map.
@@ -26,17 +40,27 @@ public class ArgumentMultimap {
      * @param argValue Argument value to be associated with the specified prefix key
      */
     public void put(Prefix prefix, String argValue) {
-        List<String> argValues = getAllValues(prefix);
-        argValues.add(argValue);
-        argMultimap.put(prefix, argValues);
+        valuesOf(prefix).add(new ArgumentValue(argValue));
+    }
+
+    /**
+     * Associates the text of the arguments string from {@code start} to {@code end}, trimmed, with {@code prefix}.
+     * The text is only taken out of the arguments string when the value is first asked for.
+     */
+    void put(Prefix prefix, int start, int end) {
+        valuesOf(prefix).add(new ArgumentValue(argsString, start, end));
+    }
+
+    private List<ArgumentValue> valuesOf(Prefix prefix) {
+        return argMultimap.computeIfAbsent(prefix, unused -> new ArrayList<>(1));
     }
 
     /**
      * Returns the last value of {@code prefix}.
      */
     public Optional<String> getValue(Prefix prefix) {
-        List<String> values = getAllValues(prefix);
-        return values.isEmpty() ? Optional.empty() : Optional.of(values.get(values.size() - 1));
+        List<ArgumentValue> values = argMultimap.get(prefix);
+        return values == null ? Optional.empty() : Optional.of(values.get(values.size() - 1).get());
     }
 
     /**
@@ -45,10 +69,12 @@ public class ArgumentMultimap {
      * Modifying the returned list will not affect the underlying data structure of the ArgumentMultimap.
      */
     public List<String> getAllValues(Prefix prefix) {
-        if (!argMultimap.containsKey(prefix)) {
-            return new ArrayList<>();
+        List<ArgumentValue> values = argMultimap.getOrDefault(prefix, List.of());
+        List<String> allValues = new ArrayList<>(values.size());
+        for (ArgumentValue value : values) {
+            allValues.add(value.get());
         }
-        return new ArrayList<>(argMultimap.get(prefix));
+        return allValues;
     }
 
     /**
@@ -57,4 +83,41 @@ public class ArgumentMultimap {
     public String getPreamble() {
         return getValue(new Prefix("")).orElse("");
     }
+
+    /**
+     * An argument value, either given or taken from a range of the arguments string on first use.
+     */
+    private static class ArgumentValue {
+        private final String source;
+        private final int start;
+        private final int end;
+        private String value;
+
+        ArgumentValue(String value) {
+            this(null, 0, 0);
+            this.value = value;
+        }
+
+        ArgumentValue(String source, int start, int end) {
+            this.source = source;
+            this.start = start;
+            this.end = end;
+        }
+
+        String get() {
+            if (value == null) {
+                // trims as String#trim does, without taking out the untrimmed text first
+                int trimmedStart = start;
+                int trimmedEnd = end;
+                while (trimmedStart < trimmedEnd && source.charAt(trimmedStart) <= ' ') {
+                    trimmedStart++;
+                }
+                while (trimmedEnd > trimmedStart && source.charAt(trimmedEnd - 1) <= ' ') {
+                    trimmedEnd--;
+                }
+                value = source.substring(trimmedStart, trimmedEnd);
+            }
+            return value;
+        }
+    }
 }
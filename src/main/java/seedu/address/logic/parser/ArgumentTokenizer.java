@@ -2,163 +2,97 @@ package seedu.address.logic.parser;
 
 import static seedu.address.logic.parser.ParserUtil.MESSAGE_DUPLICATE_PREFIX;
 
-import java.util.ArrayList;
-import java.util.Arrays;
-import java.util.List;
-import java.util.stream.Collectors;
-
 import seedu.address.logic.parser.exceptions.ParseException;
 
 
 /**
  * Tokenizes arguments string of the form: {@code preamble <prefix>value <prefix>value ...}<br>
- *     e.g. {@code some preamble text t/ 11.00 t/12.00 k/ m/ July}  where prefixes are {@code t/ k/ m/}.<br>
+ *     e.g. {@code some preamble text t/ 11.00 k/ m/ July}  where prefixes are {@code t/ k/ m/}.<br>
  * 1. An argument's value can be an empty string e.g. the value of {@code k/} in the above example.<br>
  * 2. Leading and trailing whitespaces of an argument value will be discarded.<br>
- * 3. An argument may be repeated and all its values will be accumulated e.g. the value of {@code t/}
- *    in the above example.<br>
+ * 3. A prefix may not be repeated, see {@link #tokenize(String, Prefix...)}.<br>
  */
 public class ArgumentTokenizer {
 
+    private static final Prefix PREAMBLE = new Prefix("");
+
     /**
      * Tokenizes an arguments string and returns an {@code ArgumentMultimap} object that maps prefixes to their
-     * respective argument values. Only the given prefixes will be recognized in the arguments string.
+     * respective argument values. Only the given prefixes will be recognized in the arguments string, and only where
+     * a space comes before them.
+     *
+     * The string is scanned once. Values are taken out of it only when they are asked for.
      *
      * @param argsString Arguments string of the form: {@code preamble <prefix>value <prefix>value ...}
      * @param prefixes   Prefixes to tokenize the arguments string with
      * @return           ArgumentMultimap object that maps prefixes to their arguments
+     * @throws ParseException if a prefix appears more than once
      */
     public static ArgumentMultimap tokenize(String argsString, Prefix... prefixes) throws ParseException {
-        if (isDuplicatePrefix(argsString, prefixes)) {
-            throw new ParseException(MESSAGE_DUPLICATE_PREFIX);
-        }
-        List<PrefixPosition> positions = findAllPrefixPositions(argsString, prefixes);
-        return extractArguments(argsString, positions);
-    }
-
-    private static boolean isDuplicatePrefix(String argsString, Prefix... prefixes) {
-        ArrayList<Integer> test = new ArrayList<>();
-        for (Prefix prefix : prefixes) {
-            String copy = argsString;
-            test.add(copy.split(prefix.getPrefix()).length);
-        }
-        return test.stream().anyMatch(x -> x > 2);
-    }
-
-    /**
-     * Finds all zero-based prefix positions in the given arguments string.
-     *
-     * @param argsString Arguments string of the form: {@code preamble <prefix>value <prefix>value ...}
-     * @param prefixes   Prefixes to find in the arguments string
-     * @return           List of zero-based prefix positions in the given arguments string
-     */
-    private static List<PrefixPosition> findAllPrefixPositions(String argsString, Prefix... prefixes) {
-        return Arrays.stream(prefixes)
-                .flatMap(prefix -> findPrefixPositions(argsString, prefix).stream())
-                .collect(Collectors.toList());
-    }
-
-    /**
-     * {@see findAllPrefixPositions}
-     */
-    private static List<PrefixPosition> findPrefixPositions(String argsString, Prefix prefix) {
-        List<PrefixPosition> positions = new ArrayList<>();
-
-        int prefixPosition = findPrefixPosition(argsString, prefix.getPrefix(), 0);
-        while (prefixPosition != -1) {
-            PrefixPosition extendedPrefix = new PrefixPosition(prefix, prefixPosition);
-            positions.add(extendedPrefix);
-            prefixPosition = findPrefixPosition(argsString, prefix.getPrefix(), prefixPosition);
-        }
-
-        return positions;
-    }
-
-    /**
-     * Returns the index of the first occurrence of {@code prefix} in
-     * {@code argsString} starting from index {@code fromIndex}. An occurrence
-     * is valid if there is a whitespace before {@code prefix}. Returns -1 if no
-     * such occurrence can be found.
-     *
-     * E.g if {@code argsString} = "e/hip/900", {@code prefix} = "p/" and
-     * {@code fromIndex} = 0, this method returns -1 as there are no valid
-     * occurrences of "p/" with whitespace before it. However, if
-     * {@code argsString} = "e/hi p/900", {@code prefix} = "p/" and
-     * {@code fromIndex} = 0, this method returns 5.
-     */
-    private static int findPrefixPosition(String argsString, String prefix, int fromIndex) {
-        int prefixIndex = argsString.indexOf(" " + prefix, fromIndex);
-        return prefixIndex == -1 ? -1
-                : prefixIndex + 1; // +1 as offset for whitespace
-    }
-
-    /**
-     * Extracts prefixes and their argument values, and returns an {@code ArgumentMultimap} object that maps the
-     * extracted prefixes to their respective arguments. Prefixes are extracted based on their zero-based positions in
-     * {@code argsString}.
-     *
-     * @param argsString      Arguments string of the form: {@code preamble <prefix>value <prefix>value ...}
-     * @param prefixPositions Zero-based positions of all prefixes in {@code argsString}
-     * @return                ArgumentMultimap object that maps prefixes to their arguments
-     */
-    private static ArgumentMultimap extractArguments(String argsString, List<PrefixPosition> prefixPositions) {
-
-        // Sort by start position
-        prefixPositions.sort((prefix1, prefix2) -> prefix1.getStartPosition() - prefix2.getStartPosition());
-
-        // Insert a PrefixPosition to represent the preamble
-        PrefixPosition preambleMarker = new PrefixPosition(new Prefix(""), 0);
-        prefixPositions.add(0, preambleMarker);
-
-        // Add a dummy PrefixPosition to represent the end of the string
-        PrefixPosition endPositionMarker = new PrefixPosition(new Prefix(""), argsString.length());
-        prefixPositions.add(endPositionMarker);
-
-        // Map prefixes to their argument values (if any)
-        ArgumentMultimap argMultimap = new ArgumentMultimap();
-        for (int i = 0; i < prefixPositions.size() - 1; i++) {
-            // Extract and store prefixes and their arguments
-            Prefix argPrefix = prefixPositions.get(i).getPrefix();
-            String argValue = extractArgumentValue(argsString, prefixPositions.get(i), prefixPositions.get(i + 1));
-            argMultimap.put(argPrefix, argValue);
+        ArgumentMultimap argMultimap = new ArgumentMultimap(argsString);
+        DuplicateTracker duplicates = new DuplicateTracker(prefixes.length);
+        Prefix currentPrefix = PREAMBLE;
+        int valueStart = 0;
+
+        for (int i = 0; i < argsString.length(); i++) {
+            Prefix foundPrefix = null;
+            for (int p = 0; p < prefixes.length; p++) {
+                String prefix = prefixes[p].getPrefix();
+                if (!duplicates.canOccurAt(p, i) || !argsString.startsWith(prefix, i)) {
+                    continue;
+                }
+                duplicates.occur(p, i, prefix.length());
+                if (foundPrefix == null && i > 0 && argsString.charAt(i - 1) == ' ') {
+                    foundPrefix = prefixes[p];
+                }
+            }
+            if (foundPrefix != null) {
+                argMultimap.put(currentPrefix, valueStart, i);
+                currentPrefix = foundPrefix;
+                valueStart = i + foundPrefix.getPrefix().length();
+            }
         }
+        duplicates.end(argsString.length());
 
+        argMultimap.put(currentPrefix, valueStart, argsString.length());
         return argMultimap;
     }
 
     /**
-     * Returns the trimmed value of the argument in the arguments string specified by {@code currentPrefixPosition}.
-     * The end position of the value is determined by {@code nextPrefixPosition}.
+     * Tracks where each prefix occurs anywhere in an arguments string, even inside a value or another prefix.
+     * A prefix is a duplicate once it occurs a second time and is followed by more than further occurrences of itself,
+     * so a lone trailing repeat such as {@code tp/in tp/} is left for the parser to reject.
      */
-    private static String extractArgumentValue(String argsString,
-                                        PrefixPosition currentPrefixPosition,
-                                        PrefixPosition nextPrefixPosition) {
-        Prefix prefix = currentPrefixPosition.getPrefix();
-
-        int valueStartPos = currentPrefixPosition.getStartPosition() + prefix.getPrefix().length();
-        String value = argsString.substring(valueStartPos, nextPrefixPosition.getStartPosition());
+    private static class DuplicateTracker {
+        private final int[] occurrences;
+        private final int[] occurrenceEnds;
 
-        return value.trim();
-    }
-
-    /**
-     * Represents a prefix's position in an arguments string.
-     */
-    private static class PrefixPosition {
-        private int startPosition;
-        private final Prefix prefix;
+        DuplicateTracker(int prefixCount) {
+            occurrences = new int[prefixCount];
+            occurrenceEnds = new int[prefixCount];
+        }
 
-        PrefixPosition(Prefix prefix, int startPosition) {
-            this.prefix = prefix;
-            this.startPosition = startPosition;
+        /**
+         * Returns true if prefix {@code p} may occur at {@code index} without overlapping its last occurrence.
+         */
+        boolean canOccurAt(int p, int index) {
+            return index >= occurrenceEnds[p];
         }
 
-        int getStartPosition() {
-            return startPosition;
+        void occur(int p, int index, int length) throws ParseException {
+            if (occurrences[p] >= 2 && index > occurrenceEnds[p]) {
+                throw new ParseException(MESSAGE_DUPLICATE_PREFIX);
+            }
+            occurrences[p]++;
+            occurrenceEnds[p] = index + length;
         }
 
-        Prefix getPrefix() {
-            return prefix;
+        void end(int length) throws ParseException {
+            for (int p = 0; p < occurrences.length; p++) {
+                if (occurrences[p] >= 2 && occurrenceEnds[p] < length) {
+                    throw new ParseException(MESSAGE_DUPLICATE_PREFIX);
+                }
+            }
         }
     }
 
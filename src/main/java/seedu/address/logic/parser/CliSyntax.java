@@ -26,4 +26,8 @@ public class CliSyntax {
 
     /* Prefix for stats command */
     public static final Prefix PREFIX_VIEW_STATS = new Prefix("v/");
+
+    /* Prefixes for export command */
+    public static final Prefix PREFIX_FROM = new Prefix("from/");
+    public static final Prefix PREFIX_TO = new Prefix("to/");
 }
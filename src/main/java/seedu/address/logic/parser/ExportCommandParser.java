@@ -0,0 +1,84 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_FROM;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_ID;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TO;
+
+import java.nio.file.InvalidPathException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.LocalDate;
+import java.util.Optional;
+
+import seedu.address.logic.commands.ExportCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.DayRecordFilter;
+import seedu.address.storage.DayRecordFormat;
+
+/**
+ * Parses input arguments and creates a new ExportCommand object
+ */
+public class ExportCommandParser implements Parser<ExportCommand> {
+
+    public static final String MESSAGE_INVALID_ID_PREFIX = "The ID to export should be up to 4 digits";
+    public static final String MESSAGE_INVALID_DATE_RANGE = "The first date to export should not be after the last";
+
+    private static final int ID_LENGTH = 4;
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the ExportCommand
+     * and returns an ExportCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    @Override
+    public ExportCommand parse(String args) throws ParseException {
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_ID, PREFIX_FROM, PREFIX_TO);
+
+        String preamble = argMultimap.getPreamble();
+        if (preamble.isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, ExportCommand.MESSAGE_USAGE));
+        }
+        Path filePath;
+        try {
+            filePath = Paths.get(preamble);
+        } catch (InvalidPathException e) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, ExportCommand.MESSAGE_USAGE), e);
+        }
+        DayRecordFormat format = DayRecordFormat.of(filePath).orElseThrow(() ->
+                new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, ExportCommand.MESSAGE_USAGE)));
+
+        String idPrefix = "";
+        if (argMultimap.getValue(PREFIX_ID).isPresent()) {
+            idPrefix = parseIdPrefix(argMultimap.getValue(PREFIX_ID).get());
+        }
+        Optional<LocalDate> from = Optional.empty();
+        if (argMultimap.getValue(PREFIX_FROM).isPresent()) {
+            from = Optional.of(ParserUtil.parseLocalDate(argMultimap.getValue(PREFIX_FROM).get()));
+        }
+        Optional<LocalDate> to = Optional.empty();
+        if (argMultimap.getValue(PREFIX_TO).isPresent()) {
+            to = Optional.of(ParserUtil.parseLocalDate(argMultimap.getValue(PREFIX_TO).get()));
+        }
+        if (from.isPresent() && to.isPresent() && from.get().isAfter(to.get())) {
+            throw new ParseException(MESSAGE_INVALID_DATE_RANGE);
+        }
+
+        return new ExportCommand(filePath, format, new DayRecordFilter(idPrefix, from, to));
+    }
+
+    /**
+     * Parses the start of an ID, which is a whole ID when it has all of its digits.
+     */
+    private static String parseIdPrefix(String idPrefix) throws ParseException {
+        String trimmedIdPrefix = idPrefix.trim();
+        if (trimmedIdPrefix.length() == ID_LENGTH) {
+            return ParserUtil.parseID(trimmedIdPrefix).toString();
+        }
+        if (trimmedIdPrefix.isEmpty() || trimmedIdPrefix.length() > ID_LENGTH
+                || !trimmedIdPrefix.chars().allMatch(c -> c >= '0' && c <= '9')) {
+            throw new ParseException(MESSAGE_INVALID_ID_PREFIX);
+        }
+        return trimmedIdPrefix;
+    }
+}
@@ -74,7 +74,7 @@ public class ParserUtil {
             throw new ParseException(Weight.MESSAGE_CONSTRAINTS);
         }
 
-        double w = Double.parseDouble(weight);
+        double w = new Weight(trimmedWeight).toKilograms();
 
         if (w < LIGHTEST_PERSON) {
             throw new ParseException(Weight.MESSAGE_TOO_LIGHT);
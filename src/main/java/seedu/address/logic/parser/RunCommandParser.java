@@ -0,0 +1,104 @@
+package seedu.address.logic.parser;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.InvalidPathException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import seedu.address.logic.commands.Command;
+import seedu.address.logic.commands.ExitCommand;
+import seedu.address.logic.commands.RedoCommand;
+import seedu.address.logic.commands.RunCommand;
+import seedu.address.logic.commands.UndoCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new RunCommand object
+ */
+public class RunCommandParser implements Parser<RunCommand> {
+
+    public static final String COMMENT_PREFIX = "#";
+    public static final String MESSAGE_READ_ERROR = "Could not read %1$s: %2$s";
+    public static final String MESSAGE_LINE_ERROR = "Nothing was run, as line %1$d is invalid: %2$s\n%3$s";
+    public static final String MESSAGE_EMPTY_SCRIPT = "There are no commands to run";
+    public static final String MESSAGE_COMMAND_NOT_IN_SCRIPT = "The %1$s command cannot be used in a script";
+
+    /**
+     * Command words that a script cannot use: a script that runs another could run itself forever, exit would
+     * stop the app before the script is saved, and undo and redo move through the history of versions, which a
+     * failed script does not return to where it was.
+     */
+    private static final Set<String> COMMAND_WORDS_NOT_IN_SCRIPT = Set.of(RunCommand.COMMAND_WORD,
+            ExitCommand.COMMAND_WORD, UndoCommand.COMMAND_WORD, RedoCommand.COMMAND_WORD);
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the RunCommand
+     * and returns a RunCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format, or the script cannot be read
+     *     or has an invalid command
+     */
+    @Override
+    public RunCommand parse(String args) throws ParseException {
+        String trimmedArgs = args.trim();
+        if (trimmedArgs.isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, RunCommand.MESSAGE_USAGE));
+        }
+
+        Path filePath;
+        try {
+            filePath = Paths.get(trimmedArgs);
+        } catch (InvalidPathException e) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, RunCommand.MESSAGE_USAGE), e);
+        }
+        List<String> lines;
+        try {
+            lines = Files.readAllLines(filePath, StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new ParseException(String.format(MESSAGE_READ_ERROR, filePath, e.getMessage()), e);
+        }
+        return parseScript(lines);
+    }
+
+    /**
+     * Parses every line of a script before any is run, skipping blank lines and comments.
+     * @throws ParseException if the script has no commands, or any line is not a valid command or uses a command
+     *     that cannot be run in a script
+     */
+    public static RunCommand parseScript(List<String> lines) throws ParseException {
+        requireNonNull(lines);
+        MyFitnessBuddyParser parser = new MyFitnessBuddyParser();
+        List<Command> commands = new ArrayList<>();
+        List<String> commandTexts = new ArrayList<>();
+        List<Integer> lineNumbers = new ArrayList<>();
+        for (int i = 0; i < lines.size(); i++) {
+            String commandText = lines.get(i).trim();
+            if (commandText.isEmpty() || commandText.startsWith(COMMENT_PREFIX)) {
+                continue;
+            }
+            try {
+                // checked before parsing, as parsing a run command reads its script
+                String commandWord = commandText.split("\\s", 2)[0];
+                if (COMMAND_WORDS_NOT_IN_SCRIPT.contains(commandWord)) {
+                    throw new ParseException(String.format(MESSAGE_COMMAND_NOT_IN_SCRIPT, commandWord));
+                }
+                commands.add(parser.parseCommand(commandText));
+            } catch (ParseException e) {
+                throw new ParseException(String.format(MESSAGE_LINE_ERROR, i + 1, commandText, e.getMessage()), e);
+            }
+            commandTexts.add(commandText);
+            lineNumbers.add(i + 1);
+        }
+        if (commands.isEmpty()) {
+            throw new ParseException(MESSAGE_EMPTY_SCRIPT);
+        }
+        return new RunCommand(commands, commandTexts, lineNumbers);
+    }
+}
@@ -0,0 +1,244 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+import seedu.address.model.person.ID;
+
+/**
+ * Records, in order, the persons and days of My Fitness Buddy that have changed since it was last saved, so that
+ * storage can write only those. A log that has lost track of the changes, such as after all the persons are replaced,
+ * asks for a full save instead.
+ *
+ * Every change, recorded or not, also increments {@link #getModificationCount()}, so that callers can tell whether
+ * anything changed between two points in time.
+ *
+ * Separately from saving, the log also keeps which persons and days have changed since the last version of the data
+ * was committed to its undo history, so that a new version only copies those.
+ */
+public class ChangeLog {
+
+    /**
+     * The kinds of change that are recorded.
+     */
+    public enum Kind {
+        /** A person was added, or must be rewritten as a whole. */
+        PERSON,
+        /** The profile of a person was replaced without changing its id. */
+        PROFILE,
+        /** A day was added or replaced. */
+        DAY,
+        /** A day was removed. */
+        REMOVE_DAY,
+        /** A person was removed. */
+        REMOVE_PERSON
+    }
+
+    private final List<Change> changes = new ArrayList<>();
+    private boolean fullSaveNeeded = true;
+    private long modificationCount;
+    // the persons whose days may all have changed since the last commit, and the other persons changed since then
+    private final Set<ID> personsChangedSinceCommit = new HashSet<>();
+    private final Set<ID> profilesChangedSinceCommit = new HashSet<>();
+    private final Map<ID, Set<LocalDate>> daysChangedSinceCommit = new HashMap<>();
+    private boolean everythingChangedSinceCommit = true;
+
+    /**
+     * Records a change of {@code kind} to the person with {@code personId}.
+     */
+    void record(Kind kind, ID personId) {
+        record(new Change(kind, personId, null));
+    }
+
+    /**
+     * Records a change of {@code kind} to the day on {@code date} of the person with {@code personId}.
+     */
+    void record(Kind kind, ID personId, LocalDate date) {
+        requireNonNull(date);
+        record(new Change(kind, personId, date));
+    }
+
+    private void record(Change change) {
+        modificationCount++;
+        recordSinceCommit(change);
+        if (fullSaveNeeded) {
+            return;
+        }
+        if (changes.isEmpty() || !changes.get(changes.size() - 1).equals(change)) {
+            changes.add(change);
+        }
+    }
+
+    /**
+     * Forgets the recorded changes and asks for a full save, such as when the data on disk is no longer known to
+     * match what was last saved.
+     */
+    public void invalidate() {
+        modificationCount++;
+        everythingChangedSinceCommit = true;
+        changes.clear();
+        fullSaveNeeded = true;
+    }
+
+    /**
+     * Returns true if the recorded changes do not describe everything that changed since the last save.
+     */
+    public boolean isFullSaveNeeded() {
+        return fullSaveNeeded;
+    }
+
+    /**
+     * Returns true if nothing has changed since the last save.
+     */
+    public boolean isClean() {
+        return !fullSaveNeeded && changes.isEmpty();
+    }
+
+    /**
+     * Returns the number of changes made so far, which saving does not reset.
+     */
+    public long getModificationCount() {
+        return modificationCount;
+    }
+
+    /**
+     * Returns the recorded changes in the order they were made.
+     */
+    public List<Change> getChanges() {
+        return Collections.unmodifiableList(new ArrayList<>(changes));
+    }
+
+    /**
+     * Marks the current data as saved, so that only later changes are recorded.
+     */
+    public void markSaved() {
+        changes.clear();
+        fullSaveNeeded = false;
+    }
+
+    private void recordSinceCommit(Change change) {
+        if (everythingChangedSinceCommit) {
+            return;
+        }
+        switch (change.kind) {
+        case PERSON:
+        case REMOVE_PERSON:
+            personsChangedSinceCommit.add(change.personId);
+            break;
+        case PROFILE:
+            profilesChangedSinceCommit.add(change.personId);
+            break;
+        default:
+            daysChangedSinceCommit.computeIfAbsent(change.personId, unused -> new HashSet<>()).add(change.date);
+            break;
+        }
+    }
+
+    /**
+     * Returns true if the changes since the last commit are not known, so that any person may have changed.
+     */
+    boolean isEverythingChangedSinceCommit() {
+        return everythingChangedSinceCommit;
+    }
+
+    /**
+     * Returns true if the person with {@code personId} may have changed since the last commit.
+     */
+    boolean isChangedSinceCommit(ID personId) {
+        return everythingChangedSinceCommit
+                || personsChangedSinceCommit.contains(personId)
+                || profilesChangedSinceCommit.contains(personId)
+                || daysChangedSinceCommit.containsKey(personId);
+    }
+
+    /**
+     * Returns the ids of the persons that may have changed since the last commit. Any id may have changed if
+     * {@link #isEverythingChangedSinceCommit()}.
+     */
+    Set<ID> getPersonsChangedSinceCommit() {
+        Set<ID> changed = new HashSet<>(personsChangedSinceCommit);
+        changed.addAll(profilesChangedSinceCommit);
+        changed.addAll(daysChangedSinceCommit.keySet());
+        return changed;
+    }
+
+    /**
+     * Returns true if the day on {@code date} of the person with {@code personId} may have changed since the last
+     * commit.
+     */
+    boolean isDayChangedSinceCommit(ID personId, LocalDate date) {
+        return everythingChangedSinceCommit
+                || personsChangedSinceCommit.contains(personId)
+                || daysChangedSinceCommit.getOrDefault(personId, Set.of()).contains(date);
+    }
+
+    /**
+     * Marks the current data as committed, so that only later changes are kept for the next commit.
+     */
+    void markCommitted() {
+        personsChangedSinceCommit.clear();
+        profilesChangedSinceCommit.clear();
+        daysChangedSinceCommit.clear();
+        everythingChangedSinceCommit = false;
+    }
+
+    /**
+     * A change to one person, or to one day of a person.
+     */
+    public static class Change {
+        private final Kind kind;
+        private final ID personId;
+        private final LocalDate date;
+
+        /**
+         * Constructs a {@code Change}. {@code date} is null for changes to a whole person or profile.
+         */
+        public Change(Kind kind, ID personId, LocalDate date) {
+            requireNonNull(kind);
+            requireNonNull(personId);
+            this.kind = kind;
+            this.personId = personId;
+            this.date = date;
+        }
+
+        public Kind getKind() {
+            return kind;
+        }
+
+        public ID getPersonId() {
+            return personId;
+        }
+
+        public LocalDate getDate() {
+            return date;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other == this // short circuit if same object
+                    || (other instanceof Change // instanceof handles nulls
+                    && kind == ((Change) other).kind
+                    && personId.equals(((Change) other).personId)
+                    && Objects.equals(date, ((Change) other).date)); // state check
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(kind, personId, date);
+        }
+
+        @Override
+        public String toString() {
+            return kind + " " + personId + (date == null ? "" : " " + date);
+        }
+    }
+}
@@ -0,0 +1,107 @@
+package seedu.address.model;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+import seedu.address.model.person.ID;
+import seedu.address.model.person.Person;
+
+/**
+ * The persons of My Fitness Buddy and the current person at one point in time, which
+ * {@link MyFitnessBuddy#restoreCheckpoint(Checkpoint)} can return it to.
+ *
+ * The state of each person is kept by the {@code Person} object it was taken from, so that a restored person is the
+ * same object that the rest of the app holds. A checkpoint taken after another shares with it the states of the
+ * persons, and the copies of the days, that have not changed in between.
+ *
+ * A checkpoint also indexes by id the states that left their days in storage when it was taken, so that the states
+ * of the persons that change can be found without going through every person.
+ */
+public final class Checkpoint {
+
+    private final List<Person> persons;
+    private final Person currentPerson;
+    private final Map<Person, Person.State> states;
+    private final Map<ID, List<Person.State>> statesInStorage;
+
+    Checkpoint(List<Person> persons, Person currentPerson) {
+        this.persons = Collections.unmodifiableList(new ArrayList<>(persons));
+        this.currentPerson = currentPerson;
+        Map<Person, Person.State> states = new IdentityHashMap<>();
+        for (Person person : persons) {
+            states.put(person, person.saveState());
+        }
+        states.computeIfAbsent(currentPerson, Person::saveState);
+        this.states = Collections.unmodifiableMap(states);
+        this.statesInStorage = indexStatesInStorage(states);
+    }
+
+    /**
+     * Creates a checkpoint that shares with {@code previous} what {@code changeLog} shows has not changed since it.
+     * Only the persons in {@code persons} have their changes recorded, so any other current person is copied afresh.
+     */
+    Checkpoint(List<Person> persons, Person currentPerson, Checkpoint previous, ChangeLog changeLog) {
+        this.persons = Collections.unmodifiableList(new ArrayList<>(persons));
+        this.currentPerson = currentPerson;
+        Map<Person, Person.State> states = new IdentityHashMap<>();
+        for (Person person : persons) {
+            Person.State previousState = previous.states.get(person);
+            ID id = person.getProfile().getId();
+            if (previousState == null || changeLog.isEverythingChangedSinceCommit()) {
+                states.put(person, person.saveState());
+            } else if (!changeLog.isChangedSinceCommit(id)) {
+                states.put(person, previousState);
+            } else {
+                states.put(person, person.saveState(previousState,
+                        date -> changeLog.isDayChangedSinceCommit(id, date)));
+            }
+        }
+        states.computeIfAbsent(currentPerson, Person::saveState);
+        this.states = Collections.unmodifiableMap(states);
+        this.statesInStorage = indexStatesInStorage(states);
+    }
+
+    /**
+     * Returns the states that left their days in storage, by the id of the state and by the id of its person at the
+     * time.
+     */
+    private static Map<ID, List<Person.State>> indexStatesInStorage(Map<Person, Person.State> states) {
+        Map<ID, List<Person.State>> statesInStorage = new HashMap<>();
+        for (Map.Entry<Person, Person.State> entry : states.entrySet()) {
+            Person.State state = entry.getValue();
+            if (!state.isKeptInStorage()) {
+                continue;
+            }
+            statesInStorage.computeIfAbsent(state.getId(), unused -> new ArrayList<>()).add(state);
+            ID personId = entry.getKey().getProfile().getId();
+            if (!personId.equals(state.getId())) {
+                statesInStorage.computeIfAbsent(personId, unused -> new ArrayList<>()).add(state);
+            }
+        }
+        return statesInStorage;
+    }
+
+    List<Person> getPersons() {
+        return persons;
+    }
+
+    Person getCurrentPerson() {
+        return currentPerson;
+    }
+
+    Map<Person, Person.State> getStates() {
+        return states;
+    }
+
+    /**
+     * Returns the states indexed under {@code id} that had left their days in storage when this checkpoint was taken.
+     * Some may have read their days since.
+     */
+    List<Person.State> getStatesInStorage(ID id) {
+        return statesInStorage.getOrDefault(id, List.of());
+    }
+}
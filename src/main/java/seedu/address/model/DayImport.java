@@ -0,0 +1,164 @@
+package seedu.address.model;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.calorie.CalorieEntries;
+import seedu.address.model.day.Date;
+import seedu.address.model.day.Day;
+import seedu.address.model.day.Weight;
+import seedu.address.model.person.ID;
+import seedu.address.model.person.Person;
+
+/**
+ * Collects imported weights and calorie entries by person and date, to be merged into the days of the persons in a
+ * single change by {@link MyFitnessBuddy#importDays(DayImport)}.
+ *
+ * A weight adds the day on its date, or replaces the weight of the day already there. Calorie entries are added to
+ * the day on their date, which must exist or have a weight imported with them. The entries of a day are sorted by
+ * time once, when the import is merged.
+ */
+public class DayImport {
+
+    public static final String MESSAGE_UNKNOWN_PERSON = "There is no profile with the ID %s";
+    public static final String MESSAGE_MISSING_DAY = "Profile %s has no day on %s for the imported calories, "
+            + "and no weight was imported for it";
+    public static final String MESSAGE_BEFORE_START = "Profile %s was created after %s";
+    public static final String MESSAGE_FUTURE = "%s is in the future";
+
+    private final Map<ID, Map<LocalDate, ImportedDay>> days = new LinkedHashMap<>();
+    private long rowCount;
+
+    /**
+     * Imports {@code weight} as the weight of the person with {@code id} on {@code date}.
+     */
+    public void addWeight(ID id, Date date, Weight weight) {
+        requireAllNonNull(id, date, weight);
+        dayOf(id, date).weight = weight;
+        rowCount++;
+    }
+
+    /**
+     * Imports an input of {@code calorieCount} kcal of {@code food} at {@code minuteOfDay}.
+     */
+    public void addInput(ID id, Date date, int minuteOfDay, String food, int calorieCount) {
+        requireAllNonNull(id, date, food);
+        dayOf(id, date).entries.addInput(minuteOfDay, food, calorieCount);
+        rowCount++;
+    }
+
+    /**
+     * Imports an output of {@code calorieCount} kcal of {@code exercise} at {@code minuteOfDay}.
+     */
+    public void addOutput(ID id, Date date, int minuteOfDay, String exercise, int calorieCount) {
+        requireAllNonNull(id, date, exercise);
+        dayOf(id, date).entries.addOutput(minuteOfDay, exercise, calorieCount);
+        rowCount++;
+    }
+
+    private ImportedDay dayOf(ID id, Date date) {
+        return days.computeIfAbsent(id, unused -> new TreeMap<>())
+                .computeIfAbsent(date.get(), unused -> new ImportedDay(date));
+    }
+
+    /**
+     * Returns the number of weights and calorie entries imported.
+     */
+    public long getRowCount() {
+        return rowCount;
+    }
+
+    /**
+     * Returns the number of distinct days imported to.
+     */
+    public int getDayCount() {
+        return days.values().stream().mapToInt(Map::size).sum();
+    }
+
+    /**
+     * Returns the IDs of the persons imported to, in the order they were first seen.
+     */
+    public Set<ID> getPersonIds() {
+        return Collections.unmodifiableSet(days.keySet());
+    }
+
+    /**
+     * Returns the days of {@code person} with the imported weights and calorie entries merged in, in order of date.
+     * {@code person} is left unchanged.
+     *
+     * @throws IllegalValueException if an imported day cannot be added to {@code person}.
+     */
+    List<Day> mergeInto(Person person, LocalDate today) throws IllegalValueException {
+        requireAllNonNull(person, today);
+        ID id = person.getProfile().getId();
+        Map<LocalDate, ImportedDay> imported = days.getOrDefault(id, Map.of());
+        List<Day> existing = person.getDayList();
+        List<Day> merged = new ArrayList<>(existing.size() + imported.size());
+        Iterator<ImportedDay> importedDays = imported.values().iterator();
+        ImportedDay next = importedDays.hasNext() ? importedDays.next() : null;
+        for (Day day : existing) {
+            LocalDate date = day.getDate().get();
+            while (next != null && next.date.get().isBefore(date)) {
+                merged.add(next.toNewDay(person, today));
+                next = importedDays.hasNext() ? importedDays.next() : null;
+            }
+            if (next != null && next.date.get().equals(date)) {
+                merged.add(next.mergeInto(day));
+                next = importedDays.hasNext() ? importedDays.next() : null;
+            } else {
+                merged.add(day);
+            }
+        }
+        while (next != null) {
+            merged.add(next.toNewDay(person, today));
+            next = importedDays.hasNext() ? importedDays.next() : null;
+        }
+        return merged;
+    }
+
+    /**
+     * The weight and calorie entries imported for one day of a person.
+     */
+    private static class ImportedDay {
+        private final Date date;
+        private final CalorieEntries.Builder entries = new CalorieEntries.Builder();
+        private Weight weight;
+
+        ImportedDay(Date date) {
+            this.date = date;
+        }
+
+        Day toNewDay(Person person, LocalDate today) throws IllegalValueException {
+            ID id = person.getProfile().getId();
+            if (weight == null) {
+                throw new IllegalValueException(String.format(MESSAGE_MISSING_DAY, id, date));
+            }
+            if (date.get().isBefore(person.getDay().get())) {
+                throw new IllegalValueException(String.format(MESSAGE_BEFORE_START, id, date));
+            }
+            if (date.get().isAfter(today)) {
+                throw new IllegalValueException(String.format(MESSAGE_FUTURE, date));
+            }
+            return new Day(date, weight, entries.sortByTime().build());
+        }
+
+        Day mergeInto(Day day) {
+            CalorieEntries mergedEntries = new CalorieEntries.Builder()
+                    .addAll(day.getCalorieEntries())
+                    .addAll(entries.build())
+                    .sortByTime()
+                    .build();
+            return new Day(date, weight == null ? day.getWeight() : weight, mergedEntries);
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.LocalDate;
+import java.util.Objects;
+import java.util.Optional;
+
+import seedu.address.model.person.ID;
+
+/**
+ * Selects the persons and days to export: the persons whose IDs start with a prefix, and their days
+ * in a date range. A full ID as the prefix selects one person.
+ */
+public class DayRecordFilter {
+
+    public static final DayRecordFilter ALL = new DayRecordFilter("", Optional.empty(), Optional.empty());
+
+    private final String idPrefix;
+    private final Optional<LocalDate> from;
+    private final Optional<LocalDate> to;
+
+    /**
+     * Constructs a filter of the persons whose IDs start with {@code idPrefix} and their days from {@code from} to
+     * {@code to}, both inclusive. An empty bound leaves that end of the range open.
+     */
+    public DayRecordFilter(String idPrefix, Optional<LocalDate> from, Optional<LocalDate> to) {
+        requireNonNull(idPrefix);
+        requireNonNull(from);
+        requireNonNull(to);
+        this.idPrefix = idPrefix;
+        this.from = from;
+        this.to = to;
+    }
+
+    /**
+     * Returns true if the days of the person with {@code id} are selected.
+     */
+    public boolean acceptsPerson(ID id) {
+        return id.toString().startsWith(idPrefix);
+    }
+
+    /**
+     * Returns true if {@code date} is in the selected range.
+     */
+    public boolean acceptsDate(LocalDate date) {
+        return from.map(bound -> !date.isBefore(bound)).orElse(true) && !isPastRange(date);
+    }
+
+    /**
+     * Returns true if {@code date} and every later date are past the selected range.
+     */
+    public boolean isPastRange(LocalDate date) {
+        return to.map(date::isAfter).orElse(false);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof DayRecordFilter // instanceof handles nulls
+                && idPrefix.equals(((DayRecordFilter) other).idPrefix)
+                && from.equals(((DayRecordFilter) other).from)
+                && to.equals(((DayRecordFilter) other).to)); // state check
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(idPrefix, from, to);
+    }
+}
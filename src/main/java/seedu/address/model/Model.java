@@ -2,10 +2,14 @@ package seedu.address.model;
 
 import java.nio.file.Path;
 import java.time.LocalDate;
+import java.util.List;
+import java.util.OptionalDouble;
 import java.util.function.Predicate;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.calorie.CalorieSummary;
 import seedu.address.model.day.Day;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.Profile;
@@ -73,6 +77,11 @@ public interface Model {
      */
     Day getDay(LocalDate date);
 
+    /**
+     * Returns the calorie totals of the days from {@code startDate} to {@code endDate}, both inclusive.
+     */
+    CalorieSummary getCalorieSummary(LocalDate startDate, LocalDate endDate);
+
     /**
      * Deletes the given day.
      * The day must exist in the list of days in my fitness buddy.
@@ -111,6 +120,33 @@ public interface Model {
      */
     void updateFilteredPersonList(Predicate<Person> predicate);
 
+    /**
+     * Returns the persons whose names contain any of {@code keywords} as a whole word, ignoring case.
+     */
+    List<Person> getPersonsWithNameKeywords(List<String> keywords);
+
+    /**
+     * Returns the persons whose current BMI is strictly greater than {@code bmi}, in ascending order of BMI.
+     */
+    List<Person> getPersonsAboveBmi(double bmi);
+
+    /**
+     * Returns the number of persons whose current BMI falls in each band delimited by the ascending
+     * {@code upperBounds}, with one more band than there are bounds.
+     */
+    int[] countPersonsByBmiBand(double... upperBounds);
+
+    /**
+     * Returns the number of persons in the filtered person list whose current BMI falls in each band delimited by
+     * the ascending {@code upperBounds}, with one more band than there are bounds.
+     */
+    int[] countFilteredPersonsByBmiBand(double... upperBounds);
+
+    /**
+     * Returns the nearest-rank {@code percentile} of the current BMIs of the persons, or an empty value if there
+     * are none.
+     */
+    OptionalDouble getBmiPercentile(double percentile);
 
     /**
      * Updates the profile of a person in MyFitnessBuddy.
@@ -146,4 +182,47 @@ public interface Model {
      * Add new person
      */
     void resetPersons();
+
+    /**
+     * Merges the imported weights and calorie entries of {@code dayImport} into the days of their persons.
+     * Either every person is updated or, if any imported day cannot be added, none is.
+     *
+     * @throws IllegalValueException if an imported person does not exist or an imported day cannot be added.
+     */
+    void importDays(DayImport dayImport) throws IllegalValueException;
+
+    /**
+     * Returns a checkpoint of the persons and the current person, for {@link #restoreCheckpoint(Checkpoint)}.
+     */
+    Checkpoint createCheckpoint();
+
+    /**
+     * Returns the persons and the current person to {@code checkpoint}, undoing every change made since.
+     */
+    void restoreCheckpoint(Checkpoint checkpoint);
+
+    /**
+     * Returns true if the model has previous versions of MyFitnessBuddy to restore.
+     */
+    boolean canUndoMyFitnessBuddy();
+
+    /**
+     * Returns true if the model has undone versions of MyFitnessBuddy to restore.
+     */
+    boolean canRedoMyFitnessBuddy();
+
+    /**
+     * Restores the model's MyFitnessBuddy to its previous version.
+     */
+    void undoMyFitnessBuddy();
+
+    /**
+     * Restores the model's MyFitnessBuddy to its previously undone version.
+     */
+    void redoMyFitnessBuddy();
+
+    /**
+     * Saves the current version of MyFitnessBuddy for undo/redo, if it has changed since the last one.
+     */
+    void commitMyFitnessBuddy();
 }
@@ -5,6 +5,8 @@ import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.nio.file.Path;
 import java.time.LocalDate;
+import java.util.List;
+import java.util.OptionalDouble;
 import java.util.function.Predicate;
 import java.util.logging.Logger;
 
@@ -12,6 +14,8 @@ import javafx.collections.ObservableList;
 import javafx.collections.transformation.FilteredList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.calorie.CalorieSummary;
 import seedu.address.model.day.Day;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.Profile;
@@ -23,7 +27,7 @@ import seedu.address.model.person.Profile;
 public class ModelManager implements Model {
     private static final Logger logger = LogsCenter.getLogger(ModelManager.class);
 
-    private final MyFitnessBuddy myFitnessBuddy;
+    private final VersionedMyFitnessBuddy myFitnessBuddy;
     private final UserPrefs userPrefs;
     private final FilteredList<Day> filteredDays;
     private final FilteredList<Person> filteredPersons;
@@ -37,7 +41,7 @@ public class ModelManager implements Model {
 
         logger.fine("Initializing with MyFitnessBuddy: " + readOnlyMyFitnessBuddy + " and user prefs " + userPrefs);
 
-        this.myFitnessBuddy = new MyFitnessBuddy(readOnlyMyFitnessBuddy);
+        this.myFitnessBuddy = new VersionedMyFitnessBuddy(readOnlyMyFitnessBuddy);
         this.userPrefs = new UserPrefs(userPrefs);
         filteredDays = new FilteredList<>(this.myFitnessBuddy.getDayList());
         filteredPersons = new FilteredList<>(this.myFitnessBuddy.getPersonList());
@@ -118,6 +122,12 @@ public class ModelManager implements Model {
         return myFitnessBuddy.getDay(date);
     }
 
+    @Override
+    public CalorieSummary getCalorieSummary(LocalDate startDate, LocalDate endDate) {
+        requireAllNonNull(startDate, endDate);
+        return myFitnessBuddy.getCalorieSummary(startDate, endDate);
+    }
+
     @Override
     public void deleteDay(Day target) {
         myFitnessBuddy.removeDay(target);
@@ -178,6 +188,34 @@ public class ModelManager implements Model {
         filteredPersons.setPredicate(predicate);
     }
 
+    @Override
+    public List<Person> getPersonsWithNameKeywords(List<String> keywords) {
+        requireNonNull(keywords);
+        return myFitnessBuddy.getPersonsWithNameKeywords(keywords);
+    }
+
+    @Override
+    public List<Person> getPersonsAboveBmi(double bmi) {
+        return myFitnessBuddy.getPersonsAboveBmi(bmi);
+    }
+
+    @Override
+    public int[] countPersonsByBmiBand(double... upperBounds) {
+        requireNonNull(upperBounds);
+        return myFitnessBuddy.countPersonsByBmiBand(upperBounds);
+    }
+
+    @Override
+    public int[] countFilteredPersonsByBmiBand(double... upperBounds) {
+        requireNonNull(upperBounds);
+        return myFitnessBuddy.countPersonsByBmiBand(filteredPersons, upperBounds);
+    }
+
+    @Override
+    public OptionalDouble getBmiPercentile(double percentile) {
+        return myFitnessBuddy.getBmiPercentile(percentile);
+    }
+
 
     @Override
     public void setProfile(Profile profile) {
@@ -203,6 +241,49 @@ public class ModelManager implements Model {
         myFitnessBuddy.updateDay();
     }
 
+    @Override
+    public void importDays(DayImport dayImport) throws IllegalValueException {
+        myFitnessBuddy.importDays(dayImport);
+    }
+
+    @Override
+    public Checkpoint createCheckpoint() {
+        return myFitnessBuddy.createCheckpoint();
+    }
+
+    @Override
+    public void restoreCheckpoint(Checkpoint checkpoint) {
+        requireNonNull(checkpoint);
+        myFitnessBuddy.restoreCheckpoint(checkpoint);
+    }
+
+    //=========== Undo/Redo =================================================================================
+
+    @Override
+    public boolean canUndoMyFitnessBuddy() {
+        return myFitnessBuddy.canUndo();
+    }
+
+    @Override
+    public boolean canRedoMyFitnessBuddy() {
+        return myFitnessBuddy.canRedo();
+    }
+
+    @Override
+    public void undoMyFitnessBuddy() {
+        myFitnessBuddy.undo();
+    }
+
+    @Override
+    public void redoMyFitnessBuddy() {
+        myFitnessBuddy.redo();
+    }
+
+    @Override
+    public void commitMyFitnessBuddy() {
+        myFitnessBuddy.commit();
+    }
+
     @Override
     public boolean equals(Object obj) {
         // short circuit if same object
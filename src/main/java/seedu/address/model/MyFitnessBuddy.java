@@ -3,10 +3,23 @@ package seedu.address.model;
 import static java.util.Objects.requireNonNull;
 
 import java.time.LocalDate;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.OptionalDouble;
+import java.util.Set;
 
 import javafx.collections.ObservableList;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.ChangeLog.Kind;
+import seedu.address.model.calorie.CalorieSummary;
 import seedu.address.model.day.Day;
+import seedu.address.model.day.UniqueDayList;
+import seedu.address.model.person.ID;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.Profile;
 import seedu.address.model.person.UniquePersonList;
@@ -26,6 +39,9 @@ public class MyFitnessBuddy implements ReadOnlyMyFitnessBuddy {
     //serves as a pointer to which profile is being selected
     private Person currentPerson;
 
+    //records the changes to the persons since the last save
+    private final ChangeLog changeLog = new ChangeLog();
+
     /*
      * The 'unusual' code block below is a non-static initialization block, sometimes used to avoid duplication
      * between constructors. See https://docs.oracle.com/javase/tutorial/java/javaOO/initial.html
@@ -48,6 +64,10 @@ public class MyFitnessBuddy implements ReadOnlyMyFitnessBuddy {
     public MyFitnessBuddy(ReadOnlyMyFitnessBuddy toBeCopied) {
         this();
         resetData(toBeCopied);
+        if (toBeCopied.getChangeLog().isClean()) {
+            // the copy shares the persons of data that has just been saved
+            changeLog.markSaved();
+        }
     }
 
     //// list overwrite operations
@@ -66,6 +86,7 @@ public class MyFitnessBuddy implements ReadOnlyMyFitnessBuddy {
 
     public void setPersons(List<Person> persons) {
         this.persons.setPersons(persons);
+        changeLog.invalidate();
     }
 
 
@@ -84,6 +105,7 @@ public class MyFitnessBuddy implements ReadOnlyMyFitnessBuddy {
      */
     public void resetPersons() {
         persons = new UniquePersonList();
+        changeLog.invalidate();
     }
 
     /**
@@ -91,7 +113,19 @@ public class MyFitnessBuddy implements ReadOnlyMyFitnessBuddy {
      */
 
     public void setProfile(Profile profile) {
-        this.currentPerson.setProfile(profile);
+        if (isCurrentPersonListed()) {
+            // re-keys the person held by the list in case its id changes
+            ID oldId = currentPerson.getProfile().getId();
+            persons.setProfile(currentPerson, profile);
+            if (oldId.equals(profile.getId())) {
+                changeLog.record(Kind.PROFILE, oldId);
+            } else {
+                changeLog.record(Kind.REMOVE_PERSON, oldId);
+                changeLog.record(Kind.PERSON, profile.getId());
+            }
+        } else {
+            this.currentPerson.setProfile(profile);
+        }
         this.person.setProfile(profile);
     }
 
@@ -128,6 +162,13 @@ public class MyFitnessBuddy implements ReadOnlyMyFitnessBuddy {
         return getPerson().getDay(date);
     }
 
+    /**
+     * Returns the calorie totals of the days from {@code startDate} to {@code endDate}, both inclusive.
+     */
+    public CalorieSummary getCalorieSummary(LocalDate startDate, LocalDate endDate) {
+        return getPerson().getCalorieSummary(startDate, endDate);
+    }
+
     /**
      * Adds a day to My Fitness Buddy.
      * The day must not already exist in My Fitness Buddy.
@@ -136,6 +177,7 @@ public class MyFitnessBuddy implements ReadOnlyMyFitnessBuddy {
         currentPerson.addDay(day);
         day.setStartingWeight(person.getProfile().getStartingWeight());
         day.setHeight(person.getProfile().getHeight());
+        recordDayChange(Kind.DAY, day);
     }
 
     /**
@@ -146,7 +188,12 @@ public class MyFitnessBuddy implements ReadOnlyMyFitnessBuddy {
     public void setDay(Day target, Day editedDay) {
         requireNonNull(editedDay);
         this.currentPerson.setDay(target, editedDay);
-        getPerson().setDay(target, editedDay);
+        // the container holds a copy, as each day list follows the calorie totals of its own days
+        getPerson().setDay(target, editedDay.copyWithDetails());
+        if (!target.isSameDay(editedDay)) {
+            recordDayChange(Kind.REMOVE_DAY, target);
+        }
+        recordDayChange(Kind.DAY, editedDay);
     }
 
     /**
@@ -156,6 +203,20 @@ public class MyFitnessBuddy implements ReadOnlyMyFitnessBuddy {
     public void removeDay(Day key) {
         this.currentPerson.getDays().remove(key);
         updateDay();
+        recordDayChange(Kind.REMOVE_DAY, key);
+    }
+
+    private void recordDayChange(Kind kind, Day day) {
+        if (isCurrentPersonListed()) {
+            changeLog.record(kind, currentPerson.getProfile().getId(), day.getDate().get());
+        }
+    }
+
+    /**
+     * Returns true if the current person is the one held by the person list, so that changes to it are persisted.
+     */
+    private boolean isCurrentPersonListed() {
+        return persons.contains(currentPerson) && persons.getPerson(currentPerson) == currentPerson;
     }
 
     //// util methods
@@ -174,10 +235,22 @@ public class MyFitnessBuddy implements ReadOnlyMyFitnessBuddy {
         return person;
     }
 
+    /**
+     * Selects {@code toSet} as the current person and copies its data into the container in one bulk change.
+     */
     public void setCurrentPerson(Person toSet) {
+        // loads days kept in storage before anything is changed, as loading may fail
+        UniqueDayList days = toSet.getDays();
         this.currentPerson = toSet;
         this.person.setProfile(currentPerson.getProfile());
-        this.person.setDays(currentPerson.getDayList());
+        this.person.setDays(days);
+    }
+
+    /**
+     * Returns the person that changes to days and the profile are made to.
+     */
+    Person getCurrentPerson() {
+        return currentPerson;
     }
 
     /**
@@ -187,16 +260,127 @@ public class MyFitnessBuddy implements ReadOnlyMyFitnessBuddy {
     public void addPerson(Person toAdd) {
         this.currentPerson = toAdd;
         this.person.setProfile(currentPerson.getProfile());
-        this.person.setDays(currentPerson.getDayList());
+        this.person.setDays(currentPerson.getDays());
         this.persons.add(currentPerson);
+        changeLog.record(Kind.PERSON, currentPerson.getProfile().getId());
     }
 
     public boolean hasPerson(Person toCheck) {
         return this.persons.contains(toCheck);
     }
 
+    /**
+     * Returns the persons whose names contain any of {@code keywords} as a whole word, ignoring case.
+     */
+    public List<Person> getPersonsWithNameKeywords(List<String> keywords) {
+        return persons.getPersonsWithNameKeywords(keywords);
+    }
+
+    /**
+     * Returns the persons whose current BMI is strictly greater than {@code bmi}, in ascending order of BMI.
+     */
+    public List<Person> getPersonsAboveBmi(double bmi) {
+        return persons.getPersonsAboveBmi(bmi);
+    }
+
+    /**
+     * Returns the number of persons whose current BMI falls in each band delimited by {@code upperBounds}.
+     */
+    public int[] countPersonsByBmiBand(double... upperBounds) {
+        return persons.countPersonsByBmiBand(upperBounds);
+    }
+
+    /**
+     * Returns the number of {@code among}, all of them persons of this, whose current BMI falls in each band
+     * delimited by {@code upperBounds}.
+     */
+    public int[] countPersonsByBmiBand(List<Person> among, double... upperBounds) {
+        return persons.countPersonsByBmiBand(among, upperBounds);
+    }
+
+    /**
+     * Returns the nearest-rank {@code percentile} of the current BMIs of the persons.
+     */
+    public OptionalDouble getBmiPercentile(double percentile) {
+        return persons.getBmiPercentile(percentile);
+    }
+
     public void updateDay() {
-        this.person.setDays(this.currentPerson.getDayList());
+        this.person.setDays(this.currentPerson.getDays());
+    }
+
+    /**
+     * Merges the imported weights and calorie entries of {@code dayImport} into the days of their persons, replacing
+     * the day list of each person in one bulk change. Nothing is changed if any imported day cannot be added.
+     *
+     * @throws IllegalValueException if an imported person does not exist or an imported day cannot be added.
+     */
+    public void importDays(DayImport dayImport) throws IllegalValueException {
+        requireNonNull(dayImport);
+        LocalDate today = LocalDate.now();
+        Map<Person, List<Day>> mergedDays = new LinkedHashMap<>();
+        for (ID id : dayImport.getPersonIds()) {
+            Person target = persons.findPerson(id).orElseThrow(() ->
+                    new IllegalValueException(String.format(DayImport.MESSAGE_UNKNOWN_PERSON, id)));
+            mergedDays.put(target, dayImport.mergeInto(target, today));
+        }
+
+        for (Map.Entry<Person, List<Day>> entry : mergedDays.entrySet()) {
+            entry.getKey().loadDays(entry.getValue());
+            changeLog.record(Kind.PERSON, entry.getKey().getProfile().getId());
+        }
+        if (mergedDays.containsKey(currentPerson)) {
+            updateDay();
+        }
+    }
+
+    /**
+     * Returns a checkpoint of the persons and the current person as they are now.
+     * The days of persons that have not been loaded are left in storage.
+     */
+    public Checkpoint createCheckpoint() {
+        return new Checkpoint(persons.asUnmodifiableObservableList(), currentPerson);
+    }
+
+    /**
+     * Returns a checkpoint of the persons and the current person as they are now, sharing with {@code previous} what
+     * has not changed since the last commit recorded by the change log.
+     */
+    Checkpoint createCheckpoint(Checkpoint previous) {
+        requireNonNull(previous);
+        return new Checkpoint(persons.asUnmodifiableObservableList(), currentPerson, previous, changeLog);
+    }
+
+    /**
+     * Returns the persons and the current person to {@code checkpoint}, recording every person that may differ from
+     * its saved data as changed.
+     */
+    public void restoreCheckpoint(Checkpoint checkpoint) {
+        requireNonNull(checkpoint);
+        Set<Person> listedBefore = Collections.newSetFromMap(new IdentityHashMap<>());
+        listedBefore.addAll(persons.asUnmodifiableObservableList());
+        Set<ID> idsBefore = new HashSet<>();
+        for (Person listed : listedBefore) {
+            idsBefore.add(listed.getProfile().getId());
+        }
+
+        for (Map.Entry<Person, Person.State> entry : checkpoint.getStates().entrySet()) {
+            entry.getKey().restoreState(entry.getValue());
+        }
+        persons.setPersons(checkpoint.getPersons());
+
+        for (Person restored : checkpoint.getPersons()) {
+            idsBefore.remove(restored.getProfile().getId());
+        }
+        for (ID removed : idsBefore) {
+            changeLog.record(Kind.REMOVE_PERSON, removed);
+        }
+        for (Person restored : checkpoint.getPersons()) {
+            if (restored.isDayHistoryLoaded() || !listedBefore.contains(restored)) {
+                changeLog.record(Kind.PERSON, restored.getProfile().getId());
+            }
+        }
+        setCurrentPerson(checkpoint.getCurrentPerson());
     }
 
     @Override
@@ -209,6 +393,16 @@ public class MyFitnessBuddy implements ReadOnlyMyFitnessBuddy {
         return persons.asUnmodifiableObservableList();
     }
 
+    @Override
+    public Optional<Person> findPerson(ID id) {
+        return persons.findPerson(id);
+    }
+
+    @Override
+    public ChangeLog getChangeLog() {
+        return changeLog;
+    }
+
     @Override
     public boolean equals(Object other) {
         return other == this // short circuit if same object
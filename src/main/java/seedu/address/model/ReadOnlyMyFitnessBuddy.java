@@ -1,7 +1,10 @@
 package seedu.address.model;
 
+import java.util.Optional;
+
 import javafx.collections.ObservableList;
 import seedu.address.model.day.Day;
+import seedu.address.model.person.ID;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.Profile;
 
@@ -30,4 +33,14 @@ public interface ReadOnlyMyFitnessBuddy {
     Person getPerson();
 
     ObservableList<Person> getPersons();
+
+    /**
+     * Returns the person with {@code id}, if any.
+     */
+    Optional<Person> findPerson(ID id);
+
+    /**
+     * Returns the record of the changes to the persons since the data was last saved.
+     */
+    ChangeLog getChangeLog();
 }
@@ -0,0 +1,170 @@
+package seedu.address.model;
+
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Set;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.model.person.ID;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.exceptions.DayHistoryUnavailableException;
+
+/**
+ * {@code MyFitnessBuddy} that keeps a bounded history of its committed versions, which can be undone and redone.
+ *
+ * Each version is a {@link Checkpoint} that shares with the version before it the persons and days that have not
+ * changed in between, so committing costs a copy of what changed rather than of all the data. Undoing or redoing
+ * restores the persons in place, so the observable lists shown by the UI follow the current version. The selected
+ * person stays selected if it is in the restored version.
+ *
+ * A version may leave the days of a person in storage. Before a change to that person can reach storage, the commit
+ * reads those days into every version that left them there, finding them through the index each version keeps by id
+ * so that only the persons that changed are visited.
+ */
+public class VersionedMyFitnessBuddy extends MyFitnessBuddy {
+
+    public static final int DEFAULT_CAPACITY = 20;
+
+    private static final Logger logger = LogsCenter.getLogger(VersionedMyFitnessBuddy.class);
+
+    private final int capacity;
+    // most recent first
+    private final Deque<Checkpoint> undoVersions = new ArrayDeque<>();
+    private final Deque<Checkpoint> redoVersions = new ArrayDeque<>();
+    private Checkpoint currentVersion;
+    private long committedModificationCount;
+
+    /**
+     * Creates a {@code VersionedMyFitnessBuddy} using the data in {@code toBeCopied} as its first version.
+     */
+    public VersionedMyFitnessBuddy(ReadOnlyMyFitnessBuddy toBeCopied) {
+        this(toBeCopied, DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Creates a {@code VersionedMyFitnessBuddy} using the data in {@code toBeCopied} as its first version, which
+     * keeps at most {@code capacity} versions to undo.
+     */
+    public VersionedMyFitnessBuddy(ReadOnlyMyFitnessBuddy toBeCopied, int capacity) {
+        super(toBeCopied);
+        checkArgument(capacity > 0, "Capacity must be positive");
+        this.capacity = capacity;
+        currentVersion = createCheckpoint();
+        markCommitted();
+    }
+
+    /**
+     * Saves the current data as a new version, unless nothing has changed since the current version.
+     * Any versions that were undone can no longer be redone.
+     */
+    public void commit() {
+        if (getChangeLog().getModificationCount() == committedModificationCount) {
+            return;
+        }
+        keepChangedDaysInMemory();
+        Checkpoint nextVersion = createCheckpoint(currentVersion);
+        undoVersions.push(currentVersion);
+        while (undoVersions.size() > capacity) {
+            undoVersions.removeLast();
+        }
+        redoVersions.clear();
+        currentVersion = nextVersion;
+        markCommitted();
+    }
+
+    /**
+     * Reads the days that any version left in storage for a person changed since the last commit, as saving the
+     * change may overwrite them in storage. If they can no longer be read, the versions that need them are dropped.
+     */
+    private void keepChangedDaysInMemory() {
+        ChangeLog changeLog = getChangeLog();
+        // null if any person may have changed
+        Set<ID> changedIds = changeLog.isEverythingChangedSinceCommit()
+                ? null
+                : changeLog.getPersonsChangedSinceCommit();
+        try {
+            keepChangedDaysInMemory(currentVersion, changedIds);
+            for (Checkpoint version : undoVersions) {
+                keepChangedDaysInMemory(version, changedIds);
+            }
+            for (Checkpoint version : redoVersions) {
+                keepChangedDaysInMemory(version, changedIds);
+            }
+        } catch (DayHistoryUnavailableException e) {
+            logger.warning("Dropping the undo history, as the days it needs could not be read: " + e.getMessage());
+            undoVersions.clear();
+            redoVersions.clear();
+        }
+    }
+
+    private static void keepChangedDaysInMemory(Checkpoint version, Set<ID> changedIds) {
+        if (changedIds == null) {
+            for (Person.State state : version.getStates().values()) {
+                state.keepInMemory();
+            }
+            return;
+        }
+        for (ID id : changedIds) {
+            for (Person.State state : version.getStatesInStorage(id)) {
+                state.keepInMemory();
+            }
+        }
+    }
+
+    private void markCommitted() {
+        getChangeLog().markCommitted();
+        committedModificationCount = getChangeLog().getModificationCount();
+    }
+
+    /**
+     * Restores {@code version}, keeping the current person selected if it is one of the persons of that version.
+     */
+    private void restoreVersion(Checkpoint version) {
+        Person selected = getCurrentPerson();
+        restoreCheckpoint(version);
+        if (version.getPersons().stream().anyMatch(person -> person == selected)) {
+            setCurrentPerson(selected);
+        }
+        keepChangedDaysInMemory();
+        markCommitted();
+    }
+
+    /**
+     * Returns true if there is a version before the current one.
+     */
+    public boolean canUndo() {
+        return !undoVersions.isEmpty();
+    }
+
+    /**
+     * Returns true if there is a version that was undone after the current one.
+     */
+    public boolean canRedo() {
+        return !redoVersions.isEmpty();
+    }
+
+    /**
+     * Returns the data to the version before the current one, discarding any changes not yet committed.
+     * There must be such a version.
+     */
+    public void undo() {
+        checkArgument(canUndo(), "There is no version to undo");
+        redoVersions.push(currentVersion);
+        currentVersion = undoVersions.pop();
+        restoreVersion(currentVersion);
+    }
+
+    /**
+     * Returns the data to the version that was last undone, discarding any changes not yet committed.
+     * There must be such a version.
+     */
+    public void redo() {
+        checkArgument(canRedo(), "There is no version to redo");
+        undoVersions.push(currentVersion);
+        currentVersion = redoVersions.pop();
+        restoreVersion(currentVersion);
+    }
+}
@@ -21,7 +21,7 @@ public class Bmi {
     public static double calculateBmi(Height height, Weight weight) {
         requireAllNonNull(height, weight);
         double h = Integer.parseInt(height.value);
-        double w = Integer.parseInt(weight.value);
+        double w = weight.toKilograms();
         double bmi = w / ((h / 100) * (h / 100));
         double roundBmi = Math.round(bmi * 100) / 100.0;
         return roundBmi;
@@ -22,7 +22,7 @@ public class CalorieBudget {
     public static int calculateBasalMetabolic(Height height, Weight weight, int age) {
         requireAllNonNull(height, weight, age);
         double h = Integer.parseInt(height.value);
-        double w = Integer.parseInt(weight.value);
+        double w = weight.toKilograms();
         double bmr = (10 * w) + (6.25 * h) - (5 * age) + 5;
         return (int) bmr;
     }
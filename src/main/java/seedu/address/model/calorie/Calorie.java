@@ -50,6 +50,6 @@ public abstract class Calorie {
         }
         Calorie otherCalorie = (Calorie) other;
 
-        return otherCalorie.getTime().time.equals(getTime().time);
+        return otherCalorie.getTime().equals(getTime());
     }
 }
@@ -0,0 +1,152 @@
+package seedu.address.model.calorie;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * Stores the minute of day, calorie count and name id of a list of calorie entries in parallel arrays, with the names
+ * themselves in a {@code NameDictionary} of the list.
+ * Entries are kept in order of minute, which {@code insertionPoint} and {@code indexOfMinute} search by halving.
+ * Invalid positions throw {@code IndexOutOfBoundsException}, as a list would.
+ */
+final class CalorieColumns {
+
+    private static final int INITIAL_CAPACITY = 4;
+
+    private final NameDictionary names;
+    private int[] minutes = new int[INITIAL_CAPACITY];
+    private int[] calorieCounts = new int[INITIAL_CAPACITY];
+    private int[] nameIds = new int[INITIAL_CAPACITY];
+    private int size;
+
+    /**
+     * Creates empty columns with an empty dictionary.
+     */
+    CalorieColumns() {
+        this(new NameDictionary());
+    }
+
+    /**
+     * Creates empty columns whose name ids refer to {@code names}.
+     */
+    CalorieColumns(NameDictionary names) {
+        this.names = Objects.requireNonNull(names);
+    }
+
+    int size() {
+        return size;
+    }
+
+    int getMinute(int index) {
+        Objects.checkIndex(index, size);
+        return minutes[index];
+    }
+
+    int getCalorieCount(int index) {
+        Objects.checkIndex(index, size);
+        return calorieCounts[index];
+    }
+
+    String getName(int index) {
+        Objects.checkIndex(index, size);
+        return names.nameOf(nameIds[index]);
+    }
+
+    /**
+     * Returns the position at which an entry at {@code minute} is placed: right after the last entry that does not
+     * happen after it.
+     */
+    int insertionPoint(int minute) {
+        return firstIndexAfter(minute, false);
+    }
+
+    /**
+     * Returns the position of the first entry at {@code minute}, or -1 if there is none.
+     */
+    int indexOfMinute(int minute) {
+        int index = firstIndexAfter(minute, true);
+        return index < size && minutes[index] == minute ? index : -1;
+    }
+
+    /**
+     * Returns the position of the first entry after {@code minute}, counting an entry at {@code minute} itself only if
+     * {@code isInclusive}.
+     */
+    private int firstIndexAfter(int minute, boolean isInclusive) {
+        int low = 0;
+        int high = size;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (minutes[middle] < minute || (!isInclusive && minutes[middle] == minute)) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Inserts an entry of {@code name} at {@code index}, shifting later entries back.
+     */
+    void add(int index, int minute, int calorieCount, String name) {
+        Objects.checkIndex(index, size + 1);
+        add(index, minute, calorieCount, names.idOf(name));
+    }
+
+    /**
+     * Inserts an entry whose name has {@code nameId} in the dictionary of these columns at {@code index}, shifting
+     * later entries back.
+     */
+    void add(int index, int minute, int calorieCount, int nameId) {
+        Objects.checkIndex(index, size + 1);
+        Objects.checkIndex(nameId, names.size());
+        if (size == minutes.length) {
+            int capacity = minutes.length * 2;
+            minutes = Arrays.copyOf(minutes, capacity);
+            calorieCounts = Arrays.copyOf(calorieCounts, capacity);
+            nameIds = Arrays.copyOf(nameIds, capacity);
+        }
+        int moved = size - index;
+        System.arraycopy(minutes, index, minutes, index + 1, moved);
+        System.arraycopy(calorieCounts, index, calorieCounts, index + 1, moved);
+        System.arraycopy(nameIds, index, nameIds, index + 1, moved);
+        minutes[index] = minute;
+        calorieCounts[index] = calorieCount;
+        nameIds[index] = nameId;
+        size++;
+    }
+
+    /**
+     * Removes the entry at {@code index}, shifting later entries forward.
+     * Its name stays in the dictionary.
+     */
+    void remove(int index) {
+        Objects.checkIndex(index, size);
+        int moved = size - index - 1;
+        System.arraycopy(minutes, index + 1, minutes, index, moved);
+        System.arraycopy(calorieCounts, index + 1, calorieCounts, index, moved);
+        System.arraycopy(nameIds, index + 1, nameIds, index, moved);
+        size--;
+    }
+
+    /**
+     * Returns true if both columns hold entries at the same minutes in the same order.
+     * Mirrors {@code Calorie#equals(Object)}, which only compares times.
+     */
+    boolean hasSameMinutes(CalorieColumns other) {
+        return size == other.size
+                && Arrays.equals(minutes, 0, size, other.minutes, 0, other.size);
+    }
+
+    /**
+     * Returns a hash code of the minutes of the entries, in line with {@code hasSameMinutes}.
+     */
+    int hashMinutes() {
+        int hash = 1;
+        for (int index = 0; index < size; index++) {
+            hash = 31 * hash + minutes[index];
+        }
+        return hash;
+    }
+}
@@ -16,6 +16,8 @@ public class CalorieCount {
 
     public final String calorieCount;
 
+    private final int value;
+
     /**
      * Constructs a {@code CalorieCount}.
      *
@@ -25,6 +27,7 @@ public class CalorieCount {
         requireNonNull(calorieCount);
         checkArgument(isValidCalorieCount(calorieCount), MESSAGE_CONSTRAINTS);
         this.calorieCount = calorieCount;
+        this.value = Integer.parseInt(calorieCount);
     }
 
     /**
@@ -33,13 +36,27 @@ public class CalorieCount {
      */
     public static boolean isValidCalorieCount(String test) {
         requireNonNull(test);
-        try {
-            Integer.parseInt(test);
-        } catch (NumberFormatException e) {
+        // hand-written equivalent of VALIDATION_REGEX and an int range check
+        int length = test.length();
+        if (length == 0 || length > 10 || test.charAt(0) < '1' || test.charAt(0) > '9') {
             return false;
         }
+        long value = 0;
+        for (int i = 0; i < length; i++) {
+            char c = test.charAt(i);
+            if (c < '0' || c > '9') {
+                return false;
+            }
+            value = value * 10 + (c - '0');
+        }
+        return value <= Integer.MAX_VALUE;
+    }
 
-        return test.matches(VALIDATION_REGEX);
+    /**
+     * Returns the calorie count in kcal.
+     */
+    public int getValue() {
+        return value;
     }
 
     @Override
@@ -62,7 +79,12 @@ public class CalorieCount {
         }
 
         CalorieCount otherCalorieCount = (CalorieCount) other;
-        return otherCalorieCount.calorieCount.equals(this.calorieCount);
+        return otherCalorieCount.value == this.value;
+    }
+
+    @Override
+    public int hashCode() {
+        return Integer.hashCode(value);
     }
 }
 
@@ -0,0 +1,315 @@
+package seedu.address.model.calorie;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * An immutable, compact copy of the calorie inputs and outputs of a day, together with their totals.
+ * Guarantees: the entries of each list are in the order given.
+ *
+ * Each entry is kept as three ints: its minute of day, its calorie count and the id of its food or exercise name.
+ * Each list stores its distinct names once, in the order of their ids.
+ * A day keeps its entries in this form until its {@code CalorieManager} is first used, so that reading data does not
+ * build entries that are never shown.
+ */
+public final class CalorieEntries {
+
+    public static final CalorieEntries EMPTY = new Builder().build();
+
+    private static final int MINUTE = 0;
+    private static final int CALORIE_COUNT = 1;
+    private static final int NAME_ID = 2;
+    private static final int FIELDS = 3;
+
+    private final int[] inputs;
+    private final String[] inputNames;
+    private final int[] outputs;
+    private final String[] outputNames;
+    private final int totalInputCalorie;
+    private final int totalOutputCalorie;
+
+    private CalorieEntries(int[] inputs, String[] inputNames, int[] outputs, String[] outputNames,
+            int totalInputCalorie, int totalOutputCalorie) {
+        this.inputs = inputs;
+        this.inputNames = inputNames;
+        this.outputs = outputs;
+        this.outputNames = outputNames;
+        this.totalInputCalorie = totalInputCalorie;
+        this.totalOutputCalorie = totalOutputCalorie;
+    }
+
+    public int getTotalInputCalorie() {
+        return totalInputCalorie;
+    }
+
+    public int getTotalOutputCalorie() {
+        return totalOutputCalorie;
+    }
+
+    /**
+     * Returns the calorie inputs in a new list.
+     */
+    public List<Input> toInputList() {
+        List<Input> inputList = new ArrayList<>(inputs.length / FIELDS);
+        for (int i = 0; i < inputs.length; i += FIELDS) {
+            inputList.add(CalorieManager.createInput(inputs[i + MINUTE], inputNames[inputs[i + NAME_ID]],
+                    inputs[i + CALORIE_COUNT]));
+        }
+        return inputList;
+    }
+
+    /**
+     * Returns the calorie outputs in a new list.
+     */
+    public List<Output> toOutputList() {
+        List<Output> outputList = new ArrayList<>(outputs.length / FIELDS);
+        for (int i = 0; i < outputs.length; i += FIELDS) {
+            outputList.add(CalorieManager.createOutput(outputs[i + MINUTE], outputNames[outputs[i + NAME_ID]],
+                    outputs[i + CALORIE_COUNT]));
+        }
+        return outputList;
+    }
+
+    /**
+     * Passes each input, in order, to {@code visitor} without building an {@code Input}.
+     */
+    public <E extends Exception> void forEachInput(EntryVisitor<E> visitor) throws E {
+        forEach(inputs, inputNames, visitor);
+    }
+
+    /**
+     * Passes each output, in order, to {@code visitor} without building an {@code Output}.
+     */
+    public <E extends Exception> void forEachOutput(EntryVisitor<E> visitor) throws E {
+        forEach(outputs, outputNames, visitor);
+    }
+
+    private static <E extends Exception> void forEach(int[] entries, String[] names, EntryVisitor<E> visitor)
+            throws E {
+        requireNonNull(visitor);
+        for (int i = 0; i < entries.length; i += FIELDS) {
+            visitor.visit(entries[i + MINUTE], names[entries[i + NAME_ID]], entries[i + CALORIE_COUNT]);
+        }
+    }
+
+    /**
+     * Returns the inputs as columns that start with the names of the inputs as their dictionary.
+     */
+    CalorieColumns toInputColumns() {
+        return toColumns(inputs, inputNames);
+    }
+
+    /**
+     * Returns the outputs as columns that start with the names of the outputs as their dictionary.
+     */
+    CalorieColumns toOutputColumns() {
+        return toColumns(outputs, outputNames);
+    }
+
+    private static CalorieColumns toColumns(int[] entries, String[] names) {
+        CalorieColumns columns = new CalorieColumns(new NameDictionary(names));
+        for (int i = 0; i < entries.length; i += FIELDS) {
+            // entries read from storage may be out of order, and columns keep theirs ordered by minute
+            int minute = entries[i + MINUTE];
+            columns.add(columns.insertionPoint(minute), minute, entries[i + CALORIE_COUNT], entries[i + NAME_ID]);
+        }
+        return columns;
+    }
+
+    /**
+     * Returns true if both have entries at the same minutes in the same order.
+     * Mirrors {@code CalorieManager#equals(Object)}.
+     */
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        if (!(other instanceof CalorieEntries)) {
+            return false;
+        }
+
+        CalorieEntries otherEntries = (CalorieEntries) other;
+        return hasSameMinutes(inputs, otherEntries.inputs) && hasSameMinutes(outputs, otherEntries.outputs);
+    }
+
+    private static boolean hasSameMinutes(int[] entries, int[] otherEntries) {
+        if (entries.length != otherEntries.length) {
+            return false;
+        }
+        for (int i = 0; i < entries.length; i += FIELDS) {
+            if (entries[i + MINUTE] != otherEntries[i + MINUTE]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public int hashCode() {
+        int hash = 1;
+        for (int i = 0; i < inputs.length; i += FIELDS) {
+            hash = 31 * hash + inputs[i + MINUTE];
+        }
+        for (int i = 0; i < outputs.length; i += FIELDS) {
+            hash = 31 * hash + outputs[i + MINUTE];
+        }
+        return hash;
+    }
+
+    /**
+     * Receives the entries of a {@code CalorieEntries} one at a time.
+     *
+     * @param <E> the type of exception the visitor may stop the walk with.
+     */
+    @FunctionalInterface
+    public interface EntryVisitor<E extends Exception> {
+        void visit(int minuteOfDay, String name, int calorieCount) throws E;
+    }
+
+    /**
+     * Collects the entries of a {@code CalorieEntries} one at a time.
+     */
+    public static class Builder {
+        private final NamePool names;
+        private final Column inputs = new Column();
+        private final Column outputs = new Column();
+        private int totalInputCalorie;
+        private int totalOutputCalorie;
+
+        /**
+         * Creates a builder that keeps the names it is given as they are.
+         */
+        public Builder() {
+            this(null);
+        }
+
+        /**
+         * Creates a builder that shares equal names through {@code names}, which may be null, so that a name
+         * repeated across many days is also stored once.
+         */
+        public Builder(NamePool names) {
+            this.names = names;
+        }
+
+        /**
+         * Appends an input of {@code calorieCount} kcal of {@code food} at {@code minuteOfDay}.
+         */
+        public Builder addInput(int minuteOfDay, String food, int calorieCount) {
+            requireNonNull(food);
+            inputs.append(minuteOfDay, calorieCount, pooled(food));
+            totalInputCalorie += calorieCount;
+            return this;
+        }
+
+        /**
+         * Appends an output of {@code calorieCount} kcal of {@code exercise} at {@code minuteOfDay}.
+         */
+        public Builder addOutput(int minuteOfDay, String exercise, int calorieCount) {
+            requireNonNull(exercise);
+            outputs.append(minuteOfDay, calorieCount, pooled(exercise));
+            totalOutputCalorie += calorieCount;
+            return this;
+        }
+
+        private String pooled(String name) {
+            return names == null ? name : names.share(name);
+        }
+
+        /**
+         * Appends the entry at {@code index} of {@code columns} as an input.
+         */
+        Builder addInput(CalorieColumns columns, int index) {
+            inputs.append(columns.getMinute(index), columns.getCalorieCount(index), columns.getName(index));
+            totalInputCalorie += columns.getCalorieCount(index);
+            return this;
+        }
+
+        /**
+         * Appends the entry at {@code index} of {@code columns} as an output.
+         */
+        Builder addOutput(CalorieColumns columns, int index) {
+            outputs.append(columns.getMinute(index), columns.getCalorieCount(index), columns.getName(index));
+            totalOutputCalorie += columns.getCalorieCount(index);
+            return this;
+        }
+
+        /**
+         * Appends all inputs and outputs of {@code entries}.
+         */
+        public Builder addAll(CalorieEntries entries) {
+            requireNonNull(entries);
+            inputs.appendAll(entries.inputs, entries.inputNames);
+            outputs.appendAll(entries.outputs, entries.outputNames);
+            totalInputCalorie += entries.totalInputCalorie;
+            totalOutputCalorie += entries.totalOutputCalorie;
+            return this;
+        }
+
+        /**
+         * Orders the inputs and the outputs added so far by time, keeping entries at the same time in the order they
+         * were added, as a {@code CalorieManager} keeps them.
+         */
+        public Builder sortByTime() {
+            inputs.sortByTime();
+            outputs.sortByTime();
+            return this;
+        }
+
+        /**
+         * Returns the entries added so far.
+         */
+        public CalorieEntries build() {
+            return new CalorieEntries(inputs.copyEntries(), inputs.names.toArray(), outputs.copyEntries(),
+                    outputs.names.toArray(), totalInputCalorie, totalOutputCalorie);
+        }
+    }
+
+    /**
+     * The growing entries and name dictionary of one list of a {@code Builder}.
+     */
+    private static class Column {
+        private final NameDictionary names = new NameDictionary();
+        private int[] entries = new int[0];
+        private int size;
+
+        void append(int minuteOfDay, int calorieCount, String name) {
+            if (size * FIELDS == entries.length) {
+                entries = Arrays.copyOf(entries, Math.max(size * 2, 4) * FIELDS);
+            }
+            entries[size * FIELDS + MINUTE] = minuteOfDay;
+            entries[size * FIELDS + CALORIE_COUNT] = calorieCount;
+            entries[size * FIELDS + NAME_ID] = names.idOf(name);
+            size++;
+        }
+
+        void appendAll(int[] otherEntries, String[] otherNames) {
+            for (int i = 0; i < otherEntries.length; i += FIELDS) {
+                append(otherEntries[i + MINUTE], otherEntries[i + CALORIE_COUNT],
+                        otherNames[otherEntries[i + NAME_ID]]);
+            }
+        }
+
+        void sortByTime() {
+            // sorts the minute and position of each entry together, which keeps equal minutes in order
+            long[] keys = new long[size];
+            for (int i = 0; i < size; i++) {
+                keys[i] = ((long) entries[i * FIELDS + MINUTE] << Integer.SIZE) | i;
+            }
+            Arrays.sort(keys);
+            int[] unsortedEntries = Arrays.copyOf(entries, size * FIELDS);
+            for (int i = 0; i < size; i++) {
+                int from = (int) keys[i];
+                System.arraycopy(unsortedEntries, from * FIELDS, entries, i * FIELDS, FIELDS);
+            }
+        }
+
+        int[] copyEntries() {
+            return Arrays.copyOf(entries, size * FIELDS);
+        }
+    }
+}
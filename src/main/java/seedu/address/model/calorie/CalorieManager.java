@@ -3,6 +3,7 @@ package seedu.address.model.calorie;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.logging.Logger;
 
@@ -15,6 +16,12 @@ import seedu.address.commons.exceptions.IllegalValueException;
 
 /**
  * Stores and handles operation related to calories
+ *
+ * Registered {@link TotalsListener}s are told of every change to the total calorie input and output.
+ *
+ * Entries are held in columns of minute of day, calorie count and dictionary-encoded name id, ordered by minute. The
+ * observable {@code Input}/{@code Output} lists are only built when first requested, and are kept in step with the
+ * columns afterwards.
  */
 public class CalorieManager {
 
@@ -25,28 +32,70 @@ public class CalorieManager {
             + "But it is physically impossible to expend more than 2147483647KCal";
 
     public static final String INVALID_INDEX = "please input a correct index";
+
+    private final CalorieColumns inputColumns;
+    private final CalorieColumns outputColumns;
     private ObservableList<Input> calorieInputList;
     private ObservableList<Output> calorieOutputList;
+    private ObservableList<Input> unmodifiableCalorieInputList;
+    private ObservableList<Output> unmodifiableCalorieOutputList;
     private int totalCalorieIn;
     private int totalCalorieOut;
+    private final List<TotalsListener> totalsListeners = new ArrayList<>(2);
     private final Logger logger = LogsCenter.getLogger(CalorieManager.class);
 
     /**
      * Constructor for Manager that manage calorie input/output
      */
     public CalorieManager() {
-        this.calorieOutputList = FXCollections.observableArrayList();
-        this.calorieInputList = FXCollections.observableArrayList();
+        inputColumns = new CalorieColumns();
+        outputColumns = new CalorieColumns();
     }
 
     /**
      * Constructor for Manager that manage calorie input/output
      */
     public CalorieManager(ObservableList<Input> inputList, ObservableList<Output> outputList) {
+        this();
         requireAllNonNull(inputList, outputList);
-        this.calorieInputList = inputList;
-        this.calorieOutputList = outputList;
-        updateTotalCalorieCounts(inputList, outputList);
+        for (Input input : inputList) {
+            int calorieCount = input.getCalorieCount().getValue();
+            int minute = input.getTime().getMinuteOfDay();
+            inputColumns.add(inputColumns.insertionPoint(minute), minute, calorieCount, input.getFood().food);
+            totalCalorieIn += calorieCount;
+        }
+        for (Output output : outputList) {
+            int calorieCount = output.getCalorieCount().getValue();
+            int minute = output.getTime().getMinuteOfDay();
+            outputColumns.add(outputColumns.insertionPoint(minute), minute, calorieCount,
+                    output.getExercise().exercise);
+            totalCalorieOut += calorieCount;
+        }
+    }
+
+    /**
+     * Constructs a manager holding {@code entries}, without building any {@code Input} or {@code Output}.
+     */
+    public CalorieManager(CalorieEntries entries) {
+        requireNonNull(entries);
+        inputColumns = entries.toInputColumns();
+        outputColumns = entries.toOutputColumns();
+        totalCalorieIn = entries.getTotalInputCalorie();
+        totalCalorieOut = entries.getTotalOutputCalorie();
+    }
+
+    /**
+     * Returns a compact copy of the entries of this manager.
+     */
+    public CalorieEntries toEntries() {
+        CalorieEntries.Builder builder = new CalorieEntries.Builder();
+        for (int index = 0; index < inputColumns.size(); index++) {
+            builder.addInput(inputColumns, index);
+        }
+        for (int index = 0; index < outputColumns.size(); index++) {
+            builder.addOutput(outputColumns, index);
+        }
+        return builder.build();
     }
 
     /**
@@ -70,11 +119,38 @@ public class CalorieManager {
      */
     public void updateTotalCalorieCounts(List<Input> inputList, List<Output> outputList) {
         requireAllNonNull(inputList, outputList);
+        int inputDelta = 0;
+        int outputDelta = 0;
         for (Input x: inputList) {
-            totalCalorieIn += Integer.parseInt(x.getCalorieCount().calorieCount);
+            inputDelta += x.getCalorieCount().getValue();
         }
         for (Output y: outputList) {
-            totalCalorieOut += Integer.parseInt(y.getCalorieCount().calorieCount);
+            outputDelta += y.getCalorieCount().getValue();
+        }
+        changeTotals(inputDelta, outputDelta);
+    }
+
+    /**
+     * Registers {@code listener} to be told of changes to the totals.
+     */
+    public void addTotalsListener(TotalsListener listener) {
+        requireNonNull(listener);
+        totalsListeners.add(listener);
+    }
+
+    /**
+     * Stops telling {@code listener} of changes to the totals.
+     */
+    public void removeTotalsListener(TotalsListener listener) {
+        requireNonNull(listener);
+        totalsListeners.remove(listener);
+    }
+
+    private void changeTotals(int inputDelta, int outputDelta) {
+        totalCalorieIn += inputDelta;
+        totalCalorieOut += outputDelta;
+        for (TotalsListener listener : totalsListeners) {
+            listener.totalsChanged(inputDelta, outputDelta);
         }
     }
 
@@ -84,14 +160,14 @@ public class CalorieManager {
      */
     public void addTotalCalorieOut(CalorieCount calorieOutput) throws IllegalValueException {
         requireAllNonNull(calorieOutput);
-        int previousTotalCalorieOut = totalCalorieOut;
-        int calorieToAdd = Integer.parseInt(calorieOutput.toString());
+        addTotalCalorieOut(calorieOutput.getValue());
+    }
+
+    private void addTotalCalorieOut(int calorieToAdd) throws IllegalValueException {
         if (totalCalorieOut + calorieToAdd < 0) {
             throw new IllegalValueException(INSANE_OUTPUT_CALORIE);
         }
-        totalCalorieOut += calorieToAdd;
-        //        logger.info("----------update total calorie output----------");
-        //        logger.info(previousTotalCalorieOut + "+" + calorieOutput.toString() + "=" + totalCalorieOut);
+        changeTotals(0, calorieToAdd);
     }
 
     /**
@@ -100,14 +176,14 @@ public class CalorieManager {
      */
     public void addTotalCalorieInput(CalorieCount calorieInput) throws IllegalValueException {
         requireAllNonNull(calorieInput);
-        int previousTotalCalorieIn = totalCalorieIn;
-        int calorieToAdd = Integer.parseInt(calorieInput.toString());
+        addTotalCalorieInput(calorieInput.getValue());
+    }
+
+    private void addTotalCalorieInput(int calorieToAdd) throws IllegalValueException {
         if (totalCalorieIn + calorieToAdd < 0) {
             throw new IllegalValueException(INSANE_INPUT_CALORIE);
         }
-        totalCalorieIn += calorieToAdd;
-        //        logger.info("----------update total calorie Input----------");
-        //        logger.info(previousTotalCalorieIn + "+" + calorieInput.toString() + "=" + totalCalorieIn);
+        changeTotals(calorieToAdd, 0);
     }
 
     /**
@@ -117,8 +193,7 @@ public class CalorieManager {
     public void deleteTotalCalorieOutput(int index) throws IllegalValueException {
         requireNonNull(index);
         try {
-            CalorieCount calorieCount = getCalorieOutputList().get(index).getCalorieCount();
-            totalCalorieOut -= Integer.parseInt(calorieCount.toString());
+            changeTotals(0, -outputColumns.getCalorieCount(index));
         } catch (IndexOutOfBoundsException e) {
             throw new IllegalValueException(MESSAGE_INVALID_INDEX);
         }
@@ -131,19 +206,60 @@ public class CalorieManager {
     public void deleteTotalCalorieInput(int index) throws IllegalValueException {
         requireNonNull(index);
         try {
-            CalorieCount calorieCount = getCalorieInputList().get(index).getCalorieCount();
-            totalCalorieIn -= Integer.parseInt(calorieCount.toString());
+            changeTotals(-inputColumns.getCalorieCount(index), 0);
         } catch (IndexOutOfBoundsException e) {
             throw new IllegalValueException(MESSAGE_INVALID_INDEX);
         }
     }
 
+    /**
+     * Returns the calorie outputs as an unmodifiable {@code ObservableList}, building it on first use.
+     */
     public ObservableList<Output> getCalorieOutputList() {
-        return calorieOutputList;
+        if (calorieOutputList == null) {
+            calorieOutputList = FXCollections.observableArrayList(toOutputList());
+            unmodifiableCalorieOutputList = FXCollections.unmodifiableObservableList(calorieOutputList);
+        }
+        return unmodifiableCalorieOutputList;
     }
 
+    /**
+     * Returns the calorie inputs as an unmodifiable {@code ObservableList}, building it on first use.
+     */
     public ObservableList<Input> getCalorieInputList() {
-        return calorieInputList;
+        if (calorieInputList == null) {
+            calorieInputList = FXCollections.observableArrayList(toInputList());
+            unmodifiableCalorieInputList = FXCollections.unmodifiableObservableList(calorieInputList);
+        }
+        return unmodifiableCalorieInputList;
+    }
+
+    /**
+     * Returns the calorie outputs in a new list without building the observable list.
+     */
+    public List<Output> toOutputList() {
+        if (calorieOutputList != null) {
+            return new ArrayList<>(calorieOutputList);
+        }
+        List<Output> outputs = new ArrayList<>(outputColumns.size());
+        for (int index = 0; index < outputColumns.size(); index++) {
+            outputs.add(createOutput(index));
+        }
+        return outputs;
+    }
+
+    /**
+     * Returns the calorie inputs in a new list without building the observable list.
+     */
+    public List<Input> toInputList() {
+        if (calorieInputList != null) {
+            return new ArrayList<>(calorieInputList);
+        }
+        List<Input> inputs = new ArrayList<>(inputColumns.size());
+        for (int index = 0; index < inputColumns.size(); index++) {
+            inputs.add(createInput(index));
+        }
+        return inputs;
     }
 
     /**
@@ -153,17 +269,13 @@ public class CalorieManager {
     public void addCalorieInput(Input calorieInput) throws IllegalValueException {
         requireNonNull(calorieInput);
         assert calorieInput instanceof Input : "calorieInput must be an input";
-        addTotalCalorieInput(calorieInput.getCalorieCount());
-        boolean isAdded = false;
-        for (int index = calorieInputList.size() - 1; index >= 0; index -= 1) {
-            if (calorieInput.happenAfter(calorieInputList.get(index))) {
-                calorieInputList.add(index + 1, calorieInput);
-                isAdded = true;
-                break;
-            }
-        }
-        if (!isAdded) {
-            calorieInputList.add(0, calorieInput);
+        int calorieCount = calorieInput.getCalorieCount().getValue();
+        addTotalCalorieInput(calorieCount);
+        int minute = calorieInput.getTime().getMinuteOfDay();
+        int index = inputColumns.insertionPoint(minute);
+        inputColumns.add(index, minute, calorieCount, calorieInput.getFood().food);
+        if (calorieInputList != null) {
+            calorieInputList.add(index, calorieInput);
         }
     }
 
@@ -173,17 +285,13 @@ public class CalorieManager {
      */
     public void addCalorieOutput(Output calorieOutput) throws IllegalValueException {
         requireNonNull(calorieOutput);
-        addTotalCalorieOut(calorieOutput.getCalorieCount());
-        boolean isAdded = false;
-        for (int index = calorieOutputList.size() - 1; index >= 0; index -= 1) {
-            if (calorieOutput.happenAfter(calorieOutputList.get(index))) {
-                calorieOutputList.add(index + 1, calorieOutput);
-                isAdded = true;
-                break;
-            }
-        }
-        if (!isAdded) {
-            calorieOutputList.add(0, calorieOutput);
+        int calorieCount = calorieOutput.getCalorieCount().getValue();
+        addTotalCalorieOut(calorieCount);
+        int minute = calorieOutput.getTime().getMinuteOfDay();
+        int index = outputColumns.insertionPoint(minute);
+        outputColumns.add(index, minute, calorieCount, calorieOutput.getExercise().exercise);
+        if (calorieOutputList != null) {
+            calorieOutputList.add(index, calorieOutput);
         }
     }
 
@@ -197,10 +305,16 @@ public class CalorieManager {
         int index = targetIndex.getZeroBased();
         if (!isOut) {
             deleteTotalCalorieInput(index);
-            calorieInputList.remove(index);
+            inputColumns.remove(index);
+            if (calorieInputList != null) {
+                calorieInputList.remove(index);
+            }
         } else {
             deleteTotalCalorieOutput(index);
-            calorieOutputList.remove(index);
+            outputColumns.remove(index);
+            if (calorieOutputList != null) {
+                calorieOutputList.remove(index);
+            }
         }
     }
 
@@ -211,9 +325,9 @@ public class CalorieManager {
     public int getListSize(Boolean isOut) {
         requireNonNull(isOut);
         if (!isOut) {
-            return calorieInputList.size();
+            return inputColumns.size();
         } else {
-            return calorieOutputList.size();
+            return outputColumns.size();
         }
     }
 
@@ -226,9 +340,13 @@ public class CalorieManager {
         requireAllNonNull(isOut, index);
         try {
             if (!isOut) {
-                return calorieInputList.get(index.getZeroBased());
+                return calorieInputList != null
+                        ? calorieInputList.get(index.getZeroBased())
+                        : createInput(index.getZeroBased());
             } else {
-                return calorieOutputList.get(index.getZeroBased());
+                return calorieOutputList != null
+                        ? calorieOutputList.get(index.getZeroBased())
+                        : createOutput(index.getZeroBased());
             }
         } catch (IndexOutOfBoundsException e) {
             throw new IllegalValueException(INVALID_INDEX);
@@ -237,20 +355,33 @@ public class CalorieManager {
 
     /**
      * replace a calorie with the respective index in the corresponding list with editedCalorie
+     * and returns this updated manager. The replaced calorie is kept if editedCalorie cannot be added.
+     *
+     * This manager itself is changed; no copy is made. Callers that must leave the original unchanged, such as
+     * {@code ChangeCommand}, edit a copy of it.
      * @param isOut is the calorie type Output?
      * @param index of the calorie to be retrieved
      * @param editedCalorie the calorie to be edited
      */
     public CalorieManager setCalorie(Index index, Boolean isOut, Calorie editedCalorie) throws IllegalValueException {
         requireAllNonNull(index, isOut, editedCalorie);
-        if (isOut) {
-            calorieOutputList.remove(index.getZeroBased());
-            addCalorieOutput((Output) editedCalorie);
-        } else {
-            calorieInputList.remove(index.getZeroBased());
-            addCalorieInput((Input) editedCalorie);
+        Calorie replaced = getCalorie(isOut, index);
+        removeCalorie(isOut, index);
+        try {
+            if (isOut) {
+                addCalorieOutput((Output) editedCalorie);
+            } else {
+                addCalorieInput((Input) editedCalorie);
+            }
+        } catch (IllegalValueException e) {
+            if (isOut) {
+                addCalorieOutput((Output) replaced);
+            } else {
+                addCalorieInput((Input) replaced);
+            }
+            throw e;
         }
-        return new CalorieManager(getCalorieInputList(), getCalorieOutputList());
+        return this;
     }
 
     /**
@@ -268,10 +399,11 @@ public class CalorieManager {
             return false;
         }
 
+        int minute = toCheck.getTime().getMinuteOfDay();
         if (isOut) {
-            return calorieOutputList.stream().anyMatch(((Output) toCheck)::equals);
+            return outputColumns.indexOfMinute(minute) >= 0;
         } else {
-            return calorieInputList.stream().anyMatch(((Input) toCheck)::equals);
+            return inputColumns.indexOfMinute(minute) >= 0;
         }
     }
 
@@ -290,9 +422,43 @@ public class CalorieManager {
         }
 
         CalorieManager otherCalorieManager = (CalorieManager) other;
-        return otherCalorieManager.getCalorieInputList().equals(getCalorieInputList())
-                && otherCalorieManager.getCalorieOutputList().equals(getCalorieOutputList());
+        return otherCalorieManager.inputColumns.hasSameMinutes(inputColumns)
+                && otherCalorieManager.outputColumns.hasSameMinutes(outputColumns);
     }
 
-}
+    @Override
+    public int hashCode() {
+        return 31 * inputColumns.hashMinutes() + outputColumns.hashMinutes();
+    }
 
+    private Input createInput(int index) {
+        return createInput(inputColumns.getMinute(index), inputColumns.getName(index),
+                inputColumns.getCalorieCount(index));
+    }
+
+    private Output createOutput(int index) {
+        return createOutput(outputColumns.getMinute(index), outputColumns.getName(index),
+                outputColumns.getCalorieCount(index));
+    }
+
+    static Input createInput(int minuteOfDay, String food, int calorieCount) {
+        return new Input(toTime(minuteOfDay), new Food(food),
+                new CalorieCount(Integer.toString(calorieCount)));
+    }
+
+    static Output createOutput(int minuteOfDay, String exercise, int calorieCount) {
+        return new Output(toTime(minuteOfDay), new Exercise(exercise),
+                new CalorieCount(Integer.toString(calorieCount)));
+    }
+
+    private static Time toTime(int minuteOfDay) {
+        return new Time(Time.fromMinuteOfDay(minuteOfDay));
+    }
+
+    /**
+     * Receives the changes to the totals of a {@code CalorieManager}.
+     */
+    public interface TotalsListener {
+        void totalsChanged(int inputDelta, int outputDelta);
+    }
+}
@@ -0,0 +1,75 @@
+package seedu.address.model.calorie;
+
+/**
+ * Represents the calorie totals of the days recorded within a range of dates.
+ * Guarantees: immutable.
+ */
+public class CalorieSummary {
+
+    private final long totalInput;
+    private final long totalOutput;
+    private final int dayCount;
+
+    /**
+     * Constructs a {@code CalorieSummary} of {@code dayCount} days.
+     */
+    public CalorieSummary(long totalInput, long totalOutput, int dayCount) {
+        this.totalInput = totalInput;
+        this.totalOutput = totalOutput;
+        this.dayCount = dayCount;
+    }
+
+    public long getTotalInput() {
+        return totalInput;
+    }
+
+    public long getTotalOutput() {
+        return totalOutput;
+    }
+
+    /**
+     * Returns the calories taken in beyond those expended.
+     */
+    public long getSurplus() {
+        return totalInput - totalOutput;
+    }
+
+    public int getDayCount() {
+        return dayCount;
+    }
+
+    public double getAverageInput() {
+        return average(totalInput);
+    }
+
+    public double getAverageOutput() {
+        return average(totalOutput);
+    }
+
+    public double getAverageSurplus() {
+        return average(getSurplus());
+    }
+
+    private double average(long total) {
+        return dayCount == 0 ? 0 : (double) total / dayCount;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof CalorieSummary // instanceof handles nulls
+                && totalInput == ((CalorieSummary) other).totalInput
+                && totalOutput == ((CalorieSummary) other).totalOutput
+                && dayCount == ((CalorieSummary) other).dayCount); // state check
+    }
+
+    @Override
+    public int hashCode() {
+        return Long.hashCode(totalInput) * 31 * 31 + Long.hashCode(totalOutput) * 31 + dayCount;
+    }
+
+    @Override
+    public String toString() {
+        return "Days: " + dayCount + " Calories In: " + totalInput + " Calories Out: " + totalOutput;
+    }
+}
@@ -40,8 +40,8 @@ public class Input extends Calorie {
      */
     public boolean isSameInput(Input otherInput) {
         return otherInput.getFood().food.equals(this.food.toString())
-               && otherInput.getTime().time.equals(this.time.toString())
-               && otherInput.getCalorieCount().calorieCount.equals(this.calorieCount.toString());
+               && otherInput.getTime().equals(this.time)
+               && otherInput.getCalorieCount().equals(this.calorieCount);
     }
 
 }
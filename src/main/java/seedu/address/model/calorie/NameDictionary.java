@@ -0,0 +1,78 @@
+package seedu.address.model.calorie;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Gives each distinct food or exercise name of one list of calorie entries an int id, so that the list stores each
+ * name once and its entries refer to the name by id.
+ *
+ * Ids start at 0 and follow the order in which names are first given. Names are never removed, so an id stays valid
+ * for as long as the dictionary. A dictionary belongs to one list and is used by one thread at a time.
+ */
+final class NameDictionary {
+
+    private String[] names;
+    private int size;
+    private Map<String, Integer> ids;
+
+    /**
+     * Creates an empty dictionary.
+     */
+    NameDictionary() {
+        this(new String[0]);
+    }
+
+    /**
+     * Creates a dictionary in which the name at each position of {@code names} has that position as its id.
+     * {@code names} is used as it is and must not be changed afterwards.
+     */
+    NameDictionary(String[] names) {
+        this.names = requireNonNull(names);
+        this.size = names.length;
+    }
+
+    int size() {
+        return size;
+    }
+
+    String nameOf(int id) {
+        Objects.checkIndex(id, size);
+        return names[id];
+    }
+
+    /**
+     * Returns the id of {@code name}, giving it the next id if it is new.
+     */
+    int idOf(String name) {
+        requireNonNull(name);
+        if (ids == null) {
+            // only built once a name is looked up, so that dictionaries that are only read from do not hold a map
+            ids = new HashMap<>();
+            for (int id = 0; id < size; id++) {
+                ids.putIfAbsent(names[id], id);
+            }
+        }
+        Integer id = ids.get(name);
+        if (id != null) {
+            return id;
+        }
+        if (size == names.length) {
+            names = Arrays.copyOf(names, Math.max(size * 2, 4));
+        }
+        names[size] = name;
+        ids.put(name, size);
+        return size++;
+    }
+
+    /**
+     * Returns the names in the order of their ids.
+     */
+    String[] toArray() {
+        return Arrays.copyOf(names, size);
+    }
+}
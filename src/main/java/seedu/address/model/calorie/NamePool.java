@@ -0,0 +1,27 @@
+package seedu.address.model.calorie;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Shares one instance between equal food and exercise names, so that a name repeated across many entries is stored
+ * once.
+ *
+ * A pool is meant to last for one read of data and be used by one thread at a time. It is dropped with the reader, and
+ * the names it handed out are kept only as long as the entries holding them.
+ */
+public final class NamePool {
+
+    private final Map<String, String> names = new HashMap<>();
+
+    /**
+     * Returns the instance of {@code name} this pool was first given.
+     */
+    public String share(String name) {
+        requireNonNull(name);
+        String shared = names.putIfAbsent(name, name);
+        return shared == null ? name : shared;
+    }
+}
@@ -40,7 +40,7 @@ public class Output extends Calorie {
      */
     public boolean isSameOutput(Output otherOutput) {
         return otherOutput.getExercise().exercise.equals(this.exercise.toString())
-                && otherOutput.getTime().time.equals(this.time.toString())
-                && otherOutput.getCalorieCount().calorieCount.equals(this.calorieCount.toString());
+                && otherOutput.getTime().equals(this.time)
+                && otherOutput.getCalorieCount().equals(this.calorieCount);
     }
 }
@@ -14,6 +14,8 @@ public class Time {
 
     public final String time;
 
+    private final short minuteOfDay;
+
     /**
      * Constructs a {@code Time}.
      *
@@ -23,26 +25,67 @@ public class Time {
         requireNonNull(time);
         checkArgument(isValidTime(time), MESSAGE_CONSTRAINTS);
         this.time = time;
+        this.minuteOfDay = (short) toMinuteOfDay(time);
+    }
+
+    /**
+     * Returns the number of minutes since midnight of a valid time {@code time}, without constructing a {@code Time}.
+     */
+    public static int toMinuteOfDay(String time) {
+        assert isValidTime(time);
+        return digitsAt(time, 0) * 60 + digitsAt(time, 2);
+    }
+
+    /**
+     * Returns the HHMM form of {@code minuteOfDay} minutes since midnight, without constructing a {@code Time}.
+     */
+    public static String fromMinuteOfDay(int minuteOfDay) {
+        assert minuteOfDay >= 0 && minuteOfDay < 24 * 60;
+        int hour = minuteOfDay / 60;
+        int minute = minuteOfDay % 60;
+        char[] digits = new char[4];
+        digits[0] = (char) ('0' + hour / 10);
+        digits[1] = (char) ('0' + hour % 10);
+        digits[2] = (char) ('0' + minute / 10);
+        digits[3] = (char) ('0' + minute % 10);
+        return new String(digits);
     }
 
     /**
      * Returns if a given string is a valid Time.
      */
     public static boolean isValidTime(String test) {
-        if (test.matches(VALIDATION_REGEX)) {
-            int hour = Integer.parseInt(test.substring(0, 2));
-            int min = Integer.parseInt(test.substring(2, 4));
-            return hour <= 23 && min <= 59;
-        } else {
+        // hand-written equivalent of VALIDATION_REGEX
+        if (test.length() != 4) {
             return false;
         }
+        for (int i = 0; i < 4; i++) {
+            if (test.charAt(i) < '0' || test.charAt(i) > '9') {
+                return false;
+            }
+        }
+        return digitsAt(test, 0) <= 23 && digitsAt(test, 2) <= 59;
+    }
+
+    /**
+     * Returns the two-digit number starting at {@code index} of {@code digits}.
+     */
+    private static int digitsAt(String digits, int index) {
+        return (digits.charAt(index) - '0') * 10 + (digits.charAt(index + 1) - '0');
+    }
+
+    /**
+     * Returns the number of minutes since midnight.
+     */
+    public int getMinuteOfDay() {
+        return minuteOfDay;
     }
 
     /**
      * Returns true if the current time is after the input time
      */
     public boolean isAfter(Time inputTime) {
-        return Integer.parseInt(this.time) >= Integer.parseInt(inputTime.toString());
+        return this.minuteOfDay >= inputTime.minuteOfDay;
     }
 
     @Override
@@ -65,6 +108,11 @@ public class Time {
         }
 
         Time otherTime = (Time) other;
-        return otherTime.time.equals(this.time);
+        return otherTime.minuteOfDay == this.minuteOfDay;
+    }
+
+    @Override
+    public int hashCode() {
+        return Short.hashCode(minuteOfDay);
     }
 }
@@ -0,0 +1,81 @@
+package seedu.address.model.day;
+
+import java.util.List;
+
+/**
+ * Fenwick trees of the calorie input and output of a list of days, indexed by position in the list.
+ * Point updates and prefix sums take O(log n). Room is left after the last day so that days appended to the list can
+ * usually be added in place; any other change to the positions of the days needs a {@link #rebuild(List)}.
+ */
+final class CalorieTotalsIndex {
+
+    private static final int MIN_CAPACITY = 16;
+
+    private long[] inputTree = new long[MIN_CAPACITY + 1];
+    private long[] outputTree = new long[MIN_CAPACITY + 1];
+
+    /**
+     * Returns true if {@code position} can be updated without a rebuild.
+     */
+    boolean covers(int position) {
+        return position < inputTree.length - 1;
+    }
+
+    /**
+     * Adds the given deltas to the entry at {@code position}, which must be covered.
+     */
+    void add(int position, long inputDelta, long outputDelta) {
+        assert covers(position);
+        for (int i = position + 1; i < inputTree.length; i += i & -i) {
+            inputTree[i] += inputDelta;
+            outputTree[i] += outputDelta;
+        }
+    }
+
+    /**
+     * Rebuilds the trees from the current totals of {@code days} in O(n).
+     */
+    void rebuild(List<Day> days) {
+        int capacity = MIN_CAPACITY;
+        while (capacity < days.size() * 2) {
+            capacity *= 2;
+        }
+        inputTree = new long[capacity + 1];
+        outputTree = new long[capacity + 1];
+
+        for (int position = 0; position < days.size(); position++) {
+            Day day = days.get(position);
+            inputTree[position + 1] = day.getTotalInputCalorie();
+            outputTree[position + 1] = day.getTotalOutputCalorie();
+        }
+        for (int i = 1; i <= capacity; i++) {
+            int parent = i + (i & -i);
+            if (parent <= capacity) {
+                inputTree[parent] += inputTree[i];
+                outputTree[parent] += outputTree[i];
+            }
+        }
+    }
+
+    /**
+     * Returns the total calorie input of the days in positions {@code from} (inclusive) to {@code to} (exclusive).
+     */
+    long sumInput(int from, int to) {
+        return prefixSum(inputTree, to) - prefixSum(inputTree, from);
+    }
+
+    /**
+     * Returns the total calorie output of the days in positions {@code from} (inclusive) to {@code to} (exclusive).
+     */
+    long sumOutput(int from, int to) {
+        return prefixSum(outputTree, to) - prefixSum(outputTree, from);
+    }
+
+    private static long prefixSum(long[] tree, int position) {
+        long sum = 0;
+        for (int i = position; i > 0; i -= i & -i) {
+            sum += tree[i];
+        }
+        return sum;
+    }
+}
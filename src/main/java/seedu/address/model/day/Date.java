@@ -22,6 +22,8 @@ public class Date {
 
     private final LocalDate date;
 
+    private final long epochDay;
+
     /**
      * Constructs a {@code Date}.
      *
@@ -30,9 +32,15 @@ public class Date {
     public Date(String date) {
         requireNonNull(date);
         checkArgument(isCorrectRegrex(date), MESSAGE_CONSTRAINTS);
-        checkArgument(isValidDate(date), getErrorMessage(date));
+        LocalDate parsedDate;
+        try {
+            parsedDate = LocalDate.parse(date);
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException(e.getMessage());
+        }
         this.value = date;
-        this.date = LocalDate.parse(date);
+        this.date = parsedDate;
+        this.epochDay = parsedDate.toEpochDay();
     }
 
     /**
@@ -40,7 +48,18 @@ public class Date {
      * @param test to be checked
      */
     public static boolean isCorrectRegrex(String test) {
-        return test.matches(VALIDATION_REGEX);
+        // hand-written equivalent of VALIDATION_REGEX
+        if (test.length() != 10) {
+            return false;
+        }
+        for (int i = 0; i < 10; i++) {
+            char c = test.charAt(i);
+            boolean isValidChar = (i == 4 || i == 7) ? c == '-' : c >= '0' && c <= '9';
+            if (!isValidChar) {
+                return false;
+            }
+        }
+        return true;
     }
 
     /**
@@ -54,27 +73,19 @@ public class Date {
             return false;
         }
     }
+
     /**
-     * Returns error message
-     * @param date
+     * Returns true if a date is after the other date
      */
-    private String getErrorMessage(String date) {
-        String result = "";
-        try {
-            LocalDate.parse(date);
-        } catch (DateTimeParseException e) {
-            result = e.getMessage();
-        }
-        return result;
+    public boolean dateAfter(Date otherDate) {
+        return this.epochDay > otherDate.epochDay;
     }
 
-
-
     /**
-     * Returns true if a date is after the other date
+     * Returns the number of days since 1970-01-01.
      */
-    public boolean dateAfter(Date otherDate) {
-        return this.get().isAfter(otherDate.get());
+    public long toEpochDay() {
+        return epochDay;
     }
 
     @Override
@@ -93,12 +104,12 @@ public class Date {
     public boolean equals(Object other) {
         return other == this // short circuit if same object
                 || (other instanceof Date) // instanceof handles nulls
-                && date.equals(((Date) other).get()); // state check
+                && epochDay == ((Date) other).epochDay; // state check
     }
 
     @Override
     public int hashCode() {
-        return date.hashCode();
+        return Long.hashCode(epochDay);
     }
 
 }
@@ -1,47 +1,80 @@
 package seedu.address.model.day;
 
+import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Objects;
 
 import seedu.address.model.calculator.Bmi;
 import seedu.address.model.calculator.CalorieBudget;
+import seedu.address.model.calorie.CalorieEntries;
 import seedu.address.model.calorie.CalorieManager;
+import seedu.address.model.calorie.CalorieManager.TotalsListener;
 import seedu.address.model.person.Height;
 
 /**
  * Represents a Day in the Person in MyFitnessBuddy.
- * Guarantees: details are present and not null, field values are validated, immutable.
+ * Guarantees: details are present and not null, field values are validated. The date and weight are immutable;
+ * the calorie entries, age, height and starting weight can change.
+ *
+ * The basal metabolic rate, balance and progress are computed on first use and kept until the height, age, starting
+ * weight or calorie totals they depend on change. Each such change increments {@link #getVersion()}. Registered
+ * {@link TotalsListener}s are told of every change to the calorie totals. A day is meant to be held by one day list
+ * at a time, as each list listens to the totals of its days.
+ *
+ * A day read from storage keeps its calorie entries as {@code CalorieEntries} until its {@code CalorieManager} is first
+ * used. The calorie totals, and everything computed from them, are answered without building the manager.
  */
 public class Day {
 
     // Identity fields
     private final Date date;
     private final Weight weight;
-    private final CalorieManager calorieManager;
+    private CalorieManager calorieManager;
+    // the entries of the calorie manager until it is built
+    private CalorieEntries calorieEntries;
+    private List<TotalsListener> totalsListeners;
+    // registered with the calorie manager, and removed again when this day stops using it
+    private final TotalsListener calorieTotalsListener = this::caloriesChanged;
     private int age = 0;
     private Height height = null;
     private Weight startingWeight = null;
+    private long version;
+    private boolean basalMetabolicStale = true;
+    private int cachedBasalMetabolic;
+    private boolean balanceStale = true;
+    private int cachedBalance;
+    private boolean progressStale = true;
+    private double cachedProgress;
     private int surplus = getBalance();
 
     /**
      * Class constructor
      */
     public Day(Date date, Weight weight) {
-        requireAllNonNull(date, weight);
-        this.date = date;
-        this.weight = weight;
-        this.calorieManager = new CalorieManager();
+        this(date, weight, new CalorieManager());
     }
 
     /**
-     * Class constructor
+     * Constructs a day that takes over {@code calorieManager}, which must not be used by any other day.
      */
     public Day(Date date, Weight weight, CalorieManager calorieManager) {
         requireAllNonNull(date, weight, calorieManager);
         this.date = date;
         this.weight = weight;
-        this.calorieManager = calorieManager;
+        useCalorieManager(calorieManager);
+    }
+
+    /**
+     * Constructs a day whose {@code CalorieManager} is built from {@code calorieEntries} when it is first used.
+     */
+    public Day(Date date, Weight weight, CalorieEntries calorieEntries) {
+        requireAllNonNull(date, weight, calorieEntries);
+        this.date = date;
+        this.weight = weight;
+        this.calorieEntries = calorieEntries;
     }
 
     public Date getDate() {
@@ -52,10 +85,90 @@ public class Day {
         return weight;
     }
 
+    /**
+     * Returns the calorie manager of this day, building it from the entries this day was read with on first use.
+     */
     public CalorieManager getCalorieManager() {
+        if (calorieManager == null) {
+            useCalorieManager(new CalorieManager(calorieEntries));
+            calorieEntries = null;
+        }
         return calorieManager;
     }
 
+    private void useCalorieManager(CalorieManager calorieManager) {
+        if (this.calorieManager != null) {
+            this.calorieManager.removeTotalsListener(calorieTotalsListener);
+        }
+        this.calorieManager = calorieManager;
+        calorieManager.addTotalsListener(calorieTotalsListener);
+    }
+
+    /**
+     * Returns true if the calorie manager of this day has been built.
+     */
+    public boolean isCalorieManagerLoaded() {
+        return calorieManager != null;
+    }
+
+    /**
+     * Returns a compact copy of the calorie entries of this day, without building its calorie manager.
+     */
+    public CalorieEntries getCalorieEntries() {
+        return calorieManager == null ? calorieEntries : calorieManager.toEntries();
+    }
+
+    /**
+     * Returns a new day with the same date, weight and calorie entries, whose calorie manager is built on first use.
+     * The age, height and starting weight are left to be set by the person the copy is added to.
+     */
+    public Day copy() {
+        return new Day(date, weight, getCalorieEntries());
+    }
+
+    /**
+     * Returns a copy as in {@link #copy()} that also has the age, height and starting weight of this day, for a second
+     * list to hold in place of this day.
+     */
+    public Day copyWithDetails() {
+        Day copy = copy();
+        copy.setAge(age);
+        copy.setHeight(height);
+        copy.setStartingWeight(startingWeight);
+        return copy;
+    }
+
+    public int getTotalInputCalorie() {
+        return calorieManager == null ? calorieEntries.getTotalInputCalorie() : calorieManager.getTotalInputCalorie();
+    }
+
+    public int getTotalOutputCalorie() {
+        return calorieManager == null
+                ? calorieEntries.getTotalOutputCalorie()
+                : calorieManager.getTotalOutputCalorie();
+    }
+
+    /**
+     * Registers {@code listener} to be told of changes to the calorie totals of this day.
+     */
+    public void addTotalsListener(TotalsListener listener) {
+        requireNonNull(listener);
+        if (totalsListeners == null) {
+            totalsListeners = new ArrayList<>(1);
+        }
+        totalsListeners.add(listener);
+    }
+
+    /**
+     * Stops telling {@code listener} of changes to the calorie totals of this day.
+     */
+    public void removeTotalsListener(TotalsListener listener) {
+        requireNonNull(listener);
+        if (totalsListeners != null) {
+            totalsListeners.remove(listener);
+        }
+    }
+
     public Height getHeight() {
         return height;
     }
@@ -68,6 +181,14 @@ public class Day {
         return age;
     }
 
+    /**
+     * Returns a counter that is incremented whenever a value that the balance or progress depends on changes.
+     * Values read from this day while the counter is unchanged are still current.
+     */
+    public long getVersion() {
+        return version;
+    }
+
     /**
      * Returns true if both days are of the same date and not the weight and tag field.
      */
@@ -87,17 +208,55 @@ public class Day {
         return this.getDate().dateAfter(otherDay.getDate());
     }
 
+    /**
+     * Sets the age used for the basal metabolic rate.
+     */
     public void setAge(int age) {
+        if (this.age == age) {
+            return;
+        }
         this.age = age;
+        basalMetabolicStale = true;
+        balanceStale = true;
+        version++;
     }
 
+    /**
+     * Sets the starting weight that progress is measured from.
+     */
     public void setStartingWeight(Weight weight) {
+        if (Objects.equals(this.startingWeight, weight)) {
+            return;
+        }
         this.startingWeight = weight;
+        progressStale = true;
+        version++;
     }
 
+    /**
+     * Sets the height used for the basal metabolic rate and progress.
+     */
     public void setHeight(Height height) {
+        if (Objects.equals(this.height, height)) {
+            return;
+        }
         this.height = height;
+        basalMetabolicStale = true;
+        balanceStale = true;
+        progressStale = true;
+        version++;
     }
+
+    private void caloriesChanged(int inputDelta, int outputDelta) {
+        balanceStale = true;
+        version++;
+        if (totalsListeners != null) {
+            for (TotalsListener listener : totalsListeners) {
+                listener.totalsChanged(inputDelta, outputDelta);
+            }
+        }
+    }
+
     /**
      * Returns true if both days have the same date and data fields.
      * This defines a stronger notion of equality between two days.
@@ -137,12 +296,18 @@ public class Day {
     public int getBalance() {
         if (height == null || weight == null) {
             return -1;
-        } else {
-            int bmr = CalorieBudget.calculateBasalMetabolic(height, weight, age);
-            int calorieIn = calorieManager.getTotalInputCalorie();
-            int calorieOut = getCalorieManager().getTotalOutputCalorie();
-            return CalorieBudget.calculateCalorieSurplus(calorieIn, calorieOut, bmr);
         }
+        if (balanceStale) {
+            if (basalMetabolicStale) {
+                cachedBasalMetabolic = CalorieBudget.calculateBasalMetabolic(height, weight, age);
+                basalMetabolicStale = false;
+            }
+            int calorieIn = getTotalInputCalorie();
+            int calorieOut = getTotalOutputCalorie();
+            cachedBalance = CalorieBudget.calculateCalorieSurplus(calorieIn, calorieOut, cachedBasalMetabolic);
+            balanceStale = false;
+        }
+        return cachedBalance;
     }
 
     /**
@@ -156,6 +321,14 @@ public class Day {
      * returns the progress of the person towards the idea bmi
      */
     public double getProgress() {
+        if (progressStale) {
+            cachedProgress = calculateProgress();
+            progressStale = false;
+        }
+        return cachedProgress;
+    }
+
+    private double calculateProgress() {
         double currentBmi = Bmi.calculateBmi(height, weight);
         double startBmi = Bmi.calculateBmi(height, startingWeight);
         if (startBmi < 22.5) {
@@ -4,24 +4,35 @@ import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
+import seedu.address.model.calorie.CalorieManager.TotalsListener;
+import seedu.address.model.calorie.CalorieSummary;
 import seedu.address.model.day.exceptions.DayNotFoundException;
 import seedu.address.model.day.exceptions.DuplicateDayException;
 
 
 /**
  * A list of days that enforces uniqueness between its elements and does not allow nulls.
- * A day is considered unique by comparing using {@code Day#isSameDay(Day)}. As such, adding and updating of
- * days uses Day#isSameDay(Day) for equality so as to ensure that the day being added or updated is
- * unique in terms of identity in the UniqueDayList. However, the removal of a day uses Day#equals(Object) so
- * as to ensure that the day with exactly the same fields will be removed.
+ * A day is considered unique by comparing using {@code Day#isSameDay(Day)}, that is, by its date. Adding, updating
+ * and removing days all match days by date, so removing a day removes the day of the same date in the list, whatever
+ * its other fields.
  *
  * Supports a minimal set of list operations.
  *
+ * The days are kept in ascending order of date. Alongside the observable list, a {@code Map} keyed by the epoch day
+ * of each date indexes the days so that lookups by date do not need to scan the list. The position of a date within
+ * the list, which range lookups need, is found by binary search. A {@code CalorieTotalsIndex} over the list follows
+ * the calorie totals of every day through a listener on its {@code CalorieManager}, so that the totals over a range of
+ * dates are found in O(log n).
+ *
  * @see Day#isSameDay(Day)
  */
 public class UniqueDayList implements Iterable<Day> {
@@ -29,13 +40,16 @@ public class UniqueDayList implements Iterable<Day> {
     private final ObservableList<Day> internalList = FXCollections.observableArrayList();
     private final ObservableList<Day> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
+    private final Map<Long, Day> dayIndex = new HashMap<>();
+    private final Map<Long, TotalsListener> totalsListeners = new HashMap<>();
+    private final CalorieTotalsIndex calorieTotals = new CalorieTotalsIndex();
 
     /**
      * Returns true if the list contains an equivalent day as the given argument.
      */
     public boolean contains(Day toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSameDay);
+        return dayIndex.containsKey(toKey(toCheck));
     }
 
     /**
@@ -44,30 +58,33 @@ public class UniqueDayList implements Iterable<Day> {
     public boolean contains(LocalDate toCheck) {
         assert toCheck != null : "toCheckDate cannot be null";
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(x->x.getDate().get().equals(toCheck));
+        return dayIndex.containsKey(toCheck.toEpochDay());
     }
 
     /**
      * Adds a day to the list.
      * The day must not already exist in the list.
      * Adds it according to the order of dates.
+     *
+     * A day after every other day is added to the calorie totals in O(log n). A day added anywhere else moves every
+     * later day one position back, and as the totals are indexed by position they are rebuilt in O(n). Days are
+     * nearly always added for today, so the rebuild is the rare case.
      */
     public void add(Day toAdd) {
         requireNonNull(toAdd);
-        if (contains(toAdd)) {
+        long key = toKey(toAdd);
+        if (dayIndex.containsKey(key)) {
             throw new DuplicateDayException();
+        }
+        int insertionPoint = -(indexOf(key) + 1);
+        internalList.add(insertionPoint, toAdd);
+        dayIndex.put(key, toAdd);
+        track(key, toAdd);
+        if (insertionPoint == internalList.size() - 1 && calorieTotals.covers(insertionPoint)) {
+            calorieTotals.add(insertionPoint, toAdd.getTotalInputCalorie(),
+                    toAdd.getTotalOutputCalorie());
         } else {
-            boolean isAdded = false;
-            for (int index = internalList.size() - 1; index >= 0; index -= 1) {
-                if (toAdd.isAfter(internalList.get(index))) {
-                    internalList.add(index + 1, toAdd);
-                    isAdded = true;
-                    break;
-                }
-            }
-            if (isAdded == false) {
-                internalList.add(0, toAdd);
-            }
+            calorieTotals.rebuild(internalList);
         }
     }
 
@@ -79,51 +96,121 @@ public class UniqueDayList implements Iterable<Day> {
     public void setDay(Day target, Day editedDay) {
         requireAllNonNull(target, editedDay);
 
-        int index = internalList.indexOf(target);
-        if (index == -1) {
+        long targetKey = toKey(target);
+        int index = indexOf(targetKey);
+        if (index < 0) {
             throw new DayNotFoundException();
         }
         if (!target.isSameDay(editedDay) && contains(editedDay)) {
             throw new DuplicateDayException();
         }
 
-        internalList.remove(target);
-        this.add(editedDay);
-
+        if (target.isSameDay(editedDay)) {
+            Day replaced = dayIndex.get(targetKey);
+            untrack(targetKey);
+            internalList.set(index, editedDay);
+            dayIndex.put(targetKey, editedDay);
+            track(targetKey, editedDay);
+            calorieTotals.add(index,
+                    (long) editedDay.getTotalInputCalorie()
+                            - replaced.getTotalInputCalorie(),
+                    (long) editedDay.getTotalOutputCalorie()
+                            - replaced.getTotalOutputCalorie());
+        } else {
+            remove(target);
+            this.add(editedDay);
+        }
     }
 
     /**
      * Removes the equivalent day from the list.
      * The day must exist in the list.
+     *
+     * As in {@link #add(Day)}, only the removal of the last day updates the calorie totals in place; removing any
+     * other day moves the later days forward, and the totals are rebuilt.
      */
     public void remove(Day toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        long key = toKey(toRemove);
+        int index = indexOf(key);
+        if (index < 0) {
             throw new DayNotFoundException();
         }
+        untrack(key);
+        internalList.remove(index);
+        Day removed = dayIndex.remove(key);
+        if (index == internalList.size()) {
+            calorieTotals.add(index, -removed.getTotalInputCalorie(),
+                    -removed.getTotalOutputCalorie());
+        } else {
+            calorieTotals.rebuild(internalList);
+        }
     }
 
+    /**
+     * Returns the day with the given {@code date}.
+     * A day with that date must exist in the list.
+     */
     public Day getDate(LocalDate date) {
         assert date != null : "getDate cannot be null";
         requireNonNull(date);
-        return internalList.stream().filter(x->x.getDate().get().equals(date)).reduce((x, y)->x).get();
+        Day day = dayIndex.get(date.toEpochDay());
+        if (day == null) {
+            throw new DayNotFoundException();
+        }
+        return day;
     }
 
+    /**
+     * Replaces the contents of this list with copies of the days of {@code replacement}, which is already in order.
+     * The days are copied rather than shared, as each list follows the calorie totals of the days it holds.
+     */
     public void setDays(UniqueDayList replacement) {
         requireNonNull(replacement);
-        internalList.setAll(replacement.internalList);
+        List<Day> copies = new ArrayList<>(replacement.internalList.size());
+        for (Day day : replacement.internalList) {
+            copies.add(day.copyWithDetails());
+        }
+        untrackAll();
+        internalList.setAll(copies);
+        dayIndex.clear();
+        for (Day day : copies) {
+            dayIndex.put(toKey(day), day);
+        }
+        trackAll();
     }
 
     /**
-     * Replaces the contents of this list with {@code days}.
-     * {@code days} must not contain duplicate days.
+     * Replaces the contents of this list with {@code days} in a single change.
+     * {@code days} must not contain duplicate days. They are sorted by date only if not already in order.
      */
     public void setDays(List<Day> days) {
         requireAllNonNull(days);
-        if (!daysAreUnique(days)) {
-            throw new DuplicateDayException();
+        List<Day> orderedDays = days;
+        if (!daysAreStrictlyOrdered(days)) {
+            orderedDays = new ArrayList<>(days);
+            orderedDays.sort(Comparator.comparingLong(UniqueDayList::toKey));
+            if (!daysAreStrictlyOrdered(orderedDays)) {
+                throw new DuplicateDayException();
+            }
+        }
+        untrackAll();
+        internalList.setAll(orderedDays);
+        dayIndex.clear();
+        for (Day day : orderedDays) {
+            dayIndex.put(toKey(day), day);
         }
-        internalList.setAll(days);
+        trackAll();
+    }
+
+    /**
+     * Returns the calorie totals of the days from {@code startDate} to {@code endDate}, both inclusive.
+     */
+    public CalorieSummary getCalorieSummary(LocalDate startDate, LocalDate endDate) {
+        requireAllNonNull(startDate, endDate);
+        int from = firstIndexFrom(startDate.toEpochDay());
+        int to = endDate.isBefore(startDate) ? from : firstIndexFrom(endDate.toEpochDay() + 1);
+        return new CalorieSummary(calorieTotals.sumInput(from, to), calorieTotals.sumOutput(from, to), to - from);
     }
 
     /**
@@ -151,17 +238,80 @@ public class UniqueDayList implements Iterable<Day> {
     }
 
     /**
-     * Returns true if {@code days} contains only unique days.
+     * Follows changes to the calorie totals of {@code day}, which is stored under {@code key}.
      */
-    private boolean daysAreUnique(List<Day> days) {
-        for (int i = 0; i < days.size() - 1; i++) {
-            for (int j = i + 1; j < days.size(); j++) {
-                if (days.get(i).isSameDay(days.get(j))) {
-                    return false;
-                }
+    private void track(long key, Day day) {
+        TotalsListener listener = (inputDelta, outputDelta) ->
+                calorieTotals.add(indexOf(key), inputDelta, outputDelta);
+        day.addTotalsListener(listener);
+        totalsListeners.put(key, listener);
+    }
+
+    /**
+     * Stops following the calorie totals of the day stored under {@code key}.
+     */
+    private void untrack(long key) {
+        dayIndex.get(key).removeTotalsListener(totalsListeners.remove(key));
+    }
+
+    private void trackAll() {
+        for (Map.Entry<Long, Day> entry : dayIndex.entrySet()) {
+            track(entry.getKey(), entry.getValue());
+        }
+        calorieTotals.rebuild(internalList);
+    }
+
+    private void untrackAll() {
+        for (Long key : dayIndex.keySet()) {
+            untrack(key);
+        }
+    }
+
+    /**
+     * Returns the position of the first day on or after the epoch day {@code key}.
+     */
+    private int firstIndexFrom(long key) {
+        int index = indexOf(key);
+        return index >= 0 ? index : -(index + 1);
+    }
+
+    /**
+     * Returns the key under which {@code day} is indexed.
+     */
+    private static long toKey(Day day) {
+        return day.getDate().toEpochDay();
+    }
+
+    /**
+     * Returns the position of the day with the given epoch day {@code key} in the internal list, or
+     * {@code -(insertion point) - 1} if there is no such day, following {@link java.util.Collections#binarySearch}.
+     */
+    private int indexOf(long key) {
+        int low = 0;
+        int high = internalList.size() - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            long midKey = toKey(internalList.get(mid));
+            if (midKey < key) {
+                low = mid + 1;
+            } else if (midKey > key) {
+                high = mid - 1;
+            } else {
+                return mid;
+            }
+        }
+        return -(low + 1);
+    }
+
+    /**
+     * Returns true if the dates of {@code days} are strictly increasing, which also means they are unique.
+     */
+    private static boolean daysAreStrictlyOrdered(List<Day> days) {
+        for (int i = 1; i < days.size(); i++) {
+            if (toKey(days.get(i - 1)) >= toKey(days.get(i))) {
+                return false;
             }
         }
         return true;
     }
 }
-
@@ -17,8 +17,13 @@ public class Weight {
     public static final String MESSAGE_TOO_HEAVY =
             "are you the world's heaviest person?";
     public static final String VALIDATION_REGEX = "^[0-9]+(\\.[0-9]{1,2})?$";
+    private static final long DEFAULT_HUNDREDTHS = -1;
+
     public final String value;
 
+    // weight in hundredths of a kilogram, or DEFAULT_HUNDREDTHS for the default profile
+    private final long hundredths;
+
     /**
      * Constructs a {@code Weight}.
      *
@@ -28,6 +33,7 @@ public class Weight {
         requireNonNull(weight);
         checkArgument(isValidWeight(weight), MESSAGE_CONSTRAINTS);
         value = weight;
+        hundredths = toHundredths(weight);
     }
 
     /**
@@ -36,14 +42,56 @@ public class Weight {
      */
     public Weight() {
         value = "DEFAULT";
+        hundredths = DEFAULT_HUNDREDTHS;
     }
 
     /**
      * Returns true if a given string is a valid weight number.
      */
     public static boolean isValidWeight(String test) {
-        return test.matches(VALIDATION_REGEX);
+        return toHundredths(test) >= 0;
+    }
+
+    /**
+     * Returns the weight in kilograms.
+     */
+    public double toKilograms() {
+        return hundredths / 100.0;
     }
+
+    /**
+     * Returns {@code weight} in hundredths of a kilogram, or -1 if it is not a valid weight.
+     * This is a hand-written equivalent of {@code VALIDATION_REGEX} that also rejects values too large to hold.
+     */
+    private static long toHundredths(String weight) {
+        int length = weight.length();
+        int point = weight.indexOf('.');
+        int integerEnd = point < 0 ? length : point;
+        int fractionDigits = point < 0 ? 0 : length - point - 1;
+        if (integerEnd == 0 || (point >= 0 && (fractionDigits < 1 || fractionDigits > 2))) {
+            return -1;
+        }
+        long result = 0;
+        try {
+            for (int i = 0; i < length; i++) {
+                if (i == point) {
+                    continue;
+                }
+                char c = weight.charAt(i);
+                if (c < '0' || c > '9') {
+                    return -1;
+                }
+                result = Math.addExact(Math.multiplyExact(result, 10), c - '0');
+            }
+            for (int i = fractionDigits; i < 2; i++) {
+                result = Math.multiplyExact(result, 10);
+            }
+        } catch (ArithmeticException e) {
+            return -1;
+        }
+        return result;
+    }
+
     @Override
     public String toString() {
         return value;
@@ -53,12 +101,12 @@ public class Weight {
     public boolean equals(Object other) {
         return other == this // short circuit if same object
                 || (other instanceof Weight // instanceof handles nulls
-                && value.equals(((Weight) other).value)); // state check
+                && hundredths == ((Weight) other).hundredths); // state check
     }
 
     @Override
     public int hashCode() {
-        return value.hashCode();
+        return Long.hashCode(hundredths);
     }
 
 }
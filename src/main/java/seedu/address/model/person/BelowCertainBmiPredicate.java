@@ -9,6 +9,10 @@ public class BelowCertainBmiPredicate implements Predicate<Person> {
         this.bmi = bmi;
     }
 
+    public double getBmi() {
+        return bmi;
+    }
+
     @Override
     public boolean test(Person person) {
         return person.getCurrentBmi() > bmi;
@@ -0,0 +1,209 @@
+package seedu.address.model.person;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.OptionalDouble;
+
+/**
+ * Persons ordered by their current BMI, with ties broken by id.
+ * The BMIs are held in a sorted array so that rank and threshold queries are binary searches and selecting the
+ * person at a given rank is O(1); changing the BMI of one person shifts the entries after it. As there are at most a
+ * few hundred valid ids, that shift is a short {@code System.arraycopy}, so a balanced tree would not pay for itself.
+ * Persons whose BMI cannot be computed are kept after all others and never match a threshold query.
+ */
+final class BmiIndex {
+
+    private static final int MIN_CAPACITY = 16;
+
+    private double[] bmis = new double[MIN_CAPACITY];
+    private Person[] persons = new Person[MIN_CAPACITY];
+    private int size;
+    private final Map<ID, Double> indexedBmis = new HashMap<>();
+
+    /**
+     * Adds {@code person} at the position of its current BMI, replacing any entry for the same id.
+     */
+    void put(Person person) {
+        remove(person.getProfile().getId());
+        double bmi = bmiOf(person);
+        int position = -(positionOf(bmi, person.getProfile().getId().getNumber()) + 1);
+        ensureCapacity(size + 1);
+        System.arraycopy(bmis, position, bmis, position + 1, size - position);
+        System.arraycopy(persons, position, persons, position + 1, size - position);
+        bmis[position] = bmi;
+        persons[position] = person;
+        size++;
+        indexedBmis.put(person.getProfile().getId(), bmi);
+    }
+
+    /**
+     * Removes the entry for {@code id}, if any.
+     */
+    void remove(ID id) {
+        Double bmi = indexedBmis.remove(id);
+        if (bmi == null) {
+            return;
+        }
+        int position = positionOf(bmi, id.getNumber());
+        assert position >= 0;
+        System.arraycopy(bmis, position + 1, bmis, position, size - position - 1);
+        System.arraycopy(persons, position + 1, persons, position, size - position - 1);
+        size--;
+        persons[size] = null;
+    }
+
+    /**
+     * Replaces all entries with those of {@code toIndex}, computing each BMI once and sorting in O(n log n).
+     */
+    void rebuild(Iterable<Person> toIndex) {
+        List<Person> sorted = new ArrayList<>();
+        indexedBmis.clear();
+        for (Person person : toIndex) {
+            sorted.add(person);
+            indexedBmis.put(person.getProfile().getId(), bmiOf(person));
+        }
+        sorted.sort(Comparator.<Person>comparingDouble(person -> indexedBmis.get(person.getProfile().getId()))
+                .thenComparingInt(person -> person.getProfile().getId().getNumber()));
+
+        Arrays.fill(persons, 0, size, null);
+        size = 0;
+        ensureCapacity(sorted.size());
+        for (Person person : sorted) {
+            bmis[size] = indexedBmis.get(person.getProfile().getId());
+            persons[size] = person;
+            size++;
+        }
+    }
+
+    /**
+     * Returns the persons with a BMI strictly greater than {@code threshold}, in ascending order of BMI.
+     */
+    List<Person> above(double threshold) {
+        int end = firstUnknown();
+        return Arrays.asList(Arrays.copyOfRange(persons, Math.min(firstAbove(threshold), end), end));
+    }
+
+    /**
+     * Returns the number of persons in each band delimited by the ascending {@code upperBounds}.
+     * Band {@code i} holds BMIs from {@code upperBounds[i - 1]} (inclusive) to {@code upperBounds[i]} (exclusive);
+     * the last band holds the BMIs from the last bound upwards. BMIs that cannot be computed are in no band.
+     */
+    int[] countByBand(double... upperBounds) {
+        int[] counts = new int[upperBounds.length + 1];
+        int previous = 0;
+        for (int i = 0; i < upperBounds.length; i++) {
+            int next = firstAtLeast(upperBounds[i]);
+            counts[i] = next - previous;
+            previous = next;
+        }
+        counts[upperBounds.length] = firstUnknown() - previous;
+        return counts;
+    }
+
+    /**
+     * Returns the number of {@code among} in each band, as {@link #countByBand(double...)} does, using the BMIs
+     * already indexed rather than computing them again. Every person of {@code among} must be indexed.
+     */
+    int[] countByBand(Iterable<Person> among, double... upperBounds) {
+        int[] counts = new int[upperBounds.length + 1];
+        for (Person person : among) {
+            double bmi = indexedBmis.get(person.getProfile().getId());
+            if (Double.isNaN(bmi)) {
+                continue;
+            }
+            int band = 0;
+            while (band < upperBounds.length && bmi >= upperBounds[band]) {
+                band++;
+            }
+            counts[band]++;
+        }
+        return counts;
+    }
+
+    /**
+     * Returns the nearest-rank {@code percentile} of the known BMIs, or an empty value if there are none.
+     */
+    OptionalDouble percentile(double percentile) {
+        int known = firstUnknown();
+        if (known == 0) {
+            return OptionalDouble.empty();
+        }
+        int rank = (int) Math.ceil(percentile / 100 * known);
+        return OptionalDouble.of(bmis[Math.max(rank, 1) - 1]);
+    }
+
+    private static double bmiOf(Person person) {
+        if (person.getProfile().getHeight().isDefault()) {
+            return Double.NaN;
+        }
+        return person.getCurrentBmi();
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (capacity > bmis.length) {
+            int newCapacity = Math.max(capacity, bmis.length * 2);
+            bmis = Arrays.copyOf(bmis, newCapacity);
+            persons = Arrays.copyOf(persons, newCapacity);
+        }
+    }
+
+    /**
+     * Returns the position of the entry with the given BMI and id number, or {@code -(insertion point) - 1}
+     * if there is no such entry.
+     */
+    private int positionOf(double bmi, int number) {
+        int low = 0;
+        int high = size - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            int comparison = Double.compare(bmis[mid], bmi);
+            if (comparison == 0) {
+                comparison = Integer.compare(persons[mid].getProfile().getId().getNumber(), number);
+            }
+            if (comparison < 0) {
+                low = mid + 1;
+            } else if (comparison > 0) {
+                high = mid - 1;
+            } else {
+                return mid;
+            }
+        }
+        return -(low + 1);
+    }
+
+    private int firstAtLeast(double bmi) {
+        int low = 0;
+        int high = size;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (Double.compare(bmis[mid], bmi) < 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private int firstAbove(double bmi) {
+        int low = 0;
+        int high = size;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (Double.compare(bmis[mid], bmi) <= 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private int firstUnknown() {
+        return firstAtLeast(Double.NaN);
+    }
+}
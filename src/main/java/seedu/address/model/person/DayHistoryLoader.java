@@ -0,0 +1,20 @@
+package seedu.address.model.person;
+
+import java.util.List;
+
+import seedu.address.model.day.Day;
+import seedu.address.model.person.exceptions.DayHistoryUnavailableException;
+
+/**
+ * Supplies the days of a {@code Person} whose day history is kept elsewhere until it is first used.
+ */
+@FunctionalInterface
+public interface DayHistoryLoader {
+
+    /**
+     * Returns the days of the person, which must not contain duplicate days.
+     *
+     * @throws DayHistoryUnavailableException if the days could not be read.
+     */
+    List<Day> load();
+}
@@ -11,6 +11,7 @@ public class Height {
 
     public static final String MESSAGE_CONSTRAINTS =
             "Height should be in between 50-272 unless you are the world's tallest or shortest person";
+    private static final String DEFAULT_VALUE = "DEFAULT";
     public final String value;
 
     /**
@@ -29,7 +30,14 @@ public class Height {
      * for default profile
      */
     public Height() {
-        value = "DEFAULT";
+        value = DEFAULT_VALUE;
+    }
+
+    /**
+     * Returns true if this is the height of the default profile, which is not a number.
+     */
+    public boolean isDefault() {
+        return value.equals(DEFAULT_VALUE);
     }
 
     /**
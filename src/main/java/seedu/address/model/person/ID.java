@@ -12,7 +12,9 @@ public class ID {
     public static final String MESSAGE_CONSTRAINTS =
             "Key in a valid 4D number!";
     public static final String VALIDATION_REGEX = "\\d{4}";
+    public static final int DEFAULT_NUMBER = -1;
     public final String value;
+    private final int number;
 
     /**
      * Constructs a {@code ID}.
@@ -23,6 +25,7 @@ public class ID {
         requireNonNull(id);
         checkArgument(isValidId(id), MESSAGE_CONSTRAINTS);
         value = id;
+        number = Integer.parseInt(id);
     }
 
     /**
@@ -31,6 +34,7 @@ public class ID {
      */
     public ID() {
         value = "DEFAULT";
+        number = DEFAULT_NUMBER;
     }
 
     /**
@@ -52,6 +56,14 @@ public class ID {
         }
     }
 
+    /**
+     * Returns the numeric form of this id, parsed once on construction.
+     * The default id is represented by {@link #DEFAULT_NUMBER}.
+     */
+    public int getNumber() {
+        return number;
+    }
+
     @Override
     public String toString() {
         return value;
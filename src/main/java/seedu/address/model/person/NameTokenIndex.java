@@ -0,0 +1,58 @@
+package seedu.address.model.person;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Inverted index from the lowercase words of persons' names to their ids.
+ * A keyword matches a person exactly when {@code StringUtil#containsWordIgnoreCase} would match it against the name.
+ */
+final class NameTokenIndex {
+
+    private final Map<String, Set<ID>> idsByToken = new HashMap<>();
+
+    /**
+     * Indexes the words of the name of {@code person}.
+     */
+    void add(Person person) {
+        ID id = person.getProfile().getId();
+        for (String token : tokensOf(person.getProfile().getName().fullName)) {
+            idsByToken.computeIfAbsent(token, unused -> new HashSet<>()).add(id);
+        }
+    }
+
+    /**
+     * Removes the words of the name of {@code person}, which must be the name it was indexed with.
+     */
+    void remove(Person person) {
+        ID id = person.getProfile().getId();
+        for (String token : tokensOf(person.getProfile().getName().fullName)) {
+            Set<ID> ids = idsByToken.get(token);
+            if (ids != null && ids.remove(id) && ids.isEmpty()) {
+                idsByToken.remove(token);
+            }
+        }
+    }
+
+    void clear() {
+        idsByToken.clear();
+    }
+
+    /**
+     * Returns the ids of the persons whose names contain any of {@code keywords} as a whole word, ignoring case.
+     */
+    Set<ID> find(Iterable<String> keywords) {
+        Set<ID> ids = new HashSet<>();
+        for (String keyword : keywords) {
+            ids.addAll(idsByToken.getOrDefault(keyword.trim().toLowerCase(Locale.ROOT), Set.of()));
+        }
+        return ids;
+    }
+
+    private static String[] tokensOf(String name) {
+        return name.toLowerCase(Locale.ROOT).split("\\s+");
+    }
+}
@@ -4,19 +4,31 @@ import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
+import java.util.function.Predicate;
 
+import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
 import seedu.address.model.calculator.Bmi;
+import seedu.address.model.calorie.CalorieSummary;
 import seedu.address.model.day.Date;
 import seedu.address.model.day.Day;
 import seedu.address.model.day.UniqueDayList;
 import seedu.address.model.day.Weight;
+import seedu.address.model.person.exceptions.DayHistoryUnavailableException;
 
 /**
  * Represents a Person in My Fitness Buddy.
  * Guarantees: details are present and not null, field values are validated, immutable.
+ *
+ * The current BMI and progress are computed on first use and kept until the profile or the day list changes.
+ * Each such change increments {@link #getVersion()}.
+ *
+ * A person may be created with its days left in storage, in which case they are loaded by a
+ * {@code DayHistoryLoader} the first time they are used.
  */
 public class Person {
 
@@ -31,6 +43,12 @@ public class Person {
     private final int age = 20;
     //    private double currentBmi = -1;
     private Date startingDate;
+    private long version;
+    private boolean metricsStale = true;
+    private double cachedCurrentBmi;
+    private double cachedProgress;
+    private DayHistoryLoader dayHistoryLoader;
+    private boolean isLoadingDays;
 
     /**
      * Every field must be present and not null.
@@ -39,6 +57,7 @@ public class Person {
         requireAllNonNull(profile, days);
         this.profile = profile;
         this.days = days;
+        observeDays();
     }
 
     /**
@@ -47,6 +66,7 @@ public class Person {
     public Person() {
         this.profile = defaultProfile;
         this.days = new UniqueDayList();
+        observeDays();
     }
 
     /**
@@ -56,6 +76,89 @@ public class Person {
         requireNonNull(profile);
         this.profile = profile;
         this.days = new UniqueDayList();
+        observeDays();
+    }
+
+    /**
+     * Creates a person whose days are loaded by {@code dayHistoryLoader} when they are first used.
+     * {@code currentBmi} and {@code progress} are the known values of the metrics derived from those days, so that
+     * they can be read without loading the days. Either may be NaN if it is not known.
+     */
+    public Person(Profile profile, DayHistoryLoader dayHistoryLoader, double currentBmi, double progress) {
+        requireAllNonNull(profile, dayHistoryLoader);
+        this.profile = profile;
+        this.days = new UniqueDayList();
+        this.dayHistoryLoader = dayHistoryLoader;
+        if (!Double.isNaN(currentBmi) && !Double.isNaN(progress)) {
+            cachedCurrentBmi = currentBmi;
+            cachedProgress = progress;
+            metricsStale = false;
+        }
+        observeDays();
+    }
+
+    /**
+     * Invalidates the derived metrics whenever the day list changes. This is registered before anything else can
+     * observe the list, so other listeners already read fresh values.
+     */
+    private void observeDays() {
+        days.asUnmodifiableObservableList().addListener((ListChangeListener<Day>) change -> {
+            if (!isLoadingDays) {
+                invalidateMetrics();
+            }
+        });
+    }
+
+    /**
+     * Returns the day list, loading it first if it has not been loaded yet.
+     * Loading does not change the version, as the days are the ones the known metrics were derived from.
+     */
+    private UniqueDayList loadedDays() {
+        if (dayHistoryLoader != null) {
+            List<Day> loaded = dayHistoryLoader.load();
+            dayHistoryLoader = null;
+            isLoadingDays = true;
+            try {
+                loadDays(loaded);
+            } finally {
+                isLoadingDays = false;
+            }
+        }
+        return days;
+    }
+
+    /**
+     * Returns true if the days of this person are in memory.
+     */
+    public boolean isDayHistoryLoaded() {
+        return dayHistoryLoader == null;
+    }
+
+    /**
+     * Adds {@code listener} to the day list without loading the days.
+     */
+    public void addDayListListener(ListChangeListener<? super Day> listener) {
+        days.asUnmodifiableObservableList().addListener(listener);
+    }
+
+    /**
+     * Removes {@code listener} from the day list without loading the days.
+     */
+    public void removeDayListListener(ListChangeListener<? super Day> listener) {
+        days.asUnmodifiableObservableList().removeListener(listener);
+    }
+
+    private void invalidateMetrics() {
+        metricsStale = true;
+        version++;
+    }
+
+    /**
+     * Returns a counter that is incremented whenever a value that the current BMI or progress depends on changes.
+     * Values read from this person while the counter is unchanged are still current.
+     */
+    public long getVersion() {
+        return version;
     }
 
     /**
@@ -78,14 +181,14 @@ public class Person {
      * Returns an unmodifiable day list.
      */
     public ObservableList<Day> getDayList() {
-        return days.asUnmodifiableObservableList();
+        return loadedDays().asUnmodifiableObservableList();
     }
 
     /**
      * Returns the UniqueDayList that can be modified.
      */
     public UniqueDayList getDays() {
-        return days;
+        return loadedDays();
     }
 
     /**
@@ -94,9 +197,114 @@ public class Person {
      */
     public void setDays(List<Day> days) {
         assert days != null;
+        dayHistoryLoader = null;
         this.days.setDays(days);
     }
 
+    /**
+     * Replaces the contents of the day list with a copy of {@code replacement}, which is already known to be valid.
+     */
+    public void setDays(UniqueDayList replacement) {
+        assert replacement != null;
+        dayHistoryLoader = null;
+        this.days.setDays(replacement);
+    }
+
+    /**
+     * Replaces the contents of the day list with {@code days} in a single bulk operation.
+     * Each day is given this person's details as in {@link #addDay(Day)}.
+     * {@code days} must not contain duplicate days.
+     */
+    public void loadDays(List<Day> days) {
+        assert days != null;
+        for (Day day : days) {
+            day.setAge(this.age);
+            day.setHeight(profile.height);
+            day.setStartingWeight(profile.getStartingWeight());
+        }
+        dayHistoryLoader = null;
+        this.days.setDays(days);
+    }
+
+    /**
+     * Returns the profile and days of this person as they are now, for {@link #restoreState(State)}.
+     * Days that have not been loaded yet are not loaded; the state keeps loading them from storage instead.
+     */
+    public State saveState() {
+        if (!isDayHistoryLoaded()) {
+            return new State(profile, profile.getStartDate(), null, dayHistoryLoader);
+        }
+        List<Day> dayCopies = new ArrayList<>(days.asUnmodifiableObservableList().size());
+        for (Day day : days.asUnmodifiableObservableList()) {
+            dayCopies.add(day.copy());
+        }
+        return new State(profile, profile.getStartDate(), dayCopies, null);
+    }
+
+    /**
+     * Returns the profile and days of this person as they are now, sharing with {@code previous}, an earlier state of
+     * this person, the copies of the days for which {@code isDayChanged} is false.
+     */
+    public State saveState(State previous, Predicate<LocalDate> isDayChanged) {
+        requireAllNonNull(previous, isDayChanged);
+        if (!isDayHistoryLoaded() || previous.days == null) {
+            return saveState();
+        }
+        List<Day> current = days.asUnmodifiableObservableList();
+        List<Day> dayCopies = new ArrayList<>(current.size());
+        int previousIndex = 0;
+        for (Day day : current) {
+            // both lists are in ascending order of date
+            LocalDate date = day.getDate().get();
+            while (previousIndex < previous.days.size()
+                    && previous.days.get(previousIndex).getDate().get().isBefore(date)) {
+                previousIndex++;
+            }
+            boolean isShared = previousIndex < previous.days.size()
+                    && previous.days.get(previousIndex).getDate().get().equals(date)
+                    && !isDayChanged.test(date);
+            dayCopies.add(isShared ? previous.days.get(previousIndex) : day.copy());
+        }
+        return new State(profile, profile.getStartDate(), dayCopies, null);
+    }
+
+    /**
+     * Returns the profile and days of this person to {@code state}, replacing the day list in one bulk change.
+     * A person whose days are still the ones {@code state} left in storage keeps them there, and its metrics.
+     * {@code state} can be restored again later.
+     */
+    public void restoreState(State state) {
+        requireNonNull(state);
+        DayHistoryLoader stateLoader;
+        List<Day> stateDays;
+        synchronized (state) {
+            stateLoader = state.dayHistoryLoader;
+            stateDays = state.days;
+        }
+        if (stateLoader != null && stateLoader == dayHistoryLoader && state.profile == profile
+                && (state.startingDate == null || state.startingDate.equals(profile.getStartDate()))) {
+            return;
+        }
+        profile = state.profile;
+        if (state.startingDate != null) {
+            profile.setStartingDay(state.startingDate);
+        }
+        if (stateLoader != null) {
+            if (dayHistoryLoader == null) {
+                days.setDays(List.of());
+            }
+            // the days of a person in storage are already empty, and the listeners of a clear could read them in
+            dayHistoryLoader = stateLoader;
+        } else {
+            List<Day> dayCopies = new ArrayList<>(stateDays.size());
+            for (Day day : stateDays) {
+                dayCopies.add(day.copy());
+            }
+            loadDays(dayCopies);
+        }
+        invalidateMetrics();
+    }
+
     /**
      * Sets the profile information of current data to {@code profile}.
      */
@@ -111,6 +319,7 @@ public class Person {
     public void setProfile(Profile profile) {
         assert profile != null;
         this.profile = profile;
+        invalidateMetrics();
     }
 
     /**
@@ -118,21 +327,28 @@ public class Person {
      */
     public boolean hasDay(Day day) {
         requireNonNull(day);
-        return days.contains(day);
+        return loadedDays().contains(day);
     }
 
     /**
      * Returns true if a day in the my fitness buddy records with the same date as the current date.
      */
     public boolean hasDay(LocalDate date) {
-        return days.contains(date);
+        return loadedDays().contains(date);
     }
 
     /**
      * Gets a day in the my fitness buddy records with a specific date.
      */
     public Day getDay(LocalDate date) {
-        return days.getDate(date);
+        return loadedDays().getDate(date);
+    }
+
+    /**
+     * Returns the calorie totals of the days from {@code startDate} to {@code endDate}, both inclusive.
+     */
+    public CalorieSummary getCalorieSummary(LocalDate startDate, LocalDate endDate) {
+        return loadedDays().getCalorieSummary(startDate, endDate);
     }
 
     /**
@@ -151,7 +367,7 @@ public class Person {
         day.setAge(this.age);
         day.setHeight(profile.height);
         day.setStartingWeight(profile.getStartingWeight());
-        days.add(day);
+        loadedDays().add(day);
     }
 
     /**
@@ -163,7 +379,7 @@ public class Person {
     public void setDay(Day target, Day editedDay) {
         requireNonNull(editedDay);
 
-        days.setDay(target, editedDay);
+        loadedDays().setDay(target, editedDay);
     }
 
     /**
@@ -171,7 +387,7 @@ public class Person {
      * {@code key} must exist in the records.
      */
     public void removeDay(Day key) {
-        days.remove(key);
+        loadedDays().remove(key);
     }
 
     /**
@@ -206,8 +422,8 @@ public class Person {
 
     @Override
     public int hashCode() {
-        // use this method for custom fields hashing instead of implementing your own
-        return Objects.hash(profile, days);
+        // hashes only the ID, as equals does, so that hashing does not load the days
+        return Objects.hash(profile.getId());
     }
 
     @Override
@@ -224,16 +440,32 @@ public class Person {
      * Returns true if the date of this day is after otherDay
      */
     public boolean isAfter(Person otherPerson) {
-        int thisPerson = Integer.parseInt(this.profile.id.value);
-        int otherPer = Integer.parseInt(otherPerson.profile.id.value);
-        return thisPerson > otherPer;
+        return this.profile.id.getNumber() > otherPerson.profile.id.getNumber();
     }
 
     /**
      * Returns current bmi
      */
     public double getCurrentBmi() {
-        List<Day> list = days.asUnmodifiableObservableList();
+        refreshMetrics();
+        return cachedCurrentBmi;
+    }
+
+    /**
+     * Recomputes the current BMI and progress if they are out of date.
+     */
+    private void refreshMetrics() {
+        if (!metricsStale) {
+            return;
+        }
+        double currentBmi = calculateCurrentBmi();
+        cachedProgress = calculateProgress(currentBmi);
+        cachedCurrentBmi = currentBmi;
+        metricsStale = false;
+    }
+
+    private double calculateCurrentBmi() {
+        List<Day> list = loadedDays().asUnmodifiableObservableList();
         int size = list.size();
         if (size == 0) {
             return Bmi.calculateBmi(profile.height, profile.getStartingWeight());
@@ -249,7 +481,11 @@ public class Person {
      * returns current bmi progress
      */
     public double getProgress() {
-        double currentBmi = getCurrentBmi();
+        refreshMetrics();
+        return cachedProgress;
+    }
+
+    private double calculateProgress(double currentBmi) {
         double startBmi = Bmi.calculateBmi(profile.getHeight(), profile.getStartingWeight());
         double endBmi = 22.5;
         double totalBmiToChange = startBmi - endBmi;
@@ -265,4 +501,67 @@ public class Person {
         }
         return percentageChange;
     }
+
+    /**
+     * The profile and days of a person at one point in time.
+     * The days may be left in storage, in which case the state is only valid while storage still holds them.
+     */
+    public static final class State {
+        private final Profile profile;
+        private final Date startingDate;
+        // copies that are never handed out, or null if the days were left in storage
+        private List<Day> days;
+        private DayHistoryLoader dayHistoryLoader;
+
+        private State(Profile profile, Date startingDate, List<Day> days, DayHistoryLoader dayHistoryLoader) {
+            this.profile = profile;
+            this.startingDate = startingDate;
+            this.days = days;
+            this.dayHistoryLoader = dayHistoryLoader;
+        }
+
+        public ID getId() {
+            return profile.getId();
+        }
+
+        /**
+         * Returns the profile of this state, with the start date it had at the time.
+         */
+        public Profile getProfile() {
+            return new Profile(profile.getName(), profile.getId(), profile.getHeight(), profile.getStartingWeight(),
+                    startingDate);
+        }
+
+        /**
+         * Returns the days of this state, reading them first if they were left in storage. The days must not be
+         * changed.
+         *
+         * @throws DayHistoryUnavailableException if the days could not be read.
+         */
+        public synchronized List<Day> getDays() {
+            keepInMemory();
+            return Collections.unmodifiableList(days);
+        }
+
+        /**
+         * Returns true if the days of this state are left in storage.
+         */
+        public synchronized boolean isKeptInStorage() {
+            return dayHistoryLoader != null;
+        }
+
+        /**
+         * Reads the days this state left in storage, so that it stays valid after storage changes.
+         * A state can be written out on another thread than the one that keeps it, so reading is synchronized.
+         *
+         * @throws DayHistoryUnavailableException if the days could not be read.
+         */
+        public synchronized void keepInMemory() {
+            if (dayHistoryLoader == null) {
+                return;
+            }
+            days = new ArrayList<>(dayHistoryLoader.load());
+            dayHistoryLoader = null;
+        }
+    }
 }
@@ -1,13 +1,24 @@
 package seedu.address.model.person;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.OptionalDouble;
+import java.util.Set;
 
 import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
+import seedu.address.model.day.Day;
 import seedu.address.model.person.exceptions.DuplicatePersonException;
 import seedu.address.model.person.exceptions.PersonNotFoundException;
 
@@ -18,6 +29,14 @@ import seedu.address.model.person.exceptions.PersonNotFoundException;
  * unique in terms of identity in the UniquePersonList. However, the removal of a person uses Person#equals(Object) so
  * as to ensure that the person with exactly the same fields will be removed.
  *
+ * Persons are kept in ascending order of their numeric {@code ID}. An id-keyed hash index backs membership and lookup,
+ * while new persons are placed by binary search over the ordered list. A person held by this list must only have its
+ * profile replaced through {@link #setProfile(Person, Profile)} so that both stay consistent.
+ *
+ * Name words are indexed so that keyword searches look up the matching ids instead of scanning every name.
+ * The persons are also indexed by current BMI. Each person's day list is observed so that the index follows changes
+ * to their latest weight, and threshold, band and percentile queries are answered from it without recomputing BMIs.
+ *
  * Supports a minimal set of list operations.
  *
  * @see Person#isSamePerson(Person)
@@ -27,13 +46,17 @@ public class UniquePersonList implements Iterable<Person> {
     private final ObservableList<Person> internalList = FXCollections.observableArrayList();
     private final ObservableList<Person> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
+    private final Map<ID, Person> personIndex = new HashMap<>();
+    private final NameTokenIndex nameIndex = new NameTokenIndex();
+    private final BmiIndex bmiIndex = new BmiIndex();
+    private final Map<ID, ListChangeListener<Day>> dayListeners = new HashMap<>();
 
     /**
      * Returns true if the list contains an equivalent person as the given argument.
      */
     public boolean contains(Person toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSamePerson);
+        return personIndex.containsKey(toCheck.getProfile().getId());
     }
 
     /**
@@ -44,19 +67,12 @@ public class UniquePersonList implements Iterable<Person> {
         requireNonNull(toAdd);
         if (contains(toAdd)) {
             throw new DuplicatePersonException();
-        } else {
-            boolean isAdded = false;
-            for (int index = internalList.size() - 1; index >= 0; index -= 1) {
-                if (toAdd.isAfter(internalList.get(index))) {
-                    internalList.add(index + 1, toAdd);
-                    isAdded = true;
-                    break;
-                }
-            }
-            if (isAdded == false) {
-                internalList.add(0, toAdd);
-            }
         }
+        internalList.add(-(indexOf(toAdd.getProfile().getId().getNumber()) + 1), toAdd);
+        personIndex.put(toAdd.getProfile().getId(), toAdd);
+        nameIndex.add(toAdd);
+        track(toAdd);
+        bmiIndex.put(toAdd);
     }
 
     /**
@@ -67,27 +83,75 @@ public class UniquePersonList implements Iterable<Person> {
     public void setPerson(Person target, Person editedPerson) {
         requireAllNonNull(target, editedPerson);
 
-        int index = internalList.indexOf(target);
-        if (index == -1) {
+        if (!contains(target)) {
             throw new PersonNotFoundException();
         }
 
-        if (!target.isSamePerson(editedPerson) && contains(editedPerson)) {
+        if (!target.isSamePerson(editedPerson)) {
+            if (contains(editedPerson)) {
+                throw new DuplicatePersonException();
+            }
+            remove(target);
+            add(editedPerson);
+            return;
+        }
+
+        Person replaced = personIndex.put(editedPerson.getProfile().getId(), editedPerson);
+        internalList.set(indexOf(target.getProfile().getId().getNumber()), editedPerson);
+        nameIndex.remove(replaced);
+        nameIndex.add(editedPerson);
+        untrack(replaced);
+        track(editedPerson);
+        bmiIndex.put(editedPerson);
+    }
+
+    /**
+     * Replaces the profile of {@code target}, which must be held by this list, with {@code editedProfile}.
+     * The person is re-positioned if its id changes.
+     */
+    public void setProfile(Person target, Profile editedProfile) {
+        requireAllNonNull(target, editedProfile);
+
+        if (personIndex.get(target.getProfile().getId()) != target) {
+            throw new PersonNotFoundException();
+        }
+
+        ID editedId = editedProfile.getId();
+        if (editedId.equals(target.getProfile().getId())) {
+            nameIndex.remove(target);
+            target.setProfile(editedProfile);
+            nameIndex.add(target);
+            bmiIndex.put(target);
+            return;
+        }
+        if (personIndex.containsKey(editedId)) {
             throw new DuplicatePersonException();
         }
 
-        internalList.set(index, editedPerson);
+        remove(target);
+        target.setProfile(editedProfile);
+        add(target);
     }
 
+    /**
+     * Returns the person in the list with the same identity as {@code otherPerson}.
+     */
     public Person getPerson(Person otherPerson) {
         requireNonNull(otherPerson);
 
-        for (Person p: internalList) {
-            if (p.isSamePerson(otherPerson)) {
-                return p;
-            }
+        Person person = personIndex.get(otherPerson.getProfile().getId());
+        if (person == null) {
+            throw new PersonNotFoundException();
         }
-        throw new PersonNotFoundException();
+        return person;
+    }
+
+    /**
+     * Returns the person in the list with {@code id}, if any.
+     */
+    public Optional<Person> findPerson(ID id) {
+        requireNonNull(id);
+        return Optional.ofNullable(personIndex.get(id));
     }
 
     /**
@@ -96,14 +160,26 @@ public class UniquePersonList implements Iterable<Person> {
      */
     public void remove(Person toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        Person removed = personIndex.remove(toRemove.getProfile().getId());
+        if (removed == null) {
             throw new PersonNotFoundException();
         }
+        internalList.remove(indexOf(toRemove.getProfile().getId().getNumber()));
+        nameIndex.remove(removed);
+        untrack(removed);
+        bmiIndex.remove(removed.getProfile().getId());
     }
 
+    /**
+     * Replaces the contents of this list with those of {@code replacement}.
+     */
     public void setPersons(UniquePersonList replacement) {
         requireNonNull(replacement);
+        untrackAll();
         internalList.setAll(replacement.internalList);
+        personIndex.clear();
+        personIndex.putAll(replacement.personIndex);
+        trackAll();
     }
 
     /**
@@ -116,7 +192,83 @@ public class UniquePersonList implements Iterable<Person> {
             throw new DuplicatePersonException();
         }
 
-        internalList.setAll(persons);
+        // the persons being replaced are untracked while they are still in the list
+        untrackAll();
+        if (personsAreSorted(persons)) {
+            internalList.setAll(persons);
+        } else {
+            List<Person> sortedPersons = new ArrayList<>(persons);
+            sortedPersons.sort(Comparator.comparingInt(person -> person.getProfile().getId().getNumber()));
+            internalList.setAll(sortedPersons);
+        }
+
+        personIndex.clear();
+        for (Person person : persons) {
+            personIndex.put(person.getProfile().getId(), person);
+        }
+        trackAll();
+    }
+
+    /**
+     * Returns the persons whose names contain any of {@code keywords} as a whole word, ignoring case,
+     * in ascending order of id.
+     */
+    public List<Person> getPersonsWithNameKeywords(List<String> keywords) {
+        requireAllNonNull(keywords);
+        List<Person> matches = new ArrayList<>();
+        for (ID id : nameIndex.find(keywords)) {
+            matches.add(personIndex.get(id));
+        }
+        matches.sort(Comparator.comparingInt(person -> person.getProfile().getId().getNumber()));
+        return matches;
+    }
+
+    /**
+     * Returns the persons whose current BMI is strictly greater than {@code bmi}, in ascending order of BMI.
+     */
+    public List<Person> getPersonsAboveBmi(double bmi) {
+        return bmiIndex.above(bmi);
+    }
+
+    /**
+     * Returns the number of persons whose current BMI falls in each band delimited by {@code upperBounds}.
+     * The bounds must be in ascending order. The first band holds the BMIs below the first bound, band {@code i}
+     * those from {@code upperBounds[i - 1]} up to but excluding {@code upperBounds[i]}, and the last band the rest.
+     * Persons whose BMI cannot be computed are in no band.
+     */
+    public int[] countPersonsByBmiBand(double... upperBounds) {
+        checkBandBounds(upperBounds);
+        return bmiIndex.countByBand(upperBounds);
+    }
+
+    /**
+     * Returns the number of {@code persons} whose current BMI falls in each band, as
+     * {@link #countPersonsByBmiBand(double...)} does. Every person of {@code persons} must be in this list.
+     */
+    public int[] countPersonsByBmiBand(List<Person> persons, double... upperBounds) {
+        requireNonNull(persons);
+        checkBandBounds(upperBounds);
+        if (persons.size() == internalList.size()) {
+            // holds every person of this list
+            return bmiIndex.countByBand(upperBounds);
+        }
+        return bmiIndex.countByBand(persons, upperBounds);
+    }
+
+    private static void checkBandBounds(double... upperBounds) {
+        requireNonNull(upperBounds);
+        for (int i = 1; i < upperBounds.length; i++) {
+            checkArgument(upperBounds[i - 1] <= upperBounds[i], "BMI band bounds must be in ascending order.");
+        }
+    }
+
+    /**
+     * Returns the nearest-rank {@code percentile} of the current BMIs of the persons, or an empty value if no
+     * BMI is known. {@code percentile} must be between 0 and 100.
+     */
+    public OptionalDouble getBmiPercentile(double percentile) {
+        checkArgument(percentile >= 0 && percentile <= 100, "Percentile must be between 0 and 100.");
+        return bmiIndex.percentile(percentile);
     }
 
     /**
@@ -143,17 +295,86 @@ public class UniquePersonList implements Iterable<Person> {
         return internalList.hashCode();
     }
 
+    /**
+     * Observes the day list of {@code person} so that its BMI is re-indexed when its latest weight changes.
+     * A person can be held by more than one list, so its id may have been changed through another one; this list
+     * then no longer holds the person by its id and leaves it alone.
+     */
+    private void track(Person person) {
+        ListChangeListener<Day> listener = change -> {
+            if (personIndex.get(person.getProfile().getId()) == person) {
+                bmiIndex.put(person);
+            }
+        };
+        person.addDayListListener(listener);
+        dayListeners.put(person.getProfile().getId(), listener);
+    }
+
+    private void untrack(Person person) {
+        ListChangeListener<Day> listener = dayListeners.remove(person.getProfile().getId());
+        if (listener != null) {
+            person.removeDayListListener(listener);
+        }
+    }
+
+    private void trackAll() {
+        nameIndex.clear();
+        for (Person person : internalList) {
+            nameIndex.add(person);
+            track(person);
+        }
+        bmiIndex.rebuild(internalList);
+    }
+
+    private void untrackAll() {
+        for (Person person : internalList) {
+            untrack(person);
+        }
+    }
+
     /**
      * Returns true if {@code persons} contains only unique persons.
      */
     private boolean personsAreUnique(List<Person> persons) {
-        for (int i = 0; i < persons.size() - 1; i++) {
-            for (int j = i + 1; j < persons.size(); j++) {
-                if (persons.get(i).isSamePerson(persons.get(j))) {
-                    return false;
-                }
+        Set<ID> seenIds = new HashSet<>();
+        for (Person person : persons) {
+            if (!seenIds.add(person.getProfile().getId())) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns true if {@code persons} is in ascending order of id.
+     */
+    private boolean personsAreSorted(List<Person> persons) {
+        for (int i = 1; i < persons.size(); i++) {
+            if (persons.get(i - 1).isAfter(persons.get(i))) {
+                return false;
             }
         }
         return true;
     }
+
+    /**
+     * Returns the position of the person with id {@code number} in the ordered list, or
+     * {@code -(insertion point) - 1} if there is no such person.
+     */
+    private int indexOf(int number) {
+        int low = 0;
+        int high = internalList.size() - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            int midNumber = internalList.get(mid).getProfile().getId().getNumber();
+            if (midNumber < number) {
+                low = mid + 1;
+            } else if (midNumber > number) {
+                high = mid - 1;
+            } else {
+                return mid;
+            }
+        }
+        return -(low + 1);
+    }
 }
@@ -0,0 +1,10 @@
+package seedu.address.model.person.exceptions;
+
+/**
+ * Signals that the day history of a person could not be loaded.
+ */
+public class DayHistoryUnavailableException extends RuntimeException {
+    public DayHistoryUnavailableException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
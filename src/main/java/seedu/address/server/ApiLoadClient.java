@@ -0,0 +1,229 @@
+package seedu.address.server;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import seedu.address.commons.util.JsonUtil;
+
+/**
+ * Sends requests to an {@code ApiServer} from several clients at once and reports the throughput and latencies.
+ *
+ * Each client sends its requests one after another. A set share of them execute a command for one of the persons in
+ * turn; the rest alternate between listing the persons and listing the days of one of them.
+ *
+ * Usage: {@code ApiLoadClient [--url=http://localhost:8765] [--token=TOKEN] [--clients=8] [--requests=200]
+ * [--write-percent=10] [--command=list]}, where the token of the server may instead be given in the
+ * {@value ApiServer#TOKEN_ENVIRONMENT_VARIABLE} environment variable.
+ */
+public class ApiLoadClient {
+
+    public static final String DEFAULT_URL = "http://localhost:" + ApiServer.DEFAULT_PORT;
+    public static final int DEFAULT_CLIENTS = 8;
+    public static final int DEFAULT_REQUESTS = 200;
+    public static final int DEFAULT_WRITE_PERCENT = 10;
+    public static final String DEFAULT_COMMAND = "list";
+
+    private static final int STATUS_OK = 200;
+    private static final Pattern PERSON_ID = Pattern.compile("\"id\":\"(\\d{4})\"");
+
+    private final URI baseUri;
+    private final String token;
+    private final int clients;
+    private final int requestsPerClient;
+    private final int writePercent;
+    private final String command;
+    private final HttpClient httpClient = HttpClient.newHttpClient();
+
+    /**
+     * Creates a client that sends {@code requestsPerClient} requests from each of {@code clients} clients to the
+     * server at {@code baseUri}, with its {@code token}. {@code writePercent} percent of them execute {@code command}.
+     */
+    public ApiLoadClient(URI baseUri, String token, int clients, int requestsPerClient, int writePercent,
+            String command) {
+        requireNonNull(baseUri);
+        requireNonNull(token);
+        requireNonNull(command);
+        checkArgument(clients > 0 && requestsPerClient > 0, "There must be at least one client and one request");
+        checkArgument(writePercent >= 0 && writePercent <= 100, "The write percentage must be from 0 to 100");
+        this.baseUri = baseUri;
+        this.token = token;
+        this.clients = clients;
+        this.requestsPerClient = requestsPerClient;
+        this.writePercent = writePercent;
+        this.command = command;
+    }
+
+    /**
+     * Sends all the requests and returns how they went.
+     *
+     * @throws IOException if the persons could not be listed before starting.
+     */
+    public Report run() throws IOException, InterruptedException {
+        List<String> personIds = listPersonIds();
+        List<String> commandBodies = new ArrayList<>();
+        for (String id : personIds) {
+            commandBodies.add(JsonUtil.toCompactJsonString(new JsonApiCommand(command, id)));
+        }
+        if (commandBodies.isEmpty()) {
+            commandBodies.add(JsonUtil.toCompactJsonString(new JsonApiCommand(command)));
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(clients);
+        try {
+            List<Future<long[]>> results = new ArrayList<>();
+            long start = System.nanoTime();
+            for (int client = 0; client < clients; client++) {
+                int clientIndex = client;
+                results.add(executor.submit(() -> sendRequests(clientIndex, personIds, commandBodies)));
+            }
+            List<long[]> latencies = new ArrayList<>();
+            for (Future<long[]> result : results) {
+                latencies.add(result.get());
+            }
+            return new Report(latencies, System.nanoTime() - start);
+        } catch (ExecutionException e) {
+            throw new IOException(e.getCause());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private List<String> listPersonIds() throws IOException, InterruptedException {
+        HttpResponse<String> response = httpClient.send(request(ApiServer.PERSONS_PATH).GET().build(),
+                HttpResponse.BodyHandlers.ofString());
+        if (response.statusCode() != STATUS_OK) {
+            throw new IOException("Could not list the persons: " + response.body());
+        }
+        List<String> ids = new ArrayList<>();
+        Matcher matcher = PERSON_ID.matcher(response.body());
+        while (matcher.find()) {
+            ids.add(matcher.group(1));
+        }
+        return ids;
+    }
+
+    /**
+     * Sends the requests of one client and returns the latency of each, negated for the requests that failed.
+     */
+    private long[] sendRequests(int clientIndex, List<String> personIds, List<String> commandBodies)
+            throws IOException, InterruptedException {
+        long[] latencies = new long[requestsPerClient];
+        for (int i = 0; i < requestsPerClient; i++) {
+            int request = clientIndex * requestsPerClient + i;
+            HttpRequest httpRequest;
+            if (request % 100 < writePercent) {
+                httpRequest = request(ApiServer.COMMANDS_PATH).header("Content-Type", ApiServer.JSON_MEDIA_TYPE)
+                        .POST(HttpRequest.BodyPublishers.ofString(commandBodies.get(request % commandBodies.size())))
+                        .build();
+            } else if (request % 2 == 0 || personIds.isEmpty()) {
+                httpRequest = request(ApiServer.PERSONS_PATH).GET().build();
+            } else {
+                String id = personIds.get(request % personIds.size());
+                httpRequest = request(ApiServer.PERSONS_PATH + "/" + id + "/days").GET().build();
+            }
+            long start = System.nanoTime();
+            int status = httpClient.send(httpRequest, HttpResponse.BodyHandlers.discarding()).statusCode();
+            long latency = Math.max(System.nanoTime() - start, 1);
+            latencies[i] = status == STATUS_OK ? latency : -latency;
+        }
+        return latencies;
+    }
+
+    /**
+     * Returns a request to {@code path} on the server, carrying the token.
+     */
+    private HttpRequest.Builder request(String path) {
+        return HttpRequest.newBuilder(baseUri.resolve(path)).header("Authorization", "Bearer " + token);
+    }
+
+    /**
+     * The outcome of a run.
+     */
+    public static class Report {
+        private final long[] sortedLatencies;
+        private final int failures;
+        private final long elapsedNanos;
+
+        Report(List<long[]> latencies, long elapsedNanos) {
+            this.sortedLatencies = latencies.stream().flatMapToLong(Arrays::stream).map(Math::abs).sorted().toArray();
+            this.failures = (int) latencies.stream().flatMapToLong(Arrays::stream).filter(latency -> latency < 0)
+                    .count();
+            this.elapsedNanos = elapsedNanos;
+        }
+
+        public int getRequests() {
+            return sortedLatencies.length;
+        }
+
+        public int getFailures() {
+            return failures;
+        }
+
+        /**
+         * Returns the number of requests completed per second.
+         */
+        public double getThroughput() {
+            return sortedLatencies.length * 1e9 / elapsedNanos;
+        }
+
+        /**
+         * Returns the nearest-rank {@code percentile} of the latencies, in milliseconds.
+         */
+        public double getLatencyMillis(double percentile) {
+            int rank = (int) Math.ceil(percentile / 100 * sortedLatencies.length);
+            return sortedLatencies[Math.max(rank, 1) - 1] / 1e6;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%d requests, %d failed, %.1f requests/s, latency p50 %.2f ms, p99 %.2f ms,"
+                    + " max %.2f ms", getRequests(), failures, getThroughput(), getLatencyMillis(50),
+                    getLatencyMillis(99), getLatencyMillis(100));
+        }
+    }
+
+    /**
+     * Runs the load test against the server named in {@code args}, and prints the report.
+     */
+    public static void main(String[] args) throws IOException, InterruptedException {
+        Map<String, String> named = new HashMap<>();
+        for (String arg : args) {
+            if (!arg.startsWith("--") || !arg.contains("=")) {
+                System.err.println("Unknown argument: " + arg);
+                System.exit(2);
+            }
+            named.put(arg.substring(2, arg.indexOf('=')), arg.substring(arg.indexOf('=') + 1));
+        }
+        String token = named.getOrDefault("token", System.getenv(ApiServer.TOKEN_ENVIRONMENT_VARIABLE));
+        if (token == null) {
+            System.err.println("The token of the server is needed, as --token=TOKEN or in the "
+                    + ApiServer.TOKEN_ENVIRONMENT_VARIABLE + " environment variable");
+            System.exit(2);
+        }
+        ApiLoadClient loadClient = new ApiLoadClient(URI.create(named.getOrDefault("url", DEFAULT_URL)), token,
+                Integer.parseInt(named.getOrDefault("clients", String.valueOf(DEFAULT_CLIENTS))),
+                Integer.parseInt(named.getOrDefault("requests", String.valueOf(DEFAULT_REQUESTS))),
+                Integer.parseInt(named.getOrDefault("write-percent", String.valueOf(DEFAULT_WRITE_PERCENT))),
+                named.getOrDefault("command", DEFAULT_COMMAND));
+        Report report = loadClient.run();
+        System.out.println(report);
+        System.exit(report.getFailures() == 0 ? 0 : 1);
+    }
+}
@@ -0,0 +1,421 @@
+package seedu.address.server;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Logger;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.logic.Logic;
+import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.day.Day;
+import seedu.address.model.person.ID;
+import seedu.address.model.person.Person;
+
+/**
+ * Serves My Fitness Buddy over HTTP, so that several clients can read and change it at once.
+ *
+ * Every request must carry the token of the server as {@code Authorization: Bearer <token>}.
+ *
+ * <ul>
+ *     <li>{@code POST /api/commands} with the {@code application/json} body
+ *     {@code {"command": "...", "person": "ID"}} executes a command for the person with that id, or for no person if
+ *     the id is left out, and returns its feedback. The person is logged in for that command alone, so clients never
+ *     act on each other's logins. Only commands that read or change the data are accepted; those that use files, run
+ *     scripts, clear the data, exit, log in, or undo and redo the changes of every client are refused.</li>
+ *     <li>{@code GET /api/persons} returns the profiles of the persons.</li>
+ *     <li>{@code GET /api/persons/ID/days} returns the days of a person, with their calorie totals.</li>
+ *     <li>{@code GET /api/persons/ID/days/DATE/calories} returns the calorie inputs and outputs of a day.</li>
+ * </ul>
+ *
+ * Commands, and anything else that touches the model, run one at a time on a single writer thread. After each
+ * command that changes the data, the writer publishes a new {@link ApiSnapshot}, from which the reader threads serve
+ * every query without waiting on the writer. The views of the days of a person are carried over to the next snapshot
+ * until the person changes.
+ */
+public class ApiServer {
+
+    public static final String API_PATH = "/api";
+    public static final String COMMANDS_PATH = API_PATH + "/commands";
+    public static final String PERSONS_PATH = API_PATH + "/persons";
+    public static final String JSON_MEDIA_TYPE = "application/json";
+    public static final int DEFAULT_PORT = 8765;
+    public static final int DEFAULT_READER_THREADS = 8;
+    public static final String TOKEN_ENVIRONMENT_VARIABLE = "MFB_API_TOKEN";
+
+    public static final String MESSAGE_NOT_FOUND = "Nothing found at %1$s";
+    public static final String MESSAGE_METHOD_NOT_ALLOWED = "%1$s is not allowed on %2$s";
+    public static final String MESSAGE_INVALID_BODY =
+            "Expected a JSON body such as {\"command\": \"list\", \"person\": \"1111\"}";
+    public static final String MESSAGE_UNAUTHORIZED = "Expected the token of the server as Authorization: Bearer TOKEN";
+    public static final String MESSAGE_UNSUPPORTED_MEDIA_TYPE = "Expected a body of type " + JSON_MEDIA_TYPE;
+    public static final String MESSAGE_INTERNAL_ERROR = "Could not complete the request: %1$s";
+
+    private static final int STATUS_OK = 200;
+    private static final int STATUS_BAD_REQUEST = 400;
+    private static final int STATUS_UNAUTHORIZED = 401;
+    private static final int STATUS_NOT_FOUND = 404;
+    private static final int STATUS_METHOD_NOT_ALLOWED = 405;
+    private static final int STATUS_UNSUPPORTED_MEDIA_TYPE = 415;
+    private static final int STATUS_INTERNAL_ERROR = 500;
+    private static final int MAX_BODY_BYTES = 1 << 16;
+    private static final long STOP_TIMEOUT_SECONDS = 5;
+    private static final String BEARER_PREFIX = "Bearer ";
+    private static final int TOKEN_BYTES = 24;
+
+    private static final Logger logger = LogsCenter.getLogger(ApiServer.class);
+
+    private final Logic logic;
+    private final byte[] authorization;
+    private final HttpServer httpServer;
+    private final ExecutorService readers;
+    private final ExecutorService writer;
+    // the day views built so far, with the version of the person they were built from; used only by the writer
+    private final Map<Person, CachedDays> cachedDays = new IdentityHashMap<>();
+    private volatile ApiSnapshot snapshot;
+
+    /**
+     * Creates a server for {@code logic} bound to {@code address}, which serves queries on {@code readerThreads}
+     * threads to the clients that send {@code token}. The server does not accept requests until it is started.
+     * {@code logic} must not be used by anything else while the server runs.
+     */
+    public ApiServer(Logic logic, InetSocketAddress address, int readerThreads, String token) throws IOException {
+        requireNonNull(logic);
+        requireNonNull(address);
+        requireNonNull(token);
+        checkArgument(readerThreads > 0, "There must be at least one reader thread");
+        checkArgument(!token.isBlank(), "The token must not be blank");
+        this.logic = logic;
+        authorization = (BEARER_PREFIX + token).getBytes(UTF_8);
+        readers = Executors.newFixedThreadPool(readerThreads, daemonThreads("api-reader"));
+        writer = Executors.newSingleThreadExecutor(daemonThreads("api-writer"));
+        httpServer = HttpServer.create(address, 0);
+        httpServer.setExecutor(readers);
+        httpServer.createContext(API_PATH + "/", this::handle);
+    }
+
+    /**
+     * Returns a new random token, for a server that was not given one.
+     */
+    public static String createToken() {
+        byte[] bytes = new byte[TOKEN_BYTES];
+        new SecureRandom().nextBytes(bytes);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+    }
+
+    private static ThreadFactory daemonThreads(String name) {
+        AtomicInteger count = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, name + "-" + count.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    /**
+     * Publishes the first snapshot and starts accepting requests.
+     */
+    public void start() {
+        onWriter(() -> {
+            publishSnapshot();
+            return null;
+        });
+        httpServer.start();
+        logger.info("Serving the API at " + getAddress());
+    }
+
+    /**
+     * Stops accepting requests and waits briefly for the commands already submitted to finish.
+     */
+    public void stop() {
+        httpServer.stop(0);
+        readers.shutdown();
+        writer.shutdown();
+        try {
+            writer.awaitTermination(STOP_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Returns the address the server is bound to, with the port chosen if it was bound to port 0.
+     */
+    public InetSocketAddress getAddress() {
+        return httpServer.getAddress();
+    }
+
+    /**
+     * Executes {@code commandText} for the person with {@code personId}, or for no person if it is empty, on the
+     * writer thread after the commands submitted before it, if it only reads or changes the data. The person is
+     * logged in and the command executed as one step.
+     */
+    public CommandResult execute(Optional<ID> personId, String commandText) throws CommandException, ParseException {
+        try {
+            return writer.submit(() -> {
+                try {
+                    return logic.executeDataCommand(personId, commandText);
+                } finally {
+                    publishSnapshotIfModified();
+                }
+            }).get();
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof CommandException) {
+                throw (CommandException) e.getCause();
+            } else if (e.getCause() instanceof ParseException) {
+                throw (ParseException) e.getCause();
+            } else if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new IllegalStateException(e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Runs {@code task} on the writer thread and returns its result.
+     */
+    private <T> T onWriter(Callable<T> task) {
+        try {
+            return writer.submit(task).get();
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new IllegalStateException(e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private void publishSnapshotIfModified() {
+        if (logic.getMyFitnessBuddy().getChangeLog().getModificationCount() != snapshot.getModificationCount()) {
+            publishSnapshot();
+        }
+    }
+
+    /**
+     * Publishes a snapshot of the current persons, keeping the day views of those that have not changed.
+     * Runs on the writer thread.
+     */
+    private void publishSnapshot() {
+        List<Person> persons = logic.getMyFitnessBuddy().getPersonList();
+        List<JsonApiPerson> personViews = new ArrayList<>(persons.size());
+        for (Person person : persons) {
+            personViews.add(new JsonApiPerson(person));
+        }
+        ApiSnapshot next = new ApiSnapshot(logic.getMyFitnessBuddy().getChangeLog().getModificationCount(),
+                personViews);
+
+        Map<Person, CachedDays> stillCurrent = new IdentityHashMap<>();
+        for (Person person : persons) {
+            CachedDays cached = cachedDays.get(person);
+            if (cached != null && cached.version == person.getVersion()) {
+                stillCurrent.put(person, cached);
+                next.putDays(person.getProfile().getId().value, cached.days);
+            }
+        }
+        cachedDays.clear();
+        cachedDays.putAll(stillCurrent);
+        snapshot = next;
+    }
+
+    /**
+     * Returns the days of the person with {@code id} in the latest snapshot, building them first if needed.
+     * Runs on the writer thread, as it may load the days of the person from storage.
+     */
+    private Optional<ApiSnapshot.PersonDays> loadDays(String id) {
+        ApiSnapshot latest = snapshot;
+        ApiSnapshot.PersonDays days = latest.getDays(id);
+        if (days != null) {
+            return Optional.of(days);
+        }
+        Optional<Person> person = logic.getMyFitnessBuddy().findPerson(new ID(id));
+        if (person.isEmpty()) {
+            return Optional.empty();
+        }
+        List<JsonApiDay> dayViews = new ArrayList<>();
+        for (Day day : person.get().getDayList()) {
+            dayViews.add(new JsonApiDay(day));
+        }
+        days = new ApiSnapshot.PersonDays(dayViews);
+        cachedDays.put(person.get(), new CachedDays(person.get().getVersion(), days));
+        latest.putDays(id, days);
+        return Optional.of(days);
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        String method = exchange.getRequestMethod();
+        String path = exchange.getRequestURI().getPath();
+        try {
+            if (isAuthorized(exchange)) {
+                route(exchange, method, path);
+            } else {
+                exchange.getResponseHeaders().set("WWW-Authenticate", "Bearer");
+                sendJson(exchange, STATUS_UNAUTHORIZED, JsonApiMessage.error(MESSAGE_UNAUTHORIZED));
+            }
+        } catch (IOException | RuntimeException e) {
+            logger.warning("Failed to serve " + method + " " + path + ": " + StringUtil.getDetails(e));
+            sendJson(exchange, STATUS_INTERNAL_ERROR,
+                    JsonApiMessage.error(String.format(MESSAGE_INTERNAL_ERROR, e.getMessage())));
+        } finally {
+            exchange.close();
+        }
+    }
+
+    /**
+     * Returns true if {@code exchange} carries the token of the server, comparing it in constant time.
+     */
+    private boolean isAuthorized(HttpExchange exchange) {
+        String header = exchange.getRequestHeaders().getFirst("Authorization");
+        return header != null && MessageDigest.isEqual(header.getBytes(UTF_8), authorization);
+    }
+
+    private void route(HttpExchange exchange, String method, String path) throws IOException {
+        String[] parts = path.substring(API_PATH.length() + 1).split("/", -1);
+        if (path.equals(COMMANDS_PATH)) {
+            if (isAllowed(exchange, "POST", method, path)) {
+                handleCommand(exchange);
+            }
+        } else if (path.equals(PERSONS_PATH)) {
+            if (isAllowed(exchange, "GET", method, path)) {
+                send(exchange, STATUS_OK, snapshot.getPersonsJson());
+            }
+        } else if (parts.length == 3 && parts[0].equals("persons") && parts[2].equals("days")) {
+            if (isAllowed(exchange, "GET", method, path)) {
+                Optional<ApiSnapshot.PersonDays> days = findDays(parts[1]);
+                if (days.isEmpty()) {
+                    sendNotFound(exchange, path);
+                } else {
+                    send(exchange, STATUS_OK, days.get().getDaysJson());
+                }
+            }
+        } else if (parts.length == 5 && parts[0].equals("persons") && parts[2].equals("days")
+                && parts[4].equals("calories")) {
+            if (isAllowed(exchange, "GET", method, path)) {
+                Optional<JsonApiDay> day = findDays(parts[1]).map(days -> days.getDay(parts[3]));
+                if (day.isEmpty()) {
+                    sendNotFound(exchange, path);
+                } else {
+                    sendJson(exchange, STATUS_OK, new JsonApiCalories(day.get()));
+                }
+            }
+        } else {
+            sendNotFound(exchange, path);
+        }
+    }
+
+    /**
+     * Returns the days of the person with {@code id}, from the current snapshot if it has them.
+     */
+    private Optional<ApiSnapshot.PersonDays> findDays(String id) {
+        ApiSnapshot current = snapshot;
+        if (!ID.isValidId(id) || !current.hasPerson(id)) {
+            return Optional.empty();
+        }
+        ApiSnapshot.PersonDays days = current.getDays(id);
+        return days != null ? Optional.of(days) : onWriter(() -> loadDays(id));
+    }
+
+    private void handleCommand(HttpExchange exchange) throws IOException {
+        String contentType = exchange.getRequestHeaders().getFirst("Content-Type");
+        if (contentType == null || !contentType.split(";", 2)[0].trim().equalsIgnoreCase(JSON_MEDIA_TYPE)) {
+            sendJson(exchange, STATUS_UNSUPPORTED_MEDIA_TYPE, JsonApiMessage.error(MESSAGE_UNSUPPORTED_MEDIA_TYPE));
+            return;
+        }
+
+        JsonApiCommand request;
+        try (InputStream body = exchange.getRequestBody()) {
+            byte[] bytes = body.readNBytes(MAX_BODY_BYTES);
+            request = JsonUtil.fromJsonString(new String(bytes, UTF_8), JsonApiCommand.class);
+        } catch (IOException e) {
+            request = null;
+        }
+        if (request == null || request.getCommand() == null) {
+            sendJson(exchange, STATUS_BAD_REQUEST, JsonApiMessage.error(MESSAGE_INVALID_BODY));
+            return;
+        }
+        if (request.getPerson() != null && !ID.isValidId(request.getPerson())) {
+            sendJson(exchange, STATUS_BAD_REQUEST, JsonApiMessage.error(ID.MESSAGE_CONSTRAINTS));
+            return;
+        }
+
+        try {
+            CommandResult commandResult = execute(Optional.ofNullable(request.getPerson()).map(ID::new),
+                    request.getCommand());
+            sendJson(exchange, STATUS_OK, JsonApiMessage.feedback(commandResult.getFeedbackToUser()));
+        } catch (CommandException | ParseException e) {
+            sendJson(exchange, STATUS_BAD_REQUEST, JsonApiMessage.error(e.getMessage()));
+        }
+    }
+
+    private boolean isAllowed(HttpExchange exchange, String allowedMethod, String method, String path)
+            throws IOException {
+        if (allowedMethod.equals(method)) {
+            return true;
+        }
+        exchange.getResponseHeaders().set("Allow", allowedMethod);
+        sendJson(exchange, STATUS_METHOD_NOT_ALLOWED,
+                JsonApiMessage.error(String.format(MESSAGE_METHOD_NOT_ALLOWED, method, path)));
+        return false;
+    }
+
+    private void sendNotFound(HttpExchange exchange, String path) throws IOException {
+        sendJson(exchange, STATUS_NOT_FOUND, JsonApiMessage.error(String.format(MESSAGE_NOT_FOUND, path)));
+    }
+
+    private void sendJson(HttpExchange exchange, int status, Object body) throws IOException {
+        send(exchange, status, JsonUtil.toCompactJsonString(body).getBytes(UTF_8));
+    }
+
+    private void send(HttpExchange exchange, int status, byte[] body) throws IOException {
+        exchange.getResponseHeaders().set("Content-Type", JSON_MEDIA_TYPE + "; charset=utf-8");
+        exchange.sendResponseHeaders(status, body.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(body);
+        }
+    }
+
+    /**
+     * The day views of a person, and the version of the person they were built from.
+     */
+    private static class CachedDays {
+        private final long version;
+        private final ApiSnapshot.PersonDays days;
+
+        CachedDays(long version, ApiSnapshot.PersonDays days) {
+            this.version = version;
+            this.days = days;
+        }
+    }
+}
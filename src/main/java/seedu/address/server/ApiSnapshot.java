@@ -0,0 +1,103 @@
+package seedu.address.server;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.io.IOException;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import seedu.address.commons.util.JsonUtil;
+
+/**
+ * The persons of My Fitness Buddy as they were after one write, which any number of threads can read at once.
+ *
+ * The days of a person are added the first time they are asked for, so that a snapshot does not load the days of
+ * persons no one reads. The JSON of each list is rendered once and then served as is.
+ */
+class ApiSnapshot {
+
+    private final long modificationCount;
+    private final List<JsonApiPerson> persons;
+    private final Map<String, JsonApiPerson> personsById = new LinkedHashMap<>();
+    private final ConcurrentMap<String, PersonDays> daysById = new ConcurrentHashMap<>();
+    private volatile byte[] personsJson;
+
+    ApiSnapshot(long modificationCount, List<JsonApiPerson> persons) {
+        this.modificationCount = modificationCount;
+        this.persons = Collections.unmodifiableList(persons);
+        for (JsonApiPerson person : persons) {
+            personsById.put(person.getId(), person);
+        }
+    }
+
+    long getModificationCount() {
+        return modificationCount;
+    }
+
+    boolean hasPerson(String id) {
+        return personsById.containsKey(id);
+    }
+
+    /**
+     * Returns the days of the person with {@code id}, or null if they have not been added yet.
+     */
+    PersonDays getDays(String id) {
+        return daysById.get(id);
+    }
+
+    void putDays(String id, PersonDays days) {
+        daysById.put(id, days);
+    }
+
+    /**
+     * Returns the persons as a JSON array.
+     */
+    byte[] getPersonsJson() throws IOException {
+        byte[] json = personsJson;
+        if (json == null) {
+            // rendering twice on a race is harmless, as both renderings are the same
+            json = JsonUtil.toCompactJsonString(persons).getBytes(UTF_8);
+            personsJson = json;
+        }
+        return json;
+    }
+
+    /**
+     * The days of one person, in date order.
+     */
+    static class PersonDays {
+        private final List<JsonApiDay> days;
+        private final Map<String, JsonApiDay> daysByDate = new LinkedHashMap<>();
+        private volatile byte[] daysJson;
+
+        PersonDays(List<JsonApiDay> days) {
+            this.days = Collections.unmodifiableList(days);
+            for (JsonApiDay day : days) {
+                daysByDate.put(day.getDate(), day);
+            }
+        }
+
+        /**
+         * Returns the day on {@code date}, or null if there is none.
+         */
+        JsonApiDay getDay(String date) {
+            return daysByDate.get(date);
+        }
+
+        /**
+         * Returns the days as a JSON array.
+         */
+        byte[] getDaysJson() throws IOException {
+            byte[] json = daysJson;
+            if (json == null) {
+                json = JsonUtil.toCompactJsonString(days).getBytes(UTF_8);
+                daysJson = json;
+            }
+            return json;
+        }
+    }
+}
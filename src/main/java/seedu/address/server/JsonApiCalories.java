@@ -0,0 +1,44 @@
+package seedu.address.server;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import seedu.address.model.calorie.CalorieEntries;
+import seedu.address.model.calorie.Time;
+
+/**
+ * Jackson-friendly view of the calorie inputs and outputs of one day, as served by the {@code ApiServer}.
+ */
+class JsonApiCalories {
+
+    private final String date;
+    private final List<Entry> inputs = new ArrayList<>();
+    private final List<Entry> outputs = new ArrayList<>();
+
+    /**
+     * Lists the entries of {@code day}.
+     */
+    public JsonApiCalories(JsonApiDay day) {
+        date = day.getDate();
+        CalorieEntries entries = day.getCalorieEntries();
+        entries.forEachInput((minuteOfDay, food, calorieCount) ->
+                inputs.add(new Entry(minuteOfDay, food, calorieCount)));
+        entries.forEachOutput((minuteOfDay, exercise, calorieCount) ->
+                outputs.add(new Entry(minuteOfDay, exercise, calorieCount)));
+    }
+
+    /**
+     * A calorie input or output, named by its food or exercise.
+     */
+    static class Entry {
+        private final String time;
+        private final String name;
+        private final int calorieCount;
+
+        Entry(int minuteOfDay, String name, int calorieCount) {
+            this.time = Time.fromMinuteOfDay(minuteOfDay);
+            this.name = name;
+            this.calorieCount = calorieCount;
+        }
+    }
+}
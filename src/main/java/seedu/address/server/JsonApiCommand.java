@@ -0,0 +1,32 @@
+package seedu.address.server;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/**
+ * Jackson-friendly body of a request to execute a command, as sent to the {@code ApiServer}, with the id of the person
+ * the command is for if any.
+ */
+class JsonApiCommand {
+
+    private final String command;
+    private final String person;
+
+    @JsonCreator
+    public JsonApiCommand(@JsonProperty("command") String command, @JsonProperty("person") String person) {
+        this.command = command;
+        this.person = person;
+    }
+
+    public JsonApiCommand(String command) {
+        this(command, null);
+    }
+
+    public String getCommand() {
+        return command;
+    }
+
+    public String getPerson() {
+        return person;
+    }
+}
@@ -0,0 +1,39 @@
+package seedu.address.server;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
+import seedu.address.model.calorie.CalorieEntries;
+import seedu.address.model.day.Day;
+
+/**
+ * Jackson-friendly view of a {@link Day} and its calorie totals, as served by the {@code ApiServer}.
+ * The calorie entries are kept in their immutable compact form, for {@link JsonApiCalories}.
+ */
+class JsonApiDay {
+
+    private final String date;
+    private final String weight;
+    private final int totalCalorieIn;
+    private final int totalCalorieOut;
+    @JsonIgnore
+    private final CalorieEntries calorieEntries;
+
+    /**
+     * Copies {@code source}, which must not change while it is being copied.
+     */
+    public JsonApiDay(Day source) {
+        date = source.getDate().value;
+        weight = source.getWeight().value;
+        calorieEntries = source.getCalorieEntries();
+        totalCalorieIn = calorieEntries.getTotalInputCalorie();
+        totalCalorieOut = calorieEntries.getTotalOutputCalorie();
+    }
+
+    public String getDate() {
+        return date;
+    }
+
+    public CalorieEntries getCalorieEntries() {
+        return calorieEntries;
+    }
+}
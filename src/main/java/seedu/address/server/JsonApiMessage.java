@@ -0,0 +1,26 @@
+package seedu.address.server;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+/**
+ * Jackson-friendly body of a response that carries only a message: the feedback of a command, or an error.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+class JsonApiMessage {
+
+    private final String feedback;
+    private final String error;
+
+    private JsonApiMessage(String feedback, String error) {
+        this.feedback = feedback;
+        this.error = error;
+    }
+
+    static JsonApiMessage feedback(String feedback) {
+        return new JsonApiMessage(feedback, null);
+    }
+
+    static JsonApiMessage error(String error) {
+        return new JsonApiMessage(null, error);
+    }
+}
@@ -0,0 +1,34 @@
+package seedu.address.server;
+
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Profile;
+
+/**
+ * Jackson-friendly view of the profile of a {@link Person}, as served by the {@code ApiServer}.
+ */
+class JsonApiPerson {
+
+    private final String id;
+    private final String name;
+    private final String height;
+    private final String startingWeight;
+    private final int age;
+    private final String startingDate;
+
+    /**
+     * Copies the profile of {@code source}, which must not change while it is being copied.
+     */
+    public JsonApiPerson(Person source) {
+        Profile profile = source.getProfile();
+        id = profile.getId().value;
+        name = profile.getName().fullName;
+        height = profile.getHeight().value;
+        startingWeight = profile.getStartingWeight().value;
+        age = profile.getAge();
+        startingDate = profile.getStartDate() == null ? null : profile.getStartDate().value;
+    }
+
+    public String getId() {
+        return id;
+    }
+}
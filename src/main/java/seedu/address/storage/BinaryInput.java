@@ -0,0 +1,85 @@
+package seedu.address.storage;
+
+import java.io.ByteArrayInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Reads the primitives written by {@link BinaryOutput} from a stream.
+ */
+class BinaryInput {
+
+    private final InputStream in;
+
+    BinaryInput(InputStream in) {
+        this.in = in;
+    }
+
+    /**
+     * Reads a varint.
+     *
+     * @throws IOException if the stream ends early or the varint does not fit in a long.
+     */
+    long readVarLong() throws IOException {
+        long value = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            int b = readByte();
+            value |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new IOException("Malformed varint");
+    }
+
+    /**
+     * Reads a varint that must be at most {@code max}.
+     */
+    int readVarInt(int max) throws IOException {
+        long value = readVarLong();
+        if (value < 0 || value > max) {
+            throw new IOException("Value out of range: " + value);
+        }
+        return (int) value;
+    }
+
+    /**
+     * Reads a zigzag-encoded varint.
+     */
+    long readSignedVarLong() throws IOException {
+        long encoded = readVarLong();
+        return (encoded >>> 1) ^ -(encoded & 1);
+    }
+
+    /**
+     * Reads a string written by {@link BinaryOutput#writeString(String)}.
+     */
+    String readString() throws IOException {
+        return new String(readBytes(readVarInt(Integer.MAX_VALUE)), StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Reads a block written by {@link BinaryOutput#writeBlock(BinaryOutput)} and returns an input over its contents.
+     */
+    BinaryInput readBlock() throws IOException {
+        return new BinaryInput(new ByteArrayInputStream(readBytes(readVarInt(Integer.MAX_VALUE))));
+    }
+
+    private byte[] readBytes(int length) throws IOException {
+        byte[] bytes = in.readNBytes(length);
+        if (bytes.length != length) {
+            throw new EOFException("Unexpected end of data");
+        }
+        return bytes;
+    }
+
+    private int readByte() throws IOException {
+        int b = in.read();
+        if (b < 0) {
+            throw new EOFException("Unexpected end of data");
+        }
+        return b;
+    }
+}
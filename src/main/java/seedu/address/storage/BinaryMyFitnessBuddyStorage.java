@@ -0,0 +1,278 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.ReadOnlyMyFitnessBuddy;
+import seedu.address.model.calorie.CalorieEntries;
+import seedu.address.model.calorie.Input;
+import seedu.address.model.calorie.Output;
+import seedu.address.model.day.Day;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Profile;
+
+/**
+ * A class to access My Fitness Buddy data stored in a compact binary file on the hard disk.
+ *
+ * The file starts with the bytes {@code MFBD} and a varint format version. Version 2 continues with a dictionary of the
+ * strings that repeat across days (food and exercise names, weights and heights), the number of persons, and one
+ * length-prefixed block per person. Numbers are varints: dates are epoch days, each day's relative to the one before
+ * it, times are minutes of the day, and calorie counts are kcal. The id of a person is written as its text, so that it
+ * reads back exactly as it was; version 1 files, which wrote it as a number, can still be read.
+ */
+public class BinaryMyFitnessBuddyStorage implements MyFitnessBuddyStorage {
+
+    public static final int FORMAT_VERSION = 2;
+    public static final int NUMERIC_ID_FORMAT_VERSION = 1;
+    public static final String MESSAGE_NOT_BINARY_DATA = "File is not a My Fitness Buddy binary data file";
+    public static final String MESSAGE_UNSUPPORTED_VERSION = "Binary data file version %d is not supported";
+    public static final String MESSAGE_UNKNOWN_STRING = "Binary data file refers to unknown string %d";
+
+    private static final byte[] MAGIC = "MFBD".getBytes(StandardCharsets.US_ASCII);
+    private static final int MAX_COUNT = Integer.MAX_VALUE;
+    private static final int BUFFER_SIZE = 1 << 16;
+
+    private static final Logger logger = LogsCenter.getLogger(BinaryMyFitnessBuddyStorage.class);
+
+    private Path filePath;
+
+    public BinaryMyFitnessBuddyStorage(Path filePath) {
+        this.filePath = filePath;
+    }
+
+    @Override
+    public Path getMyFitnessBuddyFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyMyFitnessBuddy> readFitnessBuddy() throws DataConversionException {
+        return readFitnessBuddy(filePath);
+    }
+
+    /**
+     * Similar to {@link #readFitnessBuddy()}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataConversionException if the file is not in the correct format.
+     */
+    @Override
+    public Optional<ReadOnlyMyFitnessBuddy> readFitnessBuddy(Path filePath) throws DataConversionException {
+        requireNonNull(filePath);
+        return DataFileRecovery.read(filePath, BinaryMyFitnessBuddyStorage::readFile);
+    }
+
+    private static Optional<ReadOnlyMyFitnessBuddy> readFile(Path filePath) throws DataConversionException {
+        if (!Files.exists(filePath)) {
+            logger.info("Binary data file " + filePath + " not found");
+            return Optional.empty();
+        }
+
+        try (InputStream in = new BufferedInputStream(Files.newInputStream(filePath), BUFFER_SIZE)) {
+            BinaryInput input = new BinaryInput(in);
+            if (!Arrays.equals(in.readNBytes(MAGIC.length), MAGIC)) {
+                throw new IllegalValueException(MESSAGE_NOT_BINARY_DATA);
+            }
+            int version = input.readVarInt(MAX_COUNT);
+            if (version != FORMAT_VERSION && version != NUMERIC_ID_FORMAT_VERSION) {
+                throw new IllegalValueException(String.format(MESSAGE_UNSUPPORTED_VERSION, version));
+            }
+
+            String[] strings = new String[input.readVarInt(MAX_COUNT)];
+            for (int i = 0; i < strings.length; i++) {
+                strings[i] = input.readString();
+            }
+            int personCount = input.readVarInt(MAX_COUNT);
+            ParallelPersonConverter converter = new ParallelPersonConverter();
+            for (int i = 0; i < personCount; i++) {
+                JsonAdaptedPerson person = readPerson(input.readBlock(), strings, version);
+                converter.submit(person::toModelType);
+            }
+            return Optional.of(JsonSerializableMyFitnessBuddy.toModelType(converter.join()));
+        } catch (IOException | IllegalValueException e) {
+            logger.warning("Error reading from binary data file " + filePath + ": " + e);
+            throw new DataConversionException(e);
+        }
+    }
+
+    @Override
+    public void saveFitnessBuddy(ReadOnlyMyFitnessBuddy myFitnessBuddy) throws IOException {
+        saveFitnessBuddy(myFitnessBuddy, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveFitnessBuddy(ReadOnlyMyFitnessBuddy)}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    @Override
+    public void saveFitnessBuddy(ReadOnlyMyFitnessBuddy myFitnessBuddy, Path filePath) throws IOException {
+        prepareSave(myFitnessBuddy, filePath).write();
+    }
+
+    /**
+     * Captures the data as its encoded person blocks and dictionary, and marks the data as saved.
+     */
+    @Override
+    public PendingSave prepareSave(ReadOnlyMyFitnessBuddy myFitnessBuddy, Path filePath) {
+        requireNonNull(myFitnessBuddy);
+        requireNonNull(filePath);
+        Dictionary dictionary = new Dictionary();
+        List<BinaryOutput> blocks = new ArrayList<>();
+        for (Person person : myFitnessBuddy.getPersonList()) {
+            blocks.add(writePerson(person, dictionary));
+        }
+
+        BinaryOutput header = new BinaryOutput();
+        header.writeBytes(MAGIC, 0, MAGIC.length);
+        header.writeVarLong(FORMAT_VERSION);
+        header.writeVarLong(dictionary.strings.size());
+        for (String string : dictionary.strings) {
+            header.writeString(string);
+        }
+        header.writeVarLong(blocks.size());
+        myFitnessBuddy.getChangeLog().markSaved();
+
+        return new PendingSave(filePath, true, () -> {
+            FileUtil.writeAtomically(filePath, true, out -> {
+                header.writeTo(out);
+                for (BinaryOutput block : blocks) {
+                    block.writeBlockTo(out);
+                }
+            });
+            logger.info("Save completed");
+        });
+    }
+
+    private static BinaryOutput writePerson(Person person, Dictionary dictionary) {
+        BinaryOutput block = new BinaryOutput();
+        Profile profile = person.getProfile();
+        block.writeString(profile.getName().fullName);
+        block.writeString(profile.getId().value);
+        block.writeVarLong(dictionary.indexOf(profile.getHeight().value));
+        block.writeVarLong(dictionary.indexOf(profile.getStartingWeight().value));
+        long previousEpochDay = profile.getStartDate().toEpochDay();
+        block.writeSignedVarLong(previousEpochDay);
+
+        List<Day> days = person.getDayList();
+        block.writeVarLong(days.size());
+        for (Day day : days) {
+            long epochDay = day.getDate().toEpochDay();
+            block.writeSignedVarLong(epochDay - previousEpochDay);
+            previousEpochDay = epochDay;
+            block.writeVarLong(dictionary.indexOf(day.getWeight().value));
+
+            CalorieEntries entries = day.getCalorieEntries();
+            List<Input> inputs = entries.toInputList();
+            block.writeVarLong(inputs.size());
+            for (Input input : inputs) {
+                block.writeVarLong(input.getTime().getMinuteOfDay());
+                block.writeVarLong(dictionary.indexOf(input.getFood().food));
+                block.writeVarLong(input.getCalorieCount().getValue());
+            }
+            List<Output> outputs = entries.toOutputList();
+            block.writeVarLong(outputs.size());
+            for (Output output : outputs) {
+                block.writeVarLong(output.getTime().getMinuteOfDay());
+                block.writeVarLong(dictionary.indexOf(output.getExercise().exercise));
+                block.writeVarLong(output.getCalorieCount().getValue());
+            }
+        }
+        return block;
+    }
+
+    /**
+     * Decodes a person block of a file in format {@code version} into its Jackson-friendly form, so that it is
+     * validated the same way as json data.
+     */
+    private static JsonAdaptedPerson readPerson(BinaryInput block, String[] strings, int version)
+            throws IOException, IllegalValueException {
+        String name = block.readString();
+        String id = version == NUMERIC_ID_FORMAT_VERSION
+                ? String.format("%04d", block.readVarLong())
+                : block.readString();
+        String height = lookUp(strings, block.readVarLong());
+        String startingWeight = lookUp(strings, block.readVarLong());
+        long previousEpochDay = block.readSignedVarLong();
+        JsonAdaptedProfile profile = new JsonAdaptedProfile(name, id, height, startingWeight,
+                toDateString(previousEpochDay));
+
+        int dayCount = block.readVarInt(MAX_COUNT);
+        List<JsonAdaptedDay> days = new ArrayList<>();
+        for (int i = 0; i < dayCount; i++) {
+            previousEpochDay += block.readSignedVarLong();
+            String weight = lookUp(strings, block.readVarLong());
+
+            int inputCount = block.readVarInt(MAX_COUNT);
+            List<JsonAdaptedInput> inputs = new ArrayList<>();
+            for (int j = 0; j < inputCount; j++) {
+                String time = toTimeString(block.readVarLong());
+                String food = lookUp(strings, block.readVarLong());
+                inputs.add(new JsonAdaptedInput(time, food, String.valueOf(block.readVarLong())));
+            }
+            int outputCount = block.readVarInt(MAX_COUNT);
+            List<JsonAdaptedOutput> outputs = new ArrayList<>();
+            for (int j = 0; j < outputCount; j++) {
+                String time = toTimeString(block.readVarLong());
+                String exercise = lookUp(strings, block.readVarLong());
+                outputs.add(new JsonAdaptedOutput(time, exercise, String.valueOf(block.readVarLong())));
+            }
+            days.add(new JsonAdaptedDay(toDateString(previousEpochDay), weight,
+                    new JsonAdaptedCalorieManager(inputs, outputs)));
+        }
+        return new JsonAdaptedPerson(profile, days);
+    }
+
+    private static String lookUp(String[] strings, long index) throws IllegalValueException {
+        if (index >= strings.length) {
+            throw new IllegalValueException(String.format(MESSAGE_UNKNOWN_STRING, index));
+        }
+        return strings[(int) index];
+    }
+
+    private static String toDateString(long epochDay) throws IllegalValueException {
+        try {
+            return LocalDate.ofEpochDay(epochDay).toString();
+        } catch (DateTimeException e) {
+            throw new IllegalValueException(e.getMessage());
+        }
+    }
+
+    private static String toTimeString(long minuteOfDay) {
+        return String.format("%02d%02d", minuteOfDay / 60, minuteOfDay % 60);
+    }
+
+    /**
+     * Numbers the distinct strings written, in the order they are first seen.
+     */
+    private static class Dictionary {
+        private final Map<String, Integer> indices = new HashMap<>();
+        private final List<String> strings = new ArrayList<>();
+
+        int indexOf(String string) {
+            return indices.computeIfAbsent(string, unused -> {
+                strings.add(string);
+                return strings.size() - 1;
+            });
+        }
+    }
+}
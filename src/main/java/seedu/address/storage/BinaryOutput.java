@@ -0,0 +1,98 @@
+package seedu.address.storage;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * A growable buffer of bytes written with the primitives of the binary data file format.
+ * Non-negative numbers are written as base-128 varints, least significant group first.
+ */
+class BinaryOutput {
+
+    private byte[] bytes;
+    private int size;
+
+    BinaryOutput() {
+        this(64);
+    }
+
+    BinaryOutput(int initialCapacity) {
+        bytes = new byte[Math.max(initialCapacity, 16)];
+    }
+
+    /**
+     * Writes the non-negative {@code value} as a varint.
+     */
+    void writeVarLong(long value) {
+        assert value >= 0 : "Varints hold non-negative values";
+        writeUnsignedVarLong(value);
+    }
+
+    /**
+     * Writes {@code value}, which may be negative, as a zigzag-encoded varint.
+     */
+    void writeSignedVarLong(long value) {
+        writeUnsignedVarLong((value << 1) ^ (value >> 63));
+    }
+
+    /**
+     * Writes the 64 bits of {@code value} as an unsigned varint.
+     */
+    private void writeUnsignedVarLong(long value) {
+        ensureCapacity(10);
+        while ((value & ~0x7FL) != 0) {
+            bytes[size++] = (byte) ((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        bytes[size++] = (byte) value;
+    }
+
+    /**
+     * Writes {@code value} as its UTF-8 length followed by its UTF-8 bytes.
+     */
+    void writeString(String value) {
+        byte[] utf8 = value.getBytes(StandardCharsets.UTF_8);
+        writeVarLong(utf8.length);
+        writeBytes(utf8, 0, utf8.length);
+    }
+
+    /**
+     * Writes everything in {@code block} prefixed by its length.
+     */
+    void writeBlock(BinaryOutput block) {
+        writeVarLong(block.size);
+        writeBytes(block.bytes, 0, block.size);
+    }
+
+    /**
+     * Writes this buffer to {@code out} as a block prefixed by its length, as {@link #writeBlock(BinaryOutput)} would.
+     */
+    void writeBlockTo(OutputStream out) throws IOException {
+        BinaryOutput lengthPrefix = new BinaryOutput(16);
+        lengthPrefix.writeVarLong(size);
+        lengthPrefix.writeTo(out);
+        writeTo(out);
+    }
+
+    void writeBytes(byte[] source, int offset, int length) {
+        ensureCapacity(length);
+        System.arraycopy(source, offset, bytes, size, length);
+        size += length;
+    }
+
+    int size() {
+        return size;
+    }
+
+    void writeTo(OutputStream out) throws IOException {
+        out.write(bytes, 0, size);
+    }
+
+    private void ensureCapacity(int extra) {
+        if (size + extra > bytes.length) {
+            bytes = Arrays.copyOf(bytes, Math.max(bytes.length * 2, size + extra));
+        }
+    }
+}
@@ -0,0 +1,116 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Optional;
+
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.model.ReadOnlyMyFitnessBuddy;
+
+/**
+ * Converts My Fitness Buddy data files between the json, binary and sharded formats.
+ * Journals kept alongside the source file are replayed, so the converted file holds the latest data.
+ */
+public class DataFileConverter {
+
+    public static final String BINARY_FILE_EXTENSION = ".bin";
+    public static final String JSON_FILE_EXTENSION = ".json";
+    public static final String MESSAGE_USAGE = "Usage: DataFileConverter SOURCE TARGET\n"
+            + "Files ending in " + BINARY_FILE_EXTENSION + " are read and written in the binary format, files named "
+            + ShardedMyFitnessBuddyStorage.MANIFEST_FILE_NAME + " in the sharded format, and others as json.";
+
+    /**
+     * Converts the json data file at {@code jsonFilePath} into a binary one at {@code binaryFilePath}.
+     *
+     * @return false if there is no data file at {@code jsonFilePath}.
+     */
+    public static boolean jsonToBinary(Path jsonFilePath, Path binaryFilePath)
+            throws DataConversionException, IOException {
+        return convert(new JournaledMyFitnessBuddyStorage(new JsonMyFitnessBuddyStorage(jsonFilePath)),
+                new BinaryMyFitnessBuddyStorage(binaryFilePath));
+    }
+
+    /**
+     * Converts the binary data file at {@code binaryFilePath} into a json one at {@code jsonFilePath}.
+     *
+     * @return false if there is no data file at {@code binaryFilePath}.
+     */
+    public static boolean binaryToJson(Path binaryFilePath, Path jsonFilePath)
+            throws DataConversionException, IOException {
+        return convert(new JournaledMyFitnessBuddyStorage(new BinaryMyFitnessBuddyStorage(binaryFilePath)),
+                new JsonMyFitnessBuddyStorage(jsonFilePath));
+    }
+
+    /**
+     * Returns the path of the binary data file that goes with the json data file at {@code jsonFilePath}.
+     */
+    public static Path toBinaryFilePath(Path jsonFilePath) {
+        requireNonNull(jsonFilePath);
+        String fileName = jsonFilePath.getFileName().toString();
+        if (fileName.endsWith(JSON_FILE_EXTENSION)) {
+            fileName = fileName.substring(0, fileName.length() - JSON_FILE_EXTENSION.length());
+        }
+        return jsonFilePath.resolveSibling(fileName + BINARY_FILE_EXTENSION);
+    }
+
+    /**
+     * Returns the path of the manifest of the sharded data that goes with the json data file at {@code jsonFilePath}.
+     * The manifest and shards are kept in a directory named after the json data file.
+     */
+    public static Path toShardedFilePath(Path jsonFilePath) {
+        requireNonNull(jsonFilePath);
+        String fileName = jsonFilePath.getFileName().toString();
+        if (fileName.endsWith(JSON_FILE_EXTENSION)) {
+            fileName = fileName.substring(0, fileName.length() - JSON_FILE_EXTENSION.length());
+        }
+        return jsonFilePath.resolveSibling(fileName).resolve(ShardedMyFitnessBuddyStorage.MANIFEST_FILE_NAME);
+    }
+
+    /**
+     * Copies the data read by {@code source} into {@code target}.
+     *
+     * @return false if {@code source} has no data.
+     */
+    public static boolean convert(MyFitnessBuddyStorage source, MyFitnessBuddyStorage target)
+            throws DataConversionException, IOException {
+        Optional<ReadOnlyMyFitnessBuddy> data = source.readFitnessBuddy();
+        if (data.isEmpty()) {
+            return false;
+        }
+        target.saveFitnessBuddy(data.get());
+        return true;
+    }
+
+    /**
+     * Converts the data file named by the first argument into the one named by the second.
+     */
+    public static void main(String[] args) throws DataConversionException, IOException {
+        if (args.length != 2) {
+            System.err.println(MESSAGE_USAGE);
+            System.exit(1);
+        }
+        Path source = Paths.get(args[0]);
+        Path target = Paths.get(args[1]);
+        boolean isFound = convert(new JournaledMyFitnessBuddyStorage(storageFor(source)), storageFor(target));
+        if (!isFound) {
+            System.err.println("No data file at " + source);
+            System.exit(1);
+        }
+    }
+
+    /**
+     * Returns the storage for the data file at {@code filePath}, choosing its format by the name of the file.
+     */
+    private static MyFitnessBuddyStorage storageFor(Path filePath) {
+        String fileName = filePath.getFileName().toString();
+        if (fileName.endsWith(BINARY_FILE_EXTENSION)) {
+            return new BinaryMyFitnessBuddyStorage(filePath);
+        } else if (fileName.equals(ShardedMyFitnessBuddyStorage.MANIFEST_FILE_NAME)) {
+            return new ShardedMyFitnessBuddyStorage(filePath);
+        }
+        return new JsonMyFitnessBuddyStorage(filePath);
+    }
+}
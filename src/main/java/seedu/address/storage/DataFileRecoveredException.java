@@ -0,0 +1,41 @@
+package seedu.address.storage;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.model.ReadOnlyMyFitnessBuddy;
+
+/**
+ * Signals that a data file could not be read and its data was read from the backup kept by the last save instead.
+ * The changes saved after the backup was made are lost, so the caller is made to handle this before using the data.
+ */
+public class DataFileRecoveredException extends DataConversionException {
+
+    private final ReadOnlyMyFitnessBuddy recoveredData;
+
+    /**
+     * Constructs a {@code DataFileRecoveredException} with the data read from the backup, and {@code cause} of the
+     * data file not being readable.
+     *
+     * @param message reports the recovery to the user.
+     */
+    public DataFileRecoveredException(String message, ReadOnlyMyFitnessBuddy recoveredData, Exception cause) {
+        super(message, cause);
+        requireAllNonNull(message, recoveredData);
+        this.recoveredData = recoveredData;
+    }
+
+    /**
+     * Returns the data read from the backup. Its changes are not known, so it is saved in full.
+     */
+    public ReadOnlyMyFitnessBuddy getRecoveredData() {
+        return recoveredData;
+    }
+
+    /**
+     * Returns a {@code DataFileRecoveredException} like this one, with {@code note} added to its message.
+     */
+    public DataFileRecoveredException withNote(String note) {
+        return new DataFileRecoveredException(getMessage() + " " + note, recoveredData, (Exception) getCause());
+    }
+}
@@ -0,0 +1,67 @@
+package seedu.address.storage;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.ReadOnlyMyFitnessBuddy;
+
+/**
+ * Reads a data file, falling back to the backup kept by the last save if the file cannot be read, so that a damaged
+ * file costs at most the last save instead of all the data.
+ */
+class DataFileRecovery {
+
+    static final String MESSAGE_RECOVERED = "Data file %1$s could not be read, so the data was read from its backup"
+            + " %2$s. Changes saved after the backup was made are lost.";
+
+    private static final Logger logger = LogsCenter.getLogger(DataFileRecovery.class);
+
+    /**
+     * Reads the data in {@code filePath} with {@code reader}.
+     * Returns {@code Optional.empty()} if the file is not found, as there is then nothing to recover.
+     *
+     * @throws DataFileRecoveredException holding the data in the backup of the file, if the file cannot be read but
+     *     its backup can. The changes of the data are marked unknown, so that it is saved in full.
+     * @throws DataConversionException of reading the file, if its backup is missing or cannot be read either.
+     */
+    static Optional<ReadOnlyMyFitnessBuddy> read(Path filePath, Reader reader) throws DataConversionException {
+        requireAllNonNull(filePath, reader);
+        try {
+            return reader.read(filePath);
+        } catch (DataConversionException e) {
+            Path backupFilePath = FileUtil.getBackupFilePath(filePath);
+            if (!Files.exists(backupFilePath)) {
+                throw e;
+            }
+            logger.warning("Data file " + filePath + " cannot be read, reading its backup " + backupFilePath);
+            Optional<ReadOnlyMyFitnessBuddy> backup;
+            try {
+                backup = reader.read(backupFilePath);
+            } catch (DataConversionException backupException) {
+                e.addSuppressed(backupException);
+                throw e;
+            }
+            if (backup.isEmpty()) {
+                throw e;
+            }
+            backup.get().getChangeLog().invalidate();
+            throw new DataFileRecoveredException(String.format(MESSAGE_RECOVERED, filePath, backupFilePath),
+                    backup.get(), e);
+        }
+    }
+
+    /**
+     * Reads the data in a file.
+     */
+    @FunctionalInterface
+    interface Reader {
+        Optional<ReadOnlyMyFitnessBuddy> read(Path filePath) throws DataConversionException;
+    }
+}
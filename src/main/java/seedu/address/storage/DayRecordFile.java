@@ -0,0 +1,392 @@
+package seedu.address.storage;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.DayImport;
+import seedu.address.model.DayRecordFilter;
+import seedu.address.model.ReadOnlyMyFitnessBuddy;
+import seedu.address.model.calorie.CalorieEntries;
+import seedu.address.model.calorie.Time;
+import seedu.address.model.day.Day;
+import seedu.address.model.person.Person;
+
+/**
+ * Reads and writes day record files: the weights and calorie entries of persons, one per line, as CSV or as NDJSON.
+ *
+ * A CSV file starts with a header naming its columns, in any order, from {@link DayRecordFormat#CSV_COLUMNS}.
+ * Fields may be quoted, with {@code ""} for a quote inside a quoted field. The content of a quoted field is read as
+ * it is, line breaks included, while an unquoted field is trimmed and read as missing if it is empty.
+ * An NDJSON file holds one {@link JsonAdaptedDayRecord} object per line. Blank lines between records are skipped in
+ * both.
+ *
+ * Each record is parsed and validated as it is read, and written as it is reached, so the text of the file is never
+ * held in memory.
+ */
+class DayRecordFile {
+
+    public static final List<String> CSV_COLUMNS = DayRecordFormat.CSV_COLUMNS;
+    public static final String CSV_HEADER = DayRecordFormat.CSV_HEADER;
+
+    public static final String MESSAGE_LINE_ERROR = "Line %d: %s";
+    public static final String MESSAGE_MISSING_HEADER = "The CSV header should name the columns " + CSV_HEADER;
+    public static final String MESSAGE_MISSING_COLUMN = "The CSV header has no %s column";
+    public static final String MESSAGE_UNCLOSED_QUOTE = "A quoted field is not closed";
+    public static final String MESSAGE_FIELD_COUNT = "Expected %d fields but found %d";
+
+    /**
+     * Reads every record in {@code filePath} into a new {@code DayImport}.
+     *
+     * @throws IOException if the file cannot be read.
+     * @throws DataConversionException if a line is not a valid record, naming the line.
+     */
+    static DayImport read(Path filePath, DayRecordFormat format) throws IOException, DataConversionException {
+        DayImport dayImport = new DayImport();
+        read(filePath, format, record -> record.addTo(dayImport));
+        return dayImport;
+    }
+
+    /**
+     * Reads the records in {@code filePath} one line at a time, passing each to {@code consumer} before the next line
+     * is read.
+     *
+     * @throws IOException if the file cannot be read.
+     * @throws DataConversionException if a record is not valid or {@code consumer} rejects it, naming the line the
+     *     record starts on.
+     */
+    static void read(Path filePath, DayRecordFormat format, JsonUtil.ElementConsumer<JsonAdaptedDayRecord> consumer)
+            throws IOException, DataConversionException {
+        requireAllNonNull(filePath, format, consumer);
+        try (BufferedReader reader = Files.newBufferedReader(filePath, StandardCharsets.UTF_8)) {
+            LineParser parser = format == DayRecordFormat.CSV ? new CsvLineParser() : DayRecordFile::parseJsonLine;
+            int lineNumber = 0;
+            int recordLineNumber = 0;
+            String line;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                if (!parser.isInRecord()) {
+                    if (line.isBlank()) {
+                        continue;
+                    }
+                    recordLineNumber = lineNumber;
+                }
+                try {
+                    JsonAdaptedDayRecord record = parser.parse(line);
+                    if (record != null) {
+                        consumer.accept(record);
+                    }
+                } catch (IllegalValueException e) {
+                    throw lineError(recordLineNumber, e);
+                }
+            }
+            try {
+                parser.finish();
+            } catch (IllegalValueException e) {
+                throw lineError(recordLineNumber, e);
+            }
+        }
+    }
+
+    private static DataConversionException lineError(int lineNumber, IllegalValueException e) {
+        return new DataConversionException(new IllegalValueException(
+                String.format(MESSAGE_LINE_ERROR, lineNumber, e.getMessage()), e));
+    }
+
+    /**
+     * Writes the weights and calorie entries of the persons and days in {@code myFitnessBuddy} selected by
+     * {@code filter} to {@code filePath}, walking the persons and their days in order and writing each row as it is
+     * reached. The file is replaced in one step, so a failed write leaves the old file in place.
+     *
+     * @return the number of rows written.
+     * @throws IOException if the file cannot be written.
+     */
+    static long write(Path filePath, DayRecordFormat format, ReadOnlyMyFitnessBuddy myFitnessBuddy,
+                      DayRecordFilter filter) throws IOException {
+        requireAllNonNull(filePath, format, myFitnessBuddy, filter);
+        RecordWriter recordWriter = format == DayRecordFormat.CSV ? new CsvRecordWriter() : new JsonRecordWriter();
+        FileUtil.writeAtomically(filePath, false, out -> recordWriter.writeAll(out, myFitnessBuddy, filter));
+        return recordWriter.rowCount;
+    }
+
+    private static JsonAdaptedDayRecord parseJsonLine(String line) throws IllegalValueException {
+        try {
+            return JsonUtil.fromJsonString(line, JsonAdaptedDayRecord.class);
+        } catch (IOException e) {
+            throw new IllegalValueException(e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Parses the lines of a file one at a time.
+     */
+    @FunctionalInterface
+    private interface LineParser {
+        /**
+         * Returns the record ending on {@code line}, or null if the line ends no record.
+         */
+        JsonAdaptedDayRecord parse(String line) throws IllegalValueException;
+
+        /**
+         * Returns true if the last line parsed left a record unfinished, so that the next line goes on with it.
+         */
+        default boolean isInRecord() {
+            return false;
+        }
+
+        /**
+         * Checks that the last line parsed finished its record, at the end of the file.
+         */
+        default void finish() throws IllegalValueException {
+        }
+    }
+
+    /**
+     * Parses the lines of a CSV file, taking the column of each field from the header on its first line.
+     * A quoted field may go on over several lines.
+     */
+    private static class CsvLineParser implements LineParser {
+        // the fields of the record, with null for a missing one
+        private final List<String> fields = new ArrayList<>(CSV_COLUMNS.size());
+        private final StringBuilder field = new StringBuilder();
+        private boolean isQuoted;
+        private boolean isFieldQuoted;
+        private int[] columnIndexes;
+        private int columnCount;
+
+        @Override
+        public JsonAdaptedDayRecord parse(String line) throws IllegalValueException {
+            if (isQuoted) {
+                field.append('\n');
+            } else {
+                fields.clear();
+                startField();
+            }
+            split(line);
+            if (isQuoted) {
+                return null;
+            }
+            if (columnIndexes == null) {
+                readHeader();
+                return null;
+            }
+            if (fields.size() != columnCount) {
+                throw new IllegalValueException(String.format(MESSAGE_FIELD_COUNT, columnCount, fields.size()));
+            }
+            return new JsonAdaptedDayRecord(fieldOf(0), fieldOf(1), fieldOf(2), fieldOf(3), fieldOf(4), fieldOf(5));
+        }
+
+        private void readHeader() throws IllegalValueException {
+            columnIndexes = new int[CSV_COLUMNS.size()];
+            for (int i = 0; i < columnIndexes.length; i++) {
+                columnIndexes[i] = fields.indexOf(CSV_COLUMNS.get(i));
+            }
+            // id, date and type are needed by every record
+            for (int i = 0; i < 3; i++) {
+                if (columnIndexes[i] < 0) {
+                    throw new IllegalValueException(MESSAGE_MISSING_HEADER + ". "
+                            + String.format(MESSAGE_MISSING_COLUMN, CSV_COLUMNS.get(i)));
+                }
+            }
+            columnCount = fields.size();
+        }
+
+        @Override
+        public boolean isInRecord() {
+            return isQuoted;
+        }
+
+        @Override
+        public void finish() throws IllegalValueException {
+            if (isQuoted) {
+                throw new IllegalValueException(MESSAGE_UNCLOSED_QUOTE);
+            }
+        }
+
+        private String fieldOf(int column) {
+            int index = columnIndexes[column];
+            return index < 0 ? null : fields.get(index);
+        }
+
+        /**
+         * Splits {@code line} into fields, going on with the quoted field left open by the line before if any.
+         * Spaces around a quoted field are skipped, and its content is kept as it is.
+         */
+        private void split(String line) {
+            for (int i = 0; i < line.length(); i++) {
+                char c = line.charAt(i);
+                if (isQuoted) {
+                    if (c != '"') {
+                        field.append(c);
+                    } else if (i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                        field.append('"');
+                        i++;
+                    } else {
+                        isQuoted = false;
+                    }
+                } else if (c == '"') {
+                    if (!isFieldQuoted) {
+                        // drops the spaces before the opening quote
+                        field.setLength(0);
+                    }
+                    isQuoted = true;
+                    isFieldQuoted = true;
+                } else if (c == ',') {
+                    endField();
+                    startField();
+                } else if (!isFieldQuoted || !Character.isWhitespace(c)) {
+                    field.append(c);
+                }
+            }
+            if (!isQuoted) {
+                endField();
+            }
+        }
+
+        private void startField() {
+            field.setLength(0);
+            isFieldQuoted = false;
+        }
+
+        private void endField() {
+            if (isFieldQuoted) {
+                fields.add(field.toString());
+                return;
+            }
+            String value = field.toString().trim();
+            fields.add(value.isEmpty() ? null : value);
+        }
+    }
+
+    /**
+     * Writes the rows of a file, one line each.
+     */
+    private abstract static class RecordWriter {
+        private Writer writer;
+        private long rowCount;
+
+        void writeAll(OutputStream out, ReadOnlyMyFitnessBuddy myFitnessBuddy, DayRecordFilter filter)
+                throws IOException {
+            writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+            writeHeader(writer);
+            for (Person person : myFitnessBuddy.getPersonList()) {
+                String id = person.getProfile().getId().toString();
+                if (!filter.acceptsPerson(person.getProfile().getId())) {
+                    continue;
+                }
+                for (Day day : person.getDayList()) {
+                    LocalDate date = day.getDate().get();
+                    // days are in order of date, so none of the rest are in the range either
+                    if (filter.isPastRange(date)) {
+                        break;
+                    }
+                    if (filter.acceptsDate(date)) {
+                        writeDay(id, day);
+                    }
+                }
+            }
+            writer.flush();
+        }
+
+        private void writeDay(String id, Day day) throws IOException {
+            String date = day.getDate().toString();
+            writeRow(id, date, JsonAdaptedDayRecord.TYPE_WEIGHT, null, null, day.getWeight().toString());
+            CalorieEntries entries = day.getCalorieEntries();
+            entries.forEachInput((minuteOfDay, food, calorieCount) -> writeRow(id, date,
+                    JsonAdaptedDayRecord.TYPE_INPUT, Time.fromMinuteOfDay(minuteOfDay), food,
+                    Integer.toString(calorieCount)));
+            entries.forEachOutput((minuteOfDay, exercise, calorieCount) -> writeRow(id, date,
+                    JsonAdaptedDayRecord.TYPE_OUTPUT, Time.fromMinuteOfDay(minuteOfDay), exercise,
+                    Integer.toString(calorieCount)));
+        }
+
+        private void writeRow(String id, String date, String type, String time, String name, String value)
+                throws IOException {
+            writeRecord(writer, id, date, type, time, name, value);
+            writer.write('\n');
+            rowCount++;
+        }
+
+        abstract void writeHeader(Writer writer) throws IOException;
+
+        /**
+         * Writes one row without its line break. {@code time} and {@code name} are null for a weight.
+         */
+        abstract void writeRecord(Writer writer, String id, String date, String type, String time, String name,
+                                  String value) throws IOException;
+    }
+
+    /**
+     * Writes rows as CSV under the header {@link #CSV_HEADER}, quoting the fields that need it.
+     */
+    private static class CsvRecordWriter extends RecordWriter {
+        @Override
+        void writeHeader(Writer writer) throws IOException {
+            writer.write(CSV_HEADER);
+            writer.write('\n');
+        }
+
+        @Override
+        void writeRecord(Writer writer, String id, String date, String type, String time, String name, String value)
+                throws IOException {
+            writer.write(id);
+            writer.write(',');
+            writer.write(date);
+            writer.write(',');
+            writer.write(type);
+            writer.write(',');
+            if (time != null) {
+                writer.write(time);
+            }
+            writer.write(',');
+            if (name != null) {
+                writeField(writer, name);
+            }
+            writer.write(',');
+            writer.write(value);
+        }
+
+        private static void writeField(Writer writer, String field) throws IOException {
+            boolean isQuoted = field.isEmpty() || !field.equals(field.trim()) || field.indexOf(',') >= 0
+                    || field.indexOf('"') >= 0 || field.indexOf('\n') >= 0 || field.indexOf('\r') >= 0;
+            if (!isQuoted) {
+                writer.write(field);
+                return;
+            }
+            writer.write('"');
+            writer.write(field.replace("\"", "\"\""));
+            writer.write('"');
+        }
+    }
+
+    /**
+     * Writes rows as NDJSON, one {@link JsonAdaptedDayRecord} object per line.
+     */
+    private static class JsonRecordWriter extends RecordWriter {
+        @Override
+        void writeHeader(Writer writer) {
+            // NDJSON files have no header
+        }
+
+        @Override
+        void writeRecord(Writer writer, String id, String date, String type, String time, String name, String value)
+                throws IOException {
+            writer.write(JsonUtil.toCompactJsonString(new JsonAdaptedDayRecord(id, date, type, time, name, value)));
+        }
+    }
+}
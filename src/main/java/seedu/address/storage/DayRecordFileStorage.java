@@ -0,0 +1,31 @@
+package seedu.address.storage;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.model.DayImport;
+import seedu.address.model.DayRecordFilter;
+import seedu.address.model.ReadOnlyMyFitnessBuddy;
+
+/**
+ * A class to access day records stored as CSV or NDJSON files on the hard disk.
+ */
+public class DayRecordFileStorage implements DayRecordStorage {
+
+    @Override
+    public DayImport readDayRecords(Path filePath, DayRecordFormat format)
+            throws DataConversionException, IOException {
+        requireAllNonNull(filePath, format);
+        return DayRecordFile.read(filePath, format);
+    }
+
+    @Override
+    public long saveDayRecords(ReadOnlyMyFitnessBuddy myFitnessBuddy, DayRecordFilter filter, Path filePath,
+                               DayRecordFormat format) throws IOException {
+        requireAllNonNull(myFitnessBuddy, filter, filePath, format);
+        return DayRecordFile.write(filePath, format, myFitnessBuddy, filter);
+    }
+}
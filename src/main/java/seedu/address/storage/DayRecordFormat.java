@@ -0,0 +1,39 @@
+package seedu.address.storage;
+
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+
+/**
+ * The formats of day record files, known by their file extensions.
+ */
+public enum DayRecordFormat {
+    CSV(".csv"),
+    NDJSON(".ndjson", ".jsonl");
+
+    /** The columns of a CSV day record file, which its header names in any order. */
+    public static final List<String> CSV_COLUMNS = List.of("id", "date", "type", "time", "name", "value");
+    public static final String CSV_HEADER = String.join(",", CSV_COLUMNS);
+
+    private final List<String> extensions;
+
+    DayRecordFormat(String... extensions) {
+        this.extensions = Arrays.asList(extensions);
+    }
+
+    /**
+     * Returns the format of {@code filePath} from its extension, or {@code Optional.empty()} if it is not known.
+     */
+    public static Optional<DayRecordFormat> of(Path filePath) {
+        Path fileName = filePath.getFileName();
+        if (fileName == null) {
+            return Optional.empty();
+        }
+        String name = fileName.toString().toLowerCase(Locale.ROOT);
+        return Arrays.stream(values())
+                .filter(format -> format.extensions.stream().anyMatch(name::endsWith))
+                .findFirst();
+    }
+}
@@ -0,0 +1,32 @@
+package seedu.address.storage;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.model.DayImport;
+import seedu.address.model.DayRecordFilter;
+import seedu.address.model.ReadOnlyMyFitnessBuddy;
+
+/**
+ * Represents a storage for the day records imported into and exported from My Fitness Buddy.
+ */
+public interface DayRecordStorage {
+
+    /**
+     * Returns the day records in {@code filePath}, which are in {@code format}.
+     * @throws DataConversionException if a record is not valid.
+     * @throws IOException if there was any problem when reading from the file.
+     */
+    DayImport readDayRecords(Path filePath, DayRecordFormat format) throws DataConversionException, IOException;
+
+    /**
+     * Saves the day records of the persons and days in {@code myFitnessBuddy} selected by {@code filter} to
+     * {@code filePath} in {@code format}.
+     * @return the number of records saved.
+     * @throws IOException if there was any problem writing to the file.
+     */
+    long saveDayRecords(ReadOnlyMyFitnessBuddy myFitnessBuddy, DayRecordFilter filter, Path filePath,
+                        DayRecordFormat format) throws IOException;
+
+}
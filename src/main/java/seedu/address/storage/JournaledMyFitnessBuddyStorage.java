@@ -0,0 +1,313 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.FileUtil.SyncPolicy;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.ChangeLog;
+import seedu.address.model.ChangeLog.Change;
+import seedu.address.model.MyFitnessBuddy;
+import seedu.address.model.ReadOnlyMyFitnessBuddy;
+import seedu.address.model.person.ID;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.exceptions.DuplicatePersonException;
+
+/**
+ * A class to access My Fitness Buddy data stored as a snapshot in another {@code MyFitnessBuddyStorage} together
+ * with an append-only json journal of the changes made since the snapshot was written.
+ *
+ * Saving appends one compact line per changed person or day to the journal, so its cost follows the size of the
+ * change. The journal is folded back into the snapshot by {@link #compact(ReadOnlyMyFitnessBuddy, Path)}, which is
+ * done whenever the changes are not known or the journal grows past {@link #COMPACTION_THRESHOLD} records.
+ * Reading replays the journal onto the snapshot. A journal is never replayed onto the backup of a damaged snapshot,
+ * as it holds the changes made after the snapshot; it is moved aside for the user instead.
+ */
+public class JournaledMyFitnessBuddyStorage implements MyFitnessBuddyStorage {
+
+    public static final String JOURNAL_FILE_SUFFIX = ".journal";
+    public static final String UNAPPLIED_JOURNAL_FILE_SUFFIX = ".unapplied";
+    public static final String MESSAGE_JOURNAL_NOT_APPLIED = "The changes saved after the damaged file were not"
+            + " applied to the backup, and are kept in %s.";
+    public static final int COMPACTION_THRESHOLD = 1000;
+
+    private static final Logger logger = LogsCenter.getLogger(JournaledMyFitnessBuddyStorage.class);
+
+    private final MyFitnessBuddyStorage snapshotStorage;
+    private final Map<Path, Integer> journalSizes = new ConcurrentHashMap<>();
+
+    public JournaledMyFitnessBuddyStorage(Path filePath) {
+        this(new JsonMyFitnessBuddyStorage(filePath));
+    }
+
+    /**
+     * Creates a {@code JournaledMyFitnessBuddyStorage} that keeps its snapshots in {@code snapshotStorage}.
+     */
+    public JournaledMyFitnessBuddyStorage(MyFitnessBuddyStorage snapshotStorage) {
+        requireNonNull(snapshotStorage);
+        this.snapshotStorage = snapshotStorage;
+    }
+
+    @Override
+    public Path getMyFitnessBuddyFilePath() {
+        return snapshotStorage.getMyFitnessBuddyFilePath();
+    }
+
+    /**
+     * Returns the path of the journal kept alongside the snapshot at {@code filePath}.
+     */
+    public static Path getJournalFilePath(Path filePath) {
+        return filePath.resolveSibling(filePath.getFileName() + JOURNAL_FILE_SUFFIX);
+    }
+
+    @Override
+    public Optional<ReadOnlyMyFitnessBuddy> readFitnessBuddy() throws DataConversionException, IOException {
+        return readFitnessBuddy(getMyFitnessBuddyFilePath());
+    }
+
+    /**
+     * Similar to {@link #readFitnessBuddy()}.
+     *
+     * @param filePath location of the snapshot. Cannot be null.
+     * @throws DataFileRecoveredException if the snapshot was read from its backup. The journal is then moved to
+     *     {@link #UNAPPLIED_JOURNAL_FILE_SUFFIX} beside it without being replayed.
+     * @throws DataConversionException if the snapshot or the journal is not in the correct format.
+     */
+    @Override
+    public Optional<ReadOnlyMyFitnessBuddy> readFitnessBuddy(Path filePath)
+            throws DataConversionException, IOException {
+        requireNonNull(filePath);
+        Path journalPath = getJournalFilePath(filePath);
+        Optional<ReadOnlyMyFitnessBuddy> snapshot;
+        try {
+            snapshot = snapshotStorage.readFitnessBuddy(filePath);
+        } catch (DataFileRecoveredException e) {
+            // the next save compacts, which would delete the journal
+            journalSizes.remove(filePath);
+            if (!Files.exists(journalPath)) {
+                throw e;
+            }
+            Path unappliedPath = journalPath.resolveSibling(journalPath.getFileName() + UNAPPLIED_JOURNAL_FILE_SUFFIX);
+            if (Files.exists(unappliedPath)) {
+                // keeps the changes moved aside by an earlier recovery too
+                Files.write(unappliedPath, Files.readAllBytes(journalPath), StandardOpenOption.APPEND);
+                Files.delete(journalPath);
+            } else {
+                Files.move(journalPath, unappliedPath);
+            }
+            logger.warning("Moved journal " + journalPath + " aside to " + unappliedPath);
+            throw e.withNote(String.format(MESSAGE_JOURNAL_NOT_APPLIED, unappliedPath));
+        }
+        if (!Files.exists(journalPath)) {
+            journalSizes.put(filePath, 0);
+            return snapshot;
+        }
+
+        Map<ID, Person> persons = new LinkedHashMap<>();
+        snapshot.ifPresent(data -> data.getPersonList()
+                .forEach(person -> persons.put(person.getProfile().getId(), person)));
+        int records = replay(journalPath, persons);
+        journalSizes.put(filePath, records);
+        logger.info("Replayed " + records + " journal records from " + journalPath);
+
+        MyFitnessBuddy myFitnessBuddy = new MyFitnessBuddy();
+        try {
+            myFitnessBuddy.setPersons(new ArrayList<>(persons.values()));
+        } catch (DuplicatePersonException e) {
+            throw new DataConversionException(new IllegalValueException(
+                    JsonSerializableMyFitnessBuddy.MESSAGE_DUPLICATE_PERSON));
+        }
+        List<Person> personList = myFitnessBuddy.getPersonList();
+        if (!personList.isEmpty()) {
+            myFitnessBuddy.setCurrentPerson(personList.get(personList.size() - 1));
+        }
+        return Optional.of(myFitnessBuddy);
+    }
+
+    /**
+     * Applies the records of the journal at {@code journalPath} to {@code persons} and returns how many there were.
+     * A last line that cannot be parsed is taken to be a write that was cut short and is skipped.
+     */
+    private int replay(Path journalPath, Map<ID, Person> persons) throws DataConversionException, IOException {
+        List<String> lines = Files.readAllLines(journalPath, StandardCharsets.UTF_8);
+        int records = 0;
+        for (int i = 0; i < lines.size(); i++) {
+            String line = lines.get(i);
+            if (line.isBlank()) {
+                continue;
+            }
+            JsonAdaptedJournalRecord record;
+            try {
+                record = JsonUtil.fromJsonString(line, JsonAdaptedJournalRecord.class);
+            } catch (IOException e) {
+                if (i == lines.size() - 1) {
+                    logger.warning("Skipping incomplete last record of " + journalPath);
+                    break;
+                }
+                throw new DataConversionException(e);
+            }
+            try {
+                record.applyTo(persons);
+            } catch (IllegalValueException ive) {
+                logger.info("Illegal values found in " + journalPath + ": " + ive.getMessage());
+                throw new DataConversionException(ive);
+            }
+            records++;
+        }
+        return records;
+    }
+
+    @Override
+    public void saveFitnessBuddy(ReadOnlyMyFitnessBuddy myFitnessBuddy) throws IOException {
+        saveFitnessBuddy(myFitnessBuddy, getMyFitnessBuddyFilePath());
+    }
+
+    /**
+     * Similar to {@link #saveFitnessBuddy(ReadOnlyMyFitnessBuddy)}.
+     * Appends the recorded changes to the journal, or compacts if they are not known.
+     *
+     * @param filePath location of the snapshot. Cannot be null.
+     */
+    @Override
+    public void saveFitnessBuddy(ReadOnlyMyFitnessBuddy myFitnessBuddy, Path filePath) throws IOException {
+        prepareSave(myFitnessBuddy, filePath).write();
+    }
+
+    /**
+     * Captures the journal records of the recorded changes, or the whole snapshot if the changes are not known, and
+     * marks the data as saved. If the returned save fails to be written, the next save compacts.
+     */
+    @Override
+    public PendingSave prepareSave(ReadOnlyMyFitnessBuddy myFitnessBuddy, Path filePath) throws IOException {
+        requireNonNull(myFitnessBuddy);
+        requireNonNull(filePath);
+        ChangeLog changeLog = myFitnessBuddy.getChangeLog();
+        Integer journalSize = journalSizes.get(filePath);
+        if (changeLog.isFullSaveNeeded() || journalSize == null || !Files.exists(filePath)) {
+            return prepareCompaction(myFitnessBuddy, filePath);
+        }
+
+        List<Change> changes = changeLog.getChanges();
+        if (changes.isEmpty()) {
+            return PendingSave.empty(filePath);
+        }
+        if (journalSize + changes.size() > COMPACTION_THRESHOLD) {
+            return prepareCompaction(myFitnessBuddy, filePath);
+        }
+
+        StringBuilder lines = new StringBuilder();
+        for (Change change : changes) {
+            Optional<JsonAdaptedJournalRecord> record = toRecord(myFitnessBuddy, change);
+            if (record.isPresent()) {
+                lines.append(JsonUtil.toCompactJsonString(record.get())).append('\n');
+            }
+        }
+        byte[] bytes = lines.toString().getBytes(StandardCharsets.UTF_8);
+        journalSizes.computeIfPresent(filePath, (path, size) -> size + changes.size());
+        changeLog.markSaved();
+        return new PendingSave(filePath, false, () -> {
+            try {
+                appendToJournal(getJournalFilePath(filePath), bytes);
+            } catch (IOException e) {
+                journalSizes.remove(filePath);
+                throw e;
+            }
+            logger.fine("Appended " + changes.size() + " journal records");
+        });
+    }
+
+    /**
+     * Appends {@code bytes} to the journal, forcing them to disk unless the sync policy leaves that to the system.
+     * A record torn by a crash is the last line of the journal, which is skipped when reading.
+     */
+    private static void appendToJournal(Path journalPath, byte[] bytes) throws IOException {
+        try (FileChannel channel = FileChannel.open(journalPath, StandardOpenOption.CREATE,
+                StandardOpenOption.APPEND)) {
+            ByteBuffer buffer = ByteBuffer.wrap(bytes);
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            if (FileUtil.getSyncPolicy() != SyncPolicy.NEVER) {
+                channel.force(false);
+            }
+        }
+    }
+
+    /**
+     * Writes all of {@code myFitnessBuddy} to the snapshot at {@code filePath} and discards its journal.
+     */
+    public void compact(ReadOnlyMyFitnessBuddy myFitnessBuddy, Path filePath) throws IOException {
+        prepareCompaction(myFitnessBuddy, filePath).write();
+    }
+
+    private PendingSave prepareCompaction(ReadOnlyMyFitnessBuddy myFitnessBuddy, Path filePath) throws IOException {
+        requireNonNull(myFitnessBuddy);
+        requireNonNull(filePath);
+        PendingSave snapshot = snapshotStorage.prepareSave(myFitnessBuddy, filePath);
+        journalSizes.put(filePath, 0);
+        myFitnessBuddy.getChangeLog().markSaved();
+        return new PendingSave(filePath, snapshot.isFull(), () -> {
+            try {
+                snapshot.write();
+                Files.deleteIfExists(getJournalFilePath(filePath));
+            } catch (IOException e) {
+                journalSizes.remove(filePath);
+                throw e;
+            }
+            logger.info("Compacted data journal into " + filePath);
+        });
+    }
+
+    /**
+     * Returns the record of the current state of the person or day that {@code change} refers to, or an empty value
+     * if it no longer exists, in which case a later change covers it.
+     */
+    private static Optional<JsonAdaptedJournalRecord> toRecord(ReadOnlyMyFitnessBuddy myFitnessBuddy,
+                                                               Change change) {
+        ID id = change.getPersonId();
+        switch (change.getKind()) {
+        case REMOVE_PERSON:
+            return Optional.of(JsonAdaptedJournalRecord.ofRemovedPerson(id));
+        case REMOVE_DAY:
+            return Optional.of(JsonAdaptedJournalRecord.ofRemovedDay(id, change.getDate()));
+        default:
+            break;
+        }
+
+        Optional<Person> person = myFitnessBuddy.findPerson(id);
+        if (person.isEmpty()) {
+            return Optional.empty();
+        }
+        switch (change.getKind()) {
+        case PERSON:
+            return Optional.of(JsonAdaptedJournalRecord.ofPerson(person.get()));
+        case PROFILE:
+            return Optional.of(JsonAdaptedJournalRecord.ofProfile(person.get()));
+        case DAY:
+            if (!person.get().hasDay(change.getDate())) {
+                return Optional.empty();
+            }
+            return Optional.of(JsonAdaptedJournalRecord.ofDay(id, person.get().getDay(change.getDate())));
+        default:
+            throw new AssertionError("Unknown kind of change: " + change.getKind());
+        }
+    }
+}
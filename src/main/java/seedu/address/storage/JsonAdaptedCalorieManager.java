@@ -7,12 +7,10 @@ import java.util.stream.Collectors;
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
 
-import javafx.collections.FXCollections;
-import javafx.collections.ObservableList;
 import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.calorie.CalorieEntries;
 import seedu.address.model.calorie.CalorieManager;
-import seedu.address.model.calorie.Input;
-import seedu.address.model.calorie.Output;
+import seedu.address.model.calorie.NamePool;
 
 /**
  * Jackson-friendly version of {@link seedu.address.model.calorie.CalorieManager}.
@@ -39,9 +37,16 @@ class JsonAdaptedCalorieManager {
     }
 
     public JsonAdaptedCalorieManager (CalorieManager source) {
-        this.inputList = source.getCalorieInputList().stream()
+        this(source.toEntries());
+    }
+
+    /**
+     * Converts the given calorie entries into this class for Jackson use.
+     */
+    public JsonAdaptedCalorieManager(CalorieEntries source) {
+        this.inputList = source.toInputList().stream()
                 .map(JsonAdaptedInput::new).collect(Collectors.toList());
-        this.outputList = source.getCalorieOutputList().stream()
+        this.outputList = source.toOutputList().stream()
                 .map(JsonAdaptedOutput::new).collect(Collectors.toList());
     }
 
@@ -52,16 +57,34 @@ class JsonAdaptedCalorieManager {
      * @throws IllegalValueException if there were any data constraints violated in the adapted CalorieManager.
      */
     public CalorieManager toModelType() throws IllegalValueException {
-        final ObservableList<Input> dayInputs = FXCollections.observableArrayList();
+        return new CalorieManager(toCalorieEntries());
+    }
+
+    /**
+     * Converts this Jackson-friendly adapted CalorieManager into the compact {@code CalorieEntries} that a day keeps
+     * until its calorie manager is used.
+     *
+     * @throws IllegalValueException if there were any data constraints violated in the adapted CalorieManager.
+     */
+    public CalorieEntries toCalorieEntries() throws IllegalValueException {
+        return toCalorieEntries(new NamePool());
+    }
+
+    /**
+     * Converts this Jackson-friendly adapted CalorieManager into {@code CalorieEntries}, sharing equal names through
+     * {@code names}.
+     *
+     * @throws IllegalValueException if there were any data constraints violated in the adapted CalorieManager.
+     */
+    public CalorieEntries toCalorieEntries(NamePool names) throws IllegalValueException {
+        final CalorieEntries.Builder entries = new CalorieEntries.Builder(names);
         for (JsonAdaptedInput input : inputList) {
-            dayInputs.add(input.toModelType());
+            input.addTo(entries);
         }
-
-        final ObservableList<Output> dayOutputs = FXCollections.observableArrayList();
         for (JsonAdaptedOutput output : outputList) {
-            dayOutputs.add(output.toModelType());
+            output.addTo(entries);
         }
-        return new CalorieManager(dayInputs, dayOutputs);
+        return entries.build();
     }
 
 }
@@ -4,7 +4,9 @@ import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
 
 import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.calorie.CalorieEntries;
 import seedu.address.model.calorie.CalorieManager;
+import seedu.address.model.calorie.NamePool;
 import seedu.address.model.day.Date;
 import seedu.address.model.day.Day;
 import seedu.address.model.day.Weight;
@@ -39,7 +41,7 @@ class JsonAdaptedDay {
     public JsonAdaptedDay(Day source) {
         date = source.getDate().value;
         weight = source.getWeight().value;
-        calorieManager = new JsonAdaptedCalorieManager(source.getCalorieManager());
+        calorieManager = new JsonAdaptedCalorieManager(source.getCalorieEntries());
     }
 
     /**
@@ -48,6 +50,16 @@ class JsonAdaptedDay {
      * @throws IllegalValueException if there were any data constraints violated in the adapted day.
      */
     public Day toModelType() throws IllegalValueException {
+        return toModelType(new NamePool());
+    }
+
+    /**
+     * Converts this Jackson-friendly adapted day object into the model's {@code Day} object, sharing equal food and
+     * exercise names through {@code names}.
+     *
+     * @throws IllegalValueException if there were any data constraints violated in the adapted day.
+     */
+    public Day toModelType(NamePool names) throws IllegalValueException {
         if (date == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, Date.class.getSimpleName()));
         }
@@ -68,9 +80,9 @@ class JsonAdaptedDay {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT,
                     CalorieManager.class.getSimpleName()));
         }
-        final CalorieManager modelCalorieManager = calorieManager.toModelType();
+        final CalorieEntries modelCalorieEntries = calorieManager.toCalorieEntries(names);
 
-        return new Day(modelDate, modelWeight, modelCalorieManager);
+        return new Day(modelDate, modelWeight, modelCalorieEntries);
     }
 
 }
@@ -0,0 +1,154 @@
+package seedu.address.storage;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.DayImport;
+import seedu.address.model.calorie.CalorieCount;
+import seedu.address.model.calorie.Exercise;
+import seedu.address.model.calorie.Food;
+import seedu.address.model.calorie.Time;
+import seedu.address.model.day.Date;
+import seedu.address.model.day.Weight;
+import seedu.address.model.person.ID;
+
+/**
+ * Jackson-friendly version of one row of a day record file: the weight of a person on a day, or one calorie input or
+ * output of that day. Only the fields needed by the type of row are present.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+class JsonAdaptedDayRecord {
+
+    public static final String TYPE_WEIGHT = "weight";
+    public static final String TYPE_INPUT = "in";
+    public static final String TYPE_OUTPUT = "out";
+
+    public static final String MISSING_FIELD_MESSAGE_FORMAT = "Day record's %s field is missing!";
+    public static final String MESSAGE_UNKNOWN_TYPE = "Day record type should be " + TYPE_WEIGHT + ", " + TYPE_INPUT
+            + " or " + TYPE_OUTPUT + ", but was %s";
+
+    private final String id;
+    private final String date;
+    private final String type;
+    private final String time;
+    private final String name;
+    private final String value;
+
+    /**
+     * Constructs a {@code JsonAdaptedDayRecord} with the given row details.
+     */
+    @JsonCreator
+    public JsonAdaptedDayRecord(@JsonProperty("id") String id, @JsonProperty("date") String date,
+                                @JsonProperty("type") String type, @JsonProperty("time") String time,
+                                @JsonProperty("name") String name, @JsonProperty("value") String value) {
+        this.id = id;
+        this.date = date;
+        this.type = type;
+        this.time = time;
+        this.name = name;
+        this.value = value;
+    }
+
+    String getId() {
+        return id;
+    }
+
+    String getDate() {
+        return date;
+    }
+
+    String getType() {
+        return type;
+    }
+
+    String getTime() {
+        return time;
+    }
+
+    String getName() {
+        return name;
+    }
+
+    String getValue() {
+        return value;
+    }
+
+    /**
+     * Validates this row and adds it to {@code dayImport}.
+     *
+     * @throws IllegalValueException if there were any data constraints violated in the adapted row.
+     */
+    public void addTo(DayImport dayImport) throws IllegalValueException {
+        if (id == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, ID.class.getSimpleName()));
+        }
+        if (!ID.isValidId(id)) {
+            throw new IllegalValueException(ID.MESSAGE_CONSTRAINTS);
+        }
+        final ID modelId = new ID(id);
+
+        if (date == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, Date.class.getSimpleName()));
+        }
+        if (!Date.isValidDate(date)) {
+            throw new IllegalValueException(Date.MESSAGE_CONSTRAINTS);
+        }
+        final Date modelDate = new Date(date);
+
+        if (type == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "Type"));
+        }
+        switch (type) {
+        case TYPE_WEIGHT:
+            if (value == null) {
+                throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT,
+                        Weight.class.getSimpleName()));
+            }
+            if (!Weight.isValidWeight(value)) {
+                throw new IllegalValueException(Weight.MESSAGE_CONSTRAINTS);
+            }
+            dayImport.addWeight(modelId, modelDate, new Weight(value));
+            break;
+
+        case TYPE_INPUT:
+            validateCalorie(Food.class.getSimpleName(), name != null && Food.isValidFood(name),
+                    Food.MESSAGE_CONSTRAINTS);
+            dayImport.addInput(modelId, modelDate, Time.toMinuteOfDay(time), name, Integer.parseInt(value));
+            break;
+
+        case TYPE_OUTPUT:
+            validateCalorie(Exercise.class.getSimpleName(), name != null && Exercise.isValidExercise(name),
+                    Exercise.MESSAGE_CONSTRAINTS);
+            dayImport.addOutput(modelId, modelDate, Time.toMinuteOfDay(time), name, Integer.parseInt(value));
+            break;
+
+        default:
+            throw new IllegalValueException(String.format(MESSAGE_UNKNOWN_TYPE, type));
+        }
+    }
+
+    private void validateCalorie(String nameField, boolean isNameValid, String nameConstraints)
+            throws IllegalValueException {
+        if (time == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, Time.class.getSimpleName()));
+        }
+        if (!Time.isValidTime(time)) {
+            throw new IllegalValueException(Time.MESSAGE_CONSTRAINTS);
+        }
+        if (name == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, nameField));
+        }
+        if (!isNameValid) {
+            throw new IllegalValueException(nameConstraints);
+        }
+        if (value == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT,
+                    CalorieCount.class.getSimpleName()));
+        }
+        if (!CalorieCount.isValidCalorieCount(value)) {
+            throw new IllegalValueException(CalorieCount.MESSAGE_CONSTRAINTS);
+        }
+    }
+}
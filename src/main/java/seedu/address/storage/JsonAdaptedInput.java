@@ -5,6 +5,7 @@ import com.fasterxml.jackson.annotation.JsonProperty;
 
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.model.calorie.CalorieCount;
+import seedu.address.model.calorie.CalorieEntries;
 import seedu.address.model.calorie.Food;
 import seedu.address.model.calorie.Input;
 import seedu.address.model.calorie.Time;
@@ -42,28 +43,40 @@ class JsonAdaptedInput {
 
 
     /**
-     * Converts this Jackson-friendly adapted Input object into the model's {@code Input} object.
+     * Converts this Jackson-friendly adapted input object into the model's {@code Input} object.
      *
-     * @throws IllegalValueException if there were any data constraints violated in the adapted Input.
+     * @throws IllegalValueException if there were any data constraints violated in the adapted input.
      */
     public Input toModelType() throws IllegalValueException {
+        validate();
+        return new Input(new Time(time), new Food(food), new CalorieCount(calorieCount));
+    }
+
+    /**
+     * Adds this input to {@code entries} without building the model's {@code Input} object.
+     *
+     * @throws IllegalValueException if there were any data constraints violated in the adapted input.
+     */
+    public void addTo(CalorieEntries.Builder entries) throws IllegalValueException {
+        validate();
+        entries.addInput(Time.toMinuteOfDay(time), food, Integer.parseInt(calorieCount));
+    }
+
+    private void validate() throws IllegalValueException {
         if (time == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, Time.class.getSimpleName()));
         }
-
         if (!Time.isValidTime(time)) {
             throw new IllegalValueException(String.format(Time.MESSAGE_CONSTRAINTS));
         }
-        final Time modelTime = new Time(time);
 
         if (food == null) {
-            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, Food.class.getSimpleName()));
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT,
+                    Food.class.getSimpleName()));
         }
-
         if (!Food.isValidFood(food)) {
             throw new IllegalValueException(String.format(Food.MESSAGE_CONSTRAINTS));
         }
-        final Food modelFood = new Food(food);
 
         if (calorieCount == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT,
@@ -72,9 +85,6 @@ class JsonAdaptedInput {
         if (!CalorieCount.isValidCalorieCount(calorieCount)) {
             throw new IllegalValueException(String.format(CalorieCount.MESSAGE_CONSTRAINTS));
         }
-        final CalorieCount modelCalorieCount = new CalorieCount(calorieCount);
-
-        return new Input(modelTime, modelFood, modelCalorieCount);
     }
 
 }
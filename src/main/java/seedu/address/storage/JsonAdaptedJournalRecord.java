@@ -0,0 +1,160 @@
+package seedu.address.storage;
+
+import java.time.LocalDate;
+import java.util.Map;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.ChangeLog.Kind;
+import seedu.address.model.day.Date;
+import seedu.address.model.day.Day;
+import seedu.address.model.person.ID;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Profile;
+
+/**
+ * Jackson-friendly version of one change in the data journal.
+ * Only the fields needed by the kind of change are present.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+class JsonAdaptedJournalRecord {
+
+    public static final String MISSING_FIELD_MESSAGE_FORMAT = "Journal record's %s field is missing!";
+    public static final String MESSAGE_UNKNOWN_KIND = "Journal record has an unknown kind of change: %s";
+
+    private final String kind;
+    private final String id;
+    private final String date;
+    private final JsonAdaptedPerson person;
+    private final JsonAdaptedProfile profile;
+    private final JsonAdaptedDay day;
+
+    /**
+     * Constructs a {@code JsonAdaptedJournalRecord} with the given details.
+     */
+    @JsonCreator
+    public JsonAdaptedJournalRecord(@JsonProperty("kind") String kind, @JsonProperty("id") String id,
+                                    @JsonProperty("date") String date,
+                                    @JsonProperty("person") JsonAdaptedPerson person,
+                                    @JsonProperty("profile") JsonAdaptedProfile profile,
+                                    @JsonProperty("day") JsonAdaptedDay day) {
+        this.kind = kind;
+        this.id = id;
+        this.date = date;
+        this.person = person;
+        this.profile = profile;
+        this.day = day;
+    }
+
+    /**
+     * Returns a record of a whole {@code person}.
+     */
+    public static JsonAdaptedJournalRecord ofPerson(Person person) {
+        return new JsonAdaptedJournalRecord(Kind.PERSON.name(), person.getProfile().getId().value, null,
+                new JsonAdaptedPerson(person), null, null);
+    }
+
+    /**
+     * Returns a record of the profile of {@code person}.
+     */
+    public static JsonAdaptedJournalRecord ofProfile(Person person) {
+        return new JsonAdaptedJournalRecord(Kind.PROFILE.name(), person.getProfile().getId().value, null,
+                null, new JsonAdaptedProfile(person.getProfile()), null);
+    }
+
+    /**
+     * Returns a record of {@code day} of the person with {@code id}.
+     */
+    public static JsonAdaptedJournalRecord ofDay(ID id, Day day) {
+        return new JsonAdaptedJournalRecord(Kind.DAY.name(), id.value, null, null, null, new JsonAdaptedDay(day));
+    }
+
+    /**
+     * Returns a record of the removal of the day on {@code date} of the person with {@code id}.
+     */
+    public static JsonAdaptedJournalRecord ofRemovedDay(ID id, LocalDate date) {
+        return new JsonAdaptedJournalRecord(Kind.REMOVE_DAY.name(), id.value, date.toString(), null, null, null);
+    }
+
+    /**
+     * Returns a record of the removal of the person with {@code id}.
+     */
+    public static JsonAdaptedJournalRecord ofRemovedPerson(ID id) {
+        return new JsonAdaptedJournalRecord(Kind.REMOVE_PERSON.name(), id.value, null, null, null, null);
+    }
+
+    /**
+     * Applies this change to {@code persons}, which maps ids to persons.
+     * Changes to persons that are not present are skipped, as the person is written whole by a later record.
+     *
+     * @throws IllegalValueException if there were any data constraints violated in this record.
+     */
+    public void applyTo(Map<ID, Person> persons) throws IllegalValueException {
+        Kind modelKind = toModelKind();
+        if (id == null || !ID.isValidId(id)) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, ID.class.getSimpleName()));
+        }
+        ID modelId = new ID(id);
+        Person target = persons.get(modelId);
+
+        switch (modelKind) {
+        case PERSON:
+            if (person == null) {
+                throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "person"));
+            }
+            persons.put(modelId, person.toModelType());
+            break;
+        case PROFILE:
+            if (profile == null) {
+                throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "profile"));
+            }
+            if (target != null) {
+                target.setProfile(profile.toModelType());
+            }
+            break;
+        case DAY:
+            if (day == null) {
+                throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "day"));
+            }
+            if (target != null) {
+                Day modelDay = day.toModelType();
+                removeDay(target, modelDay.getDate().get());
+                target.addDay(modelDay);
+            }
+            break;
+        case REMOVE_DAY:
+            if (date == null || !Date.isValidDate(date)) {
+                throw new IllegalValueException(Date.MESSAGE_CONSTRAINTS);
+            }
+            if (target != null) {
+                removeDay(target, new Date(date).get());
+            }
+            break;
+        case REMOVE_PERSON:
+            persons.remove(modelId);
+            break;
+        default:
+            throw new IllegalValueException(String.format(MESSAGE_UNKNOWN_KIND, kind));
+        }
+    }
+
+    private Kind toModelKind() throws IllegalValueException {
+        if (kind == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "kind"));
+        }
+        try {
+            return Kind.valueOf(kind);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalValueException(String.format(MESSAGE_UNKNOWN_KIND, kind));
+        }
+    }
+
+    private static void removeDay(Person person, LocalDate date) {
+        if (person.hasDay(date)) {
+            person.removeDay(person.getDay(date));
+        }
+    }
+}
@@ -5,6 +5,7 @@ import com.fasterxml.jackson.annotation.JsonProperty;
 
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.model.calorie.CalorieCount;
+import seedu.address.model.calorie.CalorieEntries;
 import seedu.address.model.calorie.Exercise;
 import seedu.address.model.calorie.Output;
 import seedu.address.model.calorie.Time;
@@ -47,13 +48,27 @@ class JsonAdaptedOutput {
      * @throws IllegalValueException if there were any data constraints violated in the adapted output.
      */
     public Output toModelType() throws IllegalValueException {
+        validate();
+        return new Output(new Time(time), new Exercise(exercise), new CalorieCount(calorieCount));
+    }
+
+    /**
+     * Adds this output to {@code entries} without building the model's {@code Output} object.
+     *
+     * @throws IllegalValueException if there were any data constraints violated in the adapted output.
+     */
+    public void addTo(CalorieEntries.Builder entries) throws IllegalValueException {
+        validate();
+        entries.addOutput(Time.toMinuteOfDay(time), exercise, Integer.parseInt(calorieCount));
+    }
+
+    private void validate() throws IllegalValueException {
         if (time == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, Time.class.getSimpleName()));
         }
         if (!Time.isValidTime(time)) {
             throw new IllegalValueException(String.format(Time.MESSAGE_CONSTRAINTS));
         }
-        final Time modelTime = new Time(time);
 
         if (exercise == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT,
@@ -62,7 +77,6 @@ class JsonAdaptedOutput {
         if (!Exercise.isValidExercise(exercise)) {
             throw new IllegalValueException(String.format(Exercise.MESSAGE_CONSTRAINTS));
         }
-        final Exercise modelExercise = new Exercise(exercise);
 
         if (calorieCount == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT,
@@ -71,8 +85,6 @@ class JsonAdaptedOutput {
         if (!CalorieCount.isValidCalorieCount(calorieCount)) {
             throw new IllegalValueException(String.format(CalorieCount.MESSAGE_CONSTRAINTS));
         }
-        final CalorieCount modelCalorieCount = new CalorieCount(calorieCount);
-        return new Output(modelTime, modelExercise, modelCalorieCount);
     }
 
 }
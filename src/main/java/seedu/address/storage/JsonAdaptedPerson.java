@@ -8,7 +8,9 @@ import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
 
 import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.calorie.NamePool;
 import seedu.address.model.day.Day;
+import seedu.address.model.day.exceptions.DuplicateDayException;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.Profile;
 
@@ -40,8 +42,15 @@ class JsonAdaptedPerson {
      * Converts a given {@code Person} into this class for Jackson use.
      */
     public JsonAdaptedPerson(Person source) {
-        profile = new JsonAdaptedProfile(source.getProfile());
-        days.addAll(source.getDayList().stream().map(JsonAdaptedDay::new).collect(Collectors.toList()));
+        this(source.getProfile(), source.getDayList());
+    }
+
+    /**
+     * Converts the given profile and days of a person into this class for Jackson use.
+     */
+    JsonAdaptedPerson(Profile profile, List<Day> days) {
+        this.profile = new JsonAdaptedProfile(profile);
+        this.days.addAll(days.stream().map(JsonAdaptedDay::new).collect(Collectors.toList()));
     }
 
     /**
@@ -57,12 +66,16 @@ class JsonAdaptedPerson {
         Person modelPerson = new Person();
         modelPerson.setProfile(modelProfile);
 
+        final List<Day> modelDays = new ArrayList<>(days.size());
+        // the foods and exercises of a person repeat from day to day, so their days share one name pool
+        final NamePool names = new NamePool();
         for (JsonAdaptedDay jsonAdaptedDay : days) {
-            Day day = jsonAdaptedDay.toModelType();
-            if (modelPerson.hasDay(day)) {
-                throw new IllegalValueException(MESSAGE_DUPLICATE_DAY);
-            }
-            modelPerson.addDay(day);
+            modelDays.add(jsonAdaptedDay.toModelType(names));
+        }
+        try {
+            modelPerson.loadDays(modelDays);
+        } catch (DuplicateDayException e) {
+            throw new IllegalValueException(MESSAGE_DUPLICATE_DAY);
         }
         return modelPerson;
     }
@@ -0,0 +1,82 @@
+package seedu.address.storage;
+
+import java.util.Optional;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Profile;
+
+/**
+ * Jackson-friendly summary of a {@link Person}: its profile and the metrics derived from its days, without the days,
+ * together with the name of the file holding the days.
+ */
+class JsonAdaptedProfileSummary {
+
+    public static final String MISSING_FIELD_MESSAGE_FORMAT = "Profile summary's %s field is missing!";
+
+    private final JsonAdaptedProfile profile;
+    private final Double currentBmi;
+    private final Double progress;
+    private final String shard;
+
+    /**
+     * Constructs a {@code JsonAdaptedProfileSummary} with the given details.
+     */
+    @JsonCreator
+    public JsonAdaptedProfileSummary(@JsonProperty("profile") JsonAdaptedProfile profile,
+                                     @JsonProperty("currentBmi") Double currentBmi,
+                                     @JsonProperty("progress") Double progress,
+                                     @JsonProperty("shard") String shard) {
+        this.profile = profile;
+        this.currentBmi = currentBmi;
+        this.progress = progress;
+        this.shard = shard;
+    }
+
+    /**
+     * Converts a given {@code Person}, whose days are in the file named {@code shard}, into this class for Jackson
+     * use.
+     */
+    public JsonAdaptedProfileSummary(Person source, String shard) {
+        profile = new JsonAdaptedProfile(source.getProfile());
+        currentBmi = source.getCurrentBmi();
+        progress = source.getProgress();
+        this.shard = shard;
+    }
+
+    /**
+     * Converts the profile of this summary into the model's {@code Profile} object.
+     *
+     * @throws IllegalValueException if there were any data constraints violated in the adapted profile.
+     */
+    public Profile toModelType() throws IllegalValueException {
+        if (profile == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, Profile.class.getSimpleName()));
+        }
+        return profile.toModelType();
+    }
+
+    /**
+     * Returns the current BMI of the person, or NaN if it is not recorded.
+     */
+    public double getCurrentBmi() {
+        return currentBmi == null ? Double.NaN : currentBmi;
+    }
+
+    /**
+     * Returns the progress of the person, or NaN if it is not recorded.
+     */
+    public double getProgress() {
+        return progress == null ? Double.NaN : progress;
+    }
+
+    /**
+     * Returns the name of the file holding the days of the person, if it is recorded.
+     */
+    public Optional<String> getShard() {
+        return Optional.ofNullable(shard);
+    }
+}
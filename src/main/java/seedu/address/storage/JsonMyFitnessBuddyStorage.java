@@ -4,15 +4,17 @@ import static java.util.Objects.requireNonNull;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.logging.Logger;
 
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.exceptions.DataConversionException;
-import seedu.address.commons.exceptions.IllegalValueException;
-import seedu.address.commons.util.FileUtil;
-import seedu.address.commons.util.JsonUtil;
 import seedu.address.model.ReadOnlyMyFitnessBuddy;
+import seedu.address.model.person.Person;
 
 /**
  * A class to access My Fitness Buddy data stored as a json file on the hard disk.
@@ -21,6 +23,8 @@ public class JsonMyFitnessBuddyStorage implements MyFitnessBuddyStorage {
 
     private static final Logger logger = LogsCenter.getLogger(JsonMyFitnessBuddyStorage.class);
     private Path filePath;
+    // the captures taken by the last save, reused for the persons that have not changed since
+    private Map<Person, PersonCapture> captures = new IdentityHashMap<>();
 
     public JsonMyFitnessBuddyStorage(Path filePath) {
         this.filePath = filePath;
@@ -43,17 +47,7 @@ public class JsonMyFitnessBuddyStorage implements MyFitnessBuddyStorage {
      */
     public Optional<ReadOnlyMyFitnessBuddy> readFitnessBuddy(Path filePath) throws DataConversionException {
         requireNonNull(filePath);
-        Optional<JsonSerializableMyFitnessBuddy> jsonFitnessBuddy = JsonUtil.readJsonFile(
-                filePath, JsonSerializableMyFitnessBuddy.class);
-        if (!jsonFitnessBuddy.isPresent()) {
-            return Optional.empty();
-        }
-        try {
-            return Optional.of(jsonFitnessBuddy.get().toModelType());
-        } catch (IllegalValueException ive) {
-            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
-            throw new DataConversionException(ive);
-        }
+        return DataFileRecovery.read(filePath, JsonSerializableMyFitnessBuddy::readModel);
     }
 
     @Override
@@ -67,12 +61,30 @@ public class JsonMyFitnessBuddyStorage implements MyFitnessBuddyStorage {
      * @param filePath location of the data. Cannot be null.
      */
     public void saveFitnessBuddy(ReadOnlyMyFitnessBuddy myFitnessBuddy, Path filePath) throws IOException {
+        prepareSave(myFitnessBuddy, filePath).write();
+    }
+
+    /**
+     * Captures the persons, and marks the data as saved. Only the persons changed since the last save are captured
+     * again, and each capture is converted to json as it is written.
+     */
+    @Override
+    public synchronized PendingSave prepareSave(ReadOnlyMyFitnessBuddy myFitnessBuddy, Path filePath) {
         requireNonNull(myFitnessBuddy);
         requireNonNull(filePath);
-        FileUtil.createIfMissing(filePath);
-        assert FileUtil.isFileExists(filePath) : "Error creating new file";
-        JsonUtil.saveJsonFile(new JsonSerializableMyFitnessBuddy(myFitnessBuddy), filePath);
-        logger.info("Save completed");
+        Map<Person, PersonCapture> nextCaptures = new IdentityHashMap<>();
+        List<PersonCapture> persons = new ArrayList<>(myFitnessBuddy.getPersonList().size());
+        for (Person person : myFitnessBuddy.getPersonList()) {
+            PersonCapture capture = PersonCapture.reuseOrCapture(captures.get(person), person);
+            nextCaptures.put(person, capture);
+            persons.add(capture);
+        }
+        captures = nextCaptures;
+        myFitnessBuddy.getChangeLog().markSaved();
+        return new PendingSave(filePath, true, () -> {
+            JsonSerializableMyFitnessBuddy.save(persons, PersonCapture::toJsonAdapted, filePath);
+            logger.info("Save completed");
+        });
     }
 
 }
@@ -1,17 +1,24 @@
 package seedu.address.storage;
 
+import java.io.IOException;
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonRootName;
 
+import seedu.address.commons.exceptions.DataConversionException;
 import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.JsonUtil;
 import seedu.address.model.MyFitnessBuddy;
 import seedu.address.model.ReadOnlyMyFitnessBuddy;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.exceptions.DuplicatePersonException;
 
 
 /**
@@ -21,6 +28,9 @@ import seedu.address.model.person.Person;
 class JsonSerializableMyFitnessBuddy {
 
     public static final String MESSAGE_DUPLICATE_PERSON = "Person list contains duplicate person(s).";
+    public static final String MESSAGE_MISSING_PERSON = "Person list contains a missing person.";
+
+    private static final String PERSONS_FIELD = "persons";
 
     private final List<JsonAdaptedPerson> persons = new ArrayList<>();
 
@@ -42,19 +52,79 @@ class JsonSerializableMyFitnessBuddy {
     }
 
     /**
-     * Converts this My Fitness Buddy into the model's {@code MyFitnessBuddy} object.
+     * Converts this My Fitness Buddy into the model's {@code MyFitnessBuddy} object, converting the persons in
+     * parallel.
      *
      * @throws IllegalValueException if there were any data constraints violated.
      */
     public MyFitnessBuddy toModelType() throws IllegalValueException {
-        MyFitnessBuddy modelMyFitnessBuddy = new MyFitnessBuddy();
+        final ParallelPersonConverter converter = new ParallelPersonConverter();
         for (JsonAdaptedPerson person: persons) {
-            Person modelPerson = person.toModelType();
-            if (modelMyFitnessBuddy.hasPerson(modelPerson)) {
-                throw new IllegalValueException(MESSAGE_DUPLICATE_PERSON);
+            converter.submit(person::toModelType);
+        }
+        return toModelType(converter.join());
+    }
+
+    /**
+     * Reads the My Fitness Buddy in {@code filePath} into the model's {@code MyFitnessBuddy} object, converting each
+     * person in parallel as soon as it is parsed, so that neither the text nor the whole adapted data is held in
+     * memory.
+     * Returns {@code Optional.empty()} if the file is not found.
+     *
+     * @throws DataConversionException if the file is not in the correct format or data constraints were violated.
+     */
+    public static Optional<ReadOnlyMyFitnessBuddy> readModel(Path filePath) throws DataConversionException {
+        final ParallelPersonConverter converter = new ParallelPersonConverter();
+        boolean isFound = JsonUtil.readJsonArrayFile(filePath, PERSONS_FIELD, JsonAdaptedPerson.class, person -> {
+            if (person == null) {
+                throw new IllegalValueException(MESSAGE_MISSING_PERSON);
             }
-            modelMyFitnessBuddy.addPerson(modelPerson);
+            converter.submit(person::toModelType);
+        });
+        if (!isFound) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(toModelType(converter.join()));
+        } catch (IllegalValueException ive) {
+            throw new DataConversionException(ive);
+        }
+    }
+
+    /**
+     * Writes this My Fitness Buddy to {@code filePath}, streaming the adapted persons it already holds.
+     */
+    public void save(Path filePath) throws IOException {
+        JsonUtil.saveJsonArrayFile(persons, PERSONS_FIELD, filePath);
+    }
+
+    /**
+     * Writes {@code persons} to {@code filePath} as a My Fitness Buddy one person at a time: each is adapted by
+     * {@code adapter} just before it is written, so that only one adapted person is held in memory at once.
+     */
+    public static <T> void save(List<T> persons, Function<? super T, JsonAdaptedPerson> adapter, Path filePath)
+            throws IOException {
+        Iterable<JsonAdaptedPerson> adaptedPersons = () -> persons.stream().<JsonAdaptedPerson>map(adapter).iterator();
+        JsonUtil.saveJsonArrayFile(adaptedPersons, PERSONS_FIELD, filePath);
+    }
+
+    /**
+     * Returns a {@code MyFitnessBuddy} holding {@code modelPersons}, with the last of them as the current person.
+     * As the persons have been read from storage, the data is marked as saved.
+     *
+     * @throws IllegalValueException if two of the persons are the same.
+     */
+    static MyFitnessBuddy toModelType(List<Person> modelPersons) throws IllegalValueException {
+        MyFitnessBuddy modelMyFitnessBuddy = new MyFitnessBuddy();
+        try {
+            modelMyFitnessBuddy.setPersons(modelPersons);
+        } catch (DuplicatePersonException e) {
+            throw new IllegalValueException(MESSAGE_DUPLICATE_PERSON);
+        }
+        if (!modelPersons.isEmpty()) {
+            modelMyFitnessBuddy.setCurrentPerson(modelPersons.get(modelPersons.size() - 1));
         }
+        modelMyFitnessBuddy.getChangeLog().markSaved();
         return modelMyFitnessBuddy;
     }
 
@@ -43,4 +43,11 @@ public interface MyFitnessBuddyStorage {
      */
     void saveFitnessBuddy(ReadOnlyMyFitnessBuddy myFitnessBuddy, Path filePath) throws IOException;
 
+    /**
+     * Captures what {@link #saveFitnessBuddy(ReadOnlyMyFitnessBuddy, Path)} would write, without touching the disk.
+     * The returned save no longer depends on {@code myFitnessBuddy} and may be written from another thread.
+     * @throws IOException if the data could not be captured.
+     */
+    PendingSave prepareSave(ReadOnlyMyFitnessBuddy myFitnessBuddy, Path filePath) throws IOException;
+
 }
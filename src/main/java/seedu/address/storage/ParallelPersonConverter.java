@@ -0,0 +1,132 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.person.Person;
+
+/**
+ * Validates and builds model persons on a fork-join pool, so that converting large data spreads across the cores.
+ * Conversions are submitted as their data is read and their persons are collected in the order submitted, so the result
+ * does not depend on which conversion finishes first. Only a bounded number of conversions are left pending, which
+ * keeps the adapted data held in memory small while reading.
+ */
+class ParallelPersonConverter {
+
+    public static final String MESSAGE_INTERRUPTED = "Interrupted while converting persons";
+
+    private static final int PENDING_CONVERSIONS_PER_THREAD = 64;
+
+    private final ForkJoinPool pool;
+    private final int maxPendingConversions;
+    private final Deque<ConversionTask> pendingConversions = new ArrayDeque<>();
+    private final List<Person> persons = new ArrayList<>();
+
+    ParallelPersonConverter() {
+        this(ForkJoinPool.commonPool());
+    }
+
+    ParallelPersonConverter(ForkJoinPool pool) {
+        requireNonNull(pool);
+        this.pool = pool;
+        this.maxPendingConversions = pool.getParallelism() * PENDING_CONVERSIONS_PER_THREAD;
+    }
+
+    /**
+     * Starts {@code conversion} on the pool, first waiting for the oldest conversions if too many are pending.
+     *
+     * @throws IllegalValueException if an earlier conversion that is waited for fails.
+     */
+    void submit(Conversion conversion) throws IllegalValueException {
+        requireNonNull(conversion);
+        ConversionTask task = new ConversionTask(conversion);
+        pool.execute(task);
+        pendingConversions.add(task);
+        while (pendingConversions.size() > maxPendingConversions) {
+            persons.add(joinOldest());
+        }
+    }
+
+    /**
+     * Waits for every conversion and returns their persons in the order the conversions were submitted.
+     *
+     * @throws IllegalValueException of the first conversion, in that order, that fails.
+     */
+    List<Person> join() throws IllegalValueException {
+        while (!pendingConversions.isEmpty()) {
+            persons.add(joinOldest());
+        }
+        return new ArrayList<>(persons);
+    }
+
+    private Person joinOldest() throws IllegalValueException {
+        ConversionTask oldest = pendingConversions.remove();
+        Person person;
+        try {
+            person = oldest.get();
+        } catch (InterruptedException e) {
+            cancelPendingConversions();
+            Thread.currentThread().interrupt();
+            throw new IllegalValueException(MESSAGE_INTERRUPTED, e);
+        } catch (ExecutionException e) {
+            cancelPendingConversions();
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            } else if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new IllegalStateException(cause);
+        }
+        if (oldest.failure != null) {
+            cancelPendingConversions();
+            throw oldest.failure;
+        }
+        return person;
+    }
+
+    private void cancelPendingConversions() {
+        for (ConversionTask conversion : pendingConversions) {
+            conversion.cancel(false);
+        }
+        pendingConversions.clear();
+    }
+
+    /**
+     * Runs a conversion, keeping the {@code IllegalValueException} it may throw as it is.
+     */
+    private static class ConversionTask extends RecursiveTask<Person> {
+        private final Conversion conversion;
+        private IllegalValueException failure;
+
+        ConversionTask(Conversion conversion) {
+            this.conversion = conversion;
+        }
+
+        @Override
+        protected Person compute() {
+            try {
+                return conversion.convert();
+            } catch (IllegalValueException e) {
+                failure = e;
+                return null;
+            }
+        }
+    }
+
+    /**
+     * Builds one model person, validating its data.
+     */
+    @FunctionalInterface
+    interface Conversion {
+        Person convert() throws IllegalValueException;
+    }
+}
@@ -0,0 +1,56 @@
+package seedu.address.storage;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+/**
+ * A save of My Fitness Buddy whose data has already been captured, so that it can be written out later and on any
+ * thread without reading the model again.
+ */
+public class PendingSave {
+
+    /**
+     * Writes captured data to disk.
+     */
+    @FunctionalInterface
+    public interface Writer {
+        void write() throws IOException;
+    }
+
+    private final Path filePath;
+    private final boolean isFull;
+    private final Writer writer;
+
+    /**
+     * Constructs a {@code PendingSave} to {@code filePath}.
+     *
+     * @param isFull true if {@code writer} writes all the data, which makes earlier saves to the same file redundant.
+     */
+    public PendingSave(Path filePath, boolean isFull, Writer writer) {
+        requireAllNonNull(filePath, writer);
+        this.filePath = filePath;
+        this.isFull = isFull;
+        this.writer = writer;
+    }
+
+    /**
+     * Returns a save to {@code filePath} that writes nothing.
+     */
+    public static PendingSave empty(Path filePath) {
+        return new PendingSave(filePath, false, () -> {});
+    }
+
+    public Path getFilePath() {
+        return filePath;
+    }
+
+    public boolean isFull() {
+        return isFull;
+    }
+
+    public void write() throws IOException {
+        writer.write();
+    }
+}
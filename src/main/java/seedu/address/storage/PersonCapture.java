@@ -0,0 +1,56 @@
+package seedu.address.storage;
+
+import java.util.Objects;
+
+import seedu.address.model.day.Date;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.exceptions.DayHistoryUnavailableException;
+
+/**
+ * The profile and days of a person as they were when a save was prepared.
+ *
+ * The capture is a {@code Person.State}: the profile with its start date at the time, and copies of the days that
+ * share their immutable calorie entries with the originals. Days that the person has not loaded are not loaded; the
+ * capture reads them from storage when it is converted instead. Taking a capture therefore copies references only,
+ * and the capture stays as it was while the model goes on changing. Converting it to its json-friendly form is left to
+ * the thread that writes it.
+ */
+final class PersonCapture {
+
+    private final long version;
+    private final Date startDate;
+    private final Person.State state;
+
+    private PersonCapture(long version, Date startDate, Person.State state) {
+        this.version = version;
+        this.startDate = startDate;
+        this.state = state;
+    }
+
+    /**
+     * Captures the current profile and days of {@code person}.
+     */
+    static PersonCapture of(Person person) {
+        return new PersonCapture(person.getVersion(), person.getProfile().getStartDate(), person.saveState());
+    }
+
+    /**
+     * Returns {@code previous} if it still holds the current data of {@code person}, or a new capture otherwise.
+     * The start date of a profile can be set without changing the version of its person, so it is compared too.
+     */
+    static PersonCapture reuseOrCapture(PersonCapture previous, Person person) {
+        return previous != null && previous.version == person.getVersion()
+                && Objects.equals(previous.startDate, person.getProfile().getStartDate())
+                ? previous
+                : of(person);
+    }
+
+    /**
+     * Converts this capture into its json-friendly form.
+     *
+     * @throws DayHistoryUnavailableException if the days left in storage could not be read.
+     */
+    JsonAdaptedPerson toJsonAdapted() {
+        return new JsonAdaptedPerson(state.getProfile(), state.getDays());
+    }
+}
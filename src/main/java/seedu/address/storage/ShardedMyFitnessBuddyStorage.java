@@ -0,0 +1,305 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.Logger;
+import java.util.regex.Pattern;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.AtomicWriteBatch;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.ReadOnlyMyFitnessBuddy;
+import seedu.address.model.day.Date;
+import seedu.address.model.day.Day;
+import seedu.address.model.person.ID;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Profile;
+import seedu.address.model.person.exceptions.DayHistoryUnavailableException;
+
+/**
+ * A class to access My Fitness Buddy data stored as a directory of json files on the hard disk.
+ *
+ * The manifest file holds a summary of every profile, and each person's days are kept in a shard file of their own
+ * next to it. The manifest names the shard of every person, and only the shards it names are ever read. Reading loads
+ * only the manifest; the days of a person are read from its shard when they are first used, such as when the person
+ * logs in. Saving writes the persons changed since they were last read or saved to new shards and rewrites the
+ * manifest to name them, putting all of them in place together once they are written. The shards that neither the new
+ * manifest nor its backup name are deleted only after that.
+ */
+public class ShardedMyFitnessBuddyStorage implements MyFitnessBuddyStorage {
+
+    public static final String MANIFEST_FILE_NAME = "manifest.json";
+    public static final String SHARD_FILE_EXTENSION = ".json";
+    public static final String MESSAGE_MISSING_SHARD = "Day history file %s is missing";
+    public static final String MESSAGE_WRONG_SHARD = "Day history file %s belongs to another profile";
+    public static final String MESSAGE_INVALID_SHARD_NAME = "Day history file name %s is invalid";
+    public static final String MESSAGE_EARLIER_SAVE_FAILED = "An earlier save of %s failed";
+
+    private static final String PERSONS_FIELD = "persons";
+    // an ID, followed by the generation of the save that wrote the shard unless it was named by an older version
+    private static final Pattern SHARD_NAME_PATTERN =
+            Pattern.compile("\\d{4}(-\\d+)?" + Pattern.quote(SHARD_FILE_EXTENSION));
+
+    private static final Logger logger = LogsCenter.getLogger(ShardedMyFitnessBuddyStorage.class);
+
+    private final Path filePath;
+    // the shards named by the manifest last read or saved, by manifest
+    private final Map<Path, SavedManifest> savedManifests = new ConcurrentHashMap<>();
+    // the generation of the last save, which names the shards it writes
+    private final AtomicLong lastGeneration = new AtomicLong(System.currentTimeMillis());
+
+    /**
+     * Constructs a {@code ShardedMyFitnessBuddyStorage} with its manifest at {@code filePath}.
+     */
+    public ShardedMyFitnessBuddyStorage(Path filePath) {
+        this.filePath = filePath;
+    }
+
+    @Override
+    public Path getMyFitnessBuddyFilePath() {
+        return filePath;
+    }
+
+    /**
+     * Returns the path of the shard holding the days of the person with {@code id}, as named by the manifest at
+     * {@code filePath} when it was last read or saved by this storage.
+     */
+    public Optional<Path> getShardFilePath(Path filePath, ID id) {
+        return Optional.ofNullable(savedManifests.get(filePath))
+                .map(manifest -> manifest.shards.get(id))
+                .map(shard -> filePath.resolveSibling(shard.fileName));
+    }
+
+    @Override
+    public Optional<ReadOnlyMyFitnessBuddy> readFitnessBuddy() throws DataConversionException {
+        return readFitnessBuddy(filePath);
+    }
+
+    /**
+     * Similar to {@link #readFitnessBuddy()}.
+     * The days of each person are left in their shard until they are used.
+     *
+     * @param filePath location of the manifest. Cannot be null.
+     * @throws DataConversionException if the manifest is not in the correct format.
+     */
+    @Override
+    public Optional<ReadOnlyMyFitnessBuddy> readFitnessBuddy(Path filePath) throws DataConversionException {
+        requireNonNull(filePath);
+        return DataFileRecovery.read(filePath, this::readManifest);
+    }
+
+    private Optional<ReadOnlyMyFitnessBuddy> readManifest(Path filePath) throws DataConversionException {
+        final List<Person> modelPersons = new ArrayList<>();
+        final List<String> fileNames = new ArrayList<>();
+        boolean isFound = JsonUtil.readJsonArrayFile(filePath, PERSONS_FIELD, JsonAdaptedProfileSummary.class,
+            summary -> {
+                if (summary == null) {
+                    throw new IllegalValueException(JsonSerializableMyFitnessBuddy.MESSAGE_MISSING_PERSON);
+                }
+                Profile profile = summary.toModelType();
+                String fileName = summary.getShard().orElse(profile.getId().value + SHARD_FILE_EXTENSION);
+                if (!SHARD_NAME_PATTERN.matcher(fileName).matches()) {
+                    throw new IllegalValueException(String.format(MESSAGE_INVALID_SHARD_NAME, fileName));
+                }
+                Path shardFilePath = filePath.resolveSibling(fileName);
+                modelPersons.add(new Person(profile, () -> readShard(shardFilePath, profile.getId()),
+                        summary.getCurrentBmi(), summary.getProgress()));
+                fileNames.add(fileName);
+            });
+        if (!isFound) {
+            return Optional.empty();
+        }
+
+        SavedManifest saved = new SavedManifest();
+        for (int i = 0; i < modelPersons.size(); i++) {
+            Person person = modelPersons.get(i);
+            String fileName = fileNames.get(i);
+            saved.shards.put(person.getProfile().getId(), new SavedShard(person, fileName));
+            lastGeneration.accumulateAndGet(getGeneration(fileName), Math::max);
+        }
+        savedManifests.put(filePath, saved);
+        try {
+            return Optional.of(JsonSerializableMyFitnessBuddy.toModelType(modelPersons));
+        } catch (IllegalValueException | DayHistoryUnavailableException e) {
+            throw new DataConversionException(e);
+        }
+    }
+
+    private static long getGeneration(String fileName) {
+        int dash = fileName.indexOf('-');
+        if (dash < 0) {
+            return 0;
+        }
+        try {
+            return Long.parseLong(fileName.substring(dash + 1, fileName.length() - SHARD_FILE_EXTENSION.length()));
+        } catch (NumberFormatException e) {
+            return 0;
+        }
+    }
+
+    private static List<Day> readShard(Path shardFilePath, ID id) {
+        try {
+            JsonAdaptedPerson shard = JsonUtil.readJsonFile(shardFilePath, JsonAdaptedPerson.class).orElseThrow(() ->
+                    new IllegalValueException(String.format(MESSAGE_MISSING_SHARD, shardFilePath)));
+            Person person = shard.toModelType();
+            if (!person.getProfile().getId().equals(id)) {
+                throw new IllegalValueException(String.format(MESSAGE_WRONG_SHARD, shardFilePath));
+            }
+            return new ArrayList<>(person.getDayList());
+        } catch (DataConversionException | IllegalValueException e) {
+            logger.warning("Error reading day history file " + shardFilePath + ": " + e);
+            throw new DayHistoryUnavailableException(e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public void saveFitnessBuddy(ReadOnlyMyFitnessBuddy myFitnessBuddy) throws IOException {
+        saveFitnessBuddy(myFitnessBuddy, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveFitnessBuddy(ReadOnlyMyFitnessBuddy)}.
+     *
+     * @param filePath location of the manifest. Cannot be null.
+     */
+    @Override
+    public void saveFitnessBuddy(ReadOnlyMyFitnessBuddy myFitnessBuddy, Path filePath) throws IOException {
+        prepareSave(myFitnessBuddy, filePath).write();
+    }
+
+    /**
+     * Captures the manifest and the persons whose shards are out of date, and marks the data as saved.
+     * The days of the captured persons are converted, and read from storage if they were never loaded, on the thread
+     * that writes the save. The save is never full, as its manifest names the shards written by earlier saves.
+     */
+    @Override
+    public synchronized PendingSave prepareSave(ReadOnlyMyFitnessBuddy myFitnessBuddy, Path filePath) {
+        requireNonNull(myFitnessBuddy);
+        requireNonNull(filePath);
+        SavedManifest previous = savedManifests.get(filePath);
+        SavedManifest saved = new SavedManifest();
+        String generation = "-" + lastGeneration.incrementAndGet() + SHARD_FILE_EXTENSION;
+        List<JsonAdaptedProfileSummary> summaries = new ArrayList<>();
+        Map<Path, PersonCapture> dirtyShards = new LinkedHashMap<>();
+        for (Person person : myFitnessBuddy.getPersonList()) {
+            ID id = person.getProfile().getId();
+            SavedShard shard = previous == null ? null : previous.shards.get(id);
+            String fileName;
+            if (shard != null && shard.isSavedFrom(person)) {
+                fileName = shard.fileName;
+            } else {
+                fileName = id.value + generation;
+                dirtyShards.put(filePath.resolveSibling(fileName), PersonCapture.of(person));
+            }
+            summaries.add(new JsonAdaptedProfileSummary(person, fileName));
+            saved.shards.put(id, new SavedShard(person, fileName));
+        }
+        savedManifests.put(filePath, saved);
+        myFitnessBuddy.getChangeLog().markSaved();
+
+        return new PendingSave(filePath, false, () -> {
+            try (AtomicWriteBatch batch = new AtomicWriteBatch()) {
+                if (previous != null && previous.isFailed) {
+                    // the shards this save keeps from the earlier one may never have been written
+                    throw new IOException(String.format(MESSAGE_EARLIER_SAVE_FAILED, filePath));
+                }
+                for (Map.Entry<Path, PersonCapture> shard : dirtyShards.entrySet()) {
+                    if (Files.exists(shard.getKey())) {
+                        throw new IOException("Day history file " + shard.getKey() + " already exists");
+                    }
+                    batch.write(shard.getKey(), false, out -> writeShard(shard.getValue(), out));
+                }
+                batch.write(filePath, true, out -> JsonUtil.writeJsonArray(summaries, PERSONS_FIELD, out));
+                batch.commit();
+            } catch (IOException e) {
+                // the shards on disk are no longer known, so the next save writes them all
+                saved.isFailed = true;
+                savedManifests.remove(filePath, saved);
+                throw e;
+            }
+            logger.info("Save completed: " + dirtyShards.size() + " of " + summaries.size() + " day history files");
+            if (previous != null) {
+                deleteUnnamedShards(filePath, saved, previous);
+            }
+        });
+    }
+
+    private static void writeShard(PersonCapture capture, OutputStream out) throws IOException {
+        try {
+            JsonUtil.writeJson(capture.toJsonAdapted(), out);
+        } catch (DayHistoryUnavailableException e) {
+            throw new IOException(e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Deletes the shards next to the manifest at {@code filePath} that neither the manifest, as saved in
+     * {@code saved}, nor its backup, as saved in {@code previous}, names.
+     * Shards that cannot be deleted are left for a later save, as they are never read.
+     */
+    private static void deleteUnnamedShards(Path filePath, SavedManifest saved, SavedManifest previous) {
+        Set<String> namedShards = new HashSet<>();
+        saved.shards.values().forEach(shard -> namedShards.add(shard.fileName));
+        previous.shards.values().forEach(shard -> namedShards.add(shard.fileName));
+        Path directory = filePath.toAbsolutePath().getParent();
+        try (DirectoryStream<Path> shards = Files.newDirectoryStream(directory,
+                path -> SHARD_NAME_PATTERN.matcher(path.getFileName().toString()).matches())) {
+            for (Path shard : shards) {
+                if (!namedShards.contains(shard.getFileName().toString())) {
+                    Files.deleteIfExists(shard);
+                }
+            }
+        } catch (IOException e) {
+            logger.warning("Error deleting unused day history files in " + directory + ": " + e);
+        }
+    }
+
+    /**
+     * The shards named by a manifest, and whether the save that wrote it failed.
+     */
+    private static class SavedManifest {
+        private final Map<ID, SavedShard> shards = new HashMap<>();
+        private volatile boolean isFailed;
+    }
+
+    /**
+     * The person whose days a shard holds, the version and start date of the person at the time, and the name of the
+     * shard.
+     */
+    private static class SavedShard {
+        private final Person person;
+        private final long version;
+        private final Date startDate;
+        private final String fileName;
+
+        SavedShard(Person person, String fileName) {
+            this.person = person;
+            this.version = person.getVersion();
+            this.startDate = person.getProfile().getStartDate();
+            this.fileName = fileName;
+        }
+
+        boolean isSavedFrom(Person other) {
+            return person == other && version == other.getVersion()
+                    && Objects.equals(startDate, other.getProfile().getStartDate());
+        }
+    }
+}
@@ -3,8 +3,11 @@ package seedu.address.storage;
 import java.io.IOException;
 import java.nio.file.Path;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.model.DayImport;
+import seedu.address.model.DayRecordFilter;
 import seedu.address.model.ReadOnlyMyFitnessBuddy;
 import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.UserPrefs;
@@ -12,7 +15,7 @@ import seedu.address.model.UserPrefs;
 /**
  * API of the Storage component
  */
-public interface Storage extends MyFitnessBuddyStorage, UserPrefsStorage {
+public interface Storage extends MyFitnessBuddyStorage, UserPrefsStorage, DayRecordStorage {
 
     @Override
     Optional<UserPrefs> readUserPrefs() throws DataConversionException, IOException;
@@ -29,4 +32,23 @@ public interface Storage extends MyFitnessBuddyStorage, UserPrefsStorage {
     @Override
     void saveFitnessBuddy(ReadOnlyMyFitnessBuddy myFitnessBuddy) throws IOException;
 
+    @Override
+    DayImport readDayRecords(Path filePath, DayRecordFormat format) throws DataConversionException, IOException;
+
+    @Override
+    long saveDayRecords(ReadOnlyMyFitnessBuddy myFitnessBuddy, DayRecordFilter filter, Path filePath,
+                        DayRecordFormat format) throws IOException;
+
+    /**
+     * Returns once every save of My Fitness Buddy made so far has been written to disk.
+     * @throws IOException if any of them could not be written.
+     */
+    void flush() throws IOException;
+
+    /**
+     * Sets the handler told of saves that fail after {@code saveFitnessBuddy} has returned.
+     * It may be called on any thread.
+     */
+    void setSaveFailureHandler(Consumer<IOException> handler);
+
 }
@@ -1,12 +1,17 @@
 package seedu.address.storage;
 
+import static java.util.Objects.requireNonNull;
+
 import java.io.IOException;
 import java.nio.file.Path;
 import java.util.Optional;
+import java.util.function.Consumer;
 import java.util.logging.Logger;
 
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.model.DayImport;
+import seedu.address.model.DayRecordFilter;
 import seedu.address.model.ReadOnlyMyFitnessBuddy;
 import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.UserPrefs;
@@ -19,14 +24,27 @@ public class StorageManager implements Storage {
     private static final Logger logger = LogsCenter.getLogger(StorageManager.class);
     private MyFitnessBuddyStorage myFitnessBuddyStorage;
     private UserPrefsStorage userPrefsStorage;
+    private final DayRecordStorage dayRecordStorage = new DayRecordFileStorage();
+    private Optional<WriteBehindWriter> writeBehindWriter;
 
     /**
      * Creates a {@code StorageManager} with the given {@code MyFitnessBuddyStorage} and {@code UserPrefStorage}.
      */
     public StorageManager(MyFitnessBuddyStorage myFitnessBuddyStorage, UserPrefsStorage userPrefsStorage) {
+        this(myFitnessBuddyStorage, userPrefsStorage, false);
+    }
+
+    /**
+     * Creates a {@code StorageManager} with the given {@code MyFitnessBuddyStorage} and {@code UserPrefStorage}.
+     * If {@code isWriteBehind} is true, saves of My Fitness Buddy only capture the data and leave writing it to a
+     * background thread.
+     */
+    public StorageManager(MyFitnessBuddyStorage myFitnessBuddyStorage, UserPrefsStorage userPrefsStorage,
+                          boolean isWriteBehind) {
         super();
         this.myFitnessBuddyStorage = myFitnessBuddyStorage;
         this.userPrefsStorage = userPrefsStorage;
+        this.writeBehindWriter = isWriteBehind ? Optional.of(new WriteBehindWriter()) : Optional.empty();
     }
 
     // ================ UserPrefs methods ==============================
@@ -63,6 +81,7 @@ public class StorageManager implements Storage {
     public Optional<ReadOnlyMyFitnessBuddy> readFitnessBuddy(Path filePath)
             throws DataConversionException, IOException {
         logger.fine("Attempting to read data from file: " + filePath);
+        flush();
         return myFitnessBuddyStorage.readFitnessBuddy(filePath);
     }
 
@@ -74,7 +93,45 @@ public class StorageManager implements Storage {
     @Override
     public void saveFitnessBuddy(ReadOnlyMyFitnessBuddy myFitnessBuddy, Path filePath) throws IOException {
         logger.fine("Attempting to write to data file: " + filePath);
-        myFitnessBuddyStorage.saveFitnessBuddy(myFitnessBuddy, filePath);
+        if (writeBehindWriter.isPresent()) {
+            writeBehindWriter.get().submit(myFitnessBuddyStorage.prepareSave(myFitnessBuddy, filePath));
+        } else {
+            myFitnessBuddyStorage.saveFitnessBuddy(myFitnessBuddy, filePath);
+        }
+    }
+
+    @Override
+    public PendingSave prepareSave(ReadOnlyMyFitnessBuddy myFitnessBuddy, Path filePath) throws IOException {
+        return myFitnessBuddyStorage.prepareSave(myFitnessBuddy, filePath);
+    }
+
+    @Override
+    public void flush() throws IOException {
+        if (writeBehindWriter.isPresent()) {
+            writeBehindWriter.get().flush();
+        }
+    }
+
+    @Override
+    public void setSaveFailureHandler(Consumer<IOException> handler) {
+        requireNonNull(handler);
+        writeBehindWriter.ifPresent(writer -> writer.setFailureHandler(handler));
+    }
+
+    // ================ Day record methods ==============================
+
+    @Override
+    public DayImport readDayRecords(Path filePath, DayRecordFormat format)
+            throws DataConversionException, IOException {
+        logger.fine("Attempting to read day records from file: " + filePath);
+        return dayRecordStorage.readDayRecords(filePath, format);
+    }
+
+    @Override
+    public long saveDayRecords(ReadOnlyMyFitnessBuddy myFitnessBuddy, DayRecordFilter filter, Path filePath,
+                               DayRecordFormat format) throws IOException {
+        logger.fine("Attempting to write day records to file: " + filePath);
+        return dayRecordStorage.saveDayRecords(myFitnessBuddy, filter, filePath, format);
     }
 
 }
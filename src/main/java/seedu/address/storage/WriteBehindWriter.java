@@ -0,0 +1,121 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.StringUtil;
+
+/**
+ * Writes {@code PendingSave}s on a background thread.
+ * Saves submitted within {@link #COALESCING_DELAY_MILLIS} of each other are written together, skipping every save that
+ * a later full save of the same file makes redundant.
+ */
+class WriteBehindWriter {
+
+    public static final long COALESCING_DELAY_MILLIS = 200;
+
+    private static final Logger logger = LogsCenter.getLogger(WriteBehindWriter.class);
+
+    private final ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "storage-writer");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final Object writeLock = new Object();
+    private final List<PendingSave> pending = new ArrayList<>();
+    private boolean isWriteScheduled;
+    private volatile Consumer<IOException> failureHandler = e -> {};
+
+    /**
+     * Sets the handler told, on the writer thread, of each failed background write.
+     */
+    void setFailureHandler(Consumer<IOException> failureHandler) {
+        requireNonNull(failureHandler);
+        this.failureHandler = failureHandler;
+    }
+
+    /**
+     * Queues {@code save} to be written shortly.
+     */
+    synchronized void submit(PendingSave save) {
+        requireNonNull(save);
+        pending.add(save);
+        if (!isWriteScheduled) {
+            isWriteScheduled = true;
+            executor.schedule(this::writeInBackground, COALESCING_DELAY_MILLIS, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * Writes all queued saves on the calling thread and returns once they are on disk.
+     *
+     * @throws IOException if any of them could not be written.
+     */
+    void flush() throws IOException {
+        synchronized (writeLock) {
+            List<PendingSave> saves;
+            synchronized (this) {
+                saves = new ArrayList<>(pending);
+                pending.clear();
+                isWriteScheduled = false;
+            }
+
+            IOException failure = null;
+            for (PendingSave save : coalesce(saves)) {
+                try {
+                    save.write();
+                } catch (IOException e) {
+                    if (failure == null) {
+                        failure = e;
+                    } else {
+                        failure.addSuppressed(e);
+                    }
+                }
+            }
+            if (failure != null) {
+                throw failure;
+            }
+        }
+    }
+
+    private void writeInBackground() {
+        try {
+            flush();
+        } catch (IOException e) {
+            logger.warning("Failed to write data in the background " + StringUtil.getDetails(e));
+            failureHandler.accept(e);
+        }
+    }
+
+    /**
+     * Returns {@code saves} without those followed by a full save of the same file, keeping their order.
+     */
+    static List<PendingSave> coalesce(List<PendingSave> saves) {
+        Map<Path, Integer> lastFullSaves = new HashMap<>();
+        for (int i = 0; i < saves.size(); i++) {
+            if (saves.get(i).isFull()) {
+                lastFullSaves.put(saves.get(i).getFilePath(), i);
+            }
+        }
+
+        List<PendingSave> coalesced = new ArrayList<>();
+        for (int i = 0; i < saves.size(); i++) {
+            if (i >= lastFullSaves.getOrDefault(saves.get(i).getFilePath(), 0)) {
+                coalesced.add(saves.get(i));
+            }
+        }
+        return coalesced;
+    }
+}
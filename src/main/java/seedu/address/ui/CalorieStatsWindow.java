@@ -105,22 +105,22 @@ public class CalorieStatsWindow extends UiPart<Stage> {
         //Get the calorie data of all the days.
         for (int i = 0; i < dayList.size(); i++) {
             XYChart.Data<String, Integer> calorieInData = new XYChart.Data<>(dates.get(i),
-                    dayList.get(i).getCalorieManager().getTotalInputCalorie());
+                    dayList.get(i).getTotalInputCalorie());
             calorieInSeries.getData().add(calorieInData);
 
             //set the data nodes to allow display of values when the mouse hovers over it
             calorieInData.setNode(new HoveredCalorieNode(
-                    dayList.get((i == 0) ? 0 : i - 1).getCalorieManager().getTotalInputCalorie(),
-                    dayList.get(i).getCalorieManager().getTotalInputCalorie(), true));
+                    dayList.get((i == 0) ? 0 : i - 1).getTotalInputCalorie(),
+                    dayList.get(i).getTotalInputCalorie(), true));
 
             XYChart.Data<String, Integer> calorieOutData = new XYChart.Data<>(dates.get(i),
-                    dayList.get(i).getCalorieManager().getTotalOutputCalorie());
+                    dayList.get(i).getTotalOutputCalorie());
             calorieOutSeries.getData().add(calorieOutData);
 
             //set the data nodes to allow display of values when the mouse hovers over it
             calorieOutData.setNode(new HoveredCalorieNode(
-                    dayList.get((i == 0) ? 0 : i - 1).getCalorieManager().getTotalOutputCalorie(),
-                    dayList.get(i).getCalorieManager().getTotalOutputCalorie(), false));
+                    dayList.get((i == 0) ? 0 : i - 1).getTotalOutputCalorie(),
+                    dayList.get(i).getTotalOutputCalorie(), false));
         }
 
         barChart.getData().add(calorieInSeries);
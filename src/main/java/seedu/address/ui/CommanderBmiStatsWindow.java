@@ -10,6 +10,7 @@ import javafx.fxml.FXML;
 import javafx.scene.chart.PieChart;
 import javafx.stage.Stage;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.logic.Logic;
 import seedu.address.model.person.Person;
 
 /**
@@ -19,7 +20,7 @@ public class CommanderBmiStatsWindow extends UiPart<Stage> {
     private static final Logger logger = LogsCenter.getLogger(CommanderBmiStatsWindow.class);
     private static final String FXML = "CommanderBMIStatsWindow.fxml";
 
-    private ObservableList<Person> personList;
+    private Logic logic;
 
     @FXML
     private PieChart pieChart;
@@ -36,48 +37,32 @@ public class CommanderBmiStatsWindow extends UiPart<Stage> {
     /**
      * Creates a new CommanderBmiStatsWindow.
      *
-     * @param personList personList from seedu.address.logic.Logic
+     * @param personList the filtered person list of {@code logic}, whose persons are counted
+     * @param logic logic to obtain the BMI band counts from
      */
-    public CommanderBmiStatsWindow(ObservableList<Person> personList) {
+    public CommanderBmiStatsWindow(ObservableList<Person> personList, Logic logic) {
         this(new Stage());
+        this.logic = logic;
 
         pieChart.setTitle("Current Overall BMI Progress of Recruits");
-        setBmiStats(personList);
+        setBmiStats();
 
         //ListChangeListener to check for any changes to the dayList and updates the line chart accordingly
         personList.addListener((ListChangeListener<Person>) (c -> updateChart()));
     }
 
     /**
-     * Collate the data of each person's bmi and classify it into different
-     * categories for the Pie Chart.
+     * Collate the data of each shown person's bmi and classify it into different
+     * categories for the Pie Chart. Persons whose BMI is not known are left out.
      */
-    private void setBmiStats(ObservableList<Person> personList) {
-        assert personList != null;
-        this.personList = personList;
-
+    private void setBmiStats() {
         ObservableList<PieChart.Data> pieChartData = FXCollections.observableArrayList();
 
-        int lessThan23 = 0;
-        int lessThan27 = 0;
-        int lessThan30 = 0;
-        int moreThan30 = 0;
-
-        for (Person p : personList) {
-            if (p.getCurrentBmi() < 23) {
-                lessThan23++;
-            } else if (p.getCurrentBmi() < 27) {
-                lessThan27++;
-            } else if (p.getCurrentBmi() < 30) {
-                lessThan30++;
-            } else {
-                moreThan30++;
-            }
-        }
-        pieChartData.add(new PieChart.Data("< 23", lessThan23));
-        pieChartData.add(new PieChart.Data("< 27", lessThan27));
-        pieChartData.add(new PieChart.Data("< 30", lessThan30));
-        pieChartData.add(new PieChart.Data("> 30", moreThan30));
+        int[] bandCounts = logic.countFilteredPersonsByBmiBand(23, 27, 30);
+        pieChartData.add(new PieChart.Data("< 23", bandCounts[0]));
+        pieChartData.add(new PieChart.Data("< 27", bandCounts[1]));
+        pieChartData.add(new PieChart.Data("< 30", bandCounts[2]));
+        pieChartData.add(new PieChart.Data("> 30", bandCounts[3]));
 
         pieChartData.forEach(data ->
                 data.nameProperty().bind(
@@ -100,7 +85,7 @@ public class CommanderBmiStatsWindow extends UiPart<Stage> {
         assert pieChart.getData().isEmpty();
 
         //set the new data points
-        setBmiStats(personList);
+        setBmiStats();
     }
 
     /**
@@ -7,7 +7,6 @@ import javafx.scene.image.Image;
 import javafx.scene.image.ImageView;
 import javafx.scene.layout.HBox;
 import javafx.scene.layout.Region;
-import seedu.address.model.calorie.CalorieManager;
 import seedu.address.model.day.Day;
 
 
@@ -62,12 +61,11 @@ public class DayCard extends UiPart<Region> {
     public DayCard(Day day, int displayedIndex, MainWindow mainWindow) {
         super(FXML);
         this.day = day;
-        CalorieManager cm = day.getCalorieManager();
         id.setText(displayedIndex + ". ");
         date.setText("Date: " + day.getDate().get());
         weight.setText("Weight: " + day.getWeight().value + " kg");
-        totalCalorieIn.setText("Total Calories In: " + cm.getTotalInputCalorie() + " calories");
-        totalCalorieOut.setText("Total Calories Out: " + cm.getTotalOutputCalorie() + " calories");
+        totalCalorieIn.setText("Total Calories In: " + day.getTotalInputCalorie() + " calories");
+        totalCalorieOut.setText("Total Calories Out: " + day.getTotalOutputCalorie() + " calories");
         surplus.setText("Balance : " + day.getBalance());
         isLosing.setImage(day.isLosing() ? tick : cross);
         progress.setProgress(day.getProgress());
@@ -106,7 +106,7 @@ public class MainWindow extends UiPart<Stage> {
 
         calorieStatsWindow = new CalorieStatsWindow(logic.getFilteredDayList());
 
-        commanderBmiStatsWindow = new CommanderBmiStatsWindow(logic.getFilteredPersonList());
+        commanderBmiStatsWindow = new CommanderBmiStatsWindow(logic.getFilteredPersonList(), logic);
 
         indexOfDayCurrentlyShowingCalories = -1;
     }
@@ -10,4 +10,10 @@ public interface Ui {
     /** Starts the UI (and the App).  */
     void start(Stage primaryStage);
 
+    /** Reports {@code message} about a problem found outside of a command. May be called from any thread. */
+    void showBackgroundError(String message);
+
+    /** Reports {@code message} about a problem with the data found while starting, once the UI has started. */
+    void showDataWarning(String message);
+
 }
@@ -51,6 +51,25 @@ public class UiManager implements Ui {
         }
     }
 
+    @Override
+    public void showBackgroundError(String message) {
+        logger.warning(message);
+        Platform.runLater(() -> {
+            if (mainWindow != null) {
+                showAlertDialogAndWait(AlertType.ERROR, "Error", "Could not save data", message);
+            }
+        });
+    }
+
+    @Override
+    public void showDataWarning(String message) {
+        Platform.runLater(() -> {
+            if (mainWindow != null) {
+                showAlertDialogAndWait(AlertType.WARNING, "Warning", "Data was recovered from a backup", message);
+            }
+        });
+    }
+
     private Image getImage(String imagePath) {
         return new Image(MainApp.class.getResourceAsStream(imagePath));
     }
@@ -0,0 +1,86 @@
+package seedu.address;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.commons.core.Messages.MESSAGE_UNKNOWN_COMMAND;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.logic.Logic;
+import seedu.address.logic.LogicManager;
+import seedu.address.logic.commands.ExitCommand;
+import seedu.address.logic.commands.ListCommand;
+import seedu.address.model.ModelManager;
+import seedu.address.storage.JsonMyFitnessBuddyStorage;
+import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.StorageManager;
+
+public class HeadlessAppTest {
+
+    @TempDir
+    public Path temporaryFolder;
+
+    private final ByteArrayOutputStream out = new ByteArrayOutputStream();
+    private final ByteArrayOutputStream err = new ByteArrayOutputStream();
+    private Logic logic;
+
+    @BeforeEach
+    public void setUp() {
+        JsonMyFitnessBuddyStorage myFitnessBuddyStorage =
+                new JsonMyFitnessBuddyStorage(temporaryFolder.resolve("myFitnessBuddy.json"));
+        JsonUserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json"));
+        logic = new LogicManager(new ModelManager(), new StorageManager(myFitnessBuddyStorage, userPrefsStorage));
+    }
+
+    @Test
+    public void run_validCommands_feedbackPrinted() throws Exception {
+        String input = "# a comment\n\n  " + ListCommand.COMMAND_WORD + "  \n" + ListCommand.COMMAND_WORD + "\n";
+        assertEquals(HeadlessApp.EXIT_SUCCESS, run(input, false));
+        assertEquals(ListCommand.MESSAGE_SUCCESS + System.lineSeparator()
+                + ListCommand.MESSAGE_SUCCESS + System.lineSeparator(), output(out));
+        assertEquals("", output(err));
+    }
+
+    @Test
+    public void run_invalidCommand_reportedAndRestExecuted() throws Exception {
+        String input = "unknowncommand\n" + ListCommand.COMMAND_WORD + "\n";
+        assertEquals(HeadlessApp.EXIT_COMMAND_FAILED, run(input, false));
+        assertEquals(ListCommand.MESSAGE_SUCCESS + System.lineSeparator(), output(out));
+        assertEquals("unknowncommand: " + MESSAGE_UNKNOWN_COMMAND + System.lineSeparator(), output(err));
+    }
+
+    @Test
+    public void run_exitCommand_stopsReading() throws Exception {
+        String input = ExitCommand.COMMAND_WORD + "\nunknowncommand\n";
+        assertEquals(HeadlessApp.EXIT_SUCCESS, run(input, false));
+        assertEquals(ExitCommand.MESSAGE_EXIT_ACKNOWLEDGEMENT + System.lineSeparator(), output(out));
+        assertEquals("", output(err));
+    }
+
+    @Test
+    public void run_interactive_promptsForEachLine() throws Exception {
+        run(ListCommand.COMMAND_WORD + "\n", true);
+        assertTrue(output(out).startsWith(HeadlessApp.PROMPT + ListCommand.MESSAGE_SUCCESS));
+        assertTrue(output(out).endsWith(HeadlessApp.PROMPT));
+    }
+
+    private int run(String input, boolean isInteractive) throws Exception {
+        PrintStream outStream = new PrintStream(out, true, StandardCharsets.UTF_8);
+        PrintStream errStream = new PrintStream(err, true, StandardCharsets.UTF_8);
+        return new HeadlessApp(logic, new BufferedReader(new StringReader(input)), outStream, errStream,
+                isInteractive).run();
+    }
+
+    private static String output(ByteArrayOutputStream stream) {
+        return stream.toString(StandardCharsets.UTF_8);
+    }
+}
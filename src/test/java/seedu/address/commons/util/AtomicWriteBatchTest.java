@@ -0,0 +1,58 @@
+package seedu.address.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.util.FileUtil.SyncPolicy;
+
+public class AtomicWriteBatchTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void commit_batchedWrites_allFilesReplaced() throws Exception {
+        Path first = testFolder.resolve("first.txt");
+        Path second = testFolder.resolve("dir").resolve("second.txt");
+        FileUtil.writeToFile(first, "old");
+        try (AtomicWriteBatch batch = new AtomicWriteBatch(SyncPolicy.BATCHED)) {
+            batch.write(first, true, out -> out.write('1'));
+            batch.write(second, false, out -> out.write('2'));
+            assertEquals("old", FileUtil.readFromFile(first));
+            assertFalse(Files.exists(second));
+
+            batch.commit();
+        }
+        assertEquals("1", FileUtil.readFromFile(first));
+        assertEquals("old", FileUtil.readFromFile(FileUtil.getBackupFilePath(first)));
+        assertEquals("2", FileUtil.readFromFile(second));
+    }
+
+    @Test
+    public void close_notCommitted_filesUnchanged() throws Exception {
+        Path file = testFolder.resolve("file.txt");
+        FileUtil.writeToFile(file, "old");
+        try (AtomicWriteBatch batch = new AtomicWriteBatch(SyncPolicy.NEVER)) {
+            batch.write(file, true, out -> out.write('1'));
+        }
+        assertEquals("old", FileUtil.readFromFile(file));
+        assertFalse(Files.exists(FileUtil.getTempFilePath(file)));
+        assertFalse(Files.exists(FileUtil.getBackupFilePath(file)));
+    }
+
+    @Test
+    public void write_syncAlways_fileReplacedImmediately() throws Exception {
+        Path file = testFolder.resolve("file.txt");
+        try (AtomicWriteBatch batch = new AtomicWriteBatch(SyncPolicy.ALWAYS)) {
+            batch.write(file, false, out -> out.write('1'));
+            assertEquals("1", FileUtil.readFromFile(file));
+        }
+        assertEquals("1", FileUtil.readFromFile(file));
+    }
+}
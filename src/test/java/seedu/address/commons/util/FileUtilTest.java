@@ -1,13 +1,22 @@
 package seedu.address.commons.util;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 public class FileUtilTest {
 
+    @TempDir
+    public Path testFolder;
+
     @Test
     public void isValidPath() {
         // valid path
@@ -20,4 +29,37 @@ public class FileUtilTest {
         assertThrows(NullPointerException.class, () -> FileUtil.isValidPath(null));
     }
 
+    @Test
+    public void writeToFile_missingParentDirectory_fileCreated() throws Exception {
+        Path file = testFolder.resolve("parent").resolve("file.txt");
+        FileUtil.writeToFile(file, "content");
+        assertEquals("content", FileUtil.readFromFile(file));
+        assertFalse(Files.exists(FileUtil.getTempFilePath(file)));
+        assertFalse(Files.exists(FileUtil.getBackupFilePath(file)));
+    }
+
+    @Test
+    public void writeAtomically_backupKept_oldContentInBackup() throws Exception {
+        Path file = testFolder.resolve("file.txt");
+        FileUtil.writeAtomically(file, true, out -> out.write('a'));
+        assertFalse(Files.exists(FileUtil.getBackupFilePath(file)));
+
+        FileUtil.writeAtomically(file, true, out -> out.write('b'));
+        assertEquals("b", FileUtil.readFromFile(file));
+        assertEquals("a", FileUtil.readFromFile(FileUtil.getBackupFilePath(file)));
+    }
+
+    @Test
+    public void writeAtomically_writerFails_oldContentKept() throws Exception {
+        Path file = testFolder.resolve("file.txt");
+        FileUtil.writeToFile(file, "old");
+        assertThrows(IOException.class, () -> FileUtil.writeAtomically(file, true, out -> {
+            out.write('n');
+            throw new IOException("disk full");
+        }));
+        assertEquals("old", FileUtil.readFromFile(file));
+        assertFalse(Files.exists(FileUtil.getTempFilePath(file)));
+        assertFalse(Files.exists(FileUtil.getBackupFilePath(file)));
+    }
+
 }
@@ -1,44 +1,90 @@
 package seedu.address.commons.util;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
+import seedu.address.commons.exceptions.DataConversionException;
 import seedu.address.testutil.SerializableTestClass;
-import seedu.address.testutil.TestUtil;
 
 /**
  * Tests JSON Read and Write
  */
 public class JsonUtilTest {
 
-    private static final Path SERIALIZATION_FILE = TestUtil.getFilePathInSandboxFolder("serialize.json");
+    @TempDir
+    public Path testFolder;
+
+    private Path serializationFile() {
+        return testFolder.resolve("serialize.json");
+    }
 
     @Test
     public void serializeObjectToJsonFile_noExceptionThrown() throws IOException {
         SerializableTestClass serializableTestClass = new SerializableTestClass();
         serializableTestClass.setTestValues();
 
-        JsonUtil.serializeObjectToJsonFile(SERIALIZATION_FILE, serializableTestClass);
+        JsonUtil.serializeObjectToJsonFile(serializationFile(), serializableTestClass);
 
-        assertEquals(FileUtil.readFromFile(SERIALIZATION_FILE), SerializableTestClass.JSON_STRING_REPRESENTATION);
+        assertEquals(FileUtil.readFromFile(serializationFile()), SerializableTestClass.JSON_STRING_REPRESENTATION);
     }
 
     @Test
     public void deserializeObjectFromJsonFile_noExceptionThrown() throws IOException {
-        FileUtil.writeToFile(SERIALIZATION_FILE, SerializableTestClass.JSON_STRING_REPRESENTATION);
+        FileUtil.writeToFile(serializationFile(), SerializableTestClass.JSON_STRING_REPRESENTATION);
 
         SerializableTestClass serializableTestClass = JsonUtil
-                .deserializeObjectFromJsonFile(SERIALIZATION_FILE, SerializableTestClass.class);
+                .deserializeObjectFromJsonFile(serializationFile(), SerializableTestClass.class);
 
         assertEquals(serializableTestClass.getName(), SerializableTestClass.getNameTestValue());
         assertEquals(serializableTestClass.getListOfLocalDateTimes(), SerializableTestClass.getListTestValues());
         assertEquals(serializableTestClass.getMapOfIntegerToString(), SerializableTestClass.getHashMapTestValues());
     }
 
+    @Test
+    public void saveJsonArrayFile_thenReadJsonArrayFile_sameElements() throws Exception {
+        List<String> elements = Arrays.asList("first", "second", "third");
+        JsonUtil.saveJsonArrayFile(elements, "elements", serializationFile());
+
+        List<String> read = new ArrayList<>();
+        assertTrue(JsonUtil.readJsonArrayFile(serializationFile(), "elements", String.class, read::add));
+        assertEquals(elements, read);
+    }
+
+    @Test
+    public void readJsonArrayFile_otherFields_skipped() throws Exception {
+        FileUtil.writeToFile(serializationFile(),
+                "{ \"before\" : { \"elements\" : [ 9 ] }, \"elements\" : [ 1, 2 ], \"after\" : [ 3 ] }");
+
+        List<Integer> read = new ArrayList<>();
+        assertTrue(JsonUtil.readJsonArrayFile(serializationFile(), "elements", Integer.class, read::add));
+        assertEquals(Arrays.asList(1, 2), read);
+    }
+
+    @Test
+    public void readJsonArrayFile_truncatedFile_throwsDataConversionException() throws Exception {
+        FileUtil.writeToFile(serializationFile(), "{ \"elements\" : [ 1, 2");
+
+        assertThrows(DataConversionException.class, () ->
+                JsonUtil.readJsonArrayFile(serializationFile(), "elements", Integer.class, element -> {}));
+    }
+
+    @Test
+    public void readJsonArrayFile_missingFile_returnsFalse() throws Exception {
+        assertFalse(JsonUtil.readJsonArrayFile(testFolder.resolve("missing.json"), "elements",
+                Integer.class, element -> {}));
+    }
+
     //TODO: @Test jsonUtil_readJsonStringToObjectInstance_correctObject()
 
     //TODO: @Test jsonUtil_writeThenReadObjectToJson_correctObject()
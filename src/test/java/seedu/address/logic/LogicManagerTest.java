@@ -7,17 +7,27 @@ import static seedu.address.logic.commands.CommandTestUtil.DATE_DESC_1;
 import static seedu.address.logic.commands.CommandTestUtil.WEIGHT_DESC_1;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalDays.MDAY1;
+import static seedu.address.testutil.TypicalPerson.getSimpleMyFitnessBuddy;
+import static seedu.address.testutil.TypicalPerson.getTypicalMyFitnessBuddy;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
 import seedu.address.logic.commands.AddCommand;
+import seedu.address.logic.commands.ClearCommand;
 import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.ExitCommand;
+import seedu.address.logic.commands.HelpCommand;
 import seedu.address.logic.commands.ListCommand;
+import seedu.address.logic.commands.RedoCommand;
+import seedu.address.logic.commands.RunCommand;
+import seedu.address.logic.commands.UndoCommand;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.Model;
@@ -25,10 +35,12 @@ import seedu.address.model.ModelManager;
 import seedu.address.model.ReadOnlyMyFitnessBuddy;
 import seedu.address.model.UserPrefs;
 import seedu.address.model.day.Day;
+import seedu.address.model.person.ID;
 import seedu.address.storage.JsonMyFitnessBuddyStorage;
 import seedu.address.storage.JsonUserPrefsStorage;
 import seedu.address.storage.StorageManager;
 import seedu.address.testutil.DayBuilder;
+import seedu.address.testutil.PersonBuilder;
 import seedu.address.testutil.TypicalProfiles;
 
 public class LogicManagerTest {
@@ -87,6 +99,108 @@ public class LogicManagerTest {
         //assertCommandFailure(addCommand, CommandException.class, expectedMessage, expectedModel);
     }
 
+    @Test
+    public void execute_dataUnchanged_saveSkipped() throws Exception {
+        JsonMyFitnessBuddySaveCountingStub myFitnessBuddyStorage =
+                new JsonMyFitnessBuddySaveCountingStub(temporaryFolder.resolve("countingAddressBook.json"));
+        logic = new LogicManager(model, new StorageManager(myFitnessBuddyStorage,
+                new JsonUserPrefsStorage(temporaryFolder.resolve("countingUserPrefs.json"))));
+
+        // a new model is not known to be in storage
+        logic.execute(ListCommand.COMMAND_WORD);
+        assertEquals(1, myFitnessBuddyStorage.saveCount);
+
+        logic.execute(ListCommand.COMMAND_WORD);
+        logic.execute(HelpCommand.COMMAND_WORD);
+        assertEquals(1, myFitnessBuddyStorage.saveCount);
+
+        model.addPerson(new PersonBuilder().withProfile(TypicalProfiles.PROFILE1).build());
+        logic.execute(ListCommand.COMMAND_WORD);
+        assertEquals(2, myFitnessBuddyStorage.saveCount);
+    }
+
+    @Test
+    public void executeBatch_savesOnceOrNotAtAll() throws Exception {
+        JsonMyFitnessBuddySaveCountingStub myFitnessBuddyStorage =
+                new JsonMyFitnessBuddySaveCountingStub(temporaryFolder.resolve("countingAddressBook.json"));
+        model = new ModelManager(getSimpleMyFitnessBuddy(), new UserPrefs());
+        model.setCurrentPerson(model.getMyFitnessBuddy().findPerson(new ID("1111")).get());
+        logic = new LogicManager(model, new StorageManager(myFitnessBuddyStorage,
+                new JsonUserPrefsStorage(temporaryFolder.resolve("countingUserPrefs.json"))));
+
+        CommandResult result = logic.executeBatch(List.of("add d/2020-10-12 w/95", "add d/2020-10-13 w/94"));
+        assertEquals(String.format(RunCommand.MESSAGE_SUCCESS, 2), result.getFeedbackToUser());
+        assertEquals(1, myFitnessBuddyStorage.saveCount);
+
+        assertThrows(CommandException.class, () -> logic.executeBatch(List.of("add d/2020-10-14 w/93",
+                "add d/2020-10-14 w/93")));
+        assertEquals(3, model.getFilteredDayList().size());
+        assertEquals(1, myFitnessBuddyStorage.saveCount);
+    }
+
+    @Test
+    public void execute_undoAndRedo_restoredAndSaved() throws Exception {
+        JsonMyFitnessBuddySaveCountingStub myFitnessBuddyStorage =
+                new JsonMyFitnessBuddySaveCountingStub(temporaryFolder.resolve("countingAddressBook.json"));
+        model = new ModelManager(getSimpleMyFitnessBuddy(), new UserPrefs());
+        model.setCurrentPerson(model.getMyFitnessBuddy().findPerson(new ID("1111")).get());
+        logic = new LogicManager(model, new StorageManager(myFitnessBuddyStorage,
+                new JsonUserPrefsStorage(temporaryFolder.resolve("countingUserPrefs.json"))));
+
+        logic.execute("add d/2020-10-12 w/95");
+        logic.execute(UndoCommand.COMMAND_WORD);
+        assertEquals(1, model.getFilteredDayList().size());
+        assertEquals(2, myFitnessBuddyStorage.saveCount);
+
+        logic.execute(RedoCommand.COMMAND_WORD);
+        assertEquals(2, model.getFilteredDayList().size());
+        assertEquals(3, myFitnessBuddyStorage.saveCount);
+        assertThrows(CommandException.class, RedoCommand.MESSAGE_FAILURE, () ->
+                logic.execute(RedoCommand.COMMAND_WORD));
+    }
+
+    @Test
+    public void execute_dataReadFromStorage_saveSkipped() throws Exception {
+        JsonMyFitnessBuddySaveCountingStub myFitnessBuddyStorage =
+                new JsonMyFitnessBuddySaveCountingStub(temporaryFolder.resolve("countingAddressBook.json"));
+        myFitnessBuddyStorage.saveFitnessBuddy(getTypicalMyFitnessBuddy());
+        model = new ModelManager(myFitnessBuddyStorage.readFitnessBuddy().get(), new UserPrefs());
+        logic = new LogicManager(model, new StorageManager(myFitnessBuddyStorage,
+                new JsonUserPrefsStorage(temporaryFolder.resolve("countingUserPrefs.json"))));
+
+        logic.execute(ListCommand.COMMAND_WORD);
+        // only the save that wrote the data in the first place
+        assertEquals(1, myFitnessBuddyStorage.saveCount);
+    }
+
+    @Test
+    public void executeDataCommand_fileOrAppCommand_refused() throws Exception {
+        assertEquals(ListCommand.MESSAGE_SUCCESS, logic.executeDataCommand(Optional.empty(), ListCommand.COMMAND_WORD)
+                .getFeedbackToUser());
+
+        for (String commandText : List.of("run " + temporaryFolder.resolve("missing.txt"),
+                "export " + temporaryFolder.resolve("days.csv"), "import " + temporaryFolder.resolve("days.csv"),
+                ClearCommand.COMMAND_WORD, ExitCommand.COMMAND_WORD, "login 1", UndoCommand.COMMAND_WORD,
+                RedoCommand.COMMAND_WORD)) {
+            String commandWord = commandText.split(" ")[0];
+            assertThrows(CommandException.class, String.format(LogicManager.MESSAGE_NOT_DATA_COMMAND, commandWord),
+                    () -> logic.executeDataCommand(Optional.empty(), commandText));
+        }
+    }
+
+    @Test
+    public void executeDataCommand_person_loggedInForCommand() throws Exception {
+        model = new ModelManager(getSimpleMyFitnessBuddy(), new UserPrefs());
+        logic = new LogicManager(model, new StorageManager(
+                new JsonMyFitnessBuddyStorage(temporaryFolder.resolve("data.json")),
+                new JsonUserPrefsStorage(temporaryFolder.resolve("prefs.json"))));
+
+        logic.executeDataCommand(Optional.of(new ID("1111")), ListCommand.COMMAND_WORD);
+        assertEquals(new ID("1111"), model.getMyFitnessBuddy().getProfile().getId());
+        assertThrows(CommandException.class, String.format(LogicManager.MESSAGE_UNKNOWN_PERSON, "4420"), () ->
+                logic.executeDataCommand(Optional.of(new ID("4420")), ListCommand.COMMAND_WORD));
+    }
+
     @Test
     public void getFilteredDayList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> logic.getFilteredDayList().remove(0));
@@ -145,6 +259,23 @@ public class LogicManagerTest {
         assertEquals(expectedModel, model);
     }
 
+    /**
+     * A stub class that counts the calls to the save method.
+     */
+    private static class JsonMyFitnessBuddySaveCountingStub extends JsonMyFitnessBuddyStorage {
+        private int saveCount;
+
+        private JsonMyFitnessBuddySaveCountingStub(Path filePath) {
+            super(filePath);
+        }
+
+        @Override
+        public void saveFitnessBuddy(ReadOnlyMyFitnessBuddy myFitnessBuddy, Path filePath) throws IOException {
+            saveCount++;
+            super.saveFitnessBuddy(myFitnessBuddy, filePath);
+        }
+    }
+
     /**
      * A stub class to throw an {@code IOException} when the save method is called.
      */
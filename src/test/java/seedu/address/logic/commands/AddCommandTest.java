@@ -10,6 +10,8 @@ import static seedu.address.testutil.TypicalPerson.getSimpleMyFitnessBuddy;
 import java.nio.file.Path;
 import java.time.LocalDate;
 import java.util.ArrayList;
+import java.util.List;
+import java.util.OptionalDouble;
 import java.util.function.Predicate;
 
 import org.junit.jupiter.api.Test;
@@ -17,12 +19,15 @@ import org.junit.jupiter.api.Test;
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Checkpoint;
+import seedu.address.model.DayImport;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.MyFitnessBuddy;
 import seedu.address.model.ReadOnlyMyFitnessBuddy;
 import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.UserPrefs;
+import seedu.address.model.calorie.CalorieSummary;
 import seedu.address.model.day.Date;
 import seedu.address.model.day.Day;
 import seedu.address.model.day.Weight;
@@ -173,6 +178,46 @@ public class AddCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public void importDays(DayImport dayImport) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Checkpoint createCheckpoint() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void restoreCheckpoint(Checkpoint checkpoint) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public boolean canUndoMyFitnessBuddy() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public boolean canRedoMyFitnessBuddy() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void undoMyFitnessBuddy() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void redoMyFitnessBuddy() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void commitMyFitnessBuddy() {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public ReadOnlyMyFitnessBuddy getMyFitnessBuddy() {
             throw new AssertionError("This method should not be called.");
@@ -193,6 +238,36 @@ public class AddCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public CalorieSummary getCalorieSummary(LocalDate startDate, LocalDate endDate) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<Person> getPersonsWithNameKeywords(List<String> keywords) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<Person> getPersonsAboveBmi(double bmi) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public int[] countPersonsByBmiBand(double... upperBounds) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public int[] countFilteredPersonsByBmiBand(double... upperBounds) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public OptionalDouble getBmiPercentile(double percentile) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void deleteDay(Day target) {
             throw new AssertionError("This method should not be called.");
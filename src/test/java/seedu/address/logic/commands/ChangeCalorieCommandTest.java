@@ -1,6 +1,7 @@
 package seedu.address.logic.commands;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static seedu.address.logic.commands.ChangeCommand.MESSAGE_EDIT_CALORIE_SUCCESS;
 import static seedu.address.logic.commands.ChangeCommand.MESSAGE_NOT_EDITED;
 import static seedu.address.testutil.Assert.assertThrows;
@@ -18,11 +19,13 @@ import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.UserPrefs;
 import seedu.address.model.calorie.CalorieCount;
+import seedu.address.model.calorie.CalorieEntries;
 import seedu.address.model.calorie.Exercise;
 import seedu.address.model.calorie.Food;
 import seedu.address.model.calorie.Input;
 import seedu.address.model.calorie.Output;
 import seedu.address.model.calorie.Time;
+import seedu.address.model.day.Day;
 import seedu.address.model.person.Profile;
 import seedu.address.testutil.TypicalDays;
 
@@ -136,6 +139,23 @@ public class ChangeCalorieCommandTest {
                 commandResult.getFeedbackToUser());
     }
 
+    @Test
+    public void execute_calorieChanged_replacedDayUnchanged() throws CommandException {
+        Model model = new ModelManager(getAnotherMyFitnessBuddy(), new UserPrefs());
+        model.setCurrentPerson(model.getMyFitnessBuddy().getPersonList().get(0));
+        Day replacedDay = model.getDay(LocalDate.parse("2019-12-25"));
+        CalorieEntries entriesBefore = replacedDay.getCalorieEntries();
+        long versionBefore = replacedDay.getVersion();
+        ChangeCommand.ChangeCalorieDescriptor ccd = new ChangeCommand.ChangeCalorieDescriptor();
+        ccd.setIsOut(false);
+        ccd.setTime(new Time("2359"));
+        new ChangeCommand(LocalDate.parse("2019-12-25"), ccd, Index.fromOneBased(1)).execute(model);
+
+        assertEquals(entriesBefore, replacedDay.getCalorieEntries());
+        assertEquals(versionBefore, replacedDay.getVersion());
+        assertNotEquals(entriesBefore, model.getDay(LocalDate.parse("2019-12-25")).getCalorieEntries());
+    }
+
     @Test
     public void equals() {
         ChangeCommand.ChangeCalorieDescriptor ccd = new ChangeCommand.ChangeCalorieDescriptor();
@@ -0,0 +1,64 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPerson.getSimpleMyFitnessBuddy2;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.LocalDate;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.model.DayRecordFilter;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.storage.DayRecordFileStorage;
+import seedu.address.storage.DayRecordFormat;
+
+public class ExportCommandTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () ->
+                new ExportCommand(null, DayRecordFormat.CSV, DayRecordFilter.ALL));
+        assertThrows(NullPointerException.class, () ->
+                new ExportCommand(Paths.get("a.csv"), DayRecordFormat.CSV, null));
+    }
+
+    @Test
+    public void execute_exportThenImport_roundTrips() throws Exception {
+        Path file = testFolder.resolve("export.csv");
+        Model model = new ModelManager(getSimpleMyFitnessBuddy2(), new UserPrefs());
+        DayRecordFileStorage storage = new DayRecordFileStorage();
+
+        CommandResult result = new ExportCommand(file, DayRecordFormat.CSV, DayRecordFilter.ALL).execute(model,
+                storage);
+
+        assertEquals(String.format(ExportCommand.MESSAGE_SUCCESS, 2, file), result.getFeedbackToUser());
+        assertEquals(3, Files.readAllLines(file).size());
+        assertEquals(2, storage.readDayRecords(file, DayRecordFormat.CSV).getRowCount());
+    }
+
+    @Test
+    public void equals() {
+        DayRecordFilter october = new DayRecordFilter("1", Optional.of(LocalDate.parse("2020-10-01")),
+                Optional.empty());
+        ExportCommand exportCsv = new ExportCommand(Paths.get("a.csv"), DayRecordFormat.CSV, october);
+        assertTrue(exportCsv.equals(exportCsv));
+        assertTrue(exportCsv.equals(new ExportCommand(Paths.get("a.csv"), DayRecordFormat.CSV, new DayRecordFilter("1",
+                Optional.of(LocalDate.parse("2020-10-01")), Optional.empty()))));
+        assertFalse(exportCsv.equals(new ExportCommand(Paths.get("a.csv"), DayRecordFormat.CSV, DayRecordFilter.ALL)));
+        assertFalse(exportCsv.equals(new ExportCommand(Paths.get("b.csv"), DayRecordFormat.CSV, october)));
+        assertFalse(exportCsv.equals(null));
+    }
+}
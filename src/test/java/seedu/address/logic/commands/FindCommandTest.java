@@ -1,6 +1,6 @@
 package seedu.address.logic.commands;
 
-//import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 //import static seedu.address.commons.core.Messages.MESSAGE_PERSONS_LISTED_OVERVIEW;
@@ -8,6 +8,7 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 //import static seedu.address.testutil.TypicalDays.CARL;
 //import static seedu.address.testutil.TypicalDays.ELLE;
 //import static seedu.address.testutil.TypicalDays.FIONA;
+import static seedu.address.testutil.TypicalPerson.getSimpleMyFitnessBuddy;
 import static seedu.address.testutil.TypicalPerson.getTypicalMyFitnessBuddy;
 
 import java.util.Arrays;
@@ -18,7 +19,14 @@ import org.junit.jupiter.api.Test;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.UserPrefs;
+import seedu.address.model.day.Weight;
+import seedu.address.model.person.Height;
+import seedu.address.model.person.ID;
+import seedu.address.model.person.Name;
 import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Profile;
+import seedu.address.testutil.PersonBuilder;
 
 /**
  * Contains integration tests (interaction with the Model) for {@code FindCommand}.
@@ -54,6 +62,18 @@ public class FindCommandTest {
         assertFalse(findFirstCommand.equals(findSecondCommand));
     }
 
+    @Test
+    public void execute_personAddedAfterFind_filterFollowsPersonList() {
+        Model simpleModel = new ModelManager(getSimpleMyFitnessBuddy(), new UserPrefs());
+        new FindCommand(preparePredicate("alice")).execute(simpleModel);
+        assertEquals(0, simpleModel.getFilteredPersonList().size());
+
+        Person alice = new PersonBuilder().withProfile(new Profile(new Name("Alice"), new ID("2202"),
+                new Height("170"), new Weight("60"))).build();
+        simpleModel.addPerson(alice);
+        assertEquals(Collections.singletonList(alice), simpleModel.getFilteredPersonList());
+    }
+
     //    @Test
     //    public void execute_zeroKeywords_noPersonFound() {
     //        String expectedMessage = String.format(MESSAGE_PERSONS_LISTED_OVERVIEW, 0);
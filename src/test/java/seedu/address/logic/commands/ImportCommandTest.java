@@ -0,0 +1,91 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPerson.getSimpleMyFitnessBuddy;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.DayImport;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.ID;
+import seedu.address.storage.DayRecordFileStorage;
+import seedu.address.storage.DayRecordFormat;
+
+public class ImportCommandTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new ImportCommand(null, DayRecordFormat.CSV));
+        assertThrows(NullPointerException.class, () -> new ImportCommand(Paths.get("a.csv"), null));
+    }
+
+    @Test
+    public void execute_validFile_importsAllRecords() throws Exception {
+        Path file = write("records.csv",
+                DayRecordFormat.CSV_HEADER,
+                "1111,2020-10-11,weight,,,98",
+                "1111,2020-10-11,in,0800,EGG,80",
+                "1111,2020-10-10,out,1800,RUNNING,200");
+        Model model = new ModelManager(getSimpleMyFitnessBuddy(), new UserPrefs());
+
+        CommandResult result = new ImportCommand(file, DayRecordFormat.CSV).execute(model,
+                new DayRecordFileStorage());
+
+        assertEquals(String.format(ImportCommand.MESSAGE_SUCCESS, 3, 2, 1), result.getFeedbackToUser());
+        assertEquals(2, model.getMyFitnessBuddy().findPerson(new ID("1111")).get().getDayList().size());
+    }
+
+    @Test
+    public void execute_invalidRecord_nothingImported() throws Exception {
+        Path file = write("records.csv",
+                DayRecordFormat.CSV_HEADER,
+                "1111,2020-10-11,weight,,,98",
+                "1111,2020-10-12,in,0800,EGG,80");
+        Model model = new ModelManager(getSimpleMyFitnessBuddy(), new UserPrefs());
+        String expectedMessage = String.format(ImportCommand.MESSAGE_INVALID_FILE, file,
+                String.format(DayImport.MESSAGE_MISSING_DAY, "1111", "2020-10-12"));
+
+        assertCommandFailure(new ImportCommand(file, DayRecordFormat.CSV), model, expectedMessage);
+        assertEquals(1, model.getMyFitnessBuddy().findPerson(new ID("1111")).get().getDayList().size());
+    }
+
+    @Test
+    public void execute_withoutStorage_throwsCommandException() {
+        Model model = new ModelManager(getSimpleMyFitnessBuddy(), new UserPrefs());
+        assertThrows(CommandException.class, FileCommand.MESSAGE_FILES_UNAVAILABLE, () ->
+                new ImportCommand(Paths.get("a.csv"), DayRecordFormat.CSV).execute(model));
+    }
+
+    @Test
+    public void equals() {
+        ImportCommand importCsv = new ImportCommand(Paths.get("a.csv"), DayRecordFormat.CSV);
+        assertTrue(importCsv.equals(importCsv));
+        assertTrue(importCsv.equals(new ImportCommand(Paths.get("a.csv"), DayRecordFormat.CSV)));
+        assertFalse(importCsv.equals(new ImportCommand(Paths.get("b.csv"), DayRecordFormat.CSV)));
+        assertFalse(importCsv.equals(new ImportCommand(Paths.get("a.csv"), DayRecordFormat.NDJSON)));
+        assertFalse(importCsv.equals(null));
+    }
+
+    private Path write(String fileName, String... lines) throws IOException {
+        Path file = testFolder.resolve(fileName);
+        Files.write(file, List.of(lines));
+        return file;
+    }
+}
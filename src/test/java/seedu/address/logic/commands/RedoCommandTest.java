@@ -0,0 +1,47 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPerson.getSimpleMyFitnessBuddy;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.day.Date;
+import seedu.address.model.day.Day;
+import seedu.address.model.day.Weight;
+import seedu.address.model.person.ID;
+
+public class RedoCommandTest {
+
+    private Model model;
+
+    @BeforeEach
+    public void setUp() {
+        model = new ModelManager(getSimpleMyFitnessBuddy(), new UserPrefs());
+        model.setCurrentPerson(model.getMyFitnessBuddy().findPerson(new ID("1111")).get());
+    }
+
+    @Test
+    public void execute_nothingToRedo_throwsCommandException() {
+        assertThrows(CommandException.class, RedoCommand.MESSAGE_FAILURE, () -> new RedoCommand().execute(model));
+    }
+
+    @Test
+    public void execute_committedChange_success() throws Exception {
+        model.addDay(new Day(new Date("2020-10-11"), new Weight("98")));
+        model.commitMyFitnessBuddy();
+        model.undoMyFitnessBuddy();
+
+        CommandResult result = new RedoCommand().execute(model);
+
+        assertEquals(new CommandResult(true, RedoCommand.MESSAGE_SUCCESS), result);
+        assertEquals(2, model.getFilteredDayList().size());
+        assertFalse(model.canRedoMyFitnessBuddy());
+    }
+}
@@ -0,0 +1,64 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPerson.getSimpleMyFitnessBuddy;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.parser.RunCommandParser;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.ID;
+
+public class RunCommandTest {
+
+    private static final String ADD_DAY = "add d/2020-10-12 w/95";
+    private static final String ADD_INPUT = "calorie tp/in d/2020-10-12 t/0800 f/EGG c/80";
+
+    private Model model;
+
+    @BeforeEach
+    public void setUp() {
+        model = new ModelManager(getSimpleMyFitnessBuddy(), new UserPrefs());
+        model.setCurrentPerson(model.getMyFitnessBuddy().findPerson(new ID("1111")).get());
+    }
+
+    @Test
+    public void constructor_mismatchedLists_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new RunCommand(List.of(new ListCommand()),
+                List.of(), List.of(1)));
+    }
+
+    @Test
+    public void execute_allCommandsSucceed_allApplied() throws Exception {
+        RunCommand runCommand = RunCommandParser.parseScript(List.of("# after the march", ADD_DAY, "", ADD_INPUT));
+
+        CommandResult result = runCommand.execute(model);
+
+        assertEquals(String.format(RunCommand.MESSAGE_SUCCESS, 2), result.getFeedbackToUser());
+        assertTrue(result.isProfileChanged());
+        assertEquals(2, model.getFilteredDayList().size());
+        assertEquals(80, model.getDay(LocalDate.parse("2020-10-12")).getTotalInputCalorie());
+    }
+
+    @Test
+    public void execute_commandFails_nothingApplied() throws Exception {
+        RunCommand runCommand = RunCommandParser.parseScript(List.of(ADD_DAY, ADD_INPUT, ADD_DAY));
+
+        CommandException e = Assertions.assertThrows(CommandException.class, () ->
+                runCommand.execute(model));
+
+        assertTrue(e.getMessage().startsWith(String.format(RunCommand.MESSAGE_FAILED, 3, ADD_DAY, "")));
+        assertEquals(1, model.getFilteredDayList().size());
+        assertEquals(1, model.getMyFitnessBuddy().findPerson(new ID("1111")).get().getDayList().size());
+    }
+}
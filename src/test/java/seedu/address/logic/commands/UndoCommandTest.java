@@ -0,0 +1,46 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPerson.getSimpleMyFitnessBuddy;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.day.Date;
+import seedu.address.model.day.Day;
+import seedu.address.model.day.Weight;
+import seedu.address.model.person.ID;
+
+public class UndoCommandTest {
+
+    private Model model;
+
+    @BeforeEach
+    public void setUp() {
+        model = new ModelManager(getSimpleMyFitnessBuddy(), new UserPrefs());
+        model.setCurrentPerson(model.getMyFitnessBuddy().findPerson(new ID("1111")).get());
+    }
+
+    @Test
+    public void execute_nothingToUndo_throwsCommandException() {
+        assertThrows(CommandException.class, UndoCommand.MESSAGE_FAILURE, () -> new UndoCommand().execute(model));
+    }
+
+    @Test
+    public void execute_committedChange_success() throws Exception {
+        model.addDay(new Day(new Date("2020-10-11"), new Weight("98")));
+        model.commitMyFitnessBuddy();
+
+        CommandResult result = new UndoCommand().execute(model);
+
+        assertEquals(new CommandResult(true, UndoCommand.MESSAGE_SUCCESS), result);
+        assertEquals(1, model.getFilteredDayList().size());
+        assertFalse(model.canUndoMyFitnessBuddy());
+    }
+}
@@ -4,6 +4,8 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.parser.ParserUtil.MESSAGE_DUPLICATE_PREFIX;
+import static seedu.address.testutil.Assert.assertThrows;
 
 import org.junit.jupiter.api.Test;
 
@@ -117,6 +119,32 @@ public class ArgumentTokenizerTest {
         assertPreamblePresent(argMultimap, argsString); // Unknown prefix is taken as part of preamble
     }
 
+    @Test
+    public void tokenize_repeatedPrefix_throwsParseException() {
+        assertThrows(ParseException.class, MESSAGE_DUPLICATE_PREFIX, () ->
+                ArgumentTokenizer.tokenize("preamble p/one p/two", pSlash));
+        assertThrows(ParseException.class, MESSAGE_DUPLICATE_PREFIX, () ->
+                ArgumentTokenizer.tokenize("preamble p/one -t p/ p/two", pSlash, dashT));
+
+        // prefixes are counted wherever they appear, even inside another prefix
+        assertThrows(ParseException.class, MESSAGE_DUPLICATE_PREFIX, () ->
+                ArgumentTokenizer.tokenize("id/1111 d/2020-10-10", new Prefix("id/"), new Prefix("d/")));
+    }
+
+    @Test
+    public void tokenize_trailingRepeatedPrefix_allValuesKept() throws ParseException {
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize("preamble p/ one p/", pSlash, dashT);
+        assertPreamblePresent(argMultimap, "preamble");
+        assertArgumentPresent(argMultimap, pSlash, "one", "");
+    }
+
+    @Test
+    public void tokenize_prefixWithoutSpaceBefore_takenAsPreamble() throws ParseException {
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize("p/preamble -t  value ", pSlash, dashT);
+        assertPreamblePresent(argMultimap, "p/preamble");
+        assertArgumentPresent(argMultimap, dashT, "value");
+    }
+
     //    not allowing multiple arguments repeat
     //    @Test
     //    public void tokenize_multipleArgumentsWithRepeats() throws ParseException {
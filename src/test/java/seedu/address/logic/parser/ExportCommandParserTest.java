@@ -0,0 +1,41 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.nio.file.Paths;
+import java.time.LocalDate;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.ExportCommand;
+import seedu.address.model.person.ID;
+import seedu.address.model.DayRecordFilter;
+import seedu.address.storage.DayRecordFormat;
+
+public class ExportCommandParserTest {
+    private ExportCommandParser parser = new ExportCommandParser();
+
+    @Test
+    public void parse_invalidArgs_throwsParseException() {
+        String expectedMessage = String.format(MESSAGE_INVALID_COMMAND_FORMAT, ExportCommand.MESSAGE_USAGE);
+        assertParseFailure(parser, "  id/11", expectedMessage);
+        assertParseFailure(parser, "export.txt", expectedMessage);
+        assertParseFailure(parser, "export.csv id/1a", ExportCommandParser.MESSAGE_INVALID_ID_PREFIX);
+        assertParseFailure(parser, "export.csv id/9999", ID.MESSAGE_CONSTRAINTS);
+        assertParseFailure(parser, "export.csv from/2020-10-31 to/2020-10-01",
+                ExportCommandParser.MESSAGE_INVALID_DATE_RANGE);
+        assertParseFailure(parser, "export.csv from/2020-13-01", ParserUtil.MESSAGE_INVALID_DATE);
+    }
+
+    @Test
+    public void parse_validArgs_returnsExportCommand() {
+        assertParseSuccess(parser, " export.csv",
+                new ExportCommand(Paths.get("export.csv"), DayRecordFormat.CSV, DayRecordFilter.ALL));
+        assertParseSuccess(parser, "data/export.ndjson id/11 from/2020-10-01 to/2020-10-31",
+                new ExportCommand(Paths.get("data", "export.ndjson"), DayRecordFormat.NDJSON, new DayRecordFilter("11",
+                        Optional.of(LocalDate.parse("2020-10-01")), Optional.of(LocalDate.parse("2020-10-31")))));
+    }
+}
@@ -0,0 +1,31 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.nio.file.Paths;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.ImportCommand;
+import seedu.address.storage.DayRecordFormat;
+
+public class ImportCommandParserTest {
+    private ImportCommandParser parser = new ImportCommandParser();
+
+    @Test
+    public void parse_invalidArgs_throwsParseException() {
+        String expectedMessage = String.format(MESSAGE_INVALID_COMMAND_FORMAT, ImportCommand.MESSAGE_USAGE);
+        assertParseFailure(parser, "     ", expectedMessage);
+        assertParseFailure(parser, "data/records.txt", expectedMessage);
+    }
+
+    @Test
+    public void parse_validArgs_returnsImportCommand() {
+        assertParseSuccess(parser, " data/records.csv ",
+                new ImportCommand(Paths.get("data", "records.csv"), DayRecordFormat.CSV));
+        assertParseSuccess(parser, "records.jsonl",
+                new ImportCommand(Paths.get("records.jsonl"), DayRecordFormat.NDJSON));
+    }
+}
@@ -0,0 +1,66 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_DAY;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.logic.commands.DeleteCommand;
+import seedu.address.logic.commands.RunCommand;
+import seedu.address.logic.commands.ViewCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+public class RunCommandParserTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private RunCommandParser parser = new RunCommandParser();
+
+    @Test
+    public void parse_validFile_returnsRunCommand() throws Exception {
+        Path script = testFolder.resolve("script.txt");
+        Files.write(script, List.of("# comment", "view 1", "", "  delete 1  "));
+
+        assertParseSuccess(parser, " " + script, new RunCommand(List.of(new ViewCommand(INDEX_FIRST_DAY),
+                new DeleteCommand(INDEX_FIRST_DAY)), List.of("view 1", "delete 1"), List.of(2, 4)));
+    }
+
+    @Test
+    public void parse_invalidArgs_throwsParseException() {
+        assertParseFailure(parser, "  ", String.format(MESSAGE_INVALID_COMMAND_FORMAT, RunCommand.MESSAGE_USAGE));
+        assertThrows(ParseException.class, () -> parser.parse(testFolder.resolve("missing.txt").toString()));
+    }
+
+    @Test
+    public void parseScript_invalidScript_throwsParseException() {
+        assertThrows(ParseException.class, RunCommandParser.MESSAGE_EMPTY_SCRIPT, () ->
+                RunCommandParser.parseScript(List.of("", "# nothing to run")));
+        assertThrows(ParseException.class, () -> RunCommandParser.parseScript(List.of("list", "fly")));
+    }
+
+    @Test
+    public void parse_scriptRunsItself_throwsParseException() throws Exception {
+        Path script = testFolder.resolve("script.txt");
+        Files.write(script, List.of("view 1", "run " + script));
+
+        String message = String.format(RunCommandParser.MESSAGE_LINE_ERROR, 2, "run " + script,
+                String.format(RunCommandParser.MESSAGE_COMMAND_NOT_IN_SCRIPT, RunCommand.COMMAND_WORD));
+        assertParseFailure(parser, script.toString(), message);
+        assertThrows(ParseException.class, () -> RunCommandParser.parseScript(List.of("view 1", "exit")));
+    }
+
+    @Test
+    public void parseScript_undoOrRedo_throwsParseException() {
+        assertThrows(ParseException.class, () -> RunCommandParser.parseScript(List.of("delete 1", "undo")));
+        assertThrows(ParseException.class, () -> RunCommandParser.parseScript(List.of("redo")));
+    }
+}
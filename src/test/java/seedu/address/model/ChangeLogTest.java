@@ -0,0 +1,96 @@
+package seedu.address.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.ChangeLog.Change;
+import seedu.address.model.ChangeLog.Kind;
+import seedu.address.model.person.ID;
+
+public class ChangeLogTest {
+
+    private static final ID ID_A = new ID("1111");
+    private static final LocalDate DATE = LocalDate.parse("2020-10-10");
+
+    @Test
+    public void record_beforeFirstSave_ignored() {
+        ChangeLog changeLog = new ChangeLog();
+        changeLog.record(Kind.PERSON, ID_A);
+        assertTrue(changeLog.isFullSaveNeeded());
+        assertTrue(changeLog.getChanges().isEmpty());
+    }
+
+    @Test
+    public void record_afterSave_keepsOrderAndDropsRepeats() {
+        ChangeLog changeLog = new ChangeLog();
+        changeLog.markSaved();
+        assertTrue(changeLog.isClean());
+
+        changeLog.record(Kind.DAY, ID_A, DATE);
+        changeLog.record(Kind.DAY, ID_A, DATE);
+        changeLog.record(Kind.PROFILE, ID_A);
+        assertFalse(changeLog.isClean());
+        assertEquals(Arrays.asList(new Change(Kind.DAY, ID_A, DATE), new Change(Kind.PROFILE, ID_A, null)),
+                changeLog.getChanges());
+
+        changeLog.markSaved();
+        assertTrue(changeLog.isClean());
+    }
+
+    @Test
+    public void invalidate_asksForFullSave() {
+        ChangeLog changeLog = new ChangeLog();
+        changeLog.markSaved();
+        changeLog.record(Kind.PERSON, ID_A);
+        changeLog.invalidate();
+        assertTrue(changeLog.isFullSaveNeeded());
+        assertTrue(changeLog.getChanges().isEmpty());
+    }
+
+    @Test
+    public void getModificationCount_countsEveryChange() {
+        ChangeLog changeLog = new ChangeLog();
+        long count = changeLog.getModificationCount();
+        changeLog.record(Kind.PERSON, ID_A);
+        assertEquals(count + 1, changeLog.getModificationCount());
+
+        changeLog.markSaved();
+        assertEquals(count + 1, changeLog.getModificationCount());
+        changeLog.record(Kind.DAY, ID_A, DATE);
+        changeLog.record(Kind.DAY, ID_A, DATE);
+        changeLog.invalidate();
+        assertEquals(count + 4, changeLog.getModificationCount());
+    }
+
+    @Test
+    public void markCommitted_tracksChangesSinceCommit() {
+        ChangeLog changeLog = new ChangeLog();
+        assertTrue(changeLog.isEverythingChangedSinceCommit());
+        changeLog.markCommitted();
+        assertFalse(changeLog.isChangedSinceCommit(ID_A));
+
+        changeLog.record(Kind.DAY, ID_A, DATE);
+        assertTrue(changeLog.isChangedSinceCommit(ID_A));
+        assertTrue(changeLog.isDayChangedSinceCommit(ID_A, DATE));
+        assertFalse(changeLog.isDayChangedSinceCommit(ID_A, DATE.plusDays(1)));
+
+        changeLog.markCommitted();
+        changeLog.record(Kind.PROFILE, ID_A);
+        assertTrue(changeLog.isChangedSinceCommit(ID_A));
+        assertFalse(changeLog.isDayChangedSinceCommit(ID_A, DATE));
+
+        changeLog.record(Kind.PERSON, ID_A);
+        assertTrue(changeLog.isDayChangedSinceCommit(ID_A, DATE));
+
+        changeLog.markCommitted();
+        changeLog.invalidate();
+        assertTrue(changeLog.isEverythingChangedSinceCommit());
+        assertTrue(changeLog.isDayChangedSinceCommit(ID_A, DATE));
+    }
+}
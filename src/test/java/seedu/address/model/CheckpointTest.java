@@ -0,0 +1,94 @@
+package seedu.address.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPerson.getSimpleMyFitnessBuddy;
+
+import java.time.LocalDate;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.calorie.CalorieCount;
+import seedu.address.model.calorie.Food;
+import seedu.address.model.calorie.Input;
+import seedu.address.model.calorie.Time;
+import seedu.address.model.day.Date;
+import seedu.address.model.day.Day;
+import seedu.address.model.day.Weight;
+import seedu.address.model.person.ID;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+import seedu.address.testutil.TypicalProfiles;
+
+public class CheckpointTest {
+
+    private static final LocalDate START = LocalDate.parse("2020-10-10");
+
+    @Test
+    public void restoreCheckpoint_undoesChangesToDaysAndPersons() throws Exception {
+        MyFitnessBuddy myFitnessBuddy = getSimpleMyFitnessBuddy();
+        Person person = myFitnessBuddy.findPerson(new ID("1111")).get();
+        myFitnessBuddy.setCurrentPerson(person);
+        Checkpoint checkpoint = myFitnessBuddy.createCheckpoint();
+
+        myFitnessBuddy.getDay(START).getCalorieManager().addCalorieInput(
+                new Input(new Time("0800"), new Food("EGG"), new CalorieCount("80")));
+        myFitnessBuddy.addDay(new Day(new Date("2020-10-11"), new Weight("98")));
+        myFitnessBuddy.addPerson(new PersonBuilder().withProfile(TypicalProfiles.PROFILE2).build());
+        assertEquals(2, myFitnessBuddy.getPersonList().size());
+
+        myFitnessBuddy.restoreCheckpoint(checkpoint);
+
+        assertEquals(1, myFitnessBuddy.getPersonList().size());
+        assertSame(person, myFitnessBuddy.getPersonList().get(0));
+        assertEquals(1, person.getDayList().size());
+        assertEquals(0, person.getDay(START).getTotalInputCalorie());
+        assertEquals(person.getProfile().getHeight(), person.getDay(START).getHeight());
+        assertEquals(1, myFitnessBuddy.getDayList().size());
+        assertTrue(myFitnessBuddy.getChangeLog().getModificationCount() > 0);
+    }
+
+    @Test
+    public void restoreCheckpoint_canBeRestoredAgain() throws Exception {
+        MyFitnessBuddy myFitnessBuddy = getSimpleMyFitnessBuddy();
+        myFitnessBuddy.setCurrentPerson(myFitnessBuddy.findPerson(new ID("1111")).get());
+        Checkpoint checkpoint = myFitnessBuddy.createCheckpoint();
+
+        myFitnessBuddy.getDay(START).getCalorieManager().addCalorieInput(
+                new Input(new Time("0800"), new Food("EGG"), new CalorieCount("80")));
+        myFitnessBuddy.restoreCheckpoint(checkpoint);
+        myFitnessBuddy.getDay(START).getCalorieManager().addCalorieInput(
+                new Input(new Time("0900"), new Food("RICE"), new CalorieCount("300")));
+        myFitnessBuddy.restoreCheckpoint(checkpoint);
+
+        assertEquals(0, myFitnessBuddy.getDay(START).getTotalInputCalorie());
+        assertFalse(myFitnessBuddy.getDay(START).isCalorieManagerLoaded());
+    }
+
+    @Test
+    public void createCheckpoint_afterCommit_sharesUnchangedPersons() throws Exception {
+        MyFitnessBuddy myFitnessBuddy = getSimpleMyFitnessBuddy();
+        Person unchanged = new PersonBuilder().withProfile(TypicalProfiles.PROFILE2).build();
+        myFitnessBuddy.addPerson(unchanged);
+        Person changed = myFitnessBuddy.findPerson(new ID("1111")).get();
+        myFitnessBuddy.setCurrentPerson(changed);
+        Checkpoint previous = myFitnessBuddy.createCheckpoint();
+        myFitnessBuddy.getChangeLog().markCommitted();
+
+        Day day = myFitnessBuddy.getDay(START);
+        day.getCalorieManager().addCalorieInput(new Input(new Time("0800"), new Food("EGG"), new CalorieCount("80")));
+        myFitnessBuddy.setDay(day, day);
+        Checkpoint next = myFitnessBuddy.createCheckpoint(previous);
+
+        assertSame(previous.getStates().get(unchanged), next.getStates().get(unchanged));
+        assertNotSame(previous.getStates().get(changed), next.getStates().get(changed));
+
+        myFitnessBuddy.restoreCheckpoint(previous);
+        assertEquals(0, myFitnessBuddy.getDay(START).getTotalInputCalorie());
+        myFitnessBuddy.restoreCheckpoint(next);
+        assertEquals(80, myFitnessBuddy.getDay(START).getTotalInputCalorie());
+    }
+}
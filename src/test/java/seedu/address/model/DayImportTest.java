@@ -0,0 +1,86 @@
+package seedu.address.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPerson.getSimpleMyFitnessBuddy;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.calorie.Input;
+import seedu.address.model.day.Date;
+import seedu.address.model.day.Day;
+import seedu.address.model.day.Weight;
+import seedu.address.model.person.ID;
+import seedu.address.model.person.Person;
+
+public class DayImportTest {
+
+    private static final ID ID = new ID("1111");
+
+    @Test
+    public void addWeight_null_throwsNullPointerException() {
+        DayImport dayImport = new DayImport();
+        assertThrows(NullPointerException.class, () -> dayImport.addWeight(null, new Date("2020-10-11"),
+                new Weight("90")));
+        assertThrows(NullPointerException.class, () -> dayImport.addInput(ID, new Date("2020-10-11"), 0, null, 1));
+    }
+
+    @Test
+    public void importDays_newAndExistingDays_mergedInOrder() throws Exception {
+        MyFitnessBuddy myFitnessBuddy = getSimpleMyFitnessBuddy();
+        DayImport dayImport = new DayImport();
+        dayImport.addInput(ID, new Date("2020-10-12"), 720, "RICE", 300);
+        dayImport.addWeight(ID, new Date("2020-10-12"), new Weight("95"));
+        dayImport.addInput(ID, new Date("2020-10-12"), 480, "EGG", 80);
+        dayImport.addOutput(ID, new Date("2020-10-10"), 600, "RUNNING", 200);
+        dayImport.addWeight(ID, new Date("2020-10-11"), new Weight("98"));
+        assertEquals(5, dayImport.getRowCount());
+        assertEquals(3, dayImport.getDayCount());
+
+        myFitnessBuddy.importDays(dayImport);
+
+        Person person = myFitnessBuddy.findPerson(ID).get();
+        List<Day> days = person.getDayList();
+        assertEquals(3, days.size());
+        assertEquals(new Date("2020-10-10"), days.get(0).getDate());
+        assertEquals(new Weight("100"), days.get(0).getWeight());
+        assertEquals(200, days.get(0).getTotalOutputCalorie());
+        assertEquals(new Weight("98"), days.get(1).getWeight());
+
+        Day imported = days.get(2);
+        assertEquals(new Weight("95"), imported.getWeight());
+        assertEquals(380, imported.getTotalInputCalorie());
+        List<Input> inputs = imported.getCalorieManager().getCalorieInputList();
+        assertEquals("EGG", inputs.get(0).getFood().food);
+        assertEquals("RICE", inputs.get(1).getFood().food);
+        assertEquals(person.getProfile().getHeight(), imported.getHeight());
+    }
+
+    @Test
+    public void importDays_invalidDay_nothingImported() {
+        MyFitnessBuddy myFitnessBuddy = getSimpleMyFitnessBuddy();
+        List<Day> before = List.copyOf(myFitnessBuddy.findPerson(ID).get().getDayList());
+
+        DayImport missingWeight = new DayImport();
+        missingWeight.addWeight(ID, new Date("2020-10-11"), new Weight("98"));
+        missingWeight.addInput(ID, new Date("2020-10-12"), 720, "RICE", 300);
+        assertThrows(IllegalValueException.class, String.format(DayImport.MESSAGE_MISSING_DAY, ID, "2020-10-12"),
+            () -> myFitnessBuddy.importDays(missingWeight));
+
+        DayImport beforeStart = new DayImport();
+        beforeStart.addWeight(ID, new Date("2020-10-09"), new Weight("98"));
+        assertThrows(IllegalValueException.class, String.format(DayImport.MESSAGE_BEFORE_START, ID, "2020-10-09"),
+            () -> myFitnessBuddy.importDays(beforeStart));
+
+        DayImport unknownPerson = new DayImport();
+        unknownPerson.addWeight(ID, new Date("2020-10-11"), new Weight("98"));
+        unknownPerson.addWeight(new ID("2211"), new Date("2020-10-11"), new Weight("98"));
+        assertThrows(IllegalValueException.class, String.format(DayImport.MESSAGE_UNKNOWN_PERSON, "2211"),
+            () -> myFitnessBuddy.importDays(unknownPerson));
+
+        assertEquals(before, myFitnessBuddy.findPerson(ID).get().getDayList());
+    }
+}
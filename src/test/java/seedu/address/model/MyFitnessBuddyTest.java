@@ -11,12 +11,14 @@ import static seedu.address.testutil.TypicalPerson.getTypicalMyFitnessBuddy;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 import org.junit.jupiter.api.Test;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import seedu.address.model.day.Day;
+import seedu.address.model.person.ID;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.Profile;
 import seedu.address.testutil.DayBuilder;
@@ -128,6 +130,16 @@ public class MyFitnessBuddyTest {
             return null;
         }
 
+        @Override
+        public Optional<Person> findPerson(ID id) {
+            return Optional.empty();
+        }
+
+        @Override
+        public ChangeLog getChangeLog() {
+            return new ChangeLog();
+        }
+
     }
 
 }
@@ -0,0 +1,182 @@
+package seedu.address.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPerson.getSimpleMyFitnessBuddy;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.calorie.CalorieCount;
+import seedu.address.model.calorie.Food;
+import seedu.address.model.calorie.Input;
+import seedu.address.model.calorie.Time;
+import seedu.address.model.day.Date;
+import seedu.address.model.day.Day;
+import seedu.address.model.day.Weight;
+import seedu.address.model.person.ID;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.TypicalProfiles;
+
+public class VersionedMyFitnessBuddyTest {
+
+    private static final LocalDate START = LocalDate.parse("2020-10-10");
+
+    private VersionedMyFitnessBuddy versioned;
+
+    @BeforeEach
+    public void setUp() {
+        versioned = new VersionedMyFitnessBuddy(getSimpleMyFitnessBuddy());
+        versioned.setCurrentPerson(versioned.findPerson(new ID("1111")).get());
+    }
+
+    @Test
+    public void constructor_invalidCapacity_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new VersionedMyFitnessBuddy(new MyFitnessBuddy(), 0));
+    }
+
+    @Test
+    public void commit_nothingChanged_noVersionAdded() {
+        versioned.commit();
+        assertFalse(versioned.canUndo());
+        assertFalse(versioned.canRedo());
+    }
+
+    @Test
+    public void undoRedo_restoresEachVersion() throws Exception {
+        versioned.addDay(new Day(new Date("2020-10-11"), new Weight("98")));
+        versioned.commit();
+        addInput(START, "0800", 80);
+        versioned.commit();
+
+        versioned.undo();
+        assertEquals(0, versioned.getDay(START).getTotalInputCalorie());
+        assertEquals(2, versioned.getDayList().size());
+
+        versioned.undo();
+        assertEquals(1, versioned.getDayList().size());
+        assertFalse(versioned.canUndo());
+
+        versioned.redo();
+        versioned.redo();
+        assertEquals(2, versioned.getDayList().size());
+        assertEquals(80, versioned.getDay(START).getTotalInputCalorie());
+        assertFalse(versioned.canRedo());
+        assertThrows(IllegalArgumentException.class, versioned::redo);
+    }
+
+    @Test
+    public void undo_uncommittedChanges_discarded() throws Exception {
+        addInput(START, "0800", 80);
+        versioned.commit();
+        addInput(START, "0900", 300);
+
+        versioned.undo();
+        assertEquals(0, versioned.getDay(START).getTotalInputCalorie());
+        versioned.redo();
+        assertEquals(80, versioned.getDay(START).getTotalInputCalorie());
+    }
+
+    @Test
+    public void commit_afterUndo_discardsRedo() throws Exception {
+        addInput(START, "0800", 80);
+        versioned.commit();
+        versioned.undo();
+        assertTrue(versioned.canRedo());
+
+        versioned.addDay(new Day(new Date("2020-10-11"), new Weight("98")));
+        versioned.commit();
+        assertFalse(versioned.canRedo());
+        assertTrue(versioned.canUndo());
+    }
+
+    @Test
+    public void commit_beyondCapacity_oldestVersionDropped() throws Exception {
+        versioned = new VersionedMyFitnessBuddy(getSimpleMyFitnessBuddy(), 2);
+        versioned.setCurrentPerson(versioned.findPerson(new ID("1111")).get());
+        for (int i = 1; i <= 3; i++) {
+            addInput(START, "080" + i, 100);
+            versioned.commit();
+        }
+
+        versioned.undo();
+        versioned.undo();
+        assertFalse(versioned.canUndo());
+        assertEquals(100, versioned.getDay(START).getTotalInputCalorie());
+    }
+
+    @Test
+    public void undo_personRemovedAndAdded_restored() {
+        versioned.addPerson(new Person(TypicalProfiles.PROFILE2));
+        versioned.commit();
+        versioned.resetData(new MyFitnessBuddy());
+        versioned.commit();
+        assertTrue(versioned.getPersonList().isEmpty());
+
+        versioned.undo();
+        assertEquals(2, versioned.getPersonList().size());
+        versioned.undo();
+        assertEquals(1, versioned.getPersonList().size());
+        assertEquals(1, versioned.findPerson(new ID("1111")).get().getDayList().size());
+    }
+
+    @Test
+    public void undo_daysLeftInStorageThenOverwritten_restoresDaysFromBefore() {
+        List<Day> storedDays = new ArrayList<>(List.of(new Day(new Date("2020-10-10"), new Weight("90"))));
+        Person stored = new Person(TypicalProfiles.PROFILE2, () -> copyOf(storedDays), Double.NaN, Double.NaN);
+        MyFitnessBuddy data = new MyFitnessBuddy();
+        data.setPersons(List.of(stored));
+        versioned = new VersionedMyFitnessBuddy(data);
+        versioned.setCurrentPerson(stored);
+
+        versioned.addDay(new Day(new Date("2020-10-11"), new Weight("89")));
+        versioned.commit();
+        // saving the change overwrites what the first version left in storage
+        storedDays.add(new Day(new Date("2020-10-11"), new Weight("89")));
+
+        versioned.undo();
+        assertEquals(1, versioned.getDayList().size());
+        assertTrue(stored.isDayHistoryLoaded());
+    }
+
+    @Test
+    public void commit_otherPersonLeftInStorage_daysNotRead() {
+        List<Day> storedDays = List.of(new Day(new Date("2020-10-10"), new Weight("90")));
+        Person stored = new Person(TypicalProfiles.PROFILE2, () -> copyOf(storedDays), Double.NaN, Double.NaN);
+        Person other = new Person(TypicalProfiles.PROFILE3, () -> copyOf(storedDays), 25, 0);
+        MyFitnessBuddy data = new MyFitnessBuddy();
+        data.setPersons(List.of(stored, other));
+        versioned = new VersionedMyFitnessBuddy(data);
+        versioned.setCurrentPerson(stored);
+        versioned.commit();
+
+        versioned.addDay(new Day(new Date("2020-10-11"), new Weight("89")));
+        versioned.commit();
+        assertFalse(other.isDayHistoryLoaded());
+
+        versioned.undo();
+        assertEquals(1, versioned.getDayList().size());
+        assertFalse(other.isDayHistoryLoaded());
+    }
+
+    private void addInput(LocalDate date, String time, int calorieCount) throws Exception {
+        Day day = versioned.getDay(date);
+        day.getCalorieManager().addCalorieInput(new Input(new Time(time), new Food("EGG"),
+                new CalorieCount(String.valueOf(calorieCount))));
+        versioned.setDay(day, day);
+    }
+
+    private static List<Day> copyOf(List<Day> days) {
+        List<Day> copies = new ArrayList<>();
+        for (Day day : days) {
+            copies.add(day.copy());
+        }
+        return copies;
+    }
+}
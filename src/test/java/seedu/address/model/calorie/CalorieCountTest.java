@@ -50,6 +50,7 @@ public class CalorieCountTest {
 
         // valid CalorieCount
         assertTrue(CalorieCount.isValidCalorieCount("123455")); // numbers only within range
+        assertTrue(CalorieCount.isValidCalorieCount("2147483647")); // max integer
 
     }
 }
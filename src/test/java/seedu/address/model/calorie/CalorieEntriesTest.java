@@ -0,0 +1,75 @@
+package seedu.address.model.calorie;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static seedu.address.testutil.TypicalCalorieManager.CALORIE_MANAGER1;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+public class CalorieEntriesTest {
+
+    @Test
+    public void build_entriesAdded_totalsAndOrderKept() {
+        CalorieEntries entries = new CalorieEntries.Builder()
+                .addInput(600, "Bread", 200)
+                .addInput(540, "Eggs", 150)
+                .addOutput(1080, "run", 400)
+                .build();
+
+        assertEquals(350, entries.getTotalInputCalorie());
+        assertEquals(400, entries.getTotalOutputCalorie());
+        List<Input> inputs = entries.toInputList();
+        assertEquals("1000", inputs.get(0).getTime().time);
+        assertEquals("Bread", inputs.get(0).getFood().food);
+        assertEquals(200, inputs.get(0).getCalorieCount().getValue());
+        assertEquals("0900", inputs.get(1).getTime().time);
+        assertEquals("run", entries.toOutputList().get(0).getExercise().exercise);
+    }
+
+    @Test
+    public void toEntries_calorieManager_sameEntries() {
+        CalorieEntries entries = CALORIE_MANAGER1.toEntries();
+        assertEquals(CALORIE_MANAGER1.getTotalInputCalorie(), entries.getTotalInputCalorie());
+        assertEquals(CALORIE_MANAGER1.getTotalOutputCalorie(), entries.getTotalOutputCalorie());
+        assertEquals(CALORIE_MANAGER1, new CalorieManager(entries));
+        assertEquals(CALORIE_MANAGER1.toInputList().size(), entries.toInputList().size());
+    }
+
+    @Test
+    public void equals() {
+        CalorieEntries entries = new CalorieEntries.Builder().addInput(600, "Bread", 200).build();
+
+        assertEquals(entries, new CalorieEntries.Builder().addInput(600, "Bread", 200).build());
+        assertEquals(entries.hashCode(), new CalorieEntries.Builder().addInput(600, "Bread", 200).build().hashCode());
+        assertNotEquals(entries, CalorieEntries.EMPTY);
+        assertNotEquals(entries, new CalorieEntries.Builder().addOutput(600, "run", 200).build());
+        assertNotEquals(entries, null);
+    }
+
+    @Test
+    public void forEachInput_visitsEntriesInOrder() {
+        CalorieEntries entries = new CalorieEntries.Builder().addInput(600, "Bread", 200).addInput(480, "Egg", 80)
+                .addOutput(700, "run", 300).build();
+        List<String> visited = new ArrayList<>();
+        entries.forEachInput((minuteOfDay, food, calorieCount) -> visited.add(minuteOfDay + food + calorieCount));
+        entries.forEachOutput((minuteOfDay, exercise, calorieCount) ->
+                visited.add(minuteOfDay + exercise + calorieCount));
+
+        assertEquals(List.of("600Bread200", "480Egg80", "700run300"), visited);
+    }
+
+    @Test
+    public void build_repeatedName_storedOnce() {
+        CalorieEntries entries = new CalorieEntries.Builder().addInput(600, new String("Laksa"), 200)
+                .addInput(720, "Rice", 250).addInput(900, new String("Laksa"), 300).build();
+        List<Input> inputs = entries.toInputList();
+
+        assertEquals("Laksa", inputs.get(0).getFood().food);
+        assertSame(inputs.get(0).getFood().food, inputs.get(2).getFood().food);
+        assertEquals("Rice", inputs.get(1).getFood().food);
+    }
+}
@@ -394,4 +394,54 @@ public class CalorieManagerTest {
             e.printStackTrace();
         }
     }
+
+    @Test
+    public void getCalorieInputList_listRequestedBeforeChanges_staysInSync() throws IllegalValueException {
+        CalorieManager calorieManager = new CalorieManager();
+        calorieManager.addCalorieInput(INPUT_C);
+        assertEquals(Arrays.asList(INPUT_C), calorieManager.getCalorieInputList());
+
+        calorieManager.addCalorieInput(INPUT_A);
+        calorieManager.addCalorieInput(INPUT_B);
+        calorieManager.removeCalorie(false, Index.fromOneBased(3));
+        assertEquals(Arrays.asList(INPUT_A, INPUT_B), calorieManager.getCalorieInputList());
+        assertThrows(UnsupportedOperationException.class, () -> calorieManager.getCalorieInputList().remove(0));
+    }
+
+    @Test
+    public void setCalorie_validCalorie_updatesTotal() throws IllegalValueException {
+        CalorieManager calorieManager = new CalorieManager();
+        calorieManager.addCalorieOutput(OUTPUT_A);
+        calorieManager.addCalorieOutput(OUTPUT_B);
+        int expectedTotal = calorieManager.getTotalOutputCalorie()
+                - Integer.parseInt(OUTPUT_B.getCalorieCount().calorieCount)
+                + Integer.parseInt(OUTPUT_D.getCalorieCount().calorieCount);
+        calorieManager.setCalorie(Index.fromOneBased(2), true, OUTPUT_D);
+        assertEquals(expectedTotal, calorieManager.getTotalOutputCalorie());
+        assertEquals(OUTPUT_D.toString(), calorieManager.getCalorie(true, Index.fromOneBased(1)).toString());
+    }
+
+    @Test
+    public void equals_sameMinutes_sameHashCode() throws IllegalValueException {
+        CalorieManager calorieManager = new CalorieManager();
+        calorieManager.addCalorieInput(INPUT_A);
+        calorieManager.addCalorieOutput(OUTPUT_A);
+        CalorieManager otherCalorieManager = new CalorieManager(calorieManager.toEntries());
+
+        assertEquals(calorieManager, otherCalorieManager);
+        assertEquals(calorieManager.hashCode(), otherCalorieManager.hashCode());
+        otherCalorieManager.addCalorieOutput(OUTPUT_B);
+        assertNotEquals(calorieManager, otherCalorieManager);
+    }
+
+    @Test
+    public void contains_entriesOutOfOrder_found() {
+        CalorieManager calorieManager = new CalorieManager(new CalorieEntries.Builder()
+                .addInput(900, "Laksa", 300).addInput(600, "Bread", 200).addInput(720, "Rice", 250).build());
+
+        assertTrue(calorieManager.contains(CalorieManager.createInput(600, "Bread", 200), false));
+        assertTrue(calorieManager.contains(CalorieManager.createInput(900, "Laksa", 300), false));
+        assertFalse(calorieManager.contains(CalorieManager.createInput(800, "Laksa", 300), false));
+        assertEquals("Bread", calorieManager.toInputList().get(0).getFood().food);
+    }
 }
@@ -0,0 +1,28 @@
+package seedu.address.model.calorie;
+
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+public class NamePoolTest {
+
+    @Test
+    public void share_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new NamePool().share(null));
+    }
+
+    @Test
+    public void share_equalNames_firstInstanceReturned() {
+        NamePool names = new NamePool();
+        String first = new String("Laksa");
+        String second = new String("Laksa");
+
+        assertSame(first, names.share(first));
+        assertSame(first, names.share(second));
+        assertSame(first, new CalorieEntries.Builder(names).addInput(720, second, 300).build().toInputList().get(0)
+                .getFood().food);
+        assertNotSame(first, new NamePool().share(second));
+    }
+}
@@ -54,4 +54,25 @@ public class TimeTest {
         assertNotEquals(new Time("1130"), new Time("2359"));
         assertNotEquals(new Time("1130"), new Object());
     }
+
+    @Test
+    public void getMinuteOfDay() {
+        assertEquals(0, new Time("0000").getMinuteOfDay());
+        assertEquals(12 * 60 + 30, new Time("1230").getMinuteOfDay());
+        assertEquals(23 * 60 + 59, new Time("2359").getMinuteOfDay());
+    }
+
+    @Test
+    public void isAfter() {
+        assertTrue(new Time("1230").isAfter(new Time("0930")));
+        assertTrue(new Time("1230").isAfter(new Time("1230")));
+        assertFalse(new Time("0930").isAfter(new Time("1230")));
+    }
+
+    @Test
+    public void fromMinuteOfDay() {
+        assertEquals("0000", Time.fromMinuteOfDay(0));
+        assertEquals("0905", Time.fromMinuteOfDay(545));
+        assertEquals("2359", Time.fromMinuteOfDay(Time.toMinuteOfDay("2359")));
+    }
 }
@@ -1,5 +1,6 @@
 package seedu.address.model.day;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
@@ -31,4 +32,24 @@ public class DateTest {
         // valid date
         assertTrue(Date.isValidDate("2020-06-09")); // numbers only
     }
+
+    @Test
+    public void isCorrectRegrex() {
+        assertTrue(Date.isCorrectRegrex("2020-06-09"));
+        assertFalse(Date.isCorrectRegrex("2020/06/09")); // wrong separator
+        assertFalse(Date.isCorrectRegrex("2020-6-09")); // missing digit
+        assertFalse(Date.isCorrectRegrex("2020-06-0a")); // contains alphabet
+    }
+
+    @Test
+    public void constructor_nonExistentDate_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new Date("2020-02-30"));
+    }
+
+    @Test
+    public void dateAfter() {
+        assertTrue(new Date("2020-06-10").dateAfter(new Date("2020-06-09")));
+        assertFalse(new Date("2020-06-09").dateAfter(new Date("2020-06-09")));
+        assertEquals(new Date("2020-06-09").get().toEpochDay(), new Date("2020-06-09").toEpochDay());
+    }
 }
@@ -1,5 +1,6 @@
 package seedu.address.model.day;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_DATE_2;
@@ -7,14 +8,19 @@ import static seedu.address.logic.commands.CommandTestUtil.VALID_WEIGHT_2;
 import static seedu.address.testutil.TypicalDays.DAY1;
 import static seedu.address.testutil.TypicalDays.MDAY2;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import org.junit.jupiter.api.Test;
 
 import seedu.address.model.calorie.CalorieCount;
+import seedu.address.model.calorie.CalorieEntries;
 import seedu.address.model.calorie.Exercise;
 import seedu.address.model.calorie.Food;
 import seedu.address.model.calorie.Input;
 import seedu.address.model.calorie.Output;
 import seedu.address.model.calorie.Time;
+import seedu.address.model.person.Height;
 import seedu.address.testutil.DayBuilder;
 
 public class DayTest {
@@ -66,4 +72,56 @@ public class DayTest {
         assertFalse(DAY1.equals(editedDay1));
     }
 
+
+    @Test
+    public void getBalance_inputsChanged_recomputedAndVersionIncremented() throws Exception {
+        Day day = new Day(new Date("2020-10-10"), new Weight("80"));
+        day.setHeight(new Height("180"));
+        assertEquals(3377, day.getBalance());
+
+        long version = day.getVersion();
+        day.getCalorieManager().addCalorieInput(INPUT);
+        assertEquals(3077, day.getBalance());
+        assertTrue(day.getVersion() > version);
+
+        version = day.getVersion();
+        day.setAge(30);
+        assertEquals(2815, day.getBalance());
+        assertTrue(day.getVersion() > version);
+
+        version = day.getVersion();
+        day.setAge(30);
+        day.setHeight(new Height("180"));
+        assertEquals(version, day.getVersion());
+    }
+
+    @Test
+    public void getProgress_startingWeightChanged_recomputed() {
+        Day day = new Day(new Date("2020-10-10"), new Weight("90"));
+        day.setHeight(new Height("180"));
+        day.setStartingWeight(new Weight("120"));
+        assertEquals(0.6368638239339751, day.getProgress());
+        day.setStartingWeight(new Weight("60"));
+        assertEquals(1, day.getProgress());
+    }
+
+    @Test
+    public void getBalance_fromCalorieEntries_calorieManagerNotBuilt() throws Exception {
+        CalorieEntries entries = new CalorieEntries.Builder().addInput(720, "Laksa", 300).build();
+        Day day = new Day(new Date("2020-10-10"), new Weight("80"), entries);
+        day.setHeight(new Height("180"));
+        List<Integer> deltas = new ArrayList<>();
+        day.addTotalsListener((inputDelta, outputDelta) -> deltas.add(inputDelta));
+
+        assertEquals(3077, day.getBalance());
+        assertEquals(300, day.getTotalInputCalorie());
+        assertEquals(entries, day.getCalorieEntries());
+        assertFalse(day.isCalorieManagerLoaded());
+
+        day.getCalorieManager().addCalorieInput(new Input(new Time("1300"), FOOD, CALORIE_COUNT));
+        assertTrue(day.isCalorieManagerLoaded());
+        assertEquals(2, day.getCalorieManager().getCalorieInputList().size());
+        assertEquals(2777, day.getBalance());
+        assertEquals(List.of(300), deltas);
+    }
 }
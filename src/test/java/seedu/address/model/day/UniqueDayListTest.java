@@ -2,19 +2,31 @@ package seedu.address.model.day;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalCalories.INPUT_A;
+import static seedu.address.testutil.TypicalCalories.INPUT_B;
+import static seedu.address.testutil.TypicalCalories.OUTPUT_A;
 import static seedu.address.testutil.TypicalDays.DAY1;
+import static seedu.address.testutil.TypicalDays.DAY2;
+import static seedu.address.testutil.TypicalDays.DAY3;
+import static seedu.address.testutil.TypicalDays.DAY7;
 import static seedu.address.testutil.TypicalDays.MDAY2;
 
+import java.time.LocalDate;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
+import seedu.address.commons.core.index.Index;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.calorie.CalorieSummary;
 import seedu.address.model.day.exceptions.DayNotFoundException;
 import seedu.address.model.day.exceptions.DuplicateDayException;
+import seedu.address.testutil.DayBuilder;
 
 public class UniqueDayListTest {
 
@@ -47,6 +59,41 @@ public class UniqueDayListTest {
     }
      */
 
+    @Test
+    public void contains_dateInList_returnsTrue() {
+        uniqueDayList.add(DAY1);
+        assertTrue(uniqueDayList.contains(DAY1.getDate().get()));
+        assertFalse(uniqueDayList.contains(DAY2.getDate().get()));
+    }
+
+    @Test
+    public void add_daysOutOfOrder_keepsDateOrder() {
+        uniqueDayList.add(DAY1);
+        uniqueDayList.add(DAY7);
+        uniqueDayList.add(DAY2);
+        uniqueDayList.add(DAY3);
+        assertEquals(Arrays.asList(DAY7, DAY3, DAY2, DAY1), uniqueDayList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void add_duplicateDay_throwsDuplicateDayException() {
+        uniqueDayList.add(DAY1);
+        assertThrows(DuplicateDayException.class, () -> uniqueDayList.add(DAY1));
+    }
+
+    @Test
+    public void getDate_dateInList_returnsDay() {
+        uniqueDayList.add(DAY1);
+        uniqueDayList.add(DAY2);
+        assertEquals(DAY2, uniqueDayList.getDate(DAY2.getDate().get()));
+    }
+
+    @Test
+    public void getDate_dateNotInList_throwsDayNotFoundException() {
+        uniqueDayList.add(DAY1);
+        assertThrows(DayNotFoundException.class, () -> uniqueDayList.getDate(LocalDate.of(2000, 1, 1)));
+    }
+
     @Test
     public void add_nullDay_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniqueDayList.add(null));
@@ -128,6 +175,7 @@ public class UniqueDayListTest {
         uniqueDayList.remove(DAY1);
         UniqueDayList expectedUniqueDayList = new UniqueDayList();
         assertEquals(expectedUniqueDayList, uniqueDayList);
+        assertFalse(uniqueDayList.contains(DAY1.getDate().get()));
     }
 
     @Test
@@ -165,9 +213,84 @@ public class UniqueDayListTest {
         assertThrows(DuplicateDayException.class, () -> uniqueDayList.setDays(listWithDuplicateDays));
     }
 
+    @Test
+    public void setDays_unorderedListWithDuplicateDays_throwsDuplicateDayException() {
+        List<Day> listWithDuplicateDays = Arrays.asList(DAY1, DAY3, DAY2, DAY1);
+        assertThrows(DuplicateDayException.class, () -> uniqueDayList.setDays(listWithDuplicateDays));
+    }
+
+    @Test
+    public void setDays_unorderedList_keepsDateOrder() {
+        uniqueDayList.setDays(Arrays.asList(DAY1, DAY7, DAY2, DAY3));
+        assertEquals(Arrays.asList(DAY7, DAY3, DAY2, DAY1), uniqueDayList.asUnmodifiableObservableList());
+        assertTrue(uniqueDayList.contains(DAY3.getDate().get()));
+    }
+
     @Test
     public void asUnmodifiableObservableList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, ()
             -> uniqueDayList.asUnmodifiableObservableList().remove(0));
     }
+
+    @Test
+    public void getCalorieSummary_caloriesChangedAfterAdding_returnsUpdatedTotals() throws IllegalValueException {
+        Day first = new DayBuilder().withDate("2020-01-01").build();
+        Day second = new DayBuilder().withDate("2020-01-05").build();
+        Day third = new DayBuilder().withDate("2020-01-09").build();
+        uniqueDayList.add(third);
+        uniqueDayList.add(first);
+        uniqueDayList.add(second);
+
+        first.getCalorieManager().addCalorieInput(INPUT_A);
+        second.getCalorieManager().addCalorieInput(INPUT_B);
+        second.getCalorieManager().addCalorieOutput(OUTPUT_A);
+        third.getCalorieManager().addCalorieInput(INPUT_A);
+
+        assertEquals(new CalorieSummary(100 + 201 + 100, 111, 3),
+                uniqueDayList.getCalorieSummary(LocalDate.parse("2019-12-01"), LocalDate.parse("2020-02-01")));
+        assertEquals(new CalorieSummary(201, 111, 1),
+                uniqueDayList.getCalorieSummary(LocalDate.parse("2020-01-02"), LocalDate.parse("2020-01-08")));
+
+        second.getCalorieManager().removeCalorie(false, Index.fromOneBased(1));
+        uniqueDayList.remove(first);
+        CalorieSummary summary =
+                uniqueDayList.getCalorieSummary(LocalDate.parse("2020-01-01"), LocalDate.parse("2020-01-09"));
+        assertEquals(new CalorieSummary(100, 111, 2), summary);
+        assertEquals(50.0, summary.getAverageInput());
+        assertEquals(-11, summary.getSurplus());
+    }
+
+    @Test
+    public void getCalorieSummary_dayReplacedAndRemoved_stopsFollowingDay() throws IllegalValueException {
+        Day day = new DayBuilder().withDate("2020-01-01").build();
+        Day replacement = new DayBuilder().withDate("2020-01-03").build();
+        uniqueDayList.add(day);
+        uniqueDayList.setDay(day, replacement);
+        day.getCalorieManager().addCalorieInput(INPUT_A);
+        replacement.getCalorieManager().addCalorieInput(INPUT_B);
+
+        assertEquals(new CalorieSummary(201, 0, 1),
+                uniqueDayList.getCalorieSummary(LocalDate.parse("2020-01-01"), LocalDate.parse("2020-01-31")));
+        assertEquals(new CalorieSummary(0, 0, 0),
+                uniqueDayList.getCalorieSummary(LocalDate.parse("2020-01-31"), LocalDate.parse("2020-01-01")));
+    }
+
+    @Test
+    public void setDays_uniqueDayList_daysCopiedNotShared() throws IllegalValueException {
+        Day day = new DayBuilder().withDate("2020-01-01").build();
+        UniqueDayList replacement = new UniqueDayList();
+        replacement.add(day);
+        uniqueDayList.setDays(replacement);
+        day.getCalorieManager().addCalorieInput(INPUT_A);
+
+        assertNotSame(day, uniqueDayList.getDate(LocalDate.parse("2020-01-01")));
+        assertEquals(new CalorieSummary(100, 0, 1),
+                replacement.getCalorieSummary(LocalDate.parse("2020-01-01"), LocalDate.parse("2020-01-31")));
+        assertEquals(new CalorieSummary(0, 0, 1),
+                uniqueDayList.getCalorieSummary(LocalDate.parse("2020-01-01"), LocalDate.parse("2020-01-31")));
+
+        uniqueDayList.setDays(new UniqueDayList());
+        assertEquals(new CalorieSummary(0, 0, 0),
+                uniqueDayList.getCalorieSummary(LocalDate.parse("2020-01-01"), LocalDate.parse("2020-01-31")));
+    }
 }
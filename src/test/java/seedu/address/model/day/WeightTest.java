@@ -1,5 +1,6 @@
 package seedu.address.model.day;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
@@ -35,4 +36,27 @@ public class WeightTest {
         assertTrue(Weight.isValidWeight("70")); // exactly 2 digits
         assertTrue(Weight.isValidWeight("120")); // exactly 3 digits
     }
+
+    @Test
+    public void isValidWeight_decimals() {
+        assertTrue(Weight.isValidWeight("60.35")); // two decimal places
+        assertTrue(Weight.isValidWeight("60.5")); // one decimal place
+        assertFalse(Weight.isValidWeight("60.")); // no decimal places after point
+        assertFalse(Weight.isValidWeight(".5")); // no integer part
+        assertFalse(Weight.isValidWeight("60.355")); // three decimal places
+        assertFalse(Weight.isValidWeight("60.3.5")); // two points
+        assertFalse(Weight.isValidWeight("99999999999999999999")); // too large to hold
+    }
+
+    @Test
+    public void toKilograms() {
+        assertEquals(60.35, new Weight("60.35").toKilograms());
+        assertEquals(70.0, new Weight("70").toKilograms());
+    }
+
+    @Test
+    public void equals_sameKilogramsDifferentForm_returnsTrue() {
+        assertEquals(new Weight("70"), new Weight("70.00"));
+        assertEquals(new Weight("70").hashCode(), new Weight("70.0").hashCode());
+    }
 }
@@ -24,4 +24,10 @@ class HeightTest {
         assertFalse(Height.isValidHeight(" "));
     }
 
+    @Test
+    void isDefault() {
+        assertTrue(new Height().isDefault());
+        assertFalse(new Height("170").isDefault());
+    }
+
 }
@@ -5,7 +5,9 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalDays.DAY1;
+import static seedu.address.testutil.TypicalDays.DAY2;
 
+import java.util.Arrays;
 import java.util.Collections;
 
 import org.junit.jupiter.api.Test;
@@ -13,6 +15,7 @@ import org.junit.jupiter.api.Test;
 import seedu.address.model.day.Date;
 import seedu.address.model.day.Day;
 import seedu.address.model.day.Weight;
+import seedu.address.model.person.exceptions.DayHistoryUnavailableException;
 import seedu.address.testutil.DayBuilder;
 import seedu.address.testutil.PersonBuilder;
 import seedu.address.testutil.TypicalPerson;
@@ -56,6 +59,17 @@ public class PersonTest {
         assertTrue(person.hasDay(editedAlice.getDate().get()));
     }
 
+    @Test
+    public void loadDays_unorderedDays_setsPersonDetailsInDateOrder() {
+        Person personA = new PersonBuilder().withProfile(TypicalProfiles.PROFILE1).build();
+        Day first = new DayBuilder(DAY1).build();
+        Day second = new DayBuilder(DAY2).build();
+        personA.loadDays(Arrays.asList(first, second));
+        assertEquals(Arrays.asList(second, first), personA.getDayList());
+        assertEquals(TypicalProfiles.PROFILE1.getHeight(), first.getHeight());
+        assertEquals(TypicalProfiles.PROFILE1.getStartingWeight(), second.getStartingWeight());
+    }
+
     @Test
     public void isDefaultProfile() {
         Person personA = new PersonBuilder().withProfile(TypicalProfiles.PROFILE1).build();
@@ -112,4 +126,68 @@ public class PersonTest {
         assertEquals(0, personA.getProgress());
 
     }
+
+    @Test
+    void getCurrentBmi_daysOrProfileChanged_recomputedAndVersionIncremented() {
+        Person personA = new Person(new Profile(new Name("asd"),
+                new ID("1111"), new Height("200"), new Weight("80")));
+        assertEquals(20.0, personA.getCurrentBmi());
+
+        long version = personA.getVersion();
+        Day day = new Day(new Date("2020-10-10"), new Weight("100"));
+        personA.addDay(day);
+        assertEquals(25.0, personA.getCurrentBmi());
+        assertTrue(personA.getVersion() > version);
+
+        version = personA.getVersion();
+        assertEquals(25.0, personA.getCurrentBmi());
+        assertEquals(version, personA.getVersion());
+
+        personA.setProfile(new Profile(new Name("asd"), new ID("1111"), new Height("250"), new Weight("80")));
+        assertEquals(16.0, personA.getCurrentBmi());
+        assertTrue(personA.getVersion() > version);
+
+        personA.removeDay(day);
+        assertEquals(12.8, personA.getCurrentBmi());
+    }
+
+    @Test
+    void getDayList_lazyPerson_loadsDaysOnceWithoutChangingVersion() {
+        Profile profile = new Profile(new Name("asd"), new ID("1111"), new Height("200"), new Weight("80"));
+        int[] loads = new int[1];
+        Person lazyPerson = new Person(profile, () -> {
+            loads[0]++;
+            return Arrays.asList(new Day(new Date("2020-10-10"), new Weight("100")));
+        }, 25.0, 0.0);
+
+        assertEquals(25.0, lazyPerson.getCurrentBmi());
+        assertEquals(0, loads[0]);
+        assertFalse(lazyPerson.isDayHistoryLoaded());
+
+        long version = lazyPerson.getVersion();
+        assertEquals(1, lazyPerson.getDayList().size());
+        assertEquals(1, lazyPerson.getDays().asUnmodifiableObservableList().size());
+        assertEquals(1, loads[0]);
+        assertTrue(lazyPerson.isDayHistoryLoaded());
+        assertEquals(version, lazyPerson.getVersion());
+    }
+
+    @Test
+    void getDayList_loaderFails_retriedOnNextUse() {
+        Profile profile = new Profile(new Name("asd"), new ID("1111"), new Height("200"), new Weight("80"));
+        boolean[] isAvailable = new boolean[1];
+        Person lazyPerson = new Person(profile, () -> {
+            if (!isAvailable[0]) {
+                throw new DayHistoryUnavailableException("unavailable", null);
+            }
+            return Collections.emptyList();
+        }, Double.NaN, Double.NaN);
+
+        assertThrows(DayHistoryUnavailableException.class, lazyPerson::getDayList);
+        assertFalse(lazyPerson.isDayHistoryLoaded());
+
+        isAvailable[0] = true;
+        assertEquals(Collections.emptyList(), lazyPerson.getDayList());
+        assertEquals(20.0, lazyPerson.getCurrentBmi());
+    }
 }
@@ -0,0 +1,264 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPerson.PERSON1;
+import static seedu.address.testutil.TypicalPerson.PERSON2;
+import static seedu.address.testutil.TypicalPerson.PERSON3;
+import static seedu.address.testutil.TypicalPerson.PERSON4;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.OptionalDouble;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.day.Date;
+import seedu.address.model.day.Day;
+import seedu.address.model.day.Weight;
+import seedu.address.model.person.exceptions.DuplicatePersonException;
+import seedu.address.model.person.exceptions.PersonNotFoundException;
+import seedu.address.testutil.PersonBuilder;
+import seedu.address.testutil.TypicalProfiles;
+
+public class UniquePersonListTest {
+
+    private final UniquePersonList uniquePersonList = new UniquePersonList();
+
+    @Test
+    public void contains_nullPerson_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> uniquePersonList.contains(null));
+    }
+
+    @Test
+    public void contains_personNotInList_returnsFalse() {
+        assertFalse(uniquePersonList.contains(PERSON1));
+    }
+
+    @Test
+    public void contains_personInList_returnsTrue() {
+        uniquePersonList.add(PERSON1);
+        assertTrue(uniquePersonList.contains(PERSON1));
+    }
+
+    @Test
+    public void add_duplicatePerson_throwsDuplicatePersonException() {
+        uniquePersonList.add(PERSON1);
+        assertThrows(DuplicatePersonException.class, () -> uniquePersonList.add(PERSON1));
+    }
+
+    @Test
+    public void add_personsOutOfOrder_keepsIdOrder() {
+        uniquePersonList.add(PERSON3);
+        uniquePersonList.add(PERSON1);
+        uniquePersonList.add(PERSON4);
+        uniquePersonList.add(PERSON2);
+        assertEquals(Arrays.asList(PERSON1, PERSON2, PERSON3, PERSON4),
+                uniquePersonList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void getPerson_personInList_returnsPerson() {
+        uniquePersonList.add(PERSON1);
+        uniquePersonList.add(PERSON2);
+        assertSame(PERSON2, uniquePersonList.getPerson(new PersonBuilder()
+                .withProfile(TypicalProfiles.PROFILE2).build()));
+    }
+
+    @Test
+    public void getPerson_personNotInList_throwsPersonNotFoundException() {
+        assertThrows(PersonNotFoundException.class, () -> uniquePersonList.getPerson(PERSON1));
+    }
+
+    @Test
+    public void remove_personDoesNotExist_throwsPersonNotFoundException() {
+        assertThrows(PersonNotFoundException.class, () -> uniquePersonList.remove(PERSON1));
+    }
+
+    @Test
+    public void remove_existingPerson_removesPerson() {
+        uniquePersonList.add(PERSON1);
+        uniquePersonList.add(PERSON2);
+        uniquePersonList.remove(PERSON1);
+        assertFalse(uniquePersonList.contains(PERSON1));
+        assertEquals(Collections.singletonList(PERSON2), uniquePersonList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void setPerson_editedPersonHasDifferentIdentity_replacesInOrder() {
+        uniquePersonList.add(PERSON1);
+        uniquePersonList.add(PERSON2);
+        uniquePersonList.setPerson(PERSON1, PERSON3);
+        assertFalse(uniquePersonList.contains(PERSON1));
+        assertEquals(Arrays.asList(PERSON2, PERSON3), uniquePersonList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void setPerson_editedPersonHasNonUniqueIdentity_throwsDuplicatePersonException() {
+        uniquePersonList.add(PERSON1);
+        uniquePersonList.add(PERSON2);
+        assertThrows(DuplicatePersonException.class, () -> uniquePersonList.setPerson(PERSON1, PERSON2));
+    }
+
+    @Test
+    public void setProfile_idChanged_repositionsPerson() {
+        Person person = new PersonBuilder().withProfile(new Profile(new Name("Mover"), new ID("1111"),
+                new Height(), new Weight())).build();
+        uniquePersonList.add(person);
+        uniquePersonList.add(PERSON2);
+        uniquePersonList.setProfile(person, new Profile(new Name("Mover"), new ID("1113"),
+                new Height(), new Weight()));
+        assertEquals(Arrays.asList(PERSON2, person), uniquePersonList.asUnmodifiableObservableList());
+        assertSame(person, uniquePersonList.getPerson(new PersonBuilder()
+                .withProfile(TypicalProfiles.PROFILE3).build()));
+        assertFalse(uniquePersonList.contains(PERSON1));
+    }
+
+    @Test
+    public void setProfile_idTaken_throwsDuplicatePersonException() {
+        Person person = new PersonBuilder().withProfile(new Profile(new Name("Mover"), new ID("1111"),
+                new Height(), new Weight())).build();
+        uniquePersonList.add(person);
+        uniquePersonList.add(PERSON2);
+        assertThrows(DuplicatePersonException.class, () -> uniquePersonList.setProfile(person,
+                TypicalProfiles.PROFILE2));
+    }
+
+    @Test
+    public void setPersons_listWithDuplicatePersons_throwsDuplicatePersonException() {
+        List<Person> listWithDuplicatePersons = Arrays.asList(PERSON1, PERSON2, PERSON1);
+        assertThrows(DuplicatePersonException.class, () -> uniquePersonList.setPersons(listWithDuplicatePersons));
+    }
+
+    @Test
+    public void setPersons_unorderedList_sortsById() {
+        uniquePersonList.setPersons(Arrays.asList(PERSON3, PERSON1, PERSON2));
+        assertEquals(Arrays.asList(PERSON1, PERSON2, PERSON3), uniquePersonList.asUnmodifiableObservableList());
+        assertTrue(uniquePersonList.contains(PERSON3));
+    }
+
+    @Test
+    public void asUnmodifiableObservableList_modifyList_throwsUnsupportedOperationException() {
+        assertThrows(UnsupportedOperationException.class, ()
+            -> uniquePersonList.asUnmodifiableObservableList().remove(0));
+    }
+
+    @Test
+    public void getPersonsWithNameKeywords_matchesWholeWordsIgnoringCase() {
+        uniquePersonList.setPersons(Arrays.asList(PERSON3, PERSON1, PERSON2));
+        assertEquals(Arrays.asList(PERSON1, PERSON3),
+                uniquePersonList.getPersonsWithNameKeywords(Arrays.asList("third", "FIRST", "Fir")));
+        assertEquals(Collections.emptyList(), uniquePersonList.getPersonsWithNameKeywords(Arrays.asList("Fourth")));
+    }
+
+    @Test
+    public void getPersonsWithNameKeywords_nameChangedOrPersonRemoved_followsChange() {
+        Person person = new PersonBuilder().withProfile(new Profile(new Name("Alex Tan"), new ID("2101"),
+                new Height(), new Weight())).build();
+        uniquePersonList.add(person);
+        uniquePersonList.add(PERSON2);
+        assertEquals(Collections.singletonList(person),
+                uniquePersonList.getPersonsWithNameKeywords(Collections.singletonList("tan")));
+
+        uniquePersonList.setProfile(person, new Profile(new Name("Alex Lim"), new ID("2101"),
+                new Height(), new Weight()));
+        assertEquals(Collections.emptyList(),
+                uniquePersonList.getPersonsWithNameKeywords(Collections.singletonList("tan")));
+        assertEquals(Collections.singletonList(person),
+                uniquePersonList.getPersonsWithNameKeywords(Collections.singletonList("LIM")));
+
+        uniquePersonList.remove(person);
+        assertEquals(Collections.emptyList(),
+                uniquePersonList.getPersonsWithNameKeywords(Arrays.asList("alex", "lim")));
+    }
+
+    @Test
+    public void getPersonsAboveBmi_personsAdded_returnsMatchesInBmiOrder() {
+        Person heavy = personWithWeight("2101", "120");
+        Person light = personWithWeight("2102", "80");
+        Person medium = personWithWeight("2103", "100");
+        uniquePersonList.setPersons(Arrays.asList(heavy, light));
+        uniquePersonList.add(medium);
+
+        assertEquals(Arrays.asList(medium, heavy), uniquePersonList.getPersonsAboveBmi(20));
+        assertEquals(Collections.singletonList(heavy), uniquePersonList.getPersonsAboveBmi(25));
+        assertArrayEquals(new int[] {0, 1, 1, 1}, uniquePersonList.countPersonsByBmiBand(20, 25, 30));
+        assertArrayEquals(new int[] {0, 1, 0, 1}, uniquePersonList.countPersonsByBmiBand(
+                Arrays.asList(light, heavy), 20, 25, 30));
+        assertEquals(OptionalDouble.of(25), uniquePersonList.getBmiPercentile(50));
+        assertEquals(OptionalDouble.of(20), uniquePersonList.getBmiPercentile(0));
+
+        uniquePersonList.remove(medium);
+        assertEquals(Collections.singletonList(heavy), uniquePersonList.getPersonsAboveBmi(20));
+    }
+
+    @Test
+    public void getPersonsAboveBmi_latestWeightOrHeightChanged_followsChange() {
+        Person person = personWithWeight("2101", "80");
+        Person other = personWithWeight("2102", "100");
+        uniquePersonList.add(person);
+        uniquePersonList.add(other);
+        assertEquals(Collections.singletonList(other), uniquePersonList.getPersonsAboveBmi(22));
+
+        person.addDay(new Day(new Date("2020-10-10"), new Weight("120")));
+        assertEquals(Arrays.asList(other, person), uniquePersonList.getPersonsAboveBmi(22));
+
+        uniquePersonList.setProfile(other, new Profile(new Name("Person"), new ID("2102"),
+                new Height("250"), new Weight("100")));
+        assertEquals(Collections.singletonList(person), uniquePersonList.getPersonsAboveBmi(22));
+        assertArrayEquals(new int[] {1, 1}, uniquePersonList.countPersonsByBmiBand(22));
+    }
+
+    @Test
+    public void getPersonsAboveBmi_idChangedThroughOtherList_otherListFollowsChange() {
+        Person person = personWithWeight("2101", "80");
+        UniquePersonList otherList = new UniquePersonList();
+        uniquePersonList.add(person);
+        otherList.add(person);
+
+        otherList.setProfile(person, new Profile(new Name("Person"), new ID("2103"),
+                new Height("200"), new Weight("80")));
+        person.addDay(new Day(new Date("2020-10-10"), new Weight("120")));
+        assertEquals(Collections.singletonList(person), otherList.getPersonsAboveBmi(22));
+    }
+
+    @Test
+    public void getPersonsAboveBmi_replacedPersonDaysChanged_indexUnaffected() {
+        Person replaced = personWithWeight("2101", "80");
+        Person replacement = personWithWeight("2101", "60");
+        uniquePersonList.add(replaced);
+        uniquePersonList.setPersons(Collections.singletonList(replacement));
+
+        replaced.addDay(new Day(new Date("2020-10-10"), new Weight("120")));
+        assertEquals(Collections.emptyList(), uniquePersonList.getPersonsAboveBmi(22));
+        replacement.addDay(new Day(new Date("2020-10-10"), new Weight("120")));
+        assertEquals(Collections.singletonList(replacement), uniquePersonList.getPersonsAboveBmi(22));
+    }
+
+    @Test
+    public void countPersonsByBmiBand_unknownBmi_notCounted() {
+        Person known = personWithWeight("2101", "80");
+        Person unknown = new PersonBuilder().withProfile(new Profile(new Name("Unknown"), new ID("2102"),
+                new Height(), new Weight())).build();
+        uniquePersonList.add(known);
+        uniquePersonList.add(unknown);
+        assertArrayEquals(new int[] {1, 0}, uniquePersonList.countPersonsByBmiBand(25));
+        assertArrayEquals(new int[] {1, 0}, uniquePersonList.countPersonsByBmiBand(Arrays.asList(known, unknown), 25));
+        assertArrayEquals(new int[] {0, 0}, uniquePersonList.countPersonsByBmiBand(
+                Collections.singletonList(unknown), 25));
+        assertEquals(1, uniquePersonList.getPersonsAboveBmi(0).size());
+        assertEquals(OptionalDouble.of(20), uniquePersonList.getBmiPercentile(100));
+        assertThrows(IllegalArgumentException.class, () -> uniquePersonList.getBmiPercentile(101));
+        assertThrows(IllegalArgumentException.class, () -> uniquePersonList.countPersonsByBmiBand(30, 25));
+    }
+
+    private static Person personWithWeight(String id, String weight) {
+        return new PersonBuilder().withProfile(new Profile(new Name("Person"), new ID(id),
+                new Height("200"), new Weight(weight))).build();
+    }
+}
@@ -0,0 +1,57 @@
+package seedu.address.server;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPerson.getSimpleMyFitnessBuddy;
+
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.logic.LogicManager;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.storage.JsonMyFitnessBuddyStorage;
+import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.StorageManager;
+
+public class ApiLoadClientTest {
+
+    private static final String TOKEN = "test-token";
+
+    @TempDir
+    public Path temporaryFolder;
+
+    @Test
+    public void constructor_invalidArguments_throwsIllegalArgumentException() {
+        URI uri = URI.create(ApiLoadClient.DEFAULT_URL);
+        assertThrows(IllegalArgumentException.class, () -> new ApiLoadClient(uri, TOKEN, 0, 1, 10, "list"));
+        assertThrows(IllegalArgumentException.class, () -> new ApiLoadClient(uri, TOKEN, 1, 0, 10, "list"));
+        assertThrows(IllegalArgumentException.class, () -> new ApiLoadClient(uri, TOKEN, 1, 1, 101, "list"));
+    }
+
+    @Test
+    public void run_againstLocalServer_allRequestsSucceed() throws Exception {
+        JsonMyFitnessBuddyStorage myFitnessBuddyStorage =
+                new JsonMyFitnessBuddyStorage(temporaryFolder.resolve("myFitnessBuddy.json"));
+        JsonUserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json"));
+        LogicManager logic = new LogicManager(new ModelManager(getSimpleMyFitnessBuddy(), new UserPrefs()),
+                new StorageManager(myFitnessBuddyStorage, userPrefsStorage));
+        ApiServer server = new ApiServer(logic, new InetSocketAddress("localhost", 0), 4, TOKEN);
+        server.start();
+        try {
+            URI uri = URI.create("http://localhost:" + server.getAddress().getPort());
+            ApiLoadClient.Report report = new ApiLoadClient(uri, TOKEN, 4, 25, 20, "list").run();
+            assertEquals(100, report.getRequests());
+            assertEquals(0, report.getFailures());
+            assertTrue(report.getThroughput() > 0);
+            assertTrue(report.getLatencyMillis(50) <= report.getLatencyMillis(100));
+        } finally {
+            server.stop();
+        }
+    }
+}
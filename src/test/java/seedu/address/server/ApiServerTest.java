@@ -0,0 +1,205 @@
+package seedu.address.server;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.commons.core.Messages.MESSAGE_UNKNOWN_COMMAND;
+import static seedu.address.testutil.TypicalPerson.getSimpleMyFitnessBuddy;
+
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.logic.LogicManager;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.storage.JsonMyFitnessBuddyStorage;
+import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.StorageManager;
+
+public class ApiServerTest {
+
+    private static final String DAYS_PATH = ApiServer.PERSONS_PATH + "/1111/days";
+    private static final String CALORIES_PATH = DAYS_PATH + "/2020-10-10/calories";
+    private static final String TOKEN = "test-token";
+
+    @TempDir
+    public Path temporaryFolder;
+
+    private final HttpClient httpClient = HttpClient.newHttpClient();
+    private ApiServer server;
+
+    @BeforeEach
+    public void setUp() throws Exception {
+        JsonMyFitnessBuddyStorage myFitnessBuddyStorage =
+                new JsonMyFitnessBuddyStorage(temporaryFolder.resolve("myFitnessBuddy.json"));
+        JsonUserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json"));
+        LogicManager logic = new LogicManager(new ModelManager(getSimpleMyFitnessBuddy(), new UserPrefs()),
+                new StorageManager(myFitnessBuddyStorage, userPrefsStorage));
+        server = new ApiServer(logic, new InetSocketAddress("localhost", 0), 4, TOKEN);
+        server.start();
+    }
+
+    @AfterEach
+    public void tearDown() {
+        server.stop();
+    }
+
+    @Test
+    public void get_persons_returnsProfiles() throws Exception {
+        HttpResponse<String> response = get(ApiServer.PERSONS_PATH);
+        assertEquals(200, response.statusCode());
+        assertTrue(response.body().startsWith("[{\"id\":\"1111\",\"name\":\"test\""));
+    }
+
+    @Test
+    public void get_days_returnsDaysWithTotals() throws Exception {
+        HttpResponse<String> response = get(DAYS_PATH);
+        assertEquals(200, response.statusCode());
+        assertEquals("[{\"date\":\"2020-10-10\",\"weight\":\"100\",\"totalCalorieIn\":0,\"totalCalorieOut\":0}]",
+                response.body());
+    }
+
+    @Test
+    public void get_unknownPersonOrDay_notFound() throws Exception {
+        assertEquals(404, get(ApiServer.PERSONS_PATH + "/4420/days").statusCode());
+        assertEquals(404, get(ApiServer.PERSONS_PATH + "/abc/days").statusCode());
+        assertEquals(404, get(DAYS_PATH + "/2020-10-11/calories").statusCode());
+        assertEquals(404, get(ApiServer.API_PATH + "/unknown").statusCode());
+    }
+
+    @Test
+    public void request_wrongMethod_methodNotAllowed() throws Exception {
+        assertEquals(405, get(ApiServer.COMMANDS_PATH).statusCode());
+        assertEquals(405, post(ApiServer.PERSONS_PATH, "{}").statusCode());
+    }
+
+    @Test
+    public void post_invalidCommandOrBody_badRequest() throws Exception {
+        HttpResponse<String> response = postCommand("unknowncommand");
+        assertEquals(400, response.statusCode());
+        assertEquals("{\"error\":\"" + MESSAGE_UNKNOWN_COMMAND + "\"}", response.body());
+
+        assertEquals(400, post(ApiServer.COMMANDS_PATH, "not json").statusCode());
+        assertEquals(400, post(ApiServer.COMMANDS_PATH, "{}").statusCode());
+    }
+
+    @Test
+    public void request_withoutToken_unauthorized() throws Exception {
+        HttpResponse<String> response = httpClient.send(HttpRequest.newBuilder(uri(ApiServer.PERSONS_PATH)).GET()
+                .build(), HttpResponse.BodyHandlers.ofString());
+        assertEquals(401, response.statusCode());
+        assertEquals("Bearer", response.headers().firstValue("WWW-Authenticate").orElse(""));
+
+        response = httpClient.send(HttpRequest.newBuilder(uri(ApiServer.PERSONS_PATH)).GET()
+                .header("Authorization", "Bearer wrong-token").build(), HttpResponse.BodyHandlers.ofString());
+        assertEquals(401, response.statusCode());
+    }
+
+    @Test
+    public void post_withoutJsonContentType_unsupportedMediaType() throws Exception {
+        HttpResponse<String> response = httpClient.send(request(ApiServer.COMMANDS_PATH).header("Content-Type",
+                "text/plain").POST(HttpRequest.BodyPublishers.ofString("{\"command\":\"list\"}")).build(),
+                HttpResponse.BodyHandlers.ofString());
+        assertEquals(415, response.statusCode());
+    }
+
+    @Test
+    public void post_fileOrAppCommand_refused() throws Exception {
+        for (String command : List.of("run " + temporaryFolder.resolve("script.txt"),
+                "export " + temporaryFolder.resolve("days.csv"), "clear", "exit", "login 1", "undo", "redo")) {
+            HttpResponse<String> response = postCommand(command);
+            assertEquals(400, response.statusCode());
+            assertEquals("{\"error\":\"" + String.format(LogicManager.MESSAGE_NOT_DATA_COMMAND,
+                    command.split(" ")[0]) + "\"}", response.body());
+        }
+        assertTrue(get(ApiServer.PERSONS_PATH).body().startsWith("[{\"id\":\"1111\""));
+    }
+
+    @Test
+    public void post_unknownOrInvalidPerson_badRequest() throws Exception {
+        HttpResponse<String> response = postCommand("4420", "view 1");
+        assertEquals(400, response.statusCode());
+        assertEquals("{\"error\":\"" + String.format(LogicManager.MESSAGE_UNKNOWN_PERSON, "4420") + "\"}",
+                response.body());
+        assertEquals(400, postCommand("abc", "view 1").statusCode());
+    }
+
+    @Test
+    public void post_command_changesServedInNextReads() throws Exception {
+        // the days are read before the change, so that the cached views must be replaced
+        assertTrue(get(DAYS_PATH).body().contains("\"totalCalorieIn\":0"));
+
+        HttpResponse<String> response = postCommand("1111", "calorie tp/in d/2020-10-10 t/1230 f/bread c/100");
+        assertEquals(200, response.statusCode());
+        assertTrue(response.body().startsWith("{\"feedback\":"));
+
+        assertTrue(get(DAYS_PATH).body().contains("\"totalCalorieIn\":100"));
+        assertEquals("{\"date\":\"2020-10-10\","
+                + "\"inputs\":[{\"time\":\"1230\",\"name\":\"bread\",\"calorieCount\":100}],"
+                + "\"outputs\":[]}", get(CALORIES_PATH).body());
+    }
+
+    @Test
+    public void post_concurrentCommandsAndReads_allApplied() throws Exception {
+        int clients = 4;
+        int commandsPerClient = 5;
+        ExecutorService executor = Executors.newFixedThreadPool(clients * 2);
+        try {
+            List<Future<Integer>> statuses = new ArrayList<>();
+            for (int client = 0; client < clients; client++) {
+                for (int i = 0; i < commandsPerClient; i++) {
+                    String time = String.format("%02d%02d", client, i);
+                    statuses.add(executor.submit(() ->
+                            postCommand("1111", "calorie tp/in d/2020-10-10 t/" + time + " f/rice c/10").statusCode()));
+                    statuses.add(executor.submit(() -> get(DAYS_PATH).statusCode()));
+                }
+            }
+            for (Future<Integer> status : statuses) {
+                assertEquals(200, (int) status.get());
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertTrue(get(DAYS_PATH).body().contains("\"totalCalorieIn\":" + clients * commandsPerClient * 10));
+        assertEquals(clients * commandsPerClient, get(CALORIES_PATH).body().split("rice").length - 1);
+    }
+
+    private HttpResponse<String> get(String path) throws Exception {
+        return httpClient.send(request(path).GET().build(), HttpResponse.BodyHandlers.ofString());
+    }
+
+    private HttpResponse<String> post(String path, String body) throws Exception {
+        return httpClient.send(request(path).header("Content-Type", ApiServer.JSON_MEDIA_TYPE)
+                .POST(HttpRequest.BodyPublishers.ofString(body)).build(), HttpResponse.BodyHandlers.ofString());
+    }
+
+    private HttpRequest.Builder request(String path) {
+        return HttpRequest.newBuilder(uri(path)).header("Authorization", "Bearer " + TOKEN);
+    }
+
+    private HttpResponse<String> postCommand(String command) throws Exception {
+        return post(ApiServer.COMMANDS_PATH, "{\"command\":\"" + command + "\"}");
+    }
+
+    private HttpResponse<String> postCommand(String person, String command) throws Exception {
+        return post(ApiServer.COMMANDS_PATH, "{\"command\":\"" + command + "\",\"person\":\"" + person + "\"}");
+    }
+
+    private URI uri(String path) {
+        return URI.create("http://localhost:" + server.getAddress().getPort() + path);
+    }
+}
@@ -0,0 +1,131 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPerson.getTypicalMyFitnessBuddy;
+
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.model.MyFitnessBuddy;
+import seedu.address.model.ReadOnlyMyFitnessBuddy;
+import seedu.address.model.person.ID;
+import seedu.address.model.person.Person;
+
+public class BinaryMyFitnessBuddyStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void readMyFitnessBuddy_missingFile_emptyResult() throws Exception {
+        assertFalse(new BinaryMyFitnessBuddyStorage(testFolder.resolve("missing.bin")).readFitnessBuddy().isPresent());
+    }
+
+    @Test
+    public void readAndSaveMyFitnessBuddy_allInOrder_success() throws Exception {
+        Path filePath = testFolder.resolve("TempMyFitnessBuddy.bin");
+        BinaryMyFitnessBuddyStorage storage = new BinaryMyFitnessBuddyStorage(filePath);
+        MyFitnessBuddy original = getTypicalMyFitnessBuddy();
+
+        storage.saveFitnessBuddy(original);
+        ReadOnlyMyFitnessBuddy readBack = storage.readFitnessBuddy().get();
+        assertSameData(original, readBack);
+
+        Path jsonFilePath = testFolder.resolve("TempMyFitnessBuddy.json");
+        new JsonMyFitnessBuddyStorage(jsonFilePath).saveFitnessBuddy(original);
+        assertTrue(Files.size(filePath) * 4 < Files.size(jsonFilePath));
+    }
+
+    @Test
+    public void readMyFitnessBuddy_numericIdVersion_idsReadAsText() throws Exception {
+        // a version 1 file with one person, whose id was written as the number 1111
+        BinaryOutput person = new BinaryOutput();
+        person.writeString("First");
+        person.writeVarLong(1111);
+        person.writeVarLong(0);
+        person.writeVarLong(1);
+        person.writeSignedVarLong(LocalDate.parse("2020-01-01").toEpochDay());
+        person.writeVarLong(0);
+        BinaryOutput file = new BinaryOutput();
+        file.writeBytes(new byte[] {'M', 'F', 'B', 'D'}, 0, 4);
+        file.writeVarLong(BinaryMyFitnessBuddyStorage.NUMERIC_ID_FORMAT_VERSION);
+        file.writeVarLong(2);
+        file.writeString("171");
+        file.writeString("61");
+        file.writeVarLong(1);
+        Path filePath = testFolder.resolve("version1.bin");
+        try (OutputStream out = Files.newOutputStream(filePath)) {
+            file.writeTo(out);
+            person.writeBlockTo(out);
+        }
+
+        ReadOnlyMyFitnessBuddy readBack = new BinaryMyFitnessBuddyStorage(filePath).readFitnessBuddy().get();
+        assertEquals(new ID("1111"), readBack.getPersonList().get(0).getProfile().getId());
+    }
+
+    @Test
+    public void readAndSaveMyFitnessBuddy_idWrittenAsText() throws Exception {
+        Path filePath = testFolder.resolve("ids.bin");
+        MyFitnessBuddy original = getTypicalMyFitnessBuddy();
+        new BinaryMyFitnessBuddyStorage(filePath).saveFitnessBuddy(original);
+
+        String contents = new String(Files.readAllBytes(filePath), StandardCharsets.ISO_8859_1);
+        for (Person person : original.getPersonList()) {
+            assertTrue(contents.contains(person.getProfile().getId().value));
+        }
+        assertSameData(original, new BinaryMyFitnessBuddyStorage(filePath).readFitnessBuddy().get());
+    }
+
+    @Test
+    public void readMyFitnessBuddy_notBinaryData_throwsDataConversionException() throws Exception {
+        Path filePath = testFolder.resolve("notBinary.bin");
+        Files.writeString(filePath, "{ \"persons\" : [ ] }");
+        assertThrows(DataConversionException.class, () -> new BinaryMyFitnessBuddyStorage(filePath).readFitnessBuddy());
+    }
+
+    @Test
+    public void readMyFitnessBuddy_unsupportedVersion_throwsDataConversionException() throws Exception {
+        Path filePath = testFolder.resolve("future.bin");
+        Files.write(filePath, new byte[] {'M', 'F', 'B', 'D', BinaryMyFitnessBuddyStorage.FORMAT_VERSION + 1, 0, 0});
+        assertThrows(DataConversionException.class, () -> new BinaryMyFitnessBuddyStorage(filePath).readFitnessBuddy());
+    }
+
+    @Test
+    public void readMyFitnessBuddy_truncatedFile_throwsDataConversionException() throws Exception {
+        Path filePath = testFolder.resolve("truncated.bin");
+        new BinaryMyFitnessBuddyStorage(filePath).saveFitnessBuddy(getTypicalMyFitnessBuddy());
+        byte[] bytes = Files.readAllBytes(filePath);
+        Files.write(filePath, Arrays.copyOf(bytes, bytes.length - 3));
+        assertThrows(DataConversionException.class, () -> new BinaryMyFitnessBuddyStorage(filePath).readFitnessBuddy());
+    }
+
+    /**
+     * Asserts that {@code actual} holds the same persons, days and calories as {@code expected}.
+     */
+    static void assertSameData(ReadOnlyMyFitnessBuddy expected, ReadOnlyMyFitnessBuddy actual) {
+        assertEquals(expected, new MyFitnessBuddy(actual));
+        for (int i = 0; i < expected.getPersonList().size(); i++) {
+            Person expectedPerson = expected.getPersonList().get(i);
+            Person actualPerson = actual.getPersonList().get(i);
+            assertEquals(expectedPerson.getProfile(), actualPerson.getProfile());
+            assertEquals(expectedPerson.getDayList(), actualPerson.getDayList());
+            for (int j = 0; j < expectedPerson.getDayList().size(); j++) {
+                assertEquals(expectedPerson.getDayList().get(j).getWeight(),
+                        actualPerson.getDayList().get(j).getWeight());
+                assertEquals(expectedPerson.getDayList().get(j).getCalorieManager(),
+                        actualPerson.getDayList().get(j).getCalorieManager());
+            }
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
+
+import org.junit.jupiter.api.Test;
+
+public class BinaryOutputTest {
+
+    @Test
+    public void writeThenRead_primitives_sameValues() throws Exception {
+        BinaryOutput block = new BinaryOutput();
+        block.writeString("laksa");
+        block.writeVarLong(Long.MAX_VALUE);
+
+        BinaryOutput output = new BinaryOutput(1);
+        output.writeVarLong(0);
+        output.writeVarLong(127);
+        output.writeVarLong(128);
+        output.writeSignedVarLong(-1);
+        output.writeSignedVarLong(Long.MIN_VALUE);
+        output.writeString("nasi lemak é");
+        output.writeBlock(block);
+
+        BinaryInput input = new BinaryInput(new ByteArrayInputStream(toBytes(output)));
+        assertEquals(0, input.readVarLong());
+        assertEquals(127, input.readVarLong());
+        assertEquals(128, input.readVarLong());
+        assertEquals(-1, input.readSignedVarLong());
+        assertEquals(Long.MIN_VALUE, input.readSignedVarLong());
+        assertEquals("nasi lemak é", input.readString());
+        BinaryInput blockInput = input.readBlock();
+        assertEquals("laksa", blockInput.readString());
+        assertEquals(Long.MAX_VALUE, blockInput.readVarLong());
+        assertThrows(EOFException.class, blockInput::readVarLong);
+    }
+
+    @Test
+    public void writeVarLong_smallValues_oneByte() {
+        BinaryOutput output = new BinaryOutput();
+        output.writeVarLong(127);
+        assertEquals(1, output.size());
+        output.writeVarLong(128);
+        assertEquals(3, output.size());
+    }
+
+    private static byte[] toBytes(BinaryOutput output) throws Exception {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        output.writeTo(bytes);
+        return bytes.toByteArray();
+    }
+}
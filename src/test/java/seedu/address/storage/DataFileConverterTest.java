@@ -0,0 +1,66 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.storage.BinaryMyFitnessBuddyStorageTest.assertSameData;
+import static seedu.address.testutil.TypicalPerson.getTypicalMyFitnessBuddy;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.model.MyFitnessBuddy;
+
+public class DataFileConverterTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void jsonToBinary_thenBinaryToJson_sameData() throws Exception {
+        Path jsonFilePath = testFolder.resolve("data.json");
+        Path binaryFilePath = testFolder.resolve("data.bin");
+        Path convertedBackPath = testFolder.resolve("convertedBack.json");
+        MyFitnessBuddy original = getTypicalMyFitnessBuddy();
+        new JsonMyFitnessBuddyStorage(jsonFilePath).saveFitnessBuddy(original);
+
+        assertTrue(DataFileConverter.jsonToBinary(jsonFilePath, binaryFilePath));
+        assertSameData(original, new BinaryMyFitnessBuddyStorage(binaryFilePath).readFitnessBuddy().get());
+
+        assertTrue(DataFileConverter.binaryToJson(binaryFilePath, convertedBackPath));
+        assertSameData(original, new JsonMyFitnessBuddyStorage(convertedBackPath).readFitnessBuddy().get());
+    }
+
+    @Test
+    public void jsonToBinary_missingSource_returnsFalse() throws Exception {
+        assertFalse(DataFileConverter.jsonToBinary(testFolder.resolve("missing.json"), testFolder.resolve("a.bin")));
+    }
+
+    @Test
+    public void toBinaryFilePath() {
+        assertEquals(Paths.get("data", "myfitnessbuddy.bin"),
+                DataFileConverter.toBinaryFilePath(Paths.get("data", "myfitnessbuddy.json")));
+        assertEquals(Paths.get("data", "backup.bin"), DataFileConverter.toBinaryFilePath(Paths.get("data", "backup")));
+    }
+
+    @Test
+    public void toShardedFilePath() {
+        assertEquals(Paths.get("data", "myfitnessbuddy", ShardedMyFitnessBuddyStorage.MANIFEST_FILE_NAME),
+                DataFileConverter.toShardedFilePath(Paths.get("data", "myfitnessbuddy.json")));
+    }
+
+    @Test
+    public void convert_jsonToSharded_sameData() throws Exception {
+        Path jsonFilePath = testFolder.resolve("data.json");
+        Path shardedFilePath = DataFileConverter.toShardedFilePath(jsonFilePath);
+        MyFitnessBuddy original = getTypicalMyFitnessBuddy();
+        new JsonMyFitnessBuddyStorage(jsonFilePath).saveFitnessBuddy(original);
+
+        assertTrue(DataFileConverter.convert(new JsonMyFitnessBuddyStorage(jsonFilePath),
+                new ShardedMyFitnessBuddyStorage(shardedFilePath)));
+        assertSameData(original, new ShardedMyFitnessBuddyStorage(shardedFilePath).readFitnessBuddy().get());
+    }
+}
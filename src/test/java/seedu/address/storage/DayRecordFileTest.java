@@ -0,0 +1,173 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPerson.getSimpleMyFitnessBuddy2;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.model.DayImport;
+import seedu.address.model.DayRecordFilter;
+import seedu.address.model.MyFitnessBuddy;
+import seedu.address.model.day.Date;
+import seedu.address.model.person.ID;
+
+public class DayRecordFileTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void formatOf() {
+        assertEquals(Optional.of(DayRecordFormat.CSV), DayRecordFormat.of(Paths.get("data", "export.CSV")));
+        assertEquals(Optional.of(DayRecordFormat.NDJSON), DayRecordFormat.of(Paths.get("export.ndjson")));
+        assertEquals(Optional.of(DayRecordFormat.NDJSON), DayRecordFormat.of(Paths.get("export.jsonl")));
+        assertEquals(Optional.empty(), DayRecordFormat.of(Paths.get("export.json")));
+    }
+
+    @Test
+    public void read_csv_success() throws Exception {
+        Path file = write("records.csv",
+                "date,id,type,time,name,value",
+                "2020-10-11,1111,weight,,,98",
+                "",
+                "2020-10-11,1111,in,0800,\"EGG, \"\"BOILED\"\"\",80",
+                "2020-10-11,2211,out,1800,RUNNING,200");
+        List<JsonAdaptedDayRecord> records = new ArrayList<>();
+        DayRecordFile.read(file, DayRecordFormat.CSV, records::add);
+
+        assertEquals(3, records.size());
+        assertEquals(null, records.get(0).getTime());
+        assertEquals("98", records.get(0).getValue());
+        assertEquals("EGG, \"BOILED\"", records.get(1).getName());
+        assertEquals("2211", records.get(2).getId());
+    }
+
+    @Test
+    public void read_csvQuotedFields_contentKept() throws Exception {
+        Path file = write("quoted.csv",
+                DayRecordFile.CSV_HEADER,
+                "1111,2020-10-11,in,0800, \"  EGG \" ,80",
+                "1111,2020-10-11,in,0900,\"\",80",
+                "1111,2020-10-11,in,\"1000\",\"BOILED",
+                "",
+                "EGG\",80",
+                "1111,2020-10-11,in,1100,  ,80");
+        List<JsonAdaptedDayRecord> records = new ArrayList<>();
+        DayRecordFile.read(file, DayRecordFormat.CSV, records::add);
+
+        assertEquals(4, records.size());
+        assertEquals("  EGG ", records.get(0).getName());
+        assertEquals("", records.get(1).getName());
+        assertEquals("BOILED\n\nEGG", records.get(2).getName());
+        assertEquals("80", records.get(2).getValue());
+        assertEquals(null, records.get(3).getName());
+    }
+
+    @Test
+    public void read_ndjson_success() throws Exception {
+        Path file = write("records.ndjson",
+                "{\"id\":\"1111\",\"date\":\"2020-10-11\",\"type\":\"weight\",\"value\":\"98\"}",
+                "{\"id\":\"2211\",\"date\":\"2020-10-11\",\"type\":\"in\",\"time\":\"0800\",\"name\":\"EGG\","
+                        + "\"value\":\"80\"}");
+        DayImport dayImport = DayRecordFile.read(file, DayRecordFormat.NDJSON);
+
+        assertEquals(2, dayImport.getRowCount());
+        assertEquals(2, dayImport.getDayCount());
+        assertTrue(dayImport.getPersonIds().contains(new ID("2211")));
+    }
+
+    @Test
+    public void read_invalidRecord_throwsDataConversionExceptionWithLine() throws Exception {
+        Path csvFile = write("invalid.csv",
+                DayRecordFile.CSV_HEADER,
+                "1111,2020-10-11,weight,,,98",
+                "1111,2020-10-11,in,2500,EGG,80");
+        DataConversionException e = Assertions.assertThrows(DataConversionException.class, () ->
+                DayRecordFile.read(csvFile, DayRecordFormat.CSV));
+        assertTrue(e.getCause().getMessage().startsWith("Line 3: "));
+
+        Path ndjsonFile = write("invalid.ndjson",
+                "{\"id\":\"1111\",\"date\":\"2020-10-11\",\"type\":\"sleep\"}");
+        assertThrows(DataConversionException.class, () -> DayRecordFile.read(ndjsonFile, DayRecordFormat.NDJSON));
+    }
+
+    @Test
+    public void read_badCsvLayout_throwsDataConversionException() throws Exception {
+        Path missingColumn = write("missingColumn.csv", "id,type,value", "1111,weight,98");
+        assertThrows(DataConversionException.class, () -> DayRecordFile.read(missingColumn, DayRecordFormat.CSV));
+
+        Path missingField = write("missingField.csv", DayRecordFile.CSV_HEADER, "1111,2020-10-11,weight,98");
+        assertThrows(DataConversionException.class, () -> DayRecordFile.read(missingField, DayRecordFormat.CSV));
+
+        Path unclosedQuote = write("unclosedQuote.csv", DayRecordFile.CSV_HEADER, "1111,2020-10-11,in,0800,\"EGG,80");
+        assertThrows(DataConversionException.class, () -> DayRecordFile.read(unclosedQuote, DayRecordFormat.CSV));
+
+        Path unclosedRecord = write("unclosedRecord.csv", DayRecordFile.CSV_HEADER,
+                "1111,2020-10-11,in,0800,\"EGG,80", "1111,2020-10-11,in,0900,EGG,80");
+        DataConversionException e = Assertions.assertThrows(DataConversionException.class, () ->
+                DayRecordFile.read(unclosedRecord, DayRecordFormat.CSV));
+        assertTrue(e.getCause().getMessage().startsWith("Line 2: "));
+    }
+
+    @Test
+    public void read_missingFile_throwsIoException() {
+        assertThrows(IOException.class, () ->
+                DayRecordFile.read(testFolder.resolve("missing.csv"), DayRecordFormat.CSV));
+    }
+
+    @Test
+    public void write_csvWithFilter_writesSelectedDays() throws Exception {
+        MyFitnessBuddy myFitnessBuddy = getSimpleMyFitnessBuddy2();
+        DayImport dayImport = new DayImport();
+        dayImport.addInput(new ID("1111"), new Date("2020-10-11"), 545, "EGG", 80);
+        dayImport.addOutput(new ID("1111"), new Date("2020-10-11"), 1080, "RUNNING", 200);
+        myFitnessBuddy.importDays(dayImport);
+        Path file = testFolder.resolve("export.csv");
+
+        long rowCount = DayRecordFile.write(file, DayRecordFormat.CSV, myFitnessBuddy,
+                new DayRecordFilter("11", Optional.of(LocalDate.parse("2020-10-11")), Optional.empty()));
+
+        assertEquals(3, rowCount);
+        assertEquals(List.of(DayRecordFile.CSV_HEADER,
+                "1111,2020-10-11,weight,,,123",
+                "1111,2020-10-11,in,0905,EGG,80",
+                "1111,2020-10-11,out,1800,RUNNING,200"), Files.readAllLines(file));
+
+        assertEquals(0, DayRecordFile.write(file, DayRecordFormat.CSV, myFitnessBuddy,
+                new DayRecordFilter("12", Optional.empty(), Optional.empty())));
+        assertEquals(0, DayRecordFile.write(file, DayRecordFormat.CSV, myFitnessBuddy,
+                new DayRecordFilter("", Optional.empty(), Optional.of(LocalDate.parse("2020-10-09")))));
+    }
+
+    @Test
+    public void write_ndjson_readsBack() throws Exception {
+        Path file = testFolder.resolve("export.ndjson");
+        long rowCount = DayRecordFile.write(file, DayRecordFormat.NDJSON, getSimpleMyFitnessBuddy2(),
+                DayRecordFilter.ALL);
+
+        assertEquals(2, rowCount);
+        DayImport dayImport = DayRecordFile.read(file, DayRecordFormat.NDJSON);
+        assertEquals(2, dayImport.getRowCount());
+        assertEquals(2, dayImport.getDayCount());
+    }
+
+    private Path write(String fileName, String... lines) throws IOException {
+        Path file = testFolder.resolve(fileName);
+        Files.write(file, List.of(lines));
+        return file;
+    }
+}
@@ -0,0 +1,171 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalCalories.INPUT_A;
+import static seedu.address.testutil.TypicalCalories.OUTPUT_A;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDate;
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.model.MyFitnessBuddy;
+import seedu.address.model.ReadOnlyMyFitnessBuddy;
+import seedu.address.model.day.Date;
+import seedu.address.model.day.Day;
+import seedu.address.model.day.Weight;
+import seedu.address.model.person.Height;
+import seedu.address.model.person.ID;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Profile;
+
+public class JournaledMyFitnessBuddyStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void saveMyFitnessBuddy_changesAfterFirstSave_appendedToJournalAndReplayed() throws Exception {
+        Path filePath = testFolder.resolve("TempMyFitnessBuddy.json");
+        Path journalPath = JournaledMyFitnessBuddyStorage.getJournalFilePath(filePath);
+        JournaledMyFitnessBuddyStorage storage = new JournaledMyFitnessBuddyStorage(filePath);
+
+        MyFitnessBuddy original = new MyFitnessBuddy();
+        original.addPerson(new Person(profile("1111", "First")));
+        original.addDay(day("2020-10-10", "70"));
+        original.updateDay();
+        storage.saveFitnessBuddy(original);
+        assertTrue(Files.exists(filePath));
+        assertFalse(Files.exists(journalPath));
+        String snapshot = Files.readString(filePath);
+
+        Day edited = original.getDay(LocalDate.parse("2020-10-10"));
+        edited.getCalorieManager().addCalorieInput(INPUT_A);
+        edited.getCalorieManager().addCalorieOutput(OUTPUT_A);
+        original.setDay(edited, edited);
+        original.addDay(day("2020-10-11", "69"));
+        original.updateDay();
+        original.addDay(day("2020-10-12", "68"));
+        original.updateDay();
+        original.removeDay(original.getDay(LocalDate.parse("2020-10-11")));
+        original.setProfile(profile("1111", "Renamed"));
+        original.addPerson(new Person(profile("1112", "Second")));
+        original.addDay(day("2020-10-13", "80"));
+        original.updateDay();
+        storage.saveFitnessBuddy(original);
+
+        assertEquals(snapshot, Files.readString(filePath));
+        assertEquals(6, Files.readAllLines(journalPath).size());
+        assertTrue(original.getChangeLog().isClean());
+
+        ReadOnlyMyFitnessBuddy readBack = new JournaledMyFitnessBuddyStorage(filePath).readFitnessBuddy().get();
+        assertSameData(original, readBack);
+    }
+
+    @Test
+    public void saveMyFitnessBuddy_changesUnknown_compactsIntoSnapshot() throws Exception {
+        Path filePath = testFolder.resolve("TempMyFitnessBuddy.json");
+        Path journalPath = JournaledMyFitnessBuddyStorage.getJournalFilePath(filePath);
+        JournaledMyFitnessBuddyStorage storage = new JournaledMyFitnessBuddyStorage(filePath);
+
+        MyFitnessBuddy original = new MyFitnessBuddy();
+        original.addPerson(new Person(profile("1111", "First")));
+        storage.saveFitnessBuddy(original);
+        original.addDay(day("2020-10-10", "70"));
+        original.updateDay();
+        storage.saveFitnessBuddy(original);
+        assertTrue(Files.exists(journalPath));
+
+        original.setPersons(Arrays.asList(original.getPersonList().get(0)));
+        storage.saveFitnessBuddy(original);
+        assertFalse(Files.exists(journalPath));
+        assertSameData(original, new JsonMyFitnessBuddyStorage(filePath).readFitnessBuddy().get());
+    }
+
+    @Test
+    public void readMyFitnessBuddy_incompleteLastRecord_skipped() throws Exception {
+        Path filePath = testFolder.resolve("TempMyFitnessBuddy.json");
+        Path journalPath = JournaledMyFitnessBuddyStorage.getJournalFilePath(filePath);
+        JournaledMyFitnessBuddyStorage storage = new JournaledMyFitnessBuddyStorage(filePath);
+
+        MyFitnessBuddy original = new MyFitnessBuddy();
+        original.addPerson(new Person(profile("1111", "First")));
+        storage.saveFitnessBuddy(original);
+        original.addDay(day("2020-10-10", "70"));
+        original.updateDay();
+        storage.saveFitnessBuddy(original);
+        Files.write(journalPath, "{\"kind\":\"DAY\",\"id\":\"11".getBytes(StandardCharsets.UTF_8),
+                StandardOpenOption.APPEND);
+
+        assertSameData(original, storage.readFitnessBuddy().get());
+
+        Files.write(journalPath, "\n{\"kind\":\"REMOVE_PERSON\",\"id\":\"1111\"}\n".getBytes(StandardCharsets.UTF_8),
+                StandardOpenOption.APPEND);
+        assertThrows(DataConversionException.class, () -> storage.readFitnessBuddy());
+    }
+
+    @Test
+    public void readMyFitnessBuddy_damagedSnapshot_journalNotReplayedOntoBackup() throws Exception {
+        Path filePath = testFolder.resolve("TempMyFitnessBuddy.json");
+        Path journalPath = JournaledMyFitnessBuddyStorage.getJournalFilePath(filePath);
+        JournaledMyFitnessBuddyStorage storage = new JournaledMyFitnessBuddyStorage(filePath);
+
+        MyFitnessBuddy original = new MyFitnessBuddy();
+        original.addPerson(new Person(profile("1111", "First")));
+        storage.saveFitnessBuddy(original);
+        MyFitnessBuddy backup = new MyFitnessBuddy(original);
+        original.setPersons(Arrays.asList(original.getPersonList().get(0), new Person(profile("1112", "Second"))));
+        storage.saveFitnessBuddy(original);
+        original.setCurrentPerson(original.getPersonList().get(1));
+        original.addDay(day("2020-10-10", "70"));
+        original.updateDay();
+        storage.saveFitnessBuddy(original);
+        String journal = Files.readString(journalPath);
+        Files.writeString(filePath, "{ \"persons\" : [ ");
+
+        DataFileRecoveredException e = Assertions.assertThrows(DataFileRecoveredException.class, () ->
+                new JournaledMyFitnessBuddyStorage(filePath).readFitnessBuddy());
+        Path unappliedPath = testFolder.resolve(journalPath.getFileName()
+                + JournaledMyFitnessBuddyStorage.UNAPPLIED_JOURNAL_FILE_SUFFIX);
+        assertSameData(backup, e.getRecoveredData());
+        assertTrue(e.getMessage().contains(unappliedPath.toString()));
+        assertFalse(Files.exists(journalPath));
+        assertEquals(journal, Files.readString(unappliedPath));
+    }
+
+    private static Profile profile(String id, String name) {
+        return new Profile(new Name(name), new ID(id), new Height("170"), new Weight("70"),
+                new Date("2020-10-01"));
+    }
+
+    private static Day day(String date, String weight) {
+        return new Day(new Date(date), new Weight(weight));
+    }
+
+    private static void assertSameData(ReadOnlyMyFitnessBuddy expected, ReadOnlyMyFitnessBuddy actual) {
+        assertEquals(expected.getPersonList(), actual.getPersonList());
+        for (int i = 0; i < expected.getPersonList().size(); i++) {
+            Person expectedPerson = expected.getPersonList().get(i);
+            Person actualPerson = actual.getPersonList().get(i);
+            assertEquals(expectedPerson.getProfile(), actualPerson.getProfile());
+            assertEquals(expectedPerson.getDayList(), actualPerson.getDayList());
+            for (int j = 0; j < expectedPerson.getDayList().size(); j++) {
+                assertEquals(expectedPerson.getDayList().get(j).getCalorieManager(),
+                        actualPerson.getDayList().get(j).getCalorieManager());
+                assertEquals(expectedPerson.getDayList().get(j).getWeight(),
+                        actualPerson.getDayList().get(j).getWeight());
+            }
+        }
+    }
+}
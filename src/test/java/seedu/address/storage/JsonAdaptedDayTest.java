@@ -1,6 +1,8 @@
 package seedu.address.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.storage.JsonAdaptedDay.MISSING_FIELD_MESSAGE_FORMAT;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalCalorieManager.CALORIE_MANAGER1;
@@ -11,6 +13,7 @@ import org.junit.jupiter.api.Test;
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.model.calorie.CalorieManager;
 import seedu.address.model.day.Date;
+import seedu.address.model.day.Day;
 import seedu.address.model.day.Weight;
 
 public class JsonAdaptedDayTest {
@@ -27,6 +30,16 @@ public class JsonAdaptedDayTest {
         assertEquals(DAY2, day.toModelType());
     }
 
+    @Test
+    public void toModelType_validCalorieManager_calorieManagerBuiltOnFirstUse() throws Exception {
+        Day modelDay = new JsonAdaptedDay(VALID_DATE, VALID_WEIGHT,
+                new JsonAdaptedCalorieManager(VALID_CALORIE_MANAGER)).toModelType();
+        assertFalse(modelDay.isCalorieManagerLoaded());
+        assertEquals(VALID_CALORIE_MANAGER.getTotalInputCalorie(), modelDay.getTotalInputCalorie());
+        assertEquals(VALID_CALORIE_MANAGER, modelDay.getCalorieManager());
+        assertTrue(modelDay.isCalorieManagerLoaded());
+    }
+
     @Test
     public void toModelType_invalidDate_throwsIllegalValueException() {
 
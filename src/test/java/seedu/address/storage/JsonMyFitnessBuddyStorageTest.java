@@ -3,21 +3,33 @@ package seedu.address.storage;
 //import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPerson.PERSON7;
 import static seedu.address.testutil.TypicalPerson.PERSON8;
+import static seedu.address.testutil.TypicalPerson.getSimpleMyFitnessBuddy;
 import static seedu.address.testutil.TypicalPerson.getTypicalMyFitnessBuddy;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 
+import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
 import seedu.address.commons.exceptions.DataConversionException;
 import seedu.address.model.MyFitnessBuddy;
 import seedu.address.model.ReadOnlyMyFitnessBuddy;
+import seedu.address.model.calorie.CalorieCount;
+import seedu.address.model.calorie.Food;
+import seedu.address.model.calorie.Input;
+import seedu.address.model.calorie.Time;
+import seedu.address.model.day.Date;
+import seedu.address.model.day.Day;
+import seedu.address.model.day.Weight;
+import seedu.address.model.person.Person;
 
 public class JsonMyFitnessBuddyStorageTest {
     private static final Path TEST_DATA_FOLDER = Paths.get("src", "test", "data", "JsonMyFitnessBuddyStorageTest");
@@ -87,6 +99,70 @@ public class JsonMyFitnessBuddyStorageTest {
 
     }
 
+    @Test
+    public void prepareSave_modelChangedBeforeWrite_preparedDataWritten() throws Exception {
+        Path filePath = testFolder.resolve("TempMyFitnessBuddy.json");
+        MyFitnessBuddy original = getSimpleMyFitnessBuddy();
+        JsonMyFitnessBuddyStorage jsonMyFitnessBuddyStorage = new JsonMyFitnessBuddyStorage(filePath);
+        PendingSave pendingSave = jsonMyFitnessBuddyStorage.prepareSave(original, filePath);
+
+        Person person = original.getPersonList().get(0);
+        person.getDayList().get(0).getCalorieManager().addCalorieInput(
+                new Input(new Time("1200"), new Food("Laksa"), new CalorieCount("300")));
+        person.addDay(new Day(new Date("2020-10-11"), new Weight("99")));
+        pendingSave.write();
+        assertEquals(getSimpleMyFitnessBuddy(), new MyFitnessBuddy(jsonMyFitnessBuddyStorage.readFitnessBuddy().get()));
+        assertEquals(0, jsonMyFitnessBuddyStorage.readFitnessBuddy().get().getPersonList().get(0).getDayList().get(0)
+                .getTotalInputCalorie());
+
+        // the changed person is captured again by the next save
+        jsonMyFitnessBuddyStorage.saveFitnessBuddy(original);
+        ReadOnlyMyFitnessBuddy readBack = jsonMyFitnessBuddyStorage.readFitnessBuddy().get();
+        assertEquals(original, new MyFitnessBuddy(readBack));
+        assertEquals(300, readBack.getPersonList().get(0).getDayList().get(0).getTotalInputCalorie());
+    }
+
+    @Test
+    public void saveMyFitnessBuddy_onlyStartDateChanged_startDateSaved() throws Exception {
+        Path filePath = testFolder.resolve("TempMyFitnessBuddy.json");
+        MyFitnessBuddy original = getSimpleMyFitnessBuddy();
+        JsonMyFitnessBuddyStorage jsonMyFitnessBuddyStorage = new JsonMyFitnessBuddyStorage(filePath);
+        PendingSave pendingSave = jsonMyFitnessBuddyStorage.prepareSave(original, filePath);
+        original.getPersonList().get(0).setStartingDay(new Date("2020-10-05"));
+        pendingSave.write();
+        assertEquals(new Date("2020-10-10"), jsonMyFitnessBuddyStorage.readFitnessBuddy().get().getPersonList()
+                .get(0).getProfile().getStartDate());
+
+        jsonMyFitnessBuddyStorage.saveFitnessBuddy(original);
+        assertEquals(new Date("2020-10-05"), jsonMyFitnessBuddyStorage.readFitnessBuddy().get().getPersonList()
+                .get(0).getProfile().getStartDate());
+    }
+
+    @Test
+    public void readMyFitnessBuddy_damagedFile_backupReadAndReported() throws Exception {
+        Path filePath = testFolder.resolve("TempMyFitnessBuddy.json");
+        MyFitnessBuddy original = getTypicalMyFitnessBuddy();
+        JsonMyFitnessBuddyStorage jsonMyFitnessBuddyStorage = new JsonMyFitnessBuddyStorage(filePath);
+        jsonMyFitnessBuddyStorage.saveFitnessBuddy(original);
+        jsonMyFitnessBuddyStorage.saveFitnessBuddy(getTypicalMyFitnessBuddy());
+
+        Files.writeString(filePath, "{ \"persons\" : [ ");
+        DataFileRecoveredException e = Assertions.assertThrows(DataFileRecoveredException.class,
+                () -> jsonMyFitnessBuddyStorage.readFitnessBuddy());
+        assertEquals(original, new MyFitnessBuddy(e.getRecoveredData()));
+        assertTrue(e.getRecoveredData().getChangeLog().isFullSaveNeeded());
+    }
+
+    @Test
+    public void readMyFitnessBuddy_damagedFileWithoutBackup_throwDataConversionException() throws Exception {
+        Path filePath = testFolder.resolve("TempMyFitnessBuddy.json");
+        JsonMyFitnessBuddyStorage jsonMyFitnessBuddyStorage = new JsonMyFitnessBuddyStorage(filePath);
+        jsonMyFitnessBuddyStorage.saveFitnessBuddy(getTypicalMyFitnessBuddy());
+
+        Files.writeString(filePath, "{ \"persons\" : [ ");
+        assertThrows(DataConversionException.class, () -> jsonMyFitnessBuddyStorage.readFitnessBuddy());
+    }
+
     @Test
     public void saveMyFitnessBuddy_nullMyFitnessBuddy_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> saveMyFitnessBuddy(null, "SomeFile.json"));
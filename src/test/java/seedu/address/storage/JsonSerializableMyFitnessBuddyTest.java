@@ -7,7 +7,9 @@ import java.nio.file.Path;
 import java.nio.file.Paths;
 
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
+import seedu.address.commons.exceptions.DataConversionException;
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.commons.util.JsonUtil;
 import seedu.address.model.MyFitnessBuddy;
@@ -22,6 +24,9 @@ public class JsonSerializableMyFitnessBuddyTest {
     private static final Path INVALID_DAY_FILE = TEST_DATA_FOLDER.resolve("invalidPersonMyFitnessBuddy.json");
     private static final Path DUPLICATE_DAY_FILE = TEST_DATA_FOLDER.resolve("duplicatePersonMyFitnessBuddy.json");
 
+    @TempDir
+    public Path testFolder;
+
     @Test
     public void toModelType_typicalDaysFile_success() throws Exception {
         JsonSerializableMyFitnessBuddy dataFromFile = JsonUtil.readJsonFile(TYPICAL_DAYS_FILE,
@@ -55,4 +60,38 @@ public class JsonSerializableMyFitnessBuddyTest {
         assertThrows(IllegalValueException.class, JsonSerializableMyFitnessBuddy.MESSAGE_DUPLICATE_PERSON,
                 dataFromFile::toModelType);
     }
+
+    @Test
+    public void readModel_typicalDaysFile_success() throws Exception {
+        MyFitnessBuddy myFitnessBuddyFromFile = new MyFitnessBuddy(
+                JsonSerializableMyFitnessBuddy.readModel(TYPICAL_DAYS_FILE).get());
+        assertEquals(TypicalPerson.getTypicalMyFitnessBuddy(), myFitnessBuddyFromFile);
+    }
+
+    @Test
+    public void readModel_invalidOrDuplicateFile_throwsDataConversionException() {
+        assertThrows(DataConversionException.class, () -> JsonSerializableMyFitnessBuddy.readModel(INVALID_DAY_FILE));
+        assertThrows(DataConversionException.class, () ->
+                JsonSerializableMyFitnessBuddy.readModel(DUPLICATE_DAY_FILE));
+    }
+
+    @Test
+    public void save_thenReadModel_sameData() throws Exception {
+        Path filePath = testFolder.resolve("streamed.json");
+        MyFitnessBuddy original = TypicalPerson.getTypicalMyFitnessBuddy();
+        new JsonSerializableMyFitnessBuddy(original).save(filePath);
+
+        assertEquals(original, new MyFitnessBuddy(JsonSerializableMyFitnessBuddy.readModel(filePath).get()));
+        assertEquals(new JsonSerializableMyFitnessBuddy(original).toModelType(),
+                JsonUtil.readJsonFile(filePath, JsonSerializableMyFitnessBuddy.class).get().toModelType());
+    }
+
+    @Test
+    public void save_adaptedPersons_sameData() throws Exception {
+        Path filePath = testFolder.resolve("adapted.json");
+        MyFitnessBuddy original = TypicalPerson.getTypicalMyFitnessBuddy();
+        JsonSerializableMyFitnessBuddy.save(original.getPersonList(), JsonAdaptedPerson::new, filePath);
+
+        assertEquals(original, new MyFitnessBuddy(JsonSerializableMyFitnessBuddy.readModel(filePath).get()));
+    }
 }
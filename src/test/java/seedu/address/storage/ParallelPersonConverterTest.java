@@ -0,0 +1,66 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.locks.LockSupport;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.day.Weight;
+import seedu.address.model.person.Height;
+import seedu.address.model.person.ID;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Profile;
+
+public class ParallelPersonConverterTest {
+
+    @Test
+    public void join_manyConversions_keepsSubmissionOrder() throws Exception {
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            ParallelPersonConverter converter = new ParallelPersonConverter(pool);
+            List<Person> expected = new ArrayList<>();
+            for (int i = 0; i < 320; i++) {
+                Person person = new Person(new Profile(new Name("Person " + i), new ID(toIdString(i)),
+                        new Height("170"), new Weight("70")));
+                expected.add(person);
+                // later persons finish first
+                long delayNanos = (320 - i) * 10_000L;
+                converter.submit(() -> {
+                    LockSupport.parkNanos(delayNanos);
+                    return person;
+                });
+            }
+            assertEquals(expected, converter.join());
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    public void join_failedConversions_throwsFirstFailureInOrder() throws Exception {
+        ParallelPersonConverter converter = new ParallelPersonConverter();
+        converter.submit(Person::new);
+        converter.submit(() -> {
+            LockSupport.parkNanos(50_000_000L);
+            throw new IllegalValueException("first");
+        });
+        converter.submit(() -> {
+            throw new IllegalValueException("second");
+        });
+        assertThrows(IllegalValueException.class, "first", converter::join);
+    }
+
+    /**
+     * Returns the {@code index}th of the 320 valid IDs.
+     */
+    private static String toIdString(int index) {
+        return String.format("%d%d%02d", index / 80 + 1, index / 20 % 4 + 1, index % 20 + 1);
+    }
+}
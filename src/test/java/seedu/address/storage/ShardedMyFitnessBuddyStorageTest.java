@@ -0,0 +1,196 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.storage.BinaryMyFitnessBuddyStorageTest.assertSameData;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPerson.getSimpleMyFitnessBuddy;
+import static seedu.address.testutil.TypicalPerson.getTypicalMyFitnessBuddy;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.MyFitnessBuddy;
+import seedu.address.model.ReadOnlyMyFitnessBuddy;
+import seedu.address.model.day.Day;
+import seedu.address.model.person.ID;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Profile;
+import seedu.address.model.person.exceptions.DayHistoryUnavailableException;
+import seedu.address.testutil.DayBuilder;
+
+public class ShardedMyFitnessBuddyStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void readMyFitnessBuddy_missingManifest_emptyResult() throws Exception {
+        Path filePath = testFolder.resolve("missing").resolve(ShardedMyFitnessBuddyStorage.MANIFEST_FILE_NAME);
+        assertFalse(new ShardedMyFitnessBuddyStorage(filePath).readFitnessBuddy().isPresent());
+    }
+
+    @Test
+    public void readAndSaveMyFitnessBuddy_allInOrder_success() throws Exception {
+        Path filePath = testFolder.resolve("data").resolve(ShardedMyFitnessBuddyStorage.MANIFEST_FILE_NAME);
+        MyFitnessBuddy original = getTypicalMyFitnessBuddy();
+        ShardedMyFitnessBuddyStorage storage = new ShardedMyFitnessBuddyStorage(filePath);
+        storage.saveFitnessBuddy(original);
+
+        for (Person person : original.getPersonList()) {
+            ID id = person.getProfile().getId();
+            assertTrue(Files.exists(storage.getShardFilePath(filePath, id).get()));
+        }
+        assertSameData(original, new ShardedMyFitnessBuddyStorage(filePath).readFitnessBuddy().get());
+    }
+
+    @Test
+    public void readMyFitnessBuddy_daysLoadedOnFirstUse() throws Exception {
+        Path filePath = testFolder.resolve(ShardedMyFitnessBuddyStorage.MANIFEST_FILE_NAME);
+        MyFitnessBuddy original = getTypicalMyFitnessBuddy();
+        new ShardedMyFitnessBuddyStorage(filePath).saveFitnessBuddy(original);
+
+        List<Person> persons = new ShardedMyFitnessBuddyStorage(filePath).readFitnessBuddy().get().getPersonList();
+        Person first = persons.get(0);
+        Person last = persons.get(persons.size() - 1);
+        // the last person is the current one, so its days are in use
+        assertTrue(last.isDayHistoryLoaded());
+        assertFalse(first.isDayHistoryLoaded());
+
+        // the summary in the manifest answers without loading
+        long version = first.getVersion();
+        assertEquals(original.getPersonList().get(0).getCurrentBmi(), first.getCurrentBmi());
+        assertEquals(original.getPersonList().get(0).getProgress(), first.getProgress());
+        assertFalse(first.isDayHistoryLoaded());
+
+        assertEquals(original.getPersonList().get(0).getDayList(), first.getDayList());
+        assertTrue(first.isDayHistoryLoaded());
+        assertEquals(version, first.getVersion());
+    }
+
+    @Test
+    public void saveMyFitnessBuddy_unchangedPersons_shardsNotRewritten() throws Exception {
+        Path filePath = testFolder.resolve(ShardedMyFitnessBuddyStorage.MANIFEST_FILE_NAME);
+        new ShardedMyFitnessBuddyStorage(filePath).saveFitnessBuddy(getTypicalMyFitnessBuddy());
+        ShardedMyFitnessBuddyStorage storage = new ShardedMyFitnessBuddyStorage(filePath);
+        ReadOnlyMyFitnessBuddy readBack = storage.readFitnessBuddy().get();
+        Person first = readBack.getPersonList().get(0);
+        Person second = readBack.getPersonList().get(1);
+        Path firstShard = storage.getShardFilePath(filePath, first.getProfile().getId()).get();
+        Path secondShard = storage.getShardFilePath(filePath, second.getProfile().getId()).get();
+
+        second.getDayList();
+        Files.delete(secondShard);
+        storage.saveFitnessBuddy(readBack);
+        assertFalse(Files.exists(secondShard));
+
+        Day added = new DayBuilder().withDate("2021-01-01").withWeight("60").build();
+        second.addDay(added);
+        storage.saveFitnessBuddy(readBack);
+        assertTrue(Files.exists(storage.getShardFilePath(filePath, second.getProfile().getId()).get()));
+        assertFalse(first.isDayHistoryLoaded());
+
+        Person secondReadAgain = new ShardedMyFitnessBuddyStorage(filePath).readFitnessBuddy().get()
+                .getPersonList().get(1);
+        assertTrue(secondReadAgain.hasDay(added));
+        assertTrue(Files.exists(firstShard));
+    }
+
+    @Test
+    public void saveMyFitnessBuddy_idChanged_oldShardDeleted() throws Exception {
+        Path filePath = testFolder.resolve(ShardedMyFitnessBuddyStorage.MANIFEST_FILE_NAME);
+        new ShardedMyFitnessBuddyStorage(filePath).saveFitnessBuddy(getTypicalMyFitnessBuddy());
+        ShardedMyFitnessBuddyStorage storage = new ShardedMyFitnessBuddyStorage(filePath);
+        MyFitnessBuddy readBack = new MyFitnessBuddy(storage.readFitnessBuddy().get());
+        readBack.setCurrentPerson(readBack.getPersonList().get(0));
+        Profile profile = readBack.getProfile();
+        Path oldShard = storage.getShardFilePath(filePath, profile.getId()).get();
+        ID newId = new ID("4420");
+
+        readBack.setProfile(new Profile(profile.getName(), newId, profile.getHeight(), profile.getStartingWeight(),
+                profile.getStartDate()));
+        storage.saveFitnessBuddy(readBack);
+
+        // the backup of the manifest still names the old shard
+        assertTrue(Files.exists(oldShard));
+        assertTrue(Files.exists(storage.getShardFilePath(filePath, newId).get()));
+        assertSameData(readBack, new ShardedMyFitnessBuddyStorage(filePath).readFitnessBuddy().get());
+
+        readBack.addDay(new DayBuilder().withDate("2021-01-01").withWeight("60").build());
+        storage.saveFitnessBuddy(readBack);
+        assertFalse(Files.exists(oldShard));
+    }
+
+    @Test
+    public void saveMyFitnessBuddy_idReused_shardOfRemovedPersonNotRead() throws Exception {
+        Path filePath = testFolder.resolve(ShardedMyFitnessBuddyStorage.MANIFEST_FILE_NAME);
+        ShardedMyFitnessBuddyStorage storage = new ShardedMyFitnessBuddyStorage(filePath);
+        MyFitnessBuddy myFitnessBuddy = getTypicalMyFitnessBuddy();
+        storage.saveFitnessBuddy(myFitnessBuddy);
+        Person removed = myFitnessBuddy.getPersonList().get(0);
+        Profile profile = removed.getProfile();
+        List<Person> remaining = new ArrayList<>(myFitnessBuddy.getPersonList());
+        remaining.remove(removed);
+
+        myFitnessBuddy.setPersons(remaining);
+        storage.saveFitnessBuddy(myFitnessBuddy);
+        myFitnessBuddy.addPerson(new Person(new Profile(profile.getName(), profile.getId(), profile.getHeight(),
+                profile.getStartingWeight(), profile.getStartDate())));
+        storage.saveFitnessBuddy(myFitnessBuddy);
+
+        Person reused = new ShardedMyFitnessBuddyStorage(filePath).readFitnessBuddy().get().getPersonList().stream()
+                .filter(person -> person.getProfile().getId().equals(profile.getId())).findFirst().get();
+        assertTrue(reused.getDayList().isEmpty());
+    }
+
+    @Test
+    public void readMyFitnessBuddy_shardNameOutsideDirectory_throwsDataConversionException() throws Exception {
+        Path filePath = testFolder.resolve(ShardedMyFitnessBuddyStorage.MANIFEST_FILE_NAME);
+        new ShardedMyFitnessBuddyStorage(filePath).saveFitnessBuddy(getTypicalMyFitnessBuddy());
+        String manifest = Files.readString(filePath).replaceFirst("\"shard\" ?: ?\"[^\"]*\"",
+                "\"shard\" : \"../1101.json\"");
+        Files.writeString(filePath, manifest);
+        Files.deleteIfExists(FileUtil.getBackupFilePath(filePath));
+
+        assertThrows(DataConversionException.class, () -> new ShardedMyFitnessBuddyStorage(filePath)
+                .readFitnessBuddy());
+    }
+
+    @Test
+    public void readMyFitnessBuddy_damagedManifest_shardsOfBackupRead() throws Exception {
+        Path filePath = testFolder.resolve(ShardedMyFitnessBuddyStorage.MANIFEST_FILE_NAME);
+        ShardedMyFitnessBuddyStorage storage = new ShardedMyFitnessBuddyStorage(filePath);
+        MyFitnessBuddy myFitnessBuddy = getSimpleMyFitnessBuddy();
+        storage.saveFitnessBuddy(myFitnessBuddy);
+        MyFitnessBuddy backup = getSimpleMyFitnessBuddy();
+        myFitnessBuddy.addDay(new DayBuilder().withDate("2021-01-01").withWeight("60").build());
+        storage.saveFitnessBuddy(myFitnessBuddy);
+        Files.writeString(filePath, "{ \"persons\" : [ ");
+
+        DataFileRecoveredException e = Assertions.assertThrows(DataFileRecoveredException.class, () ->
+                new ShardedMyFitnessBuddyStorage(filePath).readFitnessBuddy());
+        assertSameData(backup, e.getRecoveredData());
+    }
+
+    @Test
+    public void readMyFitnessBuddy_missingShard_throwsOnUse() throws Exception {
+        Path filePath = testFolder.resolve(ShardedMyFitnessBuddyStorage.MANIFEST_FILE_NAME);
+        MyFitnessBuddy original = getTypicalMyFitnessBuddy();
+        ShardedMyFitnessBuddyStorage storage = new ShardedMyFitnessBuddyStorage(filePath);
+        storage.saveFitnessBuddy(original);
+        Files.delete(storage.getShardFilePath(filePath, original.getPersonList().get(0).getProfile().getId()).get());
+
+        Person first = new ShardedMyFitnessBuddyStorage(filePath).readFitnessBuddy().get().getPersonList().get(0);
+        assertThrows(DayHistoryUnavailableException.class, first::getDayList);
+        assertFalse(first.isDayHistoryLoaded());
+    }
+}
@@ -1,9 +1,12 @@
 package seedu.address.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.TypicalPerson.getTypicalMyFitnessBuddy;
 
+import java.nio.file.Files;
 import java.nio.file.Path;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -67,6 +70,21 @@ public class StorageManagerTest {
         assertEquals(original, new MyFitnessBuddy(retrieved));
     }
 
+    @Test
+    public void myFitnessBuddyReadSave_writeBehind_writtenOnFlush() throws Exception {
+        Path filePath = getTempFilePath("writeBehind");
+        StorageManager writeBehindStorage = new StorageManager(new JsonMyFitnessBuddyStorage(filePath),
+                new JsonUserPrefsStorage(getTempFilePath("prefs")), true);
+        MyFitnessBuddy original = getTypicalMyFitnessBuddy();
+        writeBehindStorage.saveFitnessBuddy(original);
+        assertFalse(Files.exists(filePath));
+
+        writeBehindStorage.flush();
+        assertTrue(Files.exists(filePath));
+        ReadOnlyMyFitnessBuddy retrieved = writeBehindStorage.readFitnessBuddy().get();
+        assertEquals(original, new MyFitnessBuddy(retrieved));
+    }
+
     @Test
     public void getMyFitnessBuddyFilePath() {
         assertNotNull(storageManager.getMyFitnessBuddyFilePath());
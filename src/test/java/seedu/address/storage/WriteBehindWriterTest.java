@@ -0,0 +1,83 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+public class WriteBehindWriterTest {
+
+    private static final Path FILE_A = Paths.get("a.json");
+    private static final Path FILE_B = Paths.get("b.json");
+
+    private final List<String> written = Collections.synchronizedList(new ArrayList<>());
+
+    @Test
+    public void coalesce_fullSave_dropsEarlierSavesOfSameFile() {
+        PendingSave appendA = save(FILE_A, false, "appendA");
+        PendingSave fullB = save(FILE_B, true, "fullB");
+        PendingSave fullA = save(FILE_A, true, "fullA");
+        PendingSave laterAppendA = save(FILE_A, false, "laterAppendA");
+
+        assertEquals(Arrays.asList(fullB, fullA, laterAppendA),
+                WriteBehindWriter.coalesce(Arrays.asList(appendA, fullB, fullA, laterAppendA)));
+        assertEquals(Arrays.asList(appendA, laterAppendA),
+                WriteBehindWriter.coalesce(Arrays.asList(appendA, laterAppendA)));
+    }
+
+    @Test
+    public void flush_burstOfFullSaves_writesLastOnly() throws Exception {
+        WriteBehindWriter writer = new WriteBehindWriter();
+        writer.submit(save(FILE_A, true, "first"));
+        writer.submit(save(FILE_A, true, "second"));
+        writer.submit(save(FILE_A, false, "append"));
+        assertTrue(written.isEmpty());
+
+        writer.flush();
+        assertEquals(Arrays.asList("second", "append"), written);
+
+        writer.flush();
+        assertEquals(2, written.size());
+    }
+
+    @Test
+    public void flush_failedSave_throwsAfterWritingOthers() {
+        WriteBehindWriter writer = new WriteBehindWriter();
+        writer.submit(new PendingSave(FILE_A, true, () -> {
+            throw new IOException("disk full");
+        }));
+        writer.submit(save(FILE_B, true, "fullB"));
+
+        assertThrows(IOException.class, "disk full", writer::flush);
+        assertEquals(Arrays.asList("fullB"), written);
+    }
+
+    @Test
+    public void submit_failedSave_reportedToHandler() throws Exception {
+        IOException failure = new IOException("disk full");
+        CompletableFuture<IOException> reported = new CompletableFuture<>();
+        WriteBehindWriter writer = new WriteBehindWriter();
+        writer.setFailureHandler(reported::complete);
+        writer.submit(new PendingSave(FILE_A, true, () -> {
+            throw failure;
+        }));
+
+        assertSame(failure, reported.get(5, TimeUnit.SECONDS));
+    }
+
+    private PendingSave save(Path filePath, boolean isFull, String name) {
+        return new PendingSave(filePath, isFull, () -> written.add(name));
+    }
+}